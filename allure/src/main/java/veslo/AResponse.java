@@ -21,6 +21,8 @@ import veslo.asserter.HeadersAsserter;
 import veslo.asserter.ResponseAsserter;
 import veslo.client.response.BaseDualResponse;
 import veslo.client.response.DualResponse;
+import veslo.client.response.LazyConversion;
+import veslo.client.response.LazyDTO;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -55,6 +57,30 @@ public class AResponse<SUC_DTO, ERR_DTO> extends DualResponse<SUC_DTO, ERR_DTO>
         super(sucDTO, errDTO, response, endpointInfo, callAnnotations);
     }
 
+    /**
+     * Constructor with deferred DTO conversion
+     *
+     * @param conversion      - okhttp raw response with the deferred DTO conversions
+     * @param endpointInfo    - called method info
+     * @param callAnnotations - called method annotations
+     */
+    protected AResponse(@Nonnull LazyConversion<SUC_DTO, ERR_DTO> conversion,
+                        @Nonnull String endpointInfo,
+                        @Nonnull Annotation[] callAnnotations) {
+        super(conversion, endpointInfo, callAnnotations);
+    }
+
+    /**
+     * @see DualResponse#lazy(okhttp3.Response, LazyDTO, LazyDTO, String, Annotation[])
+     */
+    public static <SUC_DTO, ERR_DTO> AResponse<SUC_DTO, ERR_DTO> lazy(@Nonnull okhttp3.Response response,
+                                                                     @Nullable LazyDTO<SUC_DTO> sucDTO,
+                                                                     @Nullable LazyDTO<ERR_DTO> errDTO,
+                                                                     @Nonnull String endpointInfo,
+                                                                     @Nonnull Annotation[] callAnnotations) {
+        return new AResponse<>(new LazyConversion<>(response, sucDTO, errDTO), endpointInfo, callAnnotations);
+    }
+
     /**
      * @see DualResponse#assertResponse(Consumer)
      */
@@ -88,17 +114,18 @@ public class AResponse<SUC_DTO, ERR_DTO> extends DualResponse<SUC_DTO, ERR_DTO>
 
     /**
      * Inner wrapper for Allure.step adding an exception message attachment to the current step.
+     * The step is added to the bound step context (see {@link AllureStepContext}).
      *
      * @param name     – the name of step.
      * @param runnable – the step's body.
      * @return function call result object
      */
     private static <T> T step(final String name, final Allure.ThrowableRunnable<T> runnable) {
-        return Allure.step(name, () -> {
+        return AllureStepContext.step(name, () -> {
             try {
                 return runnable.run();
             } catch (Throwable throwable) {
-                Allure.addAttachment("ERROR", throwable.getMessage());
+                AllureStepContext.addAttachment("ERROR", String.valueOf(throwable.getMessage()));
                 throw throwable;
             }
         });
@@ -17,17 +17,42 @@
 package veslo;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import okhttp3.Headers;
+import okhttp3.MediaType;
 import okhttp3.Request;
+import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.internal.http.HttpHeaders;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.GzipSource;
+import veslo.client.inteceptor.BodyLogPolicies;
+import veslo.client.inteceptor.BodyLogPolicy;
+import veslo.client.inteceptor.BodySnapshot;
 import veslo.client.inteceptor.InterceptAction;
 import veslo.util.OkhttpUtils;
+import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 
+import static veslo.constant.ParameterNameConstants.ATTACHMENT_SINK_PARAMETER;
+import static veslo.constant.ParameterNameConstants.BODY_LOG_POLICIES_PARAMETER;
+
 /**
  * Adds request/response attachments to the Allure step
  * <p>
+ * Attached bodies can be limited per endpoint via {@link BodyLogPolicies}
+ * (head/tail bytes, sampling rate, omitted content types).
+ * <p>
+ * With the {@link AttachmentSink} the bodies are attached separately ("REQUEST BODY", "RESPONSE BODY")
+ * as content-addressed files written from the body buffer: each distinct payload is stored once
+ * and the body size is limited by the sink ({@link AttachmentSink#withMaxAttachmentSize(long)})
+ * instead of the head/tail bytes of the policy. The response body is buffered in full in this mode.
+ * <p>
  *
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
  * Created: 01.12.2021
@@ -39,6 +64,36 @@ public class AllureAction implements InterceptAction {
      */
     public static final AllureAction INSTANCE = new AllureAction();
 
+    private final BodyLogPolicies bodyLogPolicies;
+    private final AttachmentSink attachmentSink;
+
+    /**
+     * Attaches bodies as is
+     */
+    public AllureAction() {
+        this(BodyLogPolicies.UNLIMITED);
+    }
+
+    /**
+     * @param bodyLogPolicies - per-endpoint body logging policies
+     */
+    public AllureAction(@Nonnull final BodyLogPolicies bodyLogPolicies) {
+        Utils.parameterRequireNonNull(bodyLogPolicies, BODY_LOG_POLICIES_PARAMETER);
+        this.bodyLogPolicies = bodyLogPolicies;
+        this.attachmentSink = null;
+    }
+
+    /**
+     * @param bodyLogPolicies - per-endpoint body logging policies (sampling and omitted content types)
+     * @param attachmentSink  - content-addressed attachments storage
+     */
+    public AllureAction(@Nonnull final BodyLogPolicies bodyLogPolicies, @Nonnull final AttachmentSink attachmentSink) {
+        Utils.parameterRequireNonNull(bodyLogPolicies, BODY_LOG_POLICIES_PARAMETER);
+        Utils.parameterRequireNonNull(attachmentSink, ATTACHMENT_SINK_PARAMETER);
+        this.bodyLogPolicies = bodyLogPolicies;
+        this.attachmentSink = attachmentSink;
+    }
+
     /**
      * Add allure attachment with request info
      *
@@ -49,13 +104,19 @@ public class AllureAction implements InterceptAction {
     @Override
     @Nonnull
     public Request requestAction(@Nonnull Request request) throws IOException {
-        String requestToString = OkhttpUtils.requestToString(request);
-        Allure.addAttachment("REQUEST", requestToString);
-        return request;
+        final Request sampled = bodyLogPolicies.sample(request);
+        if (bodyLogPolicies.isSampled(sampled) && attachmentSink != null) {
+            attachRequest(sampled, bodyLogPolicies.getPolicy(sampled), attachmentSink);
+        } else if (bodyLogPolicies.isSampled(sampled)) {
+            String requestToString = OkhttpUtils.requestToString(sampled, bodyLogPolicies.getPolicy(sampled));
+            addAttachment(sampled, "REQUEST", requestToString);
+        }
+        return sampled;
     }
 
     /**
-     * Add allure attachment with response info
+     * Add allure attachment with response info.
+     * For a truncated streamed body, the attachment is added when the body is read.
      *
      * @param response - {@link Response}
      * @return {@link Response}
@@ -64,9 +125,159 @@ public class AllureAction implements InterceptAction {
     @Override
     @Nonnull
     public Response responseAction(@Nonnull Response response) throws IOException {
-        String responseToString = OkhttpUtils.responseToString(response);
-        Allure.addAttachment("RESPONSE", responseToString);
+        final Request request = response.request();
+        if (bodyLogPolicies.isSampled(request) && attachmentSink != null) {
+            attachResponse(response, bodyLogPolicies.getPolicy(request), attachmentSink);
+        } else if (bodyLogPolicies.isSampled(request)) {
+            final BodyLogPolicy policy = bodyLogPolicies.getPolicy(request);
+            return OkhttpUtils.formatResponse(response, policy, m -> addAttachment(request, "RESPONSE", m));
+        }
         return response;
     }
 
+    /**
+     * Adds "REQUEST" (request line and headers) and "REQUEST BODY" attachments via the sink
+     *
+     * @param request - {@link Request}
+     * @param policy  - body logging policy
+     * @param sink    - attachments storage
+     * @throws IOException - request body writing errors
+     */
+    protected void attachRequest(final Request request,
+                                 final BodyLogPolicy policy,
+                                 final AttachmentSink sink) throws IOException {
+        final Headers headers = OkhttpUtils.getRequestHeaders(request);
+        final StringBuilder head = new StringBuilder("REQUEST:\n")
+                .append(request.method()).append(' ').append(request.url()).append('\n');
+        appendHeaders(head, headers);
+        final RequestBody body = request.body();
+        Buffer content = null;
+        if (body == null || body.contentLength() == 0) {
+            head.append("Body: (absent)\n");
+        } else if (OkhttpUtils.bodyHasUnknownEncoding(headers)) {
+            head.append("Body: (encoded body omitted)\n");
+        } else if (body.isDuplex()) {
+            head.append("Body: (duplex request body omitted)\n");
+        } else if (body.isOneShot()) {
+            head.append("Body: (one-shot request body omitted)\n");
+        } else if (policy.isOmitted(body.contentType())) {
+            appendOmittedByPolicy(head, body.contentType(), body.contentLength());
+        } else {
+            final BodySnapshot snapshot = BodySnapshot.of(body);
+            if (snapshot != null) {
+                // body captured by the CompositeInterceptor (zero-copy view)
+                content = snapshot.buffer();
+            } else {
+                content = new Buffer();
+                body.writeTo(content);
+            }
+            head.append("Body: (").append(content.size()).append("-byte body attached as \"REQUEST BODY\")\n");
+        }
+        final AllureStepContext target = getStepContext(request, sink.getLifecycle());
+        sink.attach(target, "REQUEST", head.toString());
+        if (content != null) {
+            sink.attach(target, "REQUEST BODY", body.contentType(), content);
+        }
+    }
+
+    /**
+     * Adds "RESPONSE" (status line and headers) and "RESPONSE BODY" attachments via the sink.
+     * The response body is buffered, but not consumed.
+     *
+     * @param response - {@link Response}
+     * @param policy   - body logging policy
+     * @param sink     - attachments storage
+     * @throws IOException - response body reading errors
+     */
+    protected void attachResponse(final Response response,
+                                  final BodyLogPolicy policy,
+                                  final AttachmentSink sink) throws IOException {
+        final Headers headers = OkhttpUtils.getResponseHeaders(response);
+        final StringBuilder head = new StringBuilder("RESPONSE:\n").append(response.code())
+                .append(response.message().isEmpty() ? "" : " " + response.message())
+                .append(' ').append(response.request().url()).append('\n');
+        appendHeaders(head, headers);
+        final ResponseBody body = response.body();
+        Buffer content = null;
+        if (body == null || !HttpHeaders.hasBody(response)) {
+            head.append("Body: (absent)\n");
+        } else if (OkhttpUtils.bodyHasUnknownEncoding(headers)) {
+            head.append("Body: (encoded body omitted)\n");
+        } else if (policy.isOmitted(body.contentType())) {
+            appendOmittedByPolicy(head, body.contentType(), body.contentLength());
+        } else {
+            final BodySnapshot snapshot = BodySnapshot.of(body);
+            if (snapshot != null) {
+                content = snapshot.buffer();
+            } else {
+                final BufferedSource source = body.source();
+                source.request(Long.MAX_VALUE);
+                content = source.getBuffer();
+            }
+            if ("gzip".equalsIgnoreCase(headers.get("Content-Encoding"))) {
+                try (final GzipSource gzipped = new GzipSource(content.clone())) {
+                    content = new Buffer();
+                    content.writeAll(gzipped);
+                }
+            }
+            head.append("Body: (").append(content.size()).append("-byte body attached as \"RESPONSE BODY\")\n");
+        }
+        final AllureStepContext target = getStepContext(response.request(), sink.getLifecycle());
+        sink.attach(target, "RESPONSE", head.toString());
+        if (content != null) {
+            sink.attach(target, "RESPONSE BODY", body.contentType(), content);
+        }
+    }
+
+    /**
+     * @param request   - {@link Request}
+     * @param lifecycle - Allure lifecycle
+     * @return step of the asynchronous API call (see {@link AllureStepContext#of(Request)})
+     * or the current step context of the thread (nullable)
+     */
+    @Nullable
+    protected AllureStepContext getStepContext(final Request request, final AllureLifecycle lifecycle) {
+        final AllureStepContext callStep = AllureStepContext.of(request);
+        return callStep == null ? AllureStepContext.current(lifecycle) : callStep;
+    }
+
+    private void addAttachment(final Request request, final String name, final String content) {
+        final AllureStepContext target = getStepContext(request, Allure.getLifecycle());
+        if (target == null) {
+            Allure.addAttachment(name, content);
+        } else {
+            target.attach(name, content);
+        }
+    }
+
+    private static void appendHeaders(final StringBuilder head, final Headers headers) {
+        if (headers.size() == 0) {
+            head.append("Headers: (absent)\n");
+        } else {
+            head.append("Headers:\n  ").append(headers.toString().trim().replace("\n", "\n  ")).append('\n');
+        }
+    }
+
+    private static void appendOmittedByPolicy(final StringBuilder head,
+                                              @Nullable final MediaType contentType,
+                                              final long contentLength) {
+        head.append("Body: (").append(contentType).append(contentLength < 0 ? "" : " " + contentLength + "-byte")
+                .append(" body omitted by policy)\n");
+    }
+
+    /**
+     * @return content-addressed attachments storage or null (attachments are added as is)
+     */
+    @Nullable
+    public AttachmentSink getAttachmentSink() {
+        return attachmentSink;
+    }
+
+    /**
+     * @return per-endpoint body logging policies
+     */
+    public BodyLogPolicies getBodyLogPolicies() {
+        return bodyLogPolicies;
+    }
+
 }
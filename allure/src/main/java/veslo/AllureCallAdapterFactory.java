@@ -16,7 +16,6 @@
 
 package veslo;
 
-import io.qameta.allure.Allure;
 import io.qameta.allure.Description;
 import io.qameta.allure.Step;
 import org.slf4j.Logger;
@@ -28,6 +27,7 @@ import retrofit2.internal.EverythingIsNonNull;
 import veslo.client.EndpointInfo;
 import veslo.client.adapter.IDualResponseConsumer;
 import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.metrics.CallTiming;
 import veslo.client.response.BaseDualResponse;
 import veslo.client.response.IDualResponse;
 import veslo.util.Utils;
@@ -35,6 +35,8 @@ import veslo.util.Utils;
 import javax.annotation.Nonnull;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static veslo.constant.ParameterNameConstants.METHOD_ANNOTATIONS_PARAMETER;
 
@@ -43,6 +45,9 @@ import static veslo.constant.ParameterNameConstants.METHOD_ANNOTATIONS_PARAMETER
  * Overridden methods:
  * - getEndpointInfo() - get call info from allure {@link Description} annotation
  * - getCallAdapter() - wrapped in Allure step API call.
+ * The step is added to the bound step context (see {@link AllureStepContext}),
+ * {@code CompletableFuture} calls get the step reserved in the parent step at invocation time.
+ * The "CALL_TIMING" attachment is added to the step only if enabled ({@link #withCallTimingAttachment(boolean)}).
  * <p>
  *
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
@@ -50,12 +55,24 @@ import static veslo.constant.ParameterNameConstants.METHOD_ANNOTATIONS_PARAMETER
  */
 public class AllureCallAdapterFactory extends UniversalCallAdapterFactory {
 
+    private static final String ALLURE_ERROR = "ALLURE_ERROR";
+    private static final String CALL_TIMING = "CALL_TIMING";
+    private static final String NO_DESCRIPTION_MESSAGE = "Use annotations to describe the called API method:\n - " +
+            Description.class + "\n - " + EndpointInfo.class + "\n\n" +
+            "The @Step annotation value is ignored because it is expected that the step description " +
+            "will be provided using the aspectj library.";
+
+    /**
+     * Attach the call timing to the API call step
+     */
+    private volatile boolean callTimingAttachment = false;
+
     /**
      * Default constructor with {@link AResponse} return type handling
      */
     public AllureCallAdapterFactory() {
         //noinspection ConstantConditions (idea inspection bug)
-        super(LoggerFactory.getLogger(AllureCallAdapterFactory.class), AResponse::new);
+        super(LoggerFactory.getLogger(AllureCallAdapterFactory.class), AResponse::new, AResponse::lazy);
     }
 
     /**
@@ -72,7 +89,7 @@ public class AllureCallAdapterFactory extends UniversalCallAdapterFactory {
     @EverythingIsNonNull
     public AllureCallAdapterFactory(Logger logger) {
         //noinspection ConstantConditions (idea inspection bug)
-        super(logger, AResponse::new);
+        super(logger, AResponse::new, AResponse::lazy);
     }
 
     /**
@@ -122,21 +139,105 @@ public class AllureCallAdapterFactory extends UniversalCallAdapterFactory {
             @Override
             public Object adapt(final @Nonnull Call<Object> call) {
                 final String endpointInfo = getEndpointInfo(methodAnnotations);
-                if (endpointInfo == null || endpointInfo.trim().isEmpty()) { //NOSONAR
-                    return Allure.step("API call: no description", () -> {
-                        Allure.addAttachment("ALLURE_ERROR", "Use annotations to describe the called API method:\n - " +
-                                Description.class + "\n - " + EndpointInfo.class + "\n\n" +
-                                "The @Step annotation value is ignored because it is expected that the step description " +
-                                "will be provided using the aspectj library.");
-                        return adapter.adapt(call);
-                    });
-                } else {
-                    return Allure.step(endpointInfo, () -> adapter.adapt(call));
+                final boolean described = endpointInfo != null && !endpointInfo.trim().isEmpty(); //NOSONAR
+                final String stepName = described ? endpointInfo : "API call: no description";
+                final AllureStepContext parent = AllureStepContext.current();
+                if (parent != null && isCompletableFuture(returnType)) {
+                    return adaptAsync(parent.startDetachedStep(stepName), described, call);
+                }
+                return AllureStepContext.step(stepName, () -> {
+                    if (!described) {
+                        AllureStepContext.addAttachment(ALLURE_ERROR, NO_DESCRIPTION_MESSAGE);
+                    }
+                    final Object result = adapter.adapt(call);
+                    return callTimingAttachment ? attachCallTiming(result) : result;
+                });
+            }
+
+            /**
+             * The asynchronous call step is added to the parent step at invocation time.
+             * The attachments of the call are added to the step from the dispatcher threads
+             * (see {@link AllureStepContext#of(okhttp3.Request)}).
+             * The step is finished before the returned future is completed.
+             */
+            private Object adaptAsync(final AllureStepContext step, final boolean described, final Call<Object> call) {
+                if (!described) {
+                    step.attach(ALLURE_ERROR, NO_DESCRIPTION_MESSAGE);
                 }
+                final okhttp3.Request request = call.request();
+                step.bind(request);
+                final CompletableFuture<?> source;
+                try {
+                    source = (CompletableFuture<?>) adapter.adapt(call);
+                } catch (RuntimeException e) {
+                    step.finish(request, e);
+                    throw e;
+                }
+                final CompletableFuture<Object> result = new CompletableFuture<Object>() {
+                    @Override
+                    public boolean cancel(final boolean mayInterruptIfRunning) {
+                        source.cancel(mayInterruptIfRunning);
+                        return super.cancel(mayInterruptIfRunning);
+                    }
+                };
+                source.whenComplete((response, throwable) -> {
+                    final Throwable error = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                    if (callTimingAttachment && response instanceof IDualResponse) {
+                        final CallTiming timing = ((IDualResponse<?, ?>) response).getCallTiming();
+                        if (timing != null) {
+                            step.attach(CALL_TIMING, timing.toString());
+                        }
+                    }
+                    step.finish(request, error);
+                    if (error == null) {
+                        result.complete(response);
+                    } else {
+                        result.completeExceptionally(throwable);
+                    }
+                });
+                return result;
             }
         };
     }
 
+    /**
+     * Enables the "CALL_TIMING" attachment of the API call step
+     * (recorded by the {@link veslo.client.metrics.CallTimingRecorder}, see {@link IDualResponse#getCallTiming()}).
+     *
+     * @param callTimingAttachment - true to attach the call timing to the API call step
+     * @return new factory with the call timing attachment mode
+     */
+    public AllureCallAdapterFactory withCallTimingAttachment(final boolean callTimingAttachment) {
+        final AllureCallAdapterFactory copy = (AllureCallAdapterFactory) copy();
+        copy.callTimingAttachment = callTimingAttachment;
+        return copy;
+    }
+
+    /**
+     * @return true if the call timing is attached to the API call step
+     */
+    public boolean isCallTimingAttachment() {
+        return callTimingAttachment;
+    }
+
+    /**
+     * Adds the "CALL_TIMING" attachment to the current step if the call timing is recorded
+     * (see {@link IDualResponse#getCallTiming()})
+     *
+     * @param result - API call result
+     * @return API call result
+     */
+    protected static Object attachCallTiming(final Object result) {
+        if (result instanceof IDualResponse) {
+            final CallTiming timing = ((IDualResponse<?, ?>) result).getCallTiming();
+            if (timing != null) {
+                AllureStepContext.addAttachment(CALL_TIMING, timing.toString());
+            }
+        }
+        return result;
+    }
+
     /**
      * @param methodAnnotations - list of annotations for the called API method
      * @return - description of the called resource in detail from the {@link io.qameta.allure.Description} annotation
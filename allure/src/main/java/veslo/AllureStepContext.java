@@ -0,0 +1,442 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ExceptionUtils;
+import io.qameta.allure.util.ResultsUtils;
+import okhttp3.Request;
+import retrofit2.Invocation;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Allure step context (the test case or step to which the nested steps and attachments are added)
+ * that can be captured on one thread and re-bound on another one.
+ * <p>
+ * Allure binds the current step to the thread (the pool threads even inherit the stale step of the thread
+ * that created them), so steps and attachments of the API calls fanned out to an executor land in the wrong step
+ * or are lost. The context solves it:
+ * - {@link #current()} captures the context at invocation time;
+ * - {@link #wrap(Callable)}/{@link #propagate(Callable)} re-bind it on the worker thread for the task duration;
+ * - {@link #step(String, Allure.ThrowableRunnable)} adds the step to the bound context explicitly
+ * (used by {@link AllureCallAdapterFactory} and {@link AResponse}), {@link AllureAction} attaches to it.
+ * <p>
+ * Asynchronous calls ({@code CompletableFuture} return type) get a detached step: the step is added
+ * to the parent at invocation time (steps keep the invocation order), the attachments added on the OkHttp
+ * dispatcher threads are buffered into the step ({@link #of(Request)}) and the step is finished
+ * before the returned future is completed.
+ * <p>
+ * Usage:
+ * * ExecutorService executor = Executors.newFixedThreadPool(8);
+ * * List&lt;Future&lt;AResponse&lt;Pet, Err&gt;&gt;&gt; futures = ids.stream()
+ * *         .map(id -&gt; executor.submit(AllureStepContext.propagate(() -&gt; client.getPet(id))))
+ * *         .collect(Collectors.toList());
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class AllureStepContext {
+
+    /**
+     * Contexts bound to the thread by {@link #wrap(Callable)} and {@link #step(String, Allure.ThrowableRunnable)}
+     */
+    private static final ThreadLocal<Deque<Frame>> BOUND = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Detached steps of the asynchronous calls by the retrofit {@link Invocation} tag
+     */
+    private static final Map<Invocation, AllureStepContext> CALL_STEPS = new ConcurrentHashMap<>();
+
+    private final AllureLifecycle lifecycle;
+    private final String uuid;
+    private final boolean testCase;
+    private final StepResult detached;
+
+    private AllureStepContext(final AllureLifecycle lifecycle,
+                              final String uuid,
+                              final boolean testCase,
+                              @Nullable final StepResult detached) {
+        this.lifecycle = lifecycle;
+        this.uuid = uuid;
+        this.testCase = testCase;
+        this.detached = detached;
+    }
+
+    /**
+     * @return the context of the current thread: the innermost step bound by this class,
+     * the Allure step (test case) of the thread or null if there is no running test case
+     */
+    @Nullable
+    public static AllureStepContext current() {
+        return current(Allure.getLifecycle());
+    }
+
+    /**
+     * @param lifecycle - Allure lifecycle
+     * @return the context of the current thread for the lifecycle (see {@link #current()})
+     */
+    @Nullable
+    public static AllureStepContext current(@Nonnull final AllureLifecycle lifecycle) {
+        Utils.parameterRequireNonNull(lifecycle, LIFECYCLE_PARAMETER);
+        final Optional<String> threadStep = lifecycle.getCurrentTestCaseOrStep();
+        final Frame frame = BOUND.get().peek();
+        if (frame != null
+            && frame.context.lifecycle == lifecycle
+            && (!threadStep.isPresent()
+                || threadStep.get().equals(frame.context.uuid)
+                || threadStep.get().equals(frame.shadowedUuid))) {
+            // no steps started by Allure directly after binding (stale inherited step is ignored)
+            return frame.context;
+        }
+        final boolean testCase = threadStep.isPresent() && threadStep.equals(lifecycle.getCurrentTestCase());
+        return threadStep.map(uuid -> new AllureStepContext(lifecycle, uuid, testCase, null)).orElse(null);
+    }
+
+    /**
+     * @param request - API call request (application or network level)
+     * @return detached step of the asynchronous call or null
+     */
+    @Nullable
+    public static AllureStepContext of(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final Invocation invocation = request.tag(Invocation.class);
+        return invocation == null ? null : CALL_STEPS.get(invocation);
+    }
+
+    /**
+     * @param task - task to run in another thread with the current context
+     * @param <T>  - task result type
+     * @return wrapped task or the task itself if there is no current context
+     */
+    @Nonnull
+    public static <T> Callable<T> propagate(@Nonnull final Callable<T> task) {
+        Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+        final AllureStepContext context = current();
+        return context == null ? task : context.wrap(task);
+    }
+
+    /**
+     * @param task - task to run in another thread with the current context
+     * @return wrapped task or the task itself if there is no current context
+     */
+    @Nonnull
+    public static Runnable propagate(@Nonnull final Runnable task) {
+        Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+        final AllureStepContext context = current();
+        return context == null ? task : context.wrap(task);
+    }
+
+    /**
+     * Runs the step body as a nested step of the {@link #current()} context
+     * ({@link Allure#step(String, Allure.ThrowableRunnable)} if there is no context)
+     *
+     * @param name              - step name
+     * @param throwableRunnable - step body
+     * @param <T>               - step result type
+     * @return step body result
+     */
+    public static <T> T step(@Nonnull final String name, @Nonnull final Allure.ThrowableRunnable<T> throwableRunnable) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(throwableRunnable, THROWABLE_RUNNABLE_PARAMETER);
+        final AllureStepContext parent = current();
+        if (parent == null) {
+            return Allure.step(name, throwableRunnable);
+        }
+        if (parent.detached != null) {
+            return detachedStep(parent, name, throwableRunnable);
+        }
+        final AllureLifecycle lifecycle = parent.lifecycle;
+        final String stepUuid = UUID.randomUUID().toString();
+        final Optional<String> shadowed = lifecycle.getCurrentTestCaseOrStep();
+        lifecycle.startStep(parent.uuid, stepUuid, new StepResult().setName(name));
+        final Deque<Frame> bound = BOUND.get();
+        bound.push(new Frame(new AllureStepContext(lifecycle, stepUuid, false, null), shadowed.orElse(null)));
+        try {
+            final T result = throwableRunnable.run();
+            lifecycle.updateStep(stepUuid, step -> step.setStatus(Status.PASSED));
+            return result;
+        } catch (Throwable throwable) {
+            lifecycle.updateStep(stepUuid, step -> step
+                    .setStatus(ResultsUtils.getStatus(throwable).orElse(Status.BROKEN))
+                    .setStatusDetails(ResultsUtils.getStatusDetails(throwable).orElse(null)));
+            ExceptionUtils.sneakyThrow(throwable);
+            return null;
+        } finally {
+            bound.pop();
+            lifecycle.stopStep(stepUuid);
+        }
+    }
+
+    private static <T> T detachedStep(final AllureStepContext parent,
+                                      final String name,
+                                      final Allure.ThrowableRunnable<T> throwableRunnable) {
+        final AllureStepContext step = parent.startDetachedStep(name);
+        final Deque<Frame> bound = BOUND.get();
+        bound.push(new Frame(step, parent.lifecycle.getCurrentTestCaseOrStep().orElse(null)));
+        Throwable error = null;
+        try {
+            return throwableRunnable.run();
+        } catch (Throwable throwable) {
+            error = throwable;
+            ExceptionUtils.sneakyThrow(throwable);
+            return null;
+        } finally {
+            bound.pop();
+            step.complete(error);
+        }
+    }
+
+    /**
+     * Adds the text attachment to the {@link #current()} context
+     * ({@link Allure#addAttachment(String, String)} if there is no context)
+     *
+     * @param name - attachment name
+     * @param text - attachment content
+     */
+    public static void addAttachment(@Nonnull final String name, @Nonnull final String text) {
+        final AllureStepContext context = current();
+        if (context == null) {
+            Allure.addAttachment(name, text);
+        } else {
+            context.attach(name, text);
+        }
+    }
+
+    /**
+     * @param task - task to run in another thread with this context
+     * @param <T>  - task result type
+     * @return wrapped task
+     */
+    @Nonnull
+    public <T> Callable<T> wrap(@Nonnull final Callable<T> task) {
+        Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+        return () -> {
+            final Deque<Frame> bound = BOUND.get();
+            bound.push(new Frame(this, lifecycle.getCurrentTestCaseOrStep().orElse(null)));
+            try {
+                return task.call();
+            } finally {
+                bound.pop();
+            }
+        };
+    }
+
+    /**
+     * @param task - task to run in another thread with this context
+     * @return wrapped task
+     */
+    @Nonnull
+    public Runnable wrap(@Nonnull final Runnable task) {
+        Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+        return () -> {
+            final Deque<Frame> bound = BOUND.get();
+            bound.push(new Frame(this, lifecycle.getCurrentTestCaseOrStep().orElse(null)));
+            try {
+                task.run();
+            } finally {
+                bound.pop();
+            }
+        };
+    }
+
+    /**
+     * Writes the text attachment and adds it to this context
+     *
+     * @param name - attachment name
+     * @param text - attachment content
+     * @return added attachment
+     */
+    @Nonnull
+    public Attachment attach(@Nonnull final String name, @Nonnull final String text) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(text, CONTENT_PARAMETER);
+        final String source = UUID.randomUUID() + "-attachment.txt";
+        lifecycle.writeAttachment(source, new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+        final Attachment attachment = new Attachment()
+                .setName(name)
+                .setType(AttachmentSink.TEXT_PLAIN)
+                .setSource(source);
+        addAttachment(attachment);
+        return attachment;
+    }
+
+    /**
+     * Adds the written attachment to this context
+     *
+     * @param attachment - attachment
+     */
+    public void addAttachment(@Nonnull final Attachment attachment) {
+        Utils.parameterRequireNonNull(attachment, ATTACHMENT_PARAMETER);
+        if (detached != null) {
+            synchronized (detached) {
+                detached.getAttachments().add(attachment);
+            }
+        } else if (testCase) {
+            lifecycle.updateTestCase(uuid, result -> add(result, attachment));
+        } else {
+            lifecycle.updateStep(uuid, result -> add(result, attachment));
+        }
+    }
+
+    /**
+     * Adds the detached step (not bound to any thread) to this context
+     *
+     * @param name - step name
+     * @return detached step context (see {@link #finish(Throwable)})
+     */
+    @Nonnull
+    AllureStepContext startDetachedStep(@Nonnull final String name) {
+        final StepResult step = new StepResult()
+                .setName(name)
+                .setStage(Stage.RUNNING)
+                .setStart(System.currentTimeMillis());
+        if (detached != null) {
+            synchronized (detached) {
+                detached.getSteps().add(step);
+            }
+        } else if (testCase) {
+            lifecycle.updateTestCase(uuid, result -> {
+                synchronized (result) {
+                    result.getSteps().add(step);
+                }
+            });
+        } else {
+            lifecycle.updateStep(uuid, result -> {
+                synchronized (result) {
+                    result.getSteps().add(step);
+                }
+            });
+        }
+        return new AllureStepContext(lifecycle, UUID.randomUUID().toString(), false, step);
+    }
+
+    /**
+     * Binds the detached step to the API call request (see {@link #of(Request)})
+     *
+     * @param request - API call request
+     */
+    void bind(@Nonnull final Request request) {
+        final Invocation invocation = request.tag(Invocation.class);
+        if (invocation != null) {
+            CALL_STEPS.put(invocation, this);
+        }
+    }
+
+    /**
+     * Finishes the detached step and unbinds it from the API call request
+     *
+     * @param request - API call request
+     * @param error   - call error (nullable)
+     */
+    void finish(@Nonnull final Request request, @Nullable final Throwable error) {
+        final Invocation invocation = request.tag(Invocation.class);
+        if (invocation != null) {
+            CALL_STEPS.remove(invocation, this);
+        }
+        complete(error);
+    }
+
+    private void complete(@Nullable final Throwable error) {
+        if (detached != null) {
+            synchronized (detached) {
+                if (error == null) {
+                    detached.setStatus(Status.PASSED);
+                } else {
+                    detached.setStatus(ResultsUtils.getStatus(error).orElse(Status.BROKEN))
+                            .setStatusDetails(ResultsUtils.getStatusDetails(error).orElse(null));
+                }
+                detached.setStage(Stage.FINISHED).setStop(System.currentTimeMillis());
+            }
+        }
+    }
+
+    private static void add(final StepResult result, final Attachment attachment) {
+        synchronized (result) {
+            result.getAttachments().add(attachment);
+        }
+    }
+
+    private static void add(final TestResult result, final Attachment attachment) {
+        synchronized (result) {
+            result.getAttachments().add(attachment);
+        }
+    }
+
+    /**
+     * @return test case or step UUID
+     */
+    @Nonnull
+    public String getUuid() {
+        return uuid;
+    }
+
+    /**
+     * @return true if the context is a test case
+     */
+    public boolean isTestCase() {
+        return testCase;
+    }
+
+    /**
+     * @return true if the context is a detached step of the asynchronous call
+     */
+    public boolean isDetached() {
+        return detached != null;
+    }
+
+    @Override
+    public String toString() {
+        return "AllureStepContext{uuid=" + uuid + ", testCase=" + testCase + ", detached=" + isDetached() + "}";
+    }
+
+    private static final class Frame {
+
+        private final AllureStepContext context;
+        /**
+         * The thread Allure step at the binding time
+         */
+        private final String shadowedUuid;
+
+        private Frame(final AllureStepContext context, @Nullable final String shadowedUuid) {
+            this.context = context;
+            this.shadowedUuid = shadowedUuid;
+        }
+
+    }
+
+}
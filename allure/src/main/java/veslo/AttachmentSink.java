@@ -0,0 +1,315 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import okhttp3.MediaType;
+import okio.Buffer;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Content-addressed Allure attachments storage.
+ * The attachment file name is the SHA-256 of the content ({@code <sha256>-attachment.json}),
+ * so each distinct payload is written to the results directory once. Repeated payloads
+ * (catalog responses, big fixtures...) are added to the step as links to the already written file.
+ * The content is written from the okio {@link Buffer} (segments are shared, not copied) straight
+ * to the {@link AllureLifecycle#writeAttachment(String, java.io.InputStream)} without the {@link String} conversion.
+ * <p>
+ * Size caps:
+ * - {@link #withMaxAttachmentSize(long)} - the content is truncated to the first N bytes
+ * (the attachment name gets the "(truncated to N of M bytes)" suffix);
+ * - {@link #withMaxTotalSize(long)} - new payloads are neither written nor attached after the limit is reached
+ * ({@link #getOmittedCount()}), duplicates of the written payloads are still linked.
+ * <p>
+ * Usage:
+ * * AttachmentSink sink = new AttachmentSink().withMaxAttachmentSize(1024 * 1024);
+ * * new CompositeInterceptor()
+ * *         .withRequestInterceptActionsChain(new AllureAction(BodyLogPolicies.UNLIMITED, sink))
+ * *         .withResponseInterceptActionsChain(new AllureAction(BodyLogPolicies.UNLIMITED, sink));
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class AttachmentSink {
+
+    /**
+     * No size limit
+     */
+    public static final long UNLIMITED = -1;
+
+    /**
+     * Text attachments content type (without charset)
+     */
+    public static final String TEXT_PLAIN = "text/plain";
+
+    private final AllureLifecycle lifecycle;
+    private final Set<String> writtenSources = ConcurrentHashMap.newKeySet();
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong deduplicatedBytes = new AtomicLong();
+    private final AtomicLong deduplicatedCount = new AtomicLong();
+    private final AtomicLong omittedCount = new AtomicLong();
+    private volatile long maxAttachmentSize = UNLIMITED;
+    private volatile long maxTotalSize = UNLIMITED;
+
+    /**
+     * Sink with the default (current) {@link Allure#getLifecycle()}
+     */
+    public AttachmentSink() {
+        this.lifecycle = null;
+    }
+
+    /**
+     * @param lifecycle - Allure lifecycle
+     */
+    public AttachmentSink(@Nonnull final AllureLifecycle lifecycle) {
+        Utils.parameterRequireNonNull(lifecycle, LIFECYCLE_PARAMETER);
+        this.lifecycle = lifecycle;
+    }
+
+    /**
+     * @param maxAttachmentSize - max attachment content size in bytes ({@link #UNLIMITED} - no limit)
+     * @return this
+     */
+    @Nonnull
+    public AttachmentSink withMaxAttachmentSize(final long maxAttachmentSize) {
+        this.maxAttachmentSize = maxAttachmentSize < 0 ? UNLIMITED : maxAttachmentSize;
+        return this;
+    }
+
+    /**
+     * @param maxTotalSize - max size in bytes of all written payloads ({@link #UNLIMITED} - no limit)
+     * @return this
+     */
+    @Nonnull
+    public AttachmentSink withMaxTotalSize(final long maxTotalSize) {
+        this.maxTotalSize = maxTotalSize < 0 ? UNLIMITED : maxTotalSize;
+        return this;
+    }
+
+    /**
+     * Adds the UTF-8 text attachment to the current test case or step (see {@link AllureStepContext#current()})
+     *
+     * @param name - attachment name
+     * @param text - attachment content
+     * @return added attachment or null if there is no current test case or step or the attachment is omitted
+     */
+    @Nullable
+    public Attachment attach(@Nonnull final String name, @Nonnull final String text) {
+        return attach(AllureStepContext.current(getLifecycle()), name, text);
+    }
+
+    /**
+     * Adds the attachment to the current test case or step (see {@link AllureStepContext#current()}).
+     * The content buffer is not consumed.
+     *
+     * @param name    - attachment name
+     * @param type    - content type (nullable)
+     * @param content - attachment content
+     * @return added attachment or null if there is no current test case or step or the attachment is omitted
+     */
+    @Nullable
+    public Attachment attach(@Nonnull final String name,
+                             @Nullable final MediaType type,
+                             @Nonnull final Buffer content) {
+        return attach(AllureStepContext.current(getLifecycle()), name, type, content);
+    }
+
+    /**
+     * Adds the UTF-8 text attachment to the test case or step
+     *
+     * @param target - test case or step context (nullable)
+     * @param name   - attachment name
+     * @param text   - attachment content
+     * @return added attachment or null if the target is null or the attachment is omitted
+     */
+    @Nullable
+    public Attachment attach(@Nullable final AllureStepContext target,
+                             @Nonnull final String name,
+                             @Nonnull final String text) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(text, CONTENT_PARAMETER);
+        try (final Buffer buffer = new Buffer()) {
+            return attach(target, name, MediaType.get(TEXT_PLAIN + "; charset=utf-8"),
+                    buffer.writeString(text, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Adds the attachment to the test case or step.
+     * The content buffer is not consumed.
+     *
+     * @param target  - test case or step context (nullable)
+     * @param name    - attachment name
+     * @param type    - content type (nullable)
+     * @param content - attachment content
+     * @return added attachment or null if the target is null or the attachment is omitted
+     */
+    @Nullable
+    public Attachment attach(@Nullable final AllureStepContext target,
+                             @Nonnull final String name,
+                             @Nullable final MediaType type,
+                             @Nonnull final Buffer content) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(content, CONTENT_PARAMETER);
+        if (target == null) {
+            return null;
+        }
+        final Attachment attachment = write(name, type, content);
+        if (attachment != null) {
+            target.addAttachment(attachment);
+        }
+        return attachment;
+    }
+
+    /**
+     * Writes the content (if not written yet) to the results directory
+     *
+     * @param name    - attachment name
+     * @param type    - content type (nullable)
+     * @param content - attachment content (not consumed)
+     * @return attachment to add to the test case or step or null if the results size limit is reached
+     */
+    @Nullable
+    protected Attachment write(@Nonnull final String name,
+                               @Nullable final MediaType type,
+                               @Nonnull final Buffer content) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(content, CONTENT_PARAMETER);
+        final long size = content.size();
+        final long limit = maxAttachmentSize;
+        final Buffer capped = new Buffer();
+        String attachmentName = name;
+        if (limit >= 0 && size > limit) {
+            content.copyTo(capped, 0, limit);
+            attachmentName += " (truncated to " + limit + " of " + size + " bytes)";
+        } else {
+            content.copyTo(capped, 0, size);
+        }
+        final long cappedSize = capped.size();
+        final String source = capped.sha256().hex() + "-attachment" + getExtension(type);
+        final Attachment attachment = new Attachment()
+                .setName(attachmentName)
+                .setType(type == null ? null : type.type() + "/" + type.subtype())
+                .setSource(source);
+        if (writtenSources.contains(source)) {
+            deduplicatedCount.incrementAndGet();
+            deduplicatedBytes.addAndGet(cappedSize);
+            capped.clear();
+            return attachment;
+        }
+        final long total = maxTotalSize;
+        if (total >= 0 && writtenBytes.get() + cappedSize > total) {
+            omittedCount.incrementAndGet();
+            capped.clear();
+            return null;
+        }
+        if (writtenSources.add(source)) {
+            writtenBytes.addAndGet(cappedSize);
+            writtenCount.incrementAndGet();
+            getLifecycle().writeAttachment(source, capped.inputStream());
+        } else {
+            // written concurrently
+            deduplicatedCount.incrementAndGet();
+            deduplicatedBytes.addAndGet(cappedSize);
+            capped.clear();
+        }
+        return attachment;
+    }
+
+    /**
+     * @param type - content type
+     * @return attachment file extension
+     */
+    @Nonnull
+    protected static String getExtension(@Nullable final MediaType type) {
+        if (type == null) {
+            return ".txt";
+        }
+        final String subtype = type.subtype().toLowerCase(Locale.ROOT);
+        if (subtype.equals("json") || subtype.endsWith("+json")) {
+            return ".json";
+        }
+        if (subtype.equals("xml") || subtype.endsWith("+xml")) {
+            return ".xml";
+        }
+        if (subtype.equals("html")) {
+            return ".html";
+        }
+        if (type.type().equalsIgnoreCase("text") || subtype.equals("x-www-form-urlencoded")) {
+            return ".txt";
+        }
+        return ".bin";
+    }
+
+    /**
+     * @return Allure lifecycle
+     */
+    @Nonnull
+    public AllureLifecycle getLifecycle() {
+        return lifecycle == null ? Allure.getLifecycle() : lifecycle;
+    }
+
+    /**
+     * @return number of written attachment files
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return size of written attachment files
+     */
+    public long getWrittenBytes() {
+        return writtenBytes.get();
+    }
+
+    /**
+     * @return number of attachments linked to the already written files
+     */
+    public long getDeduplicatedCount() {
+        return deduplicatedCount.get();
+    }
+
+    /**
+     * @return size of the payloads not written due to deduplication
+     */
+    public long getDeduplicatedBytes() {
+        return deduplicatedBytes.get();
+    }
+
+    /**
+     * @return number of attachments omitted due to {@link #withMaxTotalSize(long)}
+     */
+    public long getOmittedCount() {
+        return omittedCount.get();
+    }
+
+}
@@ -23,6 +23,8 @@ import okhttp3.Request;
 import okhttp3.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import veslo.client.inteceptor.BodyLogPolicies;
+import veslo.client.inteceptor.BodyLogPolicy;
 import veslo.model.AllureResult;
 import veslo.model.AttachmentsItem;
 import veslo.model.StepsItem;
@@ -36,6 +38,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
 
 @DisplayName("AllureAction class tests")
@@ -109,4 +112,21 @@ public class AllureActionUnitTests extends BaseUnitTests {
         assertThat("result.json present", containsResultJson, is(true));
     }
 
+    @Test
+    @DisplayName("#requestAction() request attachment according to the body log policy")
+    public void test1792396800030() throws IOException {
+        final BodyLogPolicies policies = new BodyLogPolicies()
+                .withDefaultPolicy(BodyLogPolicy.UNLIMITED.withOmittedContentTypes("text/*"));
+        UnitTestInternalAllurePlatform.execute("test1792396800030", () -> {
+            AllureAction action = new AllureAction(policies);
+            final Request expRequest = OkHttpTestUtils.getRequest(MediaType.get("text/plain"), "generated");
+            final Request actRequest = action.requestAction(expRequest);
+            assertThat("Request", expRequest, is(actRequest));
+            final List<Path> attachments = Files.list(RESULTS_PATH).collect(Collectors.toList());
+            assertThat("attachments.size()", attachments.size(), is(1));
+            final String attachment = new String(Files.readAllBytes(attachments.get(0)));
+            assertThat("attachment", attachment, endsWith("Body: (text/plain 9-byte body omitted by policy)\n"));
+        });
+    }
+
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.inteceptor.BodyLogPolicies;
+import veslo.client.inteceptor.CompositeInterceptor;
+import veslo.client.metrics.CallTimingRecorder;
+import veslo.testutil.UnitTestInternalAllurePlatform;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static internal.test.utils.asserter.ThrowableAsserter.assertThrow;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("AllureStepContext class tests")
+public class AllureStepContextUnitTests extends BaseUnitTests {
+
+    @Test
+    @DisplayName("Steps and attachments of the propagated tasks are added to the captured step")
+    public void test1792396800112() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            UnitTestInternalAllurePlatform.execute("test1792396800112", () -> {
+                final List<Future<String>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    final String name = "worker " + i;
+                    futures.add(executor.submit(AllureStepContext.propagate(() -> AllureStepContext.step(name, () -> {
+                        AllureStepContext.addAttachment("DATA", name);
+                        return name;
+                    }))));
+                }
+                for (Future<String> future : futures) {
+                    future.get();
+                }
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        final JsonNode steps = getSteps();
+        assertThat("steps", steps.size(), is(4));
+        final List<String> names = new ArrayList<>();
+        for (JsonNode step : steps) {
+            names.add(step.get("name").asText());
+            assertThat("status", step.get("status").asText(), is("passed"));
+            assertThat("attachments", step.get("attachments").size(), is(1));
+            final String content = new String(Files.readAllBytes(RESULTS_PATH
+                    .resolve(step.get("attachments").get(0).get("source").asText())));
+            assertThat("attachment content", content, is(step.get("name").asText()));
+        }
+        assertThat("steps", names, containsInAnyOrder("worker 0", "worker 1", "worker 2", "worker 3"));
+    }
+
+    @Test
+    @DisplayName("Asynchronous call steps are reserved in invocation order and finished before the future")
+    public void test1792396800113() throws Exception {
+        final PetApi client = client();
+        UnitTestInternalAllurePlatform.execute("test1792396800113", () -> {
+            final List<CompletableFuture<AResponse<String, String>>> futures = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                futures.add(client.getPet(i));
+            }
+            for (CompletableFuture<AResponse<String, String>> future : futures) {
+                final AResponse<String, String> response = future.join();
+                assertThat("AllureStepContext.of()", AllureStepContext.of(response.getResponse().request()),
+                        nullValue());
+            }
+            assertThrow(() -> client.getPet(500).join()).assertClass(java.util.concurrent.CompletionException.class);
+        });
+        final JsonNode steps = getSteps();
+        assertThat("steps", steps.size(), is(4));
+        for (int i = 0; i < 3; i++) {
+            final JsonNode step = steps.get(i);
+            assertThat("name", step.get("name").asText(), is("Get pet"));
+            assertThat("status", step.get("status").asText(), is("passed"));
+            assertThat("stage", step.get("stage").asText(), is("finished"));
+            final List<String> attachments = new ArrayList<>();
+            step.get("attachments").forEach(a -> attachments.add(a.get("name").asText()));
+            assertThat("attachments", attachments, hasItems("REQUEST", "RESPONSE", "RESPONSE BODY"));
+            final String request = new String(Files.readAllBytes(RESULTS_PATH
+                    .resolve(step.get("attachments").get(0).get("source").asText())));
+            assertThat("invocation order", request, containsString("GET http://localhost/pet/" + (i + 1) + "\n"));
+        }
+        assertThat("failed call", steps.get(3).get("status").asText(), is("broken"));
+        assertThat("failed call", steps.get(3).get("statusDetails").get("message").asText(),
+                startsWith("Failed to make API call."));
+    }
+
+    @Test
+    @DisplayName("Context binding, nesting and required parameters")
+    public void test1792396800114() throws Exception {
+        assertThat("without test case", AllureStepContext.current(), nullValue());
+        assertThat("without test case", AllureStepContext.step("step", () -> "result"), is("result"));
+        final Runnable task = () -> { };
+        assertThat("without test case", AllureStepContext.propagate(task), sameInstance(task));
+        UnitTestInternalAllurePlatform.execute("test1792396800114", () -> {
+            final AllureStepContext parent = AllureStepContext.current();
+            assertThat("current", parent.isTestCase(), is(false));
+            assertThat("current", parent.isDetached(), is(false));
+            final Thread thread = new Thread(parent.wrap(() -> Allure.step("nested", () -> {
+                AllureStepContext.step("bound", () -> {
+                    Allure.addAttachment("INNER", "inner");
+                    return null;
+                });
+            })));
+            thread.start();
+            thread.join();
+            assertThrow(() -> AllureStepContext.step("failed", () -> {
+                throw new IllegalStateException("step error");
+            })).assertClass(IllegalStateException.class).assertMessageIs("step error");
+        });
+        final JsonNode steps = getSteps();
+        assertThat("steps", steps.size(), is(2));
+        assertThat("nested", steps.get(0).get("name").asText(), is("nested"));
+        assertThat("bound", steps.get(0).get("steps").get(0).get("name").asText(), is("bound"));
+        assertThat("bound", steps.get(0).get("steps").get(0).get("attachments").size(), is(1));
+        assertThat("failed", steps.get(1).get("status").asText(), is("broken"));
+        assertThrow(() -> AllureStepContext.current(null)).assertNPE("lifecycle");
+        assertThrow(() -> AllureStepContext.of(null)).assertNPE("request");
+        assertThrow(() -> AllureStepContext.propagate((Runnable) null)).assertNPE("task");
+        assertThrow(() -> AllureStepContext.step(null, () -> null)).assertNPE("name");
+        assertThrow(() -> AllureStepContext.step("name", null)).assertNPE("throwableRunnable");
+    }
+
+    @Test
+    @DisplayName("The call timing is attached to the API call steps only if enabled")
+    public void test1792396800129() throws Exception {
+        final AllureCallAdapterFactory factory = new AllureCallAdapterFactory();
+        final AllureCallAdapterFactory timed = factory.withCallTimingAttachment(true);
+        assertThat("copy", timed, not(sameInstance(factory)));
+        assertThat("original", factory.isCallTimingAttachment(), is(false));
+        assertThat("copy", timed.isCallTimingAttachment(), is(true));
+        final PetApi client = client(factory);
+        final PetApi timedClient = client(timed);
+        UnitTestInternalAllurePlatform.execute("test1792396800129", () -> {
+            client.findPet(1);
+            client.getPet(2).join();
+            timedClient.findPet(3);
+            timedClient.getPet(4).join();
+        });
+        final JsonNode steps = getSteps();
+        assertThat("steps", steps.size(), is(4));
+        for (int i = 0; i < 4; i++) {
+            final List<String> attachments = new ArrayList<>();
+            steps.get(i).get("attachments").forEach(a -> attachments.add(a.get("name").asText()));
+            assertThat("attachments", attachments, hasItems("REQUEST", "RESPONSE"));
+            if (i < 2) {
+                assertThat("attachments", attachments, not(hasItem("CALL_TIMING")));
+            } else {
+                assertThat("attachments", attachments, hasItem("CALL_TIMING"));
+            }
+        }
+    }
+
+    /**
+     * @return steps of the test step (see {@link UnitTestInternalAllurePlatform#execute(String, Runnable)})
+     */
+    private static JsonNode getSteps() throws IOException {
+        final JsonNode result = new ObjectMapper().readTree(Files.readAllBytes(getResultJson()));
+        return result.get("steps").get(0).get("steps");
+    }
+
+    private static PetApi client() {
+        return client(new AllureCallAdapterFactory());
+    }
+
+    private static PetApi client(final AllureCallAdapterFactory factory) {
+        final AllureAction action = new AllureAction(BodyLogPolicies.UNLIMITED, new AttachmentSink());
+        final StubBackend backend = new StubBackend()
+                .withError("/pet/500", "backend is down")
+                .withBody(request -> "pet " + request.url().pathSegments().get(1));
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .eventListenerFactory(CallTimingRecorder.INSTANCE)
+                .addInterceptor(CallTimingRecorder.INSTANCE)
+                .addInterceptor(new CompositeInterceptor()
+                        .withRequestInterceptActionsChain(action)
+                        .withResponseInterceptActionsChain(action));
+        return TestClientBuilder.build(PetApi.class, factory, new ExtensionConverterFactory(), builder, backend);
+    }
+
+    public interface PetApi {
+
+        @GET("/pet/{id}")
+        @Description("Get pet")
+        CompletableFuture<AResponse<String, String>> getPet(@Path("id") int id);
+
+        @GET("/pet/{id}")
+        @Description("Find pet")
+        AResponse<String, String> findPet(@Path("id") int id);
+
+    }
+
+}
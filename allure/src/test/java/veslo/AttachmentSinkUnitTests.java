@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo;
+
+import internal.test.utils.OkHttpTestUtils;
+import io.qameta.allure.model.Attachment;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Buffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.client.inteceptor.BodyLogPolicies;
+import veslo.model.AttachmentsItem;
+import veslo.model.StepsItem;
+import veslo.testutil.UnitTestInternalAllurePlatform;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static internal.test.utils.asserter.ThrowableAsserter.assertThrow;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("AttachmentSink class tests")
+public class AttachmentSinkUnitTests extends BaseUnitTests {
+
+    @Test
+    @DisplayName("Identical bodies are written once and linked from each step attachment")
+    public void test1792396800110() throws IOException {
+        final AttachmentSink sink = new AttachmentSink();
+        UnitTestInternalAllurePlatform.execute("test1792396800110", () -> {
+            final AllureAction action = new AllureAction(BodyLogPolicies.UNLIMITED, sink);
+            for (int i = 0; i < 2; i++) {
+                final Request request = OkHttpTestUtils
+                        .getRequest(MediaType.get("application/json"), "{\"catalog\":[1,2,3]}");
+                action.requestAction(request);
+                final Response response = action.responseAction(OkHttpTestUtils.getResponse("[1,2,3]", 200));
+                assertThat("response body is not consumed", response.body().string(), is("[1,2,3]"));
+            }
+        });
+        final StepsItem step = getAllureResult().getSteps().get(0);
+        final List<AttachmentsItem> attachments = step.getAttachments();
+        assertThat("attachments", attachments.size(), is(8));
+        assertThat("REQUEST BODY", attachments.get(1).getName(), is("REQUEST BODY"));
+        assertThat("REQUEST BODY", attachments.get(1).getType(), is("application/json"));
+        assertThat("REQUEST BODY", attachments.get(1).getSource(), endsWith("-attachment.json"));
+        assertThat("duplicate link", attachments.get(5).getSource(), is(attachments.get(1).getSource()));
+        assertThat("duplicate link", attachments.get(7).getSource(), is(attachments.get(3).getSource()));
+        final String body = new String(Files.readAllBytes(RESULTS_PATH.resolve(attachments.get(1).getSource())),
+                StandardCharsets.UTF_8);
+        assertThat("REQUEST BODY content", body, is("{\"catalog\":[1,2,3]}"));
+        final String head = new String(Files.readAllBytes(RESULTS_PATH.resolve(attachments.get(0).getSource())),
+                StandardCharsets.UTF_8);
+        assertThat("REQUEST content", head, is("" +
+                "REQUEST:\n" +
+                "POST http://localhost/\n" +
+                "Headers:\n" +
+                "  Content-Type: text/plain\n" +
+                "  X-Request-ID: generated\n" +
+                "  Content-Length: 19\n" +
+                "Body: (19-byte body attached as \"REQUEST BODY\")\n"));
+        // REQUEST, REQUEST BODY, RESPONSE, RESPONSE BODY
+        assertThat("written files", sink.getWrittenCount(), is(4L));
+        assertThat("deduplicated", sink.getDeduplicatedCount(), is(4L));
+        assertThat("deduplicated bytes", sink.getDeduplicatedBytes(), greaterThan(26L));
+    }
+
+    @Test
+    @DisplayName("Attachment and total size caps")
+    public void test1792396800111() throws IOException {
+        final AttachmentSink sink = new AttachmentSink().withMaxAttachmentSize(4).withMaxTotalSize(6);
+        UnitTestInternalAllurePlatform.execute("test1792396800111", () -> {
+            final Attachment truncated = sink.attach("BODY", "0123456789");
+            assertThat("truncated", truncated.getName(), is("BODY (truncated to 4 of 10 bytes)"));
+            assertThat("truncated", truncated.getType(), is("text/plain"));
+            assertThat("omitted", sink.attach("OTHER", "abcd"), nullValue());
+            assertThat("duplicate", sink.attach("SAME", "0123").getSource(), is(truncated.getSource()));
+            assertThat("binary", sink.attach("BIN", null, new Buffer().write(new byte[]{1})).getSource(),
+                    endsWith("-attachment.txt"));
+        });
+        final List<AttachmentsItem> attachments = getAllureResult().getSteps().get(0).getAttachments();
+        assertThat("attachments", attachments.size(), is(3));
+        assertThat("content", new String(Files.readAllBytes(RESULTS_PATH.resolve(attachments.get(0).getSource()))),
+                is("0123"));
+        assertThat("omitted", sink.getOmittedCount(), is(1L));
+        assertThat("written", sink.getWrittenBytes(), is(5L));
+        assertThat("without test case", sink.attach("BODY", "text"), nullValue());
+        assertThat("", AttachmentSink.getExtension(MediaType.get("application/problem+json")), is(".json"));
+        assertThat("", AttachmentSink.getExtension(MediaType.get("text/xml")), is(".xml"));
+        assertThat("", AttachmentSink.getExtension(MediaType.get("text/html")), is(".html"));
+        assertThat("", AttachmentSink.getExtension(MediaType.get("image/png")), is(".bin"));
+        assertThrow(() -> new AttachmentSink(null)).assertNPE("lifecycle");
+        assertThrow(() -> sink.attach(null, "text")).assertNPE("name");
+        assertThrow(() -> sink.attach("name", null)).assertNPE("content");
+        assertThrow(() -> new AllureAction(BodyLogPolicies.UNLIMITED, null)).assertNPE("attachmentSink");
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo;
+
+/**
+ * Wraps a checked exception thrown by one of the tasks executed in parallel
+ * (failures of the other tasks are added as suppressed).
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class ParallelExecutionException extends RuntimeException {
+
+    /**
+     * Constructs a new runtime exception with the specified detail message and cause.
+     *
+     * @param message the detail message (which is saved for later retrieval by the getMessage() method).
+     * @param t the cause
+     */
+    public ParallelExecutionException(String message, Throwable t) {
+        super(message, t);
+    }
+
+}
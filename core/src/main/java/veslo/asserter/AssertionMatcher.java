@@ -19,6 +19,8 @@ package veslo.asserter;
 import veslo.BriefAssertionError;
 import veslo.UtilityClassException;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -60,6 +62,25 @@ public class AssertionMatcher {
         }
     }
 
+    /**
+     * @param reason      - assertion description
+     * @param actual      - actual duration
+     * @param expectedMax - expected max duration (exclusive)
+     * @throws BriefAssertionError if actual is not below expected max
+     */
+    public static void durationBelow(String reason, Duration actual, Duration expectedMax) {
+        if (actual.compareTo(expectedMax) >= 0) {
+            throw new BriefAssertionError(reason + "\n" +
+                    "Expected: below " + toMillis(expectedMax) + "\n" +
+                    "  Actual: was " + toMillis(actual));
+        }
+    }
+
+    private static String toMillis(Duration duration) {
+        final long nanos = duration.getSeconds() * 1_000_000_000L + duration.getNano();
+        return BigDecimal.valueOf(nanos, 6).stripTrailingZeros().toPlainString() + "ms";
+    }
+
     /**
      * @param reason - assertion description
      * @param actual - actual object
@@ -18,6 +18,8 @@ package veslo.asserter;
 
 import retrofit2.internal.EverythingIsNonNull;
 import veslo.BriefAssertionError;
+import veslo.client.metrics.CallTiming;
+import veslo.client.metrics.EndpointMetrics;
 import veslo.client.response.IDualResponse;
 import veslo.example.ExampleApiClientAssertions;
 import veslo.util.TripleConsumer;
@@ -25,8 +27,11 @@ import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -52,6 +57,7 @@ public class ResponseAsserter<SUC_DTO, ERR_DTO, HA extends IHeadersAsserter> imp
     private final List<Throwable> errors = new ArrayList<>();
     private final IDualResponse<SUC_DTO, ERR_DTO> response;
     private final HA headersAsserter;
+    private final Set<ResponseTimeHistory> recordedHistories = new HashSet<>();
     private boolean isIgnoreNPE = false;
 
     /**
@@ -468,6 +474,115 @@ public class ResponseAsserter<SUC_DTO, ERR_DTO, HA extends IHeadersAsserter> imp
         return this;
     }
 
+    /**
+     * @param expectedMax - expected max response time (exclusive, see {@link #getResponseTime()})
+     * @return this
+     * @throws BriefAssertionError if the response time is not below the expected max
+     */
+    @EverythingIsNonNull
+    public ResponseAsserter<SUC_DTO, ERR_DTO, HA> assertResponseTimeBelow(final Duration expectedMax) {
+        Utils.parameterRequireNonNull(expectedMax, DURATION_PARAMETER);
+        final Duration actual = getResponseTime();
+        softly(() -> AssertionMatcher.durationBelow("Response time", actual, expectedMax));
+        return this;
+    }
+
+    /**
+     * @param expectedMax - expected max time to the first byte (exclusive, see {@link #getTimeToFirstByte()})
+     * @return this
+     * @throws BriefAssertionError if the time to the first byte is not below the expected max
+     */
+    @EverythingIsNonNull
+    public ResponseAsserter<SUC_DTO, ERR_DTO, HA> assertTimeToFirstByteBelow(final Duration expectedMax) {
+        Utils.parameterRequireNonNull(expectedMax, DURATION_PARAMETER);
+        final Duration actual = getTimeToFirstByte();
+        softly(() -> AssertionMatcher.durationBelow("Time to first byte", actual, expectedMax));
+        return this;
+    }
+
+    /**
+     * Records the response time to the {@link ResponseTimeHistory#DEFAULT} and checks the response time percentile
+     * of the last calls to the endpoint (for example, "p95 of the last 50 calls is below 200ms").
+     *
+     * @param percentile  - percentile (0...100]
+     * @param lastCalls   - number of the last calls taken into account
+     * @param expectedMax - expected max response time percentile (exclusive)
+     * @return this
+     * @throws BriefAssertionError if the response time percentile is not below the expected max
+     */
+    @EverythingIsNonNull
+    public ResponseAsserter<SUC_DTO, ERR_DTO, HA> assertResponseTimePercentileBelow(final double percentile,
+                                                                                    final int lastCalls,
+                                                                                    final Duration expectedMax) {
+        return assertResponseTimePercentileBelow(ResponseTimeHistory.DEFAULT, percentile, lastCalls, expectedMax);
+    }
+
+    /**
+     * Records the response time to the history (once per history) and checks the response time percentile
+     * of the last calls to the endpoint.
+     *
+     * @param history     - response time history
+     * @param percentile  - percentile (0...100]
+     * @param lastCalls   - number of the last calls taken into account
+     * @param expectedMax - expected max response time percentile (exclusive)
+     * @return this
+     * @throws BriefAssertionError if the response time percentile is not below the expected max
+     */
+    @EverythingIsNonNull
+    public ResponseAsserter<SUC_DTO, ERR_DTO, HA> assertResponseTimePercentileBelow(final ResponseTimeHistory history,
+                                                                                    final double percentile,
+                                                                                    final int lastCalls,
+                                                                                    final Duration expectedMax) {
+        Utils.parameterRequireNonNull(history, HISTORY_PARAMETER);
+        Utils.parameterRequireNonNull(expectedMax, DURATION_PARAMETER);
+        ResponseTimeHistory.checkPercentile(percentile, lastCalls);
+        final String endpoint = getEndpoint();
+        if (recordedHistories.add(history)) {
+            history.record(endpoint, getResponseTime());
+        }
+        softly(() -> history.assertPercentileBelow(endpoint, percentile, lastCalls, expectedMax));
+        return this;
+    }
+
+    /**
+     * @return call duration if the {@link CallTiming} is recorded, otherwise
+     * {@link okhttp3.Response#receivedResponseAtMillis()} - {@link okhttp3.Response#sentRequestAtMillis()}
+     */
+    @Nonnull
+    public Duration getResponseTime() {
+        final CallTiming timing = getResponse().getCallTiming();
+        if (timing != null && timing.getTotalNanos() >= 0) {
+            return Duration.ofNanos(timing.getTotalNanos());
+        }
+        return getExchangeTime();
+    }
+
+    /**
+     * @return time to the first response byte if the {@link CallTiming} is recorded, otherwise
+     * {@link okhttp3.Response#receivedResponseAtMillis()} - {@link okhttp3.Response#sentRequestAtMillis()}
+     */
+    @Nonnull
+    public Duration getTimeToFirstByte() {
+        final CallTiming timing = getResponse().getCallTiming();
+        if (timing != null && timing.getTimeToFirstByteNanos() >= 0) {
+            return Duration.ofNanos(timing.getTimeToFirstByteNanos());
+        }
+        return getExchangeTime();
+    }
+
+    private Duration getExchangeTime() {
+        final okhttp3.Response raw = getResponse().getResponse();
+        return Duration.ofMillis(Math.max(0, raw.receivedResponseAtMillis() - raw.sentRequestAtMillis()));
+    }
+
+    private String getEndpoint() {
+        final String endpointInfo = getResponse().getEndpointInfo();
+        if (!endpointInfo.trim().isEmpty()) {
+            return endpointInfo;
+        }
+        return EndpointMetrics.getEndpoint(getResponse().getResponse().request());
+    }
+
     /**
      * Force throwing of assertion errors
      *
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.asserter;
+
+import veslo.BriefAssertionError;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static veslo.constant.ParameterNameConstants.DURATION_PARAMETER;
+import static veslo.constant.ParameterNameConstants.ENDPOINT_PARAMETER;
+
+/**
+ * Sliding window of the last response times per endpoint for the suite-level percentile assertions
+ * (for example, "p95 of the last 50 calls to the endpoint is below 200ms").
+ * The window is fed by the {@link ResponseAsserter#assertResponseTimePercentileBelow(double, int, Duration)}
+ * or directly by {@link #record(String, Duration)}.
+ * <p>
+ * Percentiles are calculated by the nearest-rank method over the available samples (up to the requested count).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class ResponseTimeHistory {
+
+    /**
+     * Default history used by the {@link ResponseAsserter}
+     */
+    public static final ResponseTimeHistory DEFAULT = new ResponseTimeHistory(1000);
+
+    private final int capacity;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity - max number of the retained response times per endpoint
+     */
+    public ResponseTimeHistory(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero. Actual: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param endpoint     - endpoint name
+     * @param responseTime - response time
+     * @return this
+     */
+    @Nonnull
+    public ResponseTimeHistory record(@Nonnull final String endpoint, @Nonnull final Duration responseTime) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        Utils.parameterRequireNonNull(responseTime, DURATION_PARAMETER);
+        windows.computeIfAbsent(endpoint, e -> new Window(capacity)).add(responseTime.toNanos());
+        return this;
+    }
+
+    /**
+     * @param endpoint - endpoint name
+     * @return number of the retained response times
+     */
+    public int getCount(@Nonnull final String endpoint) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        final Window window = windows.get(endpoint);
+        return window == null ? 0 : window.size();
+    }
+
+    /**
+     * @param endpoint   - endpoint name
+     * @param percentile - percentile (0...100]
+     * @param lastCalls  - number of the last calls taken into account
+     * @return response time percentile or null if the endpoint has no recorded calls
+     */
+    @Nullable
+    public Duration getPercentile(@Nonnull final String endpoint, final double percentile, final int lastCalls) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        checkPercentile(percentile, lastCalls);
+        final Window window = windows.get(endpoint);
+        final long[] values = window == null ? new long[0] : window.last(lastCalls);
+        if (values.length == 0) {
+            return null;
+        }
+        Arrays.sort(values);
+        final int rank = (int) Math.ceil(percentile / 100 * values.length);
+        return Duration.ofNanos(values[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * @param endpoint    - endpoint name
+     * @param percentile  - percentile (0...100]
+     * @param lastCalls   - number of the last calls taken into account
+     * @param expectedMax - expected max response time percentile (exclusive)
+     * @throws BriefAssertionError if the response time percentile is not below the expected max
+     */
+    public void assertPercentileBelow(@Nonnull final String endpoint,
+                                      final double percentile,
+                                      final int lastCalls,
+                                      @Nonnull final Duration expectedMax) {
+        Utils.parameterRequireNonNull(expectedMax, DURATION_PARAMETER);
+        final Duration actual = getPercentile(endpoint, percentile, lastCalls);
+        if (actual != null) {
+            final String reason = "Response time p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString() +
+                    " of the last " + Math.min(lastCalls, getCount(endpoint)) + " calls to '" + endpoint + "'";
+            AssertionMatcher.durationBelow(reason, actual, expectedMax);
+        }
+    }
+
+    /**
+     * Removes all recorded response times
+     */
+    public void reset() {
+        windows.clear();
+    }
+
+    static void checkPercentile(final double percentile, final int lastCalls) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in the range (0, 100]. Actual: " + percentile);
+        }
+        if (lastCalls < 1) {
+            throw new IllegalArgumentException("Last calls count must be greater than zero. Actual: " + lastCalls);
+        }
+    }
+
+    private static final class Window {
+
+        private final long[] values;
+        private long count;
+
+        private Window(final int capacity) {
+            this.values = new long[capacity];
+        }
+
+        private synchronized void add(final long value) {
+            values[(int) (count % values.length)] = value;
+            count++;
+        }
+
+        private synchronized int size() {
+            return (int) Math.min(count, values.length);
+        }
+
+        private synchronized long[] last(final int lastCalls) {
+            final int size = Math.min(lastCalls, size());
+            final long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = values[(int) ((count - 1 - i) % values.length)];
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -26,6 +26,7 @@ import veslo.UtilityClassException;
 import veslo.client.adapter.UniversalCallAdapterFactory;
 import veslo.client.converter.ExtensionConverterFactory;
 import veslo.client.inteceptor.CompositeInterceptor;
+import veslo.client.metrics.CallTimingRecorder;
 import veslo.util.Utils;
 
 import static veslo.client.TrustSocketHelper.*;
@@ -57,13 +58,42 @@ public class TestClient {
                               final CallAdapter.Factory callAdapterFactory,
                               final Converter.Factory converterFactory,
                               final Class<C> clientClass) {
+        return build(baseUrl, interceptor, callAdapterFactory, converterFactory, clientClass, new Interceptor[0]);
+    }
+
+    /**
+     * Creates an HTTP client for testing with the application interceptors
+     * (for example, {@link veslo.client.cassette.CassetteInterceptor})
+     *
+     * @param baseUrl                 - HTTP resource URL
+     * @param interceptor             - {@link CompositeInterceptor} (okhttp network interceptor)
+     * @param callAdapterFactory      - {@link UniversalCallAdapterFactory} or heirs
+     * @param converterFactory        - {@link ExtensionConverterFactory} or heirs
+     * @param clientClass             - client interface class
+     * @param applicationInterceptors - okhttp application interceptors in the call order
+     * @param <C>                     - client interface
+     * @return built client
+     */
+    @EverythingIsNonNull
+    public static <C> C build(final String baseUrl,
+                              final Interceptor interceptor,
+                              final CallAdapter.Factory callAdapterFactory,
+                              final Converter.Factory converterFactory,
+                              final Class<C> clientClass,
+                              final Interceptor... applicationInterceptors) {
         Utils.parameterRequireNonNull(baseUrl, BASE_URL_PARAMETER);
         Utils.parameterRequireNonNull(interceptor, INTERCEPTOR_PARAMETER);
         Utils.parameterRequireNonNull(callAdapterFactory, CALL_ADAPTER_FACTORY_PARAMETER);
         Utils.parameterRequireNonNull(converterFactory, CONVERTER_FACTORY_PARAMETER);
         Utils.parameterRequireNonNull(clientClass, CLIENT_CLASS_PARAMETER);
+        Utils.parameterRequireNonNull(applicationInterceptors, INTERCEPTORS_PARAMETER);
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        for (Interceptor applicationInterceptor : applicationInterceptors) {
+            Utils.parameterRequireNonNull(applicationInterceptor, INTERCEPTOR_PARAMETER);
+            builder.addInterceptor(applicationInterceptor);
+        }
         return new Retrofit.Builder()
-                .client(new OkHttpClient.Builder()
+                .client(builder
                         // Configure this client to follow redirects
                         // (HTTP status 301, 302...).
                         .followRedirects(true)
@@ -77,6 +107,9 @@ public class TestClient {
                         // Interceptor with your call handling rules
                         // (include `follow redirects`)
                         .addNetworkInterceptor(interceptor)
+                        // network phase timing of each call (IDualResponse#getCallTiming())
+                        .eventListenerFactory(CallTimingRecorder.INSTANCE)
+                        .addInterceptor(CallTimingRecorder.INSTANCE)
                         .build())
                 .baseUrl(baseUrl)
                 .addCallAdapterFactory(callAdapterFactory)
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client;
+
+import org.slf4j.MDC;
+import veslo.util.ThrowableSupplier;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static veslo.constant.ParameterNameConstants.*;
+import static veslo.constant.SonarRuleConstants.SONAR_GENERIC_EXCEPTIONS_THROWN;
+
+/**
+ * Scoped client context (cookies, tokens and other state of the intercept actions).
+ * <p>
+ * A context is bound to the current thread only for the duration of {@link #call(ThrowableSupplier)}
+ * and is propagated to the worker threads explicitly via {@link #wrap(Callable)} together with the SLF4J MDC.
+ * Child tasks share the same (thread-safe) context, so fanning out thousands of blocking calls
+ * (see {@link veslo.util.VesloParallel}) does not create a per-thread copy of the state.
+ * <p>
+ * If no context is bound, the thread gets its own lazily created context
+ * (the same isolation as the {@link ThreadLocal} storage used before).
+ * <p>
+ * Usage:
+ * * private static final VesloContext.Key&lt;String&gt; TOKEN = VesloContext.Key.of("token");
+ * * ...
+ * * VesloContext.current().put(TOKEN, "foobar");
+ * * VesloParallel.run(() -&gt; client.get(), () -&gt; client.post()); // both calls see the token
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class VesloContext {
+
+    /**
+     * The context bound to the thread (pointer only, the state is stored in the context)
+     */
+    private static final ThreadLocal<VesloContext> CURRENT = new ThreadLocal<>();
+
+    private final ConcurrentMap<Key<?>, Object> values = new ConcurrentHashMap<>();
+
+    /**
+     * @return the context bound to the current thread (created and bound if absent)
+     */
+    @Nonnull
+    public static VesloContext current() {
+        VesloContext context = CURRENT.get();
+        if (context == null) {
+            context = new VesloContext();
+            CURRENT.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Unbind the context from the current thread (the next {@link #current()} call creates a new one)
+     */
+    public static void reset() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @param key - context value key
+     * @param <T> - value type
+     * @return context value or null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nonnull final Key<T> key) {
+        Utils.parameterRequireNonNull(key, KEY_PARAMETER);
+        return (T) values.get(key);
+    }
+
+    /**
+     * @param key      - context value key
+     * @param supplier - value supplier (called once per context)
+     * @param <T>      - value type
+     * @return existing or computed context value
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(@Nonnull final Key<T> key, @Nonnull final Supplier<T> supplier) {
+        Utils.parameterRequireNonNull(key, KEY_PARAMETER);
+        Utils.parameterRequireNonNull(supplier, SUPPLIER_PARAMETER);
+        return (T) values.computeIfAbsent(key, k -> supplier.get());
+    }
+
+    /**
+     * @param key   - context value key
+     * @param value - context value (null - remove)
+     * @param <T>   - value type
+     * @return this
+     */
+    @Nonnull
+    public <T> VesloContext put(@Nonnull final Key<T> key, @Nullable final T value) {
+        Utils.parameterRequireNonNull(key, KEY_PARAMETER);
+        if (value == null) {
+            values.remove(key);
+        } else {
+            values.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * @param key - context value key
+     * @param <T> - value type
+     * @return removed context value or null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T remove(@Nonnull final Key<T> key) {
+        Utils.parameterRequireNonNull(key, KEY_PARAMETER);
+        return (T) values.remove(key);
+    }
+
+    /**
+     * Remove all context values
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    /**
+     * Call the supplier with this context bound to the current thread.
+     * The previous binding is restored after the call.
+     *
+     * @param supplier - function to call
+     * @param <T>      - result type
+     * @return function call result
+     * @throws Throwable thrown by the supplier
+     */
+    @SuppressWarnings(SONAR_GENERIC_EXCEPTIONS_THROWN)
+    public <T> T call(@Nonnull final ThrowableSupplier<T> supplier) throws Throwable {
+        Utils.parameterRequireNonNull(supplier, SUPPLIER_PARAMETER);
+        final VesloContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return supplier.execute();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Wrap the task for execution in another thread with this context and a copy of the caller MDC.
+     *
+     * @param task - task to wrap
+     * @param <T>  - task result type
+     * @return wrapped task
+     */
+    @Nonnull
+    public <T> Callable<T> wrap(@Nonnull final Callable<T> task) {
+        Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            setMdc(mdc);
+            try {
+                return call(task::call);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            } finally {
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    /**
+     * Wrap the task for execution in another thread with this context and a copy of the caller MDC.
+     *
+     * @param task - task to wrap
+     * @return wrapped task
+     */
+    @Nonnull
+    public Runnable wrap(@Nonnull final Runnable task) {
+        Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+        final Callable<Object> callable = wrap(() -> {
+            task.run();
+            return null;
+        });
+        return () -> {
+            try {
+                callable.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static void setMdc(@Nullable final Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+
+    /**
+     * Typed context value key (identity based)
+     *
+     * @param <T> - value type
+     */
+    public static final class Key<T> {
+
+        private final String name;
+
+        private Key(@Nonnull final String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param name - key name (for debugging)
+         * @param <T>  - value type
+         * @return new unique key
+         */
+        @Nonnull
+        public static <T> Key<T> of(@Nonnull final String name) {
+            Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+            return new Key<>(name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
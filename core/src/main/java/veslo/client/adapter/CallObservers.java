@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package veslo.client.adapter;
+
+import veslo.UtilityClassException;
+import veslo.client.adapter.ICallObserver.ObservedCall;
+import veslo.client.journal.ExchangeJournal;
+import veslo.client.journal.JournalEntry;
+import veslo.client.metrics.EndpointMetrics;
+import veslo.client.response.IDualResponse;
+import veslo.jfr.VesloEvents;
+import veslo.trace.Span;
+import veslo.trace.VesloTracer;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static veslo.constant.ParameterNameConstants.JOURNAL_PARAMETER;
+import static veslo.constant.ParameterNameConstants.METRICS_PARAMETER;
+
+/**
+ * Built-in {@link ICallObserver} implementations registered by the {@link UniversalCallAdapterFactory}
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class CallObservers {
+
+    /**
+     * Records the API call JFR event (see {@link VesloEvents})
+     */
+    public static final ICallObserver JFR = new ICallObserver() {
+
+        @Override
+        public Object onStart(@Nonnull final ObservedCall call) {
+            return VesloEvents.beginCall();
+        }
+
+        @Override
+        public void onComplete(@Nonnull final ObservedCall call,
+                               @Nullable final Object state,
+                               @Nonnull final IDualResponse<?, ?> result) {
+            VesloEvents.commitCall(state, call.getEndpointInfo(), call.getSuccessType(), call.getErrorType(), result);
+        }
+
+        @Override
+        public void onFailure(@Nonnull final ObservedCall call,
+                              @Nullable final Object state,
+                              @Nonnull final Throwable error) {
+            VesloEvents.commitCall(state, call.getEndpointInfo(), call.getSuccessType(), call.getErrorType(), null);
+        }
+
+    };
+
+    /**
+     * Starts and ends the API call span (see {@link VesloTracer#startCallSpan})
+     */
+    public static final ICallObserver TRACING = new ICallObserver() {
+
+        @Override
+        public Object onStart(@Nonnull final ObservedCall call) {
+            return VesloTracer.startCallSpan(call.getRequest(), call.getEndpointInfo());
+        }
+
+        @Override
+        public void onComplete(@Nonnull final ObservedCall call,
+                               @Nullable final Object state,
+                               @Nonnull final IDualResponse<?, ?> result) {
+            VesloTracer.endCallSpan(call.getRequest(), (Span) state, result.getHttpStatusCode());
+        }
+
+        @Override
+        public void onFailure(@Nonnull final ObservedCall call,
+                              @Nullable final Object state,
+                              @Nonnull final Throwable error) {
+            VesloTracer.endCallSpan(call.getRequest(), (Span) state, -1);
+        }
+
+    };
+
+    /**
+     * Records the API call latency to the run-wide metrics (see {@link EndpointMetrics#enableRunMetrics()})
+     */
+    public static final ICallObserver RUN_METRICS = runMetrics(null);
+
+    private CallObservers() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * @param metrics - endpoint metrics registry
+     * @return observer recording the API call latency to the registry
+     */
+    @Nonnull
+    public static ICallObserver endpointMetrics(@Nonnull final EndpointMetrics metrics) {
+        Utils.parameterRequireNonNull(metrics, METRICS_PARAMETER);
+        return new MetricsObserver(metrics, null);
+    }
+
+    /**
+     * @param excluded - the registry already observed by the {@link #endpointMetrics(EndpointMetrics)} (nullable)
+     * @return observer recording the API call latency to the run-wide metrics if they differ from the excluded
+     */
+    @Nonnull
+    public static ICallObserver runMetrics(@Nullable final EndpointMetrics excluded) {
+        return new MetricsObserver(null, excluded);
+    }
+
+    /**
+     * @param journal - API calls journal
+     * @return observer writing the API calls to the journal
+     */
+    @Nonnull
+    public static ICallObserver exchangeJournal(@Nonnull final ExchangeJournal journal) {
+        Utils.parameterRequireNonNull(journal, JOURNAL_PARAMETER);
+        return new ICallObserver() {
+
+            @Override
+            public Object onStart(@Nonnull final ObservedCall call) {
+                return null;
+            }
+
+            @Override
+            public void onComplete(@Nonnull final ObservedCall call,
+                                   @Nullable final Object state,
+                                   @Nonnull final IDualResponse<?, ?> result) {
+                journal.record(JournalEntry.of(call.getEndpointInfo(), result.getResponse(),
+                        call.getStartMillis(), call.getElapsedNanos()));
+            }
+
+            @Override
+            public void onFailure(@Nonnull final ObservedCall call,
+                                  @Nullable final Object state,
+                                  @Nonnull final Throwable error) {
+                journal.record(JournalEntry.failed(call.getEndpointInfo(), call.getRequest(), error,
+                        call.getStartMillis(), call.getElapsedNanos()));
+            }
+
+        };
+    }
+
+    /**
+     * Records the API call latency to the fixed registry or to the run-wide metrics resolved at the call start
+     */
+    private static final class MetricsObserver implements ICallObserver {
+
+        private final EndpointMetrics metrics;
+        private final EndpointMetrics excluded;
+
+        private MetricsObserver(@Nullable final EndpointMetrics metrics, @Nullable final EndpointMetrics excluded) {
+            this.metrics = metrics;
+            this.excluded = excluded;
+        }
+
+        @Override
+        public Object onStart(@Nonnull final ObservedCall call) {
+            if (metrics != null) {
+                return metrics;
+            }
+            final EndpointMetrics runMetrics = EndpointMetrics.getRunMetrics();
+            return runMetrics == excluded ? null : runMetrics;
+        }
+
+        @Override
+        public void onComplete(@Nonnull final ObservedCall call,
+                               @Nullable final Object state,
+                               @Nonnull final IDualResponse<?, ?> result) {
+            record(call, state);
+        }
+
+        @Override
+        public void onFailure(@Nonnull final ObservedCall call,
+                              @Nullable final Object state,
+                              @Nonnull final Throwable error) {
+            record(call, state);
+        }
+
+        private static void record(final ObservedCall call, @Nullable final Object state) {
+            if (state != null) {
+                ((EndpointMetrics) state).recordCall(call.getRequest(), call.getElapsedNanos());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package veslo.client.adapter;
+
+import okhttp3.Request;
+import veslo.client.response.IDualResponse;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Type;
+
+/**
+ * Observer of the API method calls made by the {@link UniversalCallAdapterFactory}
+ * (see {@link UniversalCallAdapterFactory#withCallObserver(ICallObserver)}).
+ * For each call {@link #onStart} is invoked before the call execution,
+ * then either {@link #onComplete} with the converted response or {@link #onFailure} with the call error.
+ * For the {@code CompletableFuture} calls the completion is invoked before the returned future is completed.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public interface ICallObserver {
+
+    /**
+     * @param call - started API call
+     * @return call state passed to {@link #onComplete} or {@link #onFailure} (nullable)
+     */
+    @Nullable
+    Object onStart(@Nonnull ObservedCall call);
+
+    /**
+     * @param call   - completed API call
+     * @param state  - {@link #onStart} result
+     * @param result - API call response
+     */
+    void onComplete(@Nonnull ObservedCall call, @Nullable Object state, @Nonnull IDualResponse<?, ?> result);
+
+    /**
+     * @param call  - failed API call
+     * @param state - {@link #onStart} result
+     * @param error - API call error (transport, conversion or handling)
+     */
+    void onFailure(@Nonnull ObservedCall call, @Nullable Object state, @Nonnull Throwable error);
+
+    /**
+     * Observed API method call
+     */
+    final class ObservedCall {
+
+        private final Request request;
+        private final String endpointInfo;
+        private final Type successType;
+        private final Type errorType;
+        private final long startMillis;
+        private final long startNanos;
+
+        ObservedCall(final Request request,
+                     final String endpointInfo,
+                     final Type successType,
+                     final Type errorType) {
+            this.request = request;
+            this.endpointInfo = endpointInfo;
+            this.successType = successType;
+            this.errorType = errorType;
+            this.startMillis = System.currentTimeMillis();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * @return API call request
+         */
+        @Nonnull
+        public Request getRequest() {
+            return request;
+        }
+
+        /**
+         * @return called method info
+         */
+        @Nonnull
+        public String getEndpointInfo() {
+            return endpointInfo;
+        }
+
+        /**
+         * @return success DTO type
+         */
+        @Nonnull
+        public Type getSuccessType() {
+            return successType;
+        }
+
+        /**
+         * @return error DTO type
+         */
+        @Nonnull
+        public Type getErrorType() {
+            return errorType;
+        }
+
+        /**
+         * @return call start wall-clock time (epoch millis)
+         */
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        /**
+         * @return nanoseconds elapsed since the call start
+         */
+        public long getElapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+
+    }
+
+}
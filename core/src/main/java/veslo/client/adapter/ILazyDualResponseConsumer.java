@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.adapter;
+
+import okhttp3.Response;
+import veslo.client.response.BaseDualResponse;
+import veslo.client.response.IDualResponse;
+import veslo.client.response.LazyDTO;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+
+/**
+ * Factory for the {@link BaseDualResponse} heir with deferred DTO conversion, for example {@code DualResponse::lazy}
+ * (see {@link UniversalCallAdapterFactory#withLazyBodyConversion(ILazyDualResponseConsumer)}).
+ * The DTOs are passed as typed {@link LazyDTO} holders, so the heir never receives
+ * an object of an unexpected type.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+@FunctionalInterface
+public interface ILazyDualResponseConsumer<R> {
+
+    /**
+     * Factory method signature for {@link BaseDualResponse} with deferred DTO conversion
+     *
+     * @param response        - okhttp raw response
+     * @param sucDTO          - nullable deferred success response DTO
+     * @param errDTO          - nullable deferred error response DTO
+     * @param endpointInfo    - called method info
+     * @param callAnnotations - called method annotations
+     * @return new instance of {@link IDualResponse}
+     */
+    R accept(final @Nonnull Response response,
+             final @Nullable LazyDTO<Object> sucDTO,
+             final @Nullable LazyDTO<Object> errDTO,
+             final @Nonnull String endpointInfo,
+             final @Nonnull Annotation[] callAnnotations);
+
+}
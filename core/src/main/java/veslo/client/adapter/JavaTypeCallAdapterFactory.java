@@ -17,23 +17,32 @@
 package veslo.client.adapter;
 
 import okhttp3.HttpUrl;
+import okhttp3.ResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
+import retrofit2.Converter;
+import retrofit2.Callback;
 import retrofit2.Response;
 import retrofit2.Retrofit;
+import retrofit2.http.Streaming;
 import retrofit2.internal.EverythingIsNonNull;
 import veslo.ConvertCallException;
 import veslo.HttpCallException;
 import veslo.PrimitiveConvertCallException;
+import veslo.client.response.ResponseStream;
 import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static veslo.constant.ParameterNameConstants.*;
 
@@ -71,6 +80,10 @@ public class JavaTypeCallAdapterFactory extends CallAdapter.Factory {
     /**
      * The returned CallAdapter seeks to convert the response body
      * to the specified return type, regardless of the HTTP status.
+     * For the {@code CompletableFuture<T>} return type, the call is executed asynchronously
+     * (see {@link #enqueue(Call, Function)}).
+     * For the {@code ResponseStream<T>} return type, the body elements are converted incrementally
+     * (see {@link #getResponseStreamCallAdapter(Type, Annotation[], Retrofit)}).
      *
      * @param returnType        - called method return type
      * @param methodAnnotations - list of annotations for the called API method
@@ -82,6 +95,11 @@ public class JavaTypeCallAdapterFactory extends CallAdapter.Factory {
     public CallAdapter<Object, Object> get(final Type returnType,
                                            final Annotation[] methodAnnotations,
                                            final Retrofit retrofit) {
+        if (isResponseStream(returnType)) {
+            return getResponseStreamCallAdapter(getResponseStreamElementType(returnType), methodAnnotations, retrofit);
+        }
+        final boolean async = isCompletableFuture(returnType);
+        final Type resultType = async ? getCompletableFutureResultType(returnType) : returnType;
         return new CallAdapter<Object, Object>() {
 
             /**
@@ -90,7 +108,7 @@ public class JavaTypeCallAdapterFactory extends CallAdapter.Factory {
             @Override
             @Nonnull
             public Type responseType() {
-                return returnType;
+                return resultType;
             }
 
             /**
@@ -102,19 +120,14 @@ public class JavaTypeCallAdapterFactory extends CallAdapter.Factory {
                 final String method = call.request().method();
                 final HttpUrl url = call.request().url();
                 logger.info("API call: {} {}", method, url);
+                if (async) {
+                    return enqueue(call,
+                            response -> getResponseBody(response, resultType, methodAnnotations, retrofit));
+                }
                 try {
                     final Response<Object> response = call.execute();
-                    final Object dto;
-                    logger.debug("Retrieving the response body.");
-                    if (response.isSuccessful()) {
-                        dto = getSuccessfulResponseBody(response, returnType, methodAnnotations, retrofit);
-                    } else {
-                        dto = getErrorResponseBody(response, returnType, methodAnnotations, retrofit);
-                    }
-                    checkPrimitiveConvertCall(returnType, dto);
-                    logger.debug("Response body is {}present for type: {}", dto == null ? "not " : "", returnType);
                     //noinspection ConstantConditions
-                    return dto;
+                    return getResponseBody(response, resultType, methodAnnotations, retrofit);
                 } catch (IOException e) {
                     final HttpCallException exception = new HttpCallException("Failed to make API call.\n" +
                             e.getMessage() + "\n", e);
@@ -125,6 +138,188 @@ public class JavaTypeCallAdapterFactory extends CallAdapter.Factory {
         };
     }
 
+    /**
+     * Converts the response body to the return type, regardless of the HTTP status.
+     *
+     * @param response    - Retrofit call response
+     * @param returnType  - model {@link Type}
+     * @param annotations - list of annotations for the called API method
+     * @param retrofit    - HTTP client
+     * @return model
+     * @throws ConvertCallException          If the body of a response is not convertible
+     * @throws PrimitiveConvertCallException if returnType is primitive and body is null
+     */
+    @Nullable
+    protected Object getResponseBody(final @Nonnull Response<Object> response,
+                                     final @Nonnull Type returnType,
+                                     final @Nonnull Annotation[] annotations,
+                                     final @Nonnull Retrofit retrofit) {
+        final Object dto;
+        logger.debug("Retrieving the response body.");
+        if (response.isSuccessful()) {
+            dto = getSuccessfulResponseBody(response, returnType, annotations, retrofit);
+        } else {
+            dto = getErrorResponseBody(response, returnType, annotations, retrofit);
+        }
+        checkPrimitiveConvertCall(returnType, dto);
+        logger.debug("Response body is {}present for type: {}", dto == null ? "not " : "", returnType);
+        return dto;
+    }
+
+    /**
+     * Asynchronous call execution via {@link Call#enqueue(Callback)} (OkHttp dispatcher threads).
+     * The result handler is called in the dispatcher thread.
+     * Cancelling the returned future cancels the call.
+     * Note: the number of concurrent calls is limited by the OkHttp {@link okhttp3.Dispatcher}
+     * (64 calls, 5 calls per host by default).
+     *
+     * @param call    - retrofit API resource call
+     * @param handler - response handler (conversion)
+     * @param <T>     - result type
+     * @return future completed with the handler result or exceptionally
+     * with {@link HttpCallException} (transport error) or the handler exception
+     */
+    @Nonnull
+    @EverythingIsNonNull
+    public <T> CompletableFuture<T> enqueue(final Call<Object> call, final Function<Response<Object>, T> handler) {
+        Utils.parameterRequireNonNull(call, CALL_PARAMETER);
+        Utils.parameterRequireNonNull(handler, HANDLER_PARAMETER);
+        final CompletableFuture<T> future = new CompletableFuture<T>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                call.cancel();
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        logger.debug("Enqueue an API call");
+        call.enqueue(new Callback<Object>() {
+
+            @Override
+            public void onResponse(@Nonnull Call<Object> c, @Nonnull Response<Object> response) {
+                logger.debug("API call completed successfully.");
+                try {
+                    future.complete(handler.apply(response));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(@Nonnull Call<Object> c, @Nonnull Throwable t) {
+                final HttpCallException exception =
+                        new HttpCallException("Failed to make API call. See the reason below.", t);
+                if (!future.isCancelled()) {
+                    logger.error("Failed to make API call.", exception);
+                }
+                future.completeExceptionally(exception);
+            }
+
+        });
+        return future;
+    }
+
+    /**
+     * Call adapter for the {@link ResponseStream} return type.
+     * The call is executed synchronously (until the response headers are received),
+     * the body elements are read and converted by the registered response converter on demand.
+     * Without the {@link Streaming} annotation on the API method, Retrofit buffers the entire body
+     * before returning the response.
+     *
+     * @param elementType       - stream element type
+     * @param methodAnnotations - list of annotations for the called API method
+     * @param retrofit          - HTTP client
+     * @return a call adapter for the {@link ResponseStream} return type
+     */
+    @EverythingIsNonNull
+    public CallAdapter<Object, Object> getResponseStreamCallAdapter(final Type elementType,
+                                                                    final Annotation[] methodAnnotations,
+                                                                    final Retrofit retrofit) {
+        Utils.parameterRequireNonNull(elementType, TYPE_PARAMETER);
+        Utils.parameterRequireNonNull(methodAnnotations, METHOD_ANNOTATIONS_PARAMETER);
+        Utils.parameterRequireNonNull(retrofit, RETROFIT_PARAMETER);
+        final Converter<ResponseBody, ?> converter = retrofit.responseBodyConverter(elementType, methodAnnotations);
+        if (Arrays.stream(methodAnnotations).noneMatch(a -> a instanceof Streaming)) {
+            logger.warn("The API method is not annotated with @Streaming. " +
+                    "The response body will be buffered before reading the stream elements.");
+        }
+        return new CallAdapter<Object, Object>() {
+
+            /**
+             * @return unconverted {@link ResponseBody} type
+             */
+            @Override
+            @Nonnull
+            public Type responseType() {
+                return ResponseBody.class;
+            }
+
+            /**
+             * @param call - see {@link Call}
+             * @return {@link ResponseStream}
+             */
+            @Override
+            public Object adapt(final @Nonnull Call<Object> call) {
+                logger.info("API call: {} {} (stream)", call.request().method(), call.request().url());
+                try {
+                    return new ResponseStream<>(call, call.execute(), elementType, converter);
+                } catch (IOException e) {
+                    final HttpCallException exception = new HttpCallException("Failed to make API call.\n" +
+                            e.getMessage() + "\n", e);
+                    logger.error("Failed to make API call.", exception);
+                    throw exception;
+                }
+            }
+        };
+    }
+
+    /**
+     * @param type - called method return type
+     * @return true if the type is {@link ResponseStream}
+     */
+    public boolean isResponseStream(@Nonnull final Type type) {
+        Utils.parameterRequireNonNull(type, TYPE_PARAMETER);
+        return getRawType(type) == ResponseStream.class;
+    }
+
+    /**
+     * @param type - {@code ResponseStream<T>} type
+     * @return T type
+     * @throws IllegalArgumentException if the type is not parameterized
+     */
+    @Nonnull
+    public Type getResponseStreamElementType(@Nonnull final Type type) {
+        Utils.parameterRequireNonNull(type, TYPE_PARAMETER);
+        if (!(type instanceof ParameterizedType)) {
+            throw new IllegalArgumentException("ResponseStream return type must be parameterized " +
+                    "as ResponseStream<Foo> or ResponseStream<? extends Foo>");
+        }
+        return getParameterUpperBound(0, (ParameterizedType) type);
+    }
+
+    /**
+     * @param type - called method return type
+     * @return true if the type is {@link CompletableFuture}
+     */
+    public boolean isCompletableFuture(@Nonnull final Type type) {
+        Utils.parameterRequireNonNull(type, TYPE_PARAMETER);
+        return getRawType(type) == CompletableFuture.class;
+    }
+
+    /**
+     * @param type - {@code CompletableFuture<T>} type
+     * @return T type
+     * @throws IllegalArgumentException if the type is not parameterized
+     */
+    @Nonnull
+    public Type getCompletableFutureResultType(@Nonnull final Type type) {
+        Utils.parameterRequireNonNull(type, TYPE_PARAMETER);
+        if (!(type instanceof ParameterizedType)) {
+            throw new IllegalArgumentException("CompletableFuture return type must be parameterized " +
+                    "as CompletableFuture<Foo> or CompletableFuture<? extends Foo>");
+        }
+        return getParameterUpperBound(0, (ParameterizedType) type);
+    }
+
     /**
      * Force calls a typed converter if HTTP status code 204/205 or {@link Response#body()} return null
      * This ensures that the request body is processed correctly for the {@link Type}.
@@ -16,6 +16,7 @@
 
 package veslo.client.adapter;
 
+import okhttp3.ResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
@@ -23,17 +24,33 @@ import retrofit2.CallAdapter;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.internal.EverythingIsNonNull;
+import veslo.ConvertCallException;
 import veslo.HttpCallException;
 import veslo.client.EndpointInfo;
+import veslo.client.adapter.ICallObserver.ObservedCall;
+import veslo.client.journal.ExchangeJournal;
+import veslo.client.metrics.CallTiming;
+import veslo.client.metrics.EndpointMetrics;
 import veslo.client.response.BaseDualResponse;
 import veslo.client.response.DualResponse;
 import veslo.client.response.IDualResponse;
+import veslo.client.response.LazyDTO;
+import veslo.trace.Span;
+import veslo.trace.VesloTracer;
 import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static veslo.constant.ParameterNameConstants.*;
 import static veslo.constant.SonarRuleConstants.SONAR_GENERIC_WILDCARD_TYPES;
@@ -41,12 +58,14 @@ import static veslo.constant.SonarRuleConstants.SONAR_GENERIC_WILDCARD_TYPES;
 /**
  * Factory for creating {@link CallAdapter} with support {@link IDualResponse} type
  * <p>
+ * The factory configuration is immutable: the {@code with*} methods return a configured copy
+ * of the same factory class, so the shared {@link #INSTANCE} is never changed.
  *
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
  * Created: 11.12.2021
  */
 @SuppressWarnings(SONAR_GENERIC_WILDCARD_TYPES)
-public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
+public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory implements Cloneable {
 
     public static final UniversalCallAdapterFactory INSTANCE = new UniversalCallAdapterFactory();
 
@@ -55,12 +74,47 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
      */
     private final IDualResponseConsumer<IDualResponse<?, ?>> dualResponseConsumer;
 
+    /**
+     * {@link ILazyDualResponseConsumer} for the {@link #withLazyBodyConversion(boolean)} (null - not supported)
+     */
+    private final ILazyDualResponseConsumer<IDualResponse<?, ?>> defaultLazyDualResponseConsumer;
+
+    /**
+     * Deferred success/error body conversion consumer (null - eager conversion)
+     */
+    private volatile ILazyDualResponseConsumer<IDualResponse<?, ?>> lazyDualResponseConsumer = null;
+
+    /**
+     * Compact retained response flag
+     */
+    private volatile boolean compactResponses = false;
+
+    /**
+     * API call latency metrics registry (null - disabled)
+     */
+    private volatile EndpointMetrics endpointMetrics = null;
+
+    /**
+     * API calls journal (null - disabled)
+     */
+    private volatile ExchangeJournal exchangeJournal = null;
+
+    /**
+     * Unmodifiable list of the API call observers registered by {@link #withCallObserver(ICallObserver)}
+     */
+    private volatile List<ICallObserver> customCallObservers = Collections.emptyList();
+
+    /**
+     * Built-in and registered API call observers in the notification order
+     */
+    private volatile List<ICallObserver> callObservers = Collections.emptyList();
+
     /**
      * Default constructor with {@link DualResponse} return type handling
      */
     public UniversalCallAdapterFactory() {
         //noinspection ConstantConditions (idea inspection bug)
-        this(LoggerFactory.getLogger(UniversalCallAdapterFactory.class), DualResponse::new);
+        this(LoggerFactory.getLogger(UniversalCallAdapterFactory.class), DualResponse::new, DualResponse::lazy);
     }
 
     /**
@@ -77,7 +131,7 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
     @EverythingIsNonNull
     public UniversalCallAdapterFactory(final Logger logger) {
         //noinspection ConstantConditions (idea inspection bug)
-        this(logger, DualResponse::new);
+        this(logger, DualResponse::new, DualResponse::lazy);
     }
 
     /**
@@ -87,29 +141,49 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
     @EverythingIsNonNull
     public UniversalCallAdapterFactory(final Logger logger,
                                        final IDualResponseConsumer<IDualResponse<?, ?>> dualResponseConsumer) {
+        this(logger, dualResponseConsumer, null);
+    }
+
+    /**
+     * @param logger                   - required Slf4J logger
+     * @param dualResponseConsumer     - {@link IDualResponseConsumer} for constructor of {@link BaseDualResponse} heirs
+     * @param lazyDualResponseConsumer - {@link ILazyDualResponseConsumer} of the same heir
+     *                                 for {@link #withLazyBodyConversion(boolean)} (nullable)
+     */
+    protected UniversalCallAdapterFactory(final Logger logger,
+                                          final IDualResponseConsumer<IDualResponse<?, ?>> dualResponseConsumer,
+                                          @Nullable final ILazyDualResponseConsumer<IDualResponse<?, ?>>
+                                                  lazyDualResponseConsumer) {
         super(logger);
         Utils.parameterRequireNonNull(dualResponseConsumer, DUAL_RESPONSE_CONSUMER_PARAMETER);
         this.dualResponseConsumer = dualResponseConsumer;
+        this.defaultLazyDualResponseConsumer = lazyDualResponseConsumer;
+        updateCallObservers();
     }
 
     /**
      * @param returnType        - called method return type
      * @param methodAnnotations - list of annotations for the called API method
      * @param retrofit          - HTTP client
-     * @return a call adapter for {@link IDualResponse} interface
+     * @return a call adapter for {@link IDualResponse} interface (or {@code CompletableFuture<IDualResponse>})
      */
     @Override
     @EverythingIsNonNull
     public CallAdapter<Object, Object> get(final Type returnType,
                                            final Annotation[] methodAnnotations,
                                            final Retrofit retrofit) {
-        if (Utils.isIDualResponse(returnType)) {
+        final boolean async = isCompletableFuture(returnType);
+        final Type resultType = async ? getCompletableFutureResultType(returnType) : returnType;
+        if (Utils.isIDualResponse(resultType)) {
             final String annotations = Utils.arrayToPrettyString(methodAnnotations);
             logger.debug("Prepare API call\nAPI method annotations:{}", annotations);
-            final ParameterizedType type = getParameterizedType(returnType);
+            final ParameterizedType type = getParameterizedType(resultType);
             final String endpointInfo = getEndpointInfo(methodAnnotations);
             final Type successType = getParameterUpperBound(0, type);
             final Type errorType = getParameterUpperBound(1, type);
+            if (async) {
+                return getAsyncCallAdapter(type, successType, errorType, endpointInfo, methodAnnotations, retrofit);
+            }
             return getCallAdapter(type, successType, errorType, endpointInfo, methodAnnotations, retrofit);
         } else {
             return super.get(returnType, methodAnnotations, retrofit);
@@ -134,12 +208,49 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
                                                       final String endpointInfo,
                                                       final Annotation[] methodAnnotations,
                                                       final Retrofit retrofit) {
+        return getCallAdapter(type, successType, errorType, endpointInfo, methodAnnotations, retrofit, false);
+    }
+
+    /**
+     * Method for getting an instance of the {@link CallAdapter} class
+     * for the {@code CompletableFuture<IDualResponse>} return type.
+     * The call is executed asynchronously (see {@link #enqueue(Call, Function)}).
+     *
+     * @param type              - {@link IDualResponse} type
+     * @param successType       - success DTO class
+     * @param errorType         - error DTO class
+     * @param endpointInfo      - called method description
+     * @param methodAnnotations - list of annotations for the called API method
+     * @param retrofit          - HTTP client
+     * @return instance of {@link CallAdapter}
+     */
+    @EverythingIsNonNull
+    public CallAdapter<Object, Object> getAsyncCallAdapter(final ParameterizedType type,
+                                                           final Type successType,
+                                                           final Type errorType,
+                                                           final String endpointInfo,
+                                                           final Annotation[] methodAnnotations,
+                                                           final Retrofit retrofit) {
+        return getCallAdapter(type, successType, errorType, endpointInfo, methodAnnotations, retrofit, true);
+    }
+
+    private CallAdapter<Object, Object> getCallAdapter(final ParameterizedType type,
+                                                       final Type successType,
+                                                       final Type errorType,
+                                                       final String endpointInfo,
+                                                       final Annotation[] methodAnnotations,
+                                                       final Retrofit retrofit,
+                                                       final boolean async) {
         Utils.parameterRequireNonNull(type, TYPE_PARAMETER);
         Utils.parameterRequireNonNull(successType,  SUCCESS_TYPE_PARAMETER);
         Utils.parameterRequireNonNull(errorType, ERROR_TYPE_PARAMETER);
         Utils.parameterRequireNonNull(endpointInfo, ENDPOINT_INFO_PARAMETER);
         Utils.parameterRequireNonNull(methodAnnotations, METHOD_ANNOTATIONS_PARAMETER);
         Utils.parameterRequireNonNull(retrofit, RETROFIT_PARAMETER);
+        // the lazy conversion mode is fixed for the adapter lifetime
+        final ILazyDualResponseConsumer<IDualResponse<?, ?>> lazyConsumer = getLazyDualResponseConsumer();
+        // the unconverted (buffered) body is converted by the LazyDTO
+        final Type responseType = lazyConsumer != null ? ResponseBody.class : type;
         return new CallAdapter<Object, Object>() {
 
             /**
@@ -148,7 +259,7 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
             @Override
             @Nonnull
             public Type responseType() {
-                return type;
+                return responseType;
             }
 
             /**
@@ -157,7 +268,7 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
              */
             @Override
             @EverythingIsNonNull
-            public IDualResponse<?, ?> adapt(Call<Object> call) {
+            public Object adapt(Call<Object> call) {
                 final String finalInfo;
                 if (endpointInfo.trim().isEmpty()) {
                     finalInfo = call.request().method() + " " + call.request().url();
@@ -165,7 +276,24 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
                     finalInfo = endpointInfo.trim();
                 }
                 logger.info("API call: {}", finalInfo);
-                return getIDualResponse(call, successType, errorType, finalInfo, methodAnnotations, retrofit);
+                final List<ICallObserver> observers = getCallObservers();
+                final ObservedCall observed = new ObservedCall(call.request(), finalInfo, successType, errorType);
+                final Object[] states = startCall(observers, observed);
+                if (async) {
+                    return completeAsync(enqueue(call, response -> convertIDualResponse(response,
+                                    successType, errorType, finalInfo, methodAnnotations, retrofit, lazyConsumer)),
+                            (result, error) -> completeCall(observers, observed, states, result, error));
+                }
+                final IDualResponse<?, ?> result;
+                try {
+                    result = getIDualResponse(call, successType, errorType, finalInfo, methodAnnotations, retrofit,
+                            lazyConsumer);
+                } catch (RuntimeException | Error e) {
+                    completeCall(observers, observed, states, null, e);
+                    throw e;
+                }
+                completeCall(observers, observed, states, result, null);
+                return result;
             }
 
         };
@@ -213,6 +341,18 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
         Utils.parameterRequireNonNull(endpointInfo, ENDPOINT_INFO_PARAMETER);
         Utils.parameterRequireNonNull(methodAnnotations, METHOD_ANNOTATIONS_PARAMETER);
         Utils.parameterRequireNonNull(retrofit, RETROFIT_PARAMETER);
+        return getIDualResponse(call, successType, errorType, endpointInfo, methodAnnotations, retrofit,
+                getLazyDualResponseConsumer());
+    }
+
+    private IDualResponse<?, ?> getIDualResponse(final Call<Object> call,
+                                                 final Type successType,
+                                                 final Type errorType,
+                                                 final String endpointInfo,
+                                                 final Annotation[] methodAnnotations,
+                                                 final Retrofit retrofit,
+                                                 @Nullable final ILazyDualResponseConsumer<IDualResponse<?, ?>>
+                                                         lazyConsumer) {
         final Response<Object> response;
         try {
             logger.debug("Make an API call");
@@ -223,25 +363,372 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
             throw new HttpCallException("Failed to make API call. See the reason below.", e);
         }
         logger.debug("API call completed successfully.");
+        return convertIDualResponse(response, successType, errorType, endpointInfo, methodAnnotations, retrofit,
+                lazyConsumer);
+    }
+
+    /**
+     * A method for creating an instance of the DualResponse class from the completed call response.
+     *
+     * @param response          - retrofit API resource call response
+     * @param successType       - The DTO type representing the success model
+     * @param errorType         - The DTO type representing the error model
+     * @param endpointInfo      - description of the called resource in detail
+     * @param methodAnnotations - list of annotations for the called API method
+     * @param retrofit          - HTTP client
+     * @return {@link DualResponse}
+     */
+    public IDualResponse<?, ?> convertIDualResponse(@Nonnull final Response<Object> response,
+                                                    @Nonnull final Type successType,
+                                                    @Nonnull final Type errorType,
+                                                    @Nonnull final String endpointInfo,
+                                                    @Nonnull final Annotation[] methodAnnotations,
+                                                    @Nonnull final Retrofit retrofit) {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        Utils.parameterRequireNonNull(successType,  SUCCESS_TYPE_PARAMETER);
+        Utils.parameterRequireNonNull(errorType, ERROR_TYPE_PARAMETER);
+        Utils.parameterRequireNonNull(endpointInfo, ENDPOINT_INFO_PARAMETER);
+        Utils.parameterRequireNonNull(methodAnnotations, METHOD_ANNOTATIONS_PARAMETER);
+        Utils.parameterRequireNonNull(retrofit, RETROFIT_PARAMETER);
+        return convertIDualResponse(response, successType, errorType, endpointInfo, methodAnnotations, retrofit,
+                getLazyDualResponseConsumer());
+    }
+
+    private IDualResponse<?, ?> convertIDualResponse(final Response<Object> response,
+                                                     final Type successType,
+                                                     final Type errorType,
+                                                     final String endpointInfo,
+                                                     final Annotation[] methodAnnotations,
+                                                     final Retrofit retrofit,
+                                                     @Nullable final ILazyDualResponseConsumer<IDualResponse<?, ?>>
+                                                             lazyConsumer) {
         logger.debug("Define real values for the error/success response body");
-        final Object sucDTO;
-        if (successType == Void.TYPE || successType == Void.class) {
-            sucDTO = null;
-        } else {
-            sucDTO = getSuccessfulResponseBody(response, successType, methodAnnotations, retrofit);
+        final long conversionStart = System.nanoTime();
+        final Span span = VesloTracer.startSpan(response.raw().request(), "Conversion: " + endpointInfo, null);
+        final Object body = response.body();
+        final boolean lazy = lazyConsumer != null && (body == null || body instanceof ResponseBody);
+        final IDualResponse<?, ?> result;
+        try {
+            result = createIDualResponse(response, successType, errorType, endpointInfo, methodAnnotations, retrofit,
+                    lazy ? lazyConsumer : null);
+        } catch (RuntimeException e) {
+            if (span != null) {
+                span.setError(e).end();
+            }
+            throw e;
         }
-        final Object errDTO;
-        if (errorType == Void.TYPE || errorType == Void.class) {
-            errDTO = null;
-        } else {
-            errDTO = getErrorResponseBody(response, errorType, methodAnnotations, retrofit);
+        final long conversionNanos = System.nanoTime() - conversionStart;
+        if (span != null) {
+            span.setAttribute("veslo.endpoint", endpointInfo)
+                    .setAttribute("veslo.success.type", successType.getTypeName())
+                    .setAttribute("veslo.error.type", errorType.getTypeName())
+                    .setAttribute("veslo.conversion.lazy", lazy)
+                    .end();
+        }
+        final CallTiming timing = CallTiming.of(response.raw());
+        if (timing != null) {
+            timing.setConversionNanos(conversionNanos);
+            logger.info("API call timing: {}", timing);
+        }
+        final EndpointMetrics metrics = getEndpointMetrics();
+        final EndpointMetrics runMetrics = getRunMetrics(metrics);
+        if (metrics != null) {
+            metrics.recordConversion(response.raw().request(), conversionNanos);
+        }
+        if (runMetrics != null) {
+            runMetrics.recordConversion(response.raw().request(), conversionNanos);
         }
-        final IDualResponse<?, ?> result = getDualResponseConsumer()
-                .accept(sucDTO, errDTO, response.raw(), endpointInfo, methodAnnotations);
         logger.debug("IDualResponse created:\n{}", result);
         return result;
     }
 
+    private IDualResponse<?, ?> createIDualResponse(final Response<Object> response,
+                                                    final Type successType,
+                                                    final Type errorType,
+                                                    final String endpointInfo,
+                                                    final Annotation[] methodAnnotations,
+                                                    final Retrofit retrofit,
+                                                    @Nullable final ILazyDualResponseConsumer<IDualResponse<?, ?>>
+                                                            lazyConsumer) {
+        final boolean noSucDTO = successType == Void.TYPE || successType == Void.class;
+        final boolean noErrDTO = errorType == Void.TYPE || errorType == Void.class;
+        final IDualResponse<?, ?> result;
+        if (lazyConsumer != null) {
+            final LazyDTO<Object> sucDTO = noSucDTO ? null : LazyDTO.of(() -> getSuccessfulResponseBody(
+                    convertRawBody(response, successType, methodAnnotations, retrofit),
+                    successType, methodAnnotations, retrofit));
+            final LazyDTO<Object> errDTO = noErrDTO ? null
+                    : LazyDTO.of(() -> getErrorResponseBody(response, errorType, methodAnnotations, retrofit));
+            result = lazyConsumer.accept(response.raw(), sucDTO, errDTO, endpointInfo, methodAnnotations);
+        } else {
+            final Object sucDTO = noSucDTO ? null
+                    : getSuccessfulResponseBody(response, successType, methodAnnotations, retrofit);
+            final Object errDTO = noErrDTO ? null
+                    : getErrorResponseBody(response, errorType, methodAnnotations, retrofit);
+            result = getDualResponseConsumer().accept(sucDTO, errDTO, response.raw(), endpointInfo, methodAnnotations);
+        }
+        if (isCompactResponses() && result instanceof BaseDualResponse) {
+            ((BaseDualResponse<?, ?, ?>) result).compact();
+        }
+        return result;
+    }
+
+    /**
+     * Enables deferred success/error body conversion: the bodies are converted on the first
+     * {@link IDualResponse#getSucDTO()}/{@link IDualResponse#getErrDTO()} call (body assertions included)
+     * instead of the API call. Conversion errors ({@link ConvertCallException}) are thrown at access time.
+     * Status and headers only checks do not convert the bodies at all.
+     * <p>
+     * Supported for the default {@link IDualResponse} heir of the factory ({@link DualResponse});
+     * use {@link #withLazyBodyConversion(ILazyDualResponseConsumer)} for a custom heir.
+     *
+     * @param lazyBodyConversion - true to defer the body conversion
+     * @return new factory with the body conversion mode
+     * @throws IllegalStateException if the factory is created with a custom {@link IDualResponseConsumer}
+     */
+    public UniversalCallAdapterFactory withLazyBodyConversion(final boolean lazyBodyConversion) {
+        if (lazyBodyConversion && defaultLazyDualResponseConsumer == null) {
+            throw new IllegalStateException("Lazy body conversion of the custom IDualResponse requires " +
+                    "ILazyDualResponseConsumer. Use withLazyBodyConversion(ILazyDualResponseConsumer).");
+        }
+        return withLazyBodyConversion(lazyBodyConversion ? defaultLazyDualResponseConsumer : null);
+    }
+
+    /**
+     * Enables deferred success/error body conversion (see {@link #withLazyBodyConversion(boolean)})
+     * with the deferred conversion constructor of the {@link BaseDualResponse} heir.
+     *
+     * @param lazyDualResponseConsumer - deferred conversion factory (null - eager conversion)
+     * @return new factory with the body conversion mode
+     */
+    public UniversalCallAdapterFactory withLazyBodyConversion(
+            @Nullable final ILazyDualResponseConsumer<IDualResponse<?, ?>> lazyDualResponseConsumer) {
+        final UniversalCallAdapterFactory copy = copy();
+        copy.lazyDualResponseConsumer = lazyDualResponseConsumer;
+        return copy;
+    }
+
+    /**
+     * @return true if the body conversion is deferred
+     */
+    public boolean isLazyBodyConversion() {
+        return lazyDualResponseConsumer != null;
+    }
+
+    /**
+     * @return deferred conversion constructor of the {@link BaseDualResponse} heir (null - eager conversion)
+     */
+    @Nullable
+    public ILazyDualResponseConsumer<IDualResponse<?, ?>> getLazyDualResponseConsumer() {
+        return lazyDualResponseConsumer;
+    }
+
+    /**
+     * Enables the compact mode: created {@link BaseDualResponse} instances retain only a minimal
+     * response snapshot (see {@link BaseDualResponse#compact()}) instead of the full okhttp exchange.
+     * Useful for suites that keep many responses for later cross-checks.
+     * Combined with the lazy body conversion ({@link #withLazyBodyConversion(boolean)}) the bodies are converted
+     * on the compaction, because the deferred conversions would otherwise retain the raw exchange.
+     *
+     * @param compactResponses - true to compact the created responses
+     * @return new factory with the compact mode
+     */
+    public UniversalCallAdapterFactory withCompactResponses(final boolean compactResponses) {
+        final UniversalCallAdapterFactory copy = copy();
+        copy.compactResponses = compactResponses;
+        return copy;
+    }
+
+    /**
+     * @return true if the created responses are compacted
+     */
+    public boolean isCompactResponses() {
+        return compactResponses;
+    }
+
+    /**
+     * Enables the API call latency metrics (including the body conversion) per endpoint.
+     * Network exchange metrics are collected by {@link veslo.client.inteceptor.CompositeInterceptor}
+     * with the same registry (see {@link veslo.client.inteceptor.CompositeInterceptor#withEndpointMetrics}).
+     *
+     * @param endpointMetrics - endpoint metrics registry (null - disable metrics)
+     * @return new factory with the endpoint metrics registry
+     */
+    public UniversalCallAdapterFactory withEndpointMetrics(@Nullable final EndpointMetrics endpointMetrics) {
+        final UniversalCallAdapterFactory copy = copy();
+        copy.endpointMetrics = endpointMetrics;
+        copy.updateCallObservers();
+        return copy;
+    }
+
+    /**
+     * @return endpoint metrics registry or null if the metrics are disabled
+     */
+    @Nullable
+    public EndpointMetrics getEndpointMetrics() {
+        return endpointMetrics;
+    }
+
+    /**
+     * Enables the structured journal of the API calls (HAR/NDJSON) with phase timings, sizes and endpoint info.
+     * Note: compacted responses (see {@link #withCompactResponses(boolean)}) are written without request headers.
+     *
+     * @param exchangeJournal - API calls journal (null - disable the journal)
+     * @return new factory with the API calls journal
+     */
+    public UniversalCallAdapterFactory withExchangeJournal(@Nullable final ExchangeJournal exchangeJournal) {
+        final UniversalCallAdapterFactory copy = copy();
+        copy.exchangeJournal = exchangeJournal;
+        copy.updateCallObservers();
+        return copy;
+    }
+
+    /**
+     * @return API calls journal or null if the journal is disabled
+     */
+    @Nullable
+    public ExchangeJournal getExchangeJournal() {
+        return exchangeJournal;
+    }
+
+    /**
+     * The call observers are notified for both the response and the transport failure
+     * before the returned future is completed.
+     */
+    private static CompletableFuture<IDualResponse<?, ?>> completeAsync(
+            final CompletableFuture<IDualResponse<?, ?>> source,
+            final BiConsumer<IDualResponse<?, ?>, Throwable> completion) {
+        final CompletableFuture<IDualResponse<?, ?>> result = new CompletableFuture<IDualResponse<?, ?>>() {
+            @Override
+            public boolean cancel(final boolean mayInterruptIfRunning) {
+                source.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        source.whenComplete((response, throwable) -> {
+            try {
+                final Throwable error = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                completion.accept(error == null ? response : null, error);
+            } finally {
+                if (throwable == null) {
+                    result.complete(response);
+                } else {
+                    result.completeExceptionally(throwable);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Registers the API call observer. The observers are notified after the built-in ones
+     * (endpoint metrics, run metrics, JFR events, tracing, journal) in the registration order.
+     *
+     * @param callObserver - API call observer
+     * @return new factory with the API call observer added
+     */
+    public UniversalCallAdapterFactory withCallObserver(@Nonnull final ICallObserver callObserver) {
+        Utils.parameterRequireNonNull(callObserver, CALL_OBSERVER_PARAMETER);
+        final List<ICallObserver> observers = new ArrayList<>(customCallObservers);
+        observers.add(callObserver);
+        final UniversalCallAdapterFactory copy = copy();
+        copy.customCallObservers = Collections.unmodifiableList(observers);
+        copy.updateCallObservers();
+        return copy;
+    }
+
+    /**
+     * @return unmodifiable list of the built-in and registered API call observers in the notification order
+     */
+    @Nonnull
+    public List<ICallObserver> getCallObservers() {
+        return callObservers;
+    }
+
+    private void updateCallObservers() {
+        final List<ICallObserver> observers = new ArrayList<>();
+        if (endpointMetrics != null) {
+            observers.add(CallObservers.endpointMetrics(endpointMetrics));
+        }
+        observers.add(endpointMetrics == null ? CallObservers.RUN_METRICS : CallObservers.runMetrics(endpointMetrics));
+        observers.add(CallObservers.JFR);
+        observers.add(CallObservers.TRACING);
+        if (exchangeJournal != null) {
+            observers.add(CallObservers.exchangeJournal(exchangeJournal));
+        }
+        observers.addAll(customCallObservers);
+        callObservers = Collections.unmodifiableList(observers);
+    }
+
+    private Object[] startCall(final List<ICallObserver> observers, final ObservedCall call) {
+        final Object[] states = new Object[observers.size()];
+        for (int i = 0; i < states.length; i++) {
+            try {
+                states[i] = observers.get(i).onStart(call);
+            } catch (RuntimeException e) {
+                logger.warn("API call observer {} failed on the call start", observers.get(i), e);
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Exactly one of the result and the error is not null
+     */
+    private void completeCall(final List<ICallObserver> observers,
+                              final ObservedCall call,
+                              final Object[] states,
+                              @Nullable final IDualResponse<?, ?> result,
+                              @Nullable final Throwable error) {
+        for (int i = 0; i < states.length; i++) {
+            try {
+                if (error == null) {
+                    observers.get(i).onComplete(call, states[i], result);
+                } else {
+                    observers.get(i).onFailure(call, states[i], error);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("API call observer {} failed on the call completion", observers.get(i), e);
+            }
+        }
+    }
+
+    @Nullable
+    private static EndpointMetrics getRunMetrics(@Nullable final EndpointMetrics metrics) {
+        final EndpointMetrics runMetrics = EndpointMetrics.getRunMetrics();
+        return runMetrics == metrics ? null : runMetrics;
+    }
+
+    /**
+     * Converts the unconverted successful {@link ResponseBody} (lazy body conversion)
+     *
+     * @param response          - retrofit API resource call response with unconverted body
+     * @param successType       - The DTO type representing the success model
+     * @param methodAnnotations - list of annotations for the called API method
+     * @param retrofit          - HTTP client
+     * @return response with converted body
+     * @throws ConvertCallException If the body of a successful response is not convertible
+     */
+    protected Response<Object> convertRawBody(final Response<Object> response,
+                                              final Type successType,
+                                              final Annotation[] methodAnnotations,
+                                              final Retrofit retrofit) {
+        final Object body = response.body();
+        if (!(body instanceof ResponseBody)) {
+            return response;
+        }
+        try {
+            final Object dto = retrofit.responseBodyConverter(successType, methodAnnotations)
+                    .convert((ResponseBody) body);
+            return Response.success(dto, response.raw());
+        } catch (ConvertCallException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ConvertCallException("Error converting response body to type " + successType.getTypeName(), e);
+        }
+    }
+
     /**
      * @param methodAnnotations - list of annotations for the called API method
      * @return - description of the called resource in detail from the {@link EndpointInfo} annotation
@@ -255,6 +742,20 @@ public class UniversalCallAdapterFactory extends JavaTypeCallAdapterFactory {
         return endpointInfo.value().trim();
     }
 
+    /**
+     * Copy for the {@code with*} configuration methods. The copy is changed only before it is returned
+     * (the configuration fields are volatile, so the returned factory is safely published).
+     *
+     * @return shallow copy of this factory (the same class, including the heir fields)
+     */
+    protected UniversalCallAdapterFactory copy() {
+        try {
+            return (UniversalCallAdapterFactory) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * @return {@link IDualResponseConsumer} for constructor of {@link BaseDualResponse} heirs
      */
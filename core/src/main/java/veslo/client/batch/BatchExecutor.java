@@ -0,0 +1,287 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import veslo.client.VesloContext;
+import veslo.util.LogHistogram;
+import veslo.util.Utils;
+import veslo.util.VesloParallel;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Bounded-concurrency fan-out of API calls ("create 5000 users", "query 1000 IDs").
+ * <p>
+ * Blocking calls ({@link #execute(Collection, Function, Consumer)}) are executed on the supplied executor
+ * or on the {@link VesloParallel#newPerTaskExecutor()} (virtual threads on Java 21+).
+ * Asynchronous calls ({@link #enqueue(Collection, Function, Consumer)}) return {@code CompletableFuture}
+ * and are executed on the OkHttp {@link okhttp3.Dispatcher} threads.
+ * In both cases at most {@link #getMaxConcurrency()} calls are in flight.
+ * <p>
+ * All calls are executed even if some of them fail. Call exceptions and assertion errors are collected
+ * by input index in the {@link BatchResult}.
+ * <p>
+ * Usage:
+ * * BatchResult&lt;UserDTO, DualResponse&lt;UserDTO, Err&gt;&gt; batch = new BatchExecutor()
+ * *         .withMaxConcurrency(50)
+ * *         .execute(users, client::createUser, r -&gt; r.assertSucResponse(...));
+ * * batch.assertNoErrors();
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class BatchExecutor {
+
+    /**
+     * Default concurrency limit
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final Logger logger;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    @Nullable
+    private ExecutorService executor;
+
+    /**
+     * Default constructor
+     */
+    public BatchExecutor() {
+        this(LoggerFactory.getLogger(BatchExecutor.class));
+    }
+
+    /**
+     * @param logger - required Slf4J logger
+     */
+    public BatchExecutor(@Nonnull final Logger logger) {
+        Utils.parameterRequireNonNull(logger, LOGGER_PARAMETER);
+        this.logger = logger;
+    }
+
+    /**
+     * @param maxConcurrency - maximum number of calls in flight
+     * @return this
+     */
+    @Nonnull
+    public BatchExecutor withMaxConcurrency(final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * @return maximum number of calls in flight
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @param executor - executor for the blocking calls (is not shut down by the batch executor),
+     *                 null - new {@link VesloParallel#newPerTaskExecutor()} per batch
+     * @return this
+     */
+    @Nonnull
+    public BatchExecutor withExecutor(@Nullable final ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @return executor for the blocking calls or null
+     */
+    @Nullable
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @see #execute(Collection, Function, Consumer)
+     */
+    @Nonnull
+    public <I, R> BatchResult<I, R> execute(@Nonnull final Collection<I> inputs,
+                                            @Nonnull final Function<I, R> call) {
+        return execute(inputs, call, r -> {
+        });
+    }
+
+    /**
+     * Execute blocking API calls for each input.
+     *
+     * @param inputs    - call inputs
+     * @param call      - API method reference (for example {@code client::createUser})
+     * @param assertion - call result assertion (errors are collected)
+     * @param <I>       - input type
+     * @param <R>       - call result type
+     * @return batch result
+     */
+    @Nonnull
+    public <I, R> BatchResult<I, R> execute(@Nonnull final Collection<I> inputs,
+                                            @Nonnull final Function<I, R> call,
+                                            @Nonnull final Consumer<R> assertion) {
+        Utils.parameterRequireNonNull(inputs, INPUTS_PARAMETER);
+        Utils.parameterRequireNonNull(call, CALL_PARAMETER);
+        Utils.parameterRequireNonNull(assertion, ASSERTION_PARAMETER);
+        final ExecutorService service = executor == null ? VesloParallel.newPerTaskExecutor() : executor;
+        try {
+            return run(inputs, assertion, (input, completion) -> {
+                final Runnable task = VesloContext.current().wrap(() -> {
+                    R result = null;
+                    Throwable error = null;
+                    try {
+                        result = call.apply(input);
+                    } catch (Throwable e) {
+                        error = e;
+                    }
+                    completion.complete(result, error);
+                });
+                try {
+                    service.execute(task);
+                } catch (RuntimeException e) {
+                    // for example, RejectedExecutionException of a bounded or shut down executor:
+                    // the call fails and its permit is released, so the batch is not blocked
+                    completion.complete(null, e);
+                }
+            });
+        } finally {
+            if (executor == null) {
+                service.shutdown();
+            }
+        }
+    }
+
+    /**
+     * @see #enqueue(Collection, Function, Consumer)
+     */
+    @Nonnull
+    public <I, R> BatchResult<I, R> enqueue(@Nonnull final Collection<I> inputs,
+                                            @Nonnull final Function<I, CompletableFuture<R>> call) {
+        return enqueue(inputs, call, r -> {
+        });
+    }
+
+    /**
+     * Execute asynchronous API calls (methods returning {@code CompletableFuture}) for each input.
+     * The calls are executed on the OkHttp dispatcher threads, so the dispatcher limits
+     * ({@code maxRequests}, {@code maxRequestsPerHost}) also apply.
+     *
+     * @param inputs    - call inputs
+     * @param call      - asynchronous API method reference
+     * @param assertion - call result assertion (errors are collected)
+     * @param <I>       - input type
+     * @param <R>       - call result type
+     * @return batch result
+     */
+    @Nonnull
+    public <I, R> BatchResult<I, R> enqueue(@Nonnull final Collection<I> inputs,
+                                            @Nonnull final Function<I, CompletableFuture<R>> call,
+                                            @Nonnull final Consumer<R> assertion) {
+        Utils.parameterRequireNonNull(inputs, INPUTS_PARAMETER);
+        Utils.parameterRequireNonNull(call, CALL_PARAMETER);
+        Utils.parameterRequireNonNull(assertion, ASSERTION_PARAMETER);
+        return run(inputs, assertion, (input, completion) -> {
+            final CompletableFuture<R> future;
+            try {
+                future = call.apply(input);
+            } catch (Throwable e) {
+                completion.complete(null, e);
+                return;
+            }
+            future.whenComplete((result, error) -> completion.complete(result,
+                    error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+        });
+    }
+
+    private <I, R> BatchResult<I, R> run(final Collection<I> inputs,
+                                         final Consumer<R> assertion,
+                                         final Dispatch<I, R> dispatch) {
+        final List<I> inputList = new ArrayList<>(inputs);
+        final List<R> results = new ArrayList<>(Collections.nCopies(inputList.size(), null));
+        final Map<Integer, Throwable> errors = new ConcurrentHashMap<>();
+        final LogHistogram latency = new LogHistogram();
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final CountDownLatch done = new CountDownLatch(inputList.size());
+        logger.info("Batch of {} calls started (max concurrency: {})", inputList.size(), maxConcurrency);
+        final long batchStart = System.nanoTime();
+        try {
+            for (int i = 0; i < inputList.size(); i++) {
+                final int index = i;
+                permits.acquire();
+                final long start = System.nanoTime();
+                dispatch.dispatch(inputList.get(index), (result, error) -> {
+                    try {
+                        latency.record(System.nanoTime() - start);
+                        if (error == null) {
+                            synchronized (results) {
+                                results.set(index, result);
+                            }
+                            assertion.accept(result);
+                        } else {
+                            errors.put(index, error);
+                        }
+                    } catch (Throwable e) {
+                        errors.put(index, e);
+                    } finally {
+                        permits.release();
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch execution interrupted", e);
+        }
+        final BatchResult<I, R> batchResult;
+        synchronized (results) {
+            batchResult = new BatchResult<>(inputList, results, errors, latency, System.nanoTime() - batchStart);
+        }
+        logger.info("{}", batchResult);
+        return batchResult;
+    }
+
+    private interface Dispatch<I, R> {
+
+        void dispatch(I input, Completion<R> completion);
+
+    }
+
+    private interface Completion<R> {
+
+        void complete(@Nullable R result, @Nullable Throwable error);
+
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.batch;
+
+import veslo.BriefAssertionError;
+import veslo.asserter.SoftlyAsserter;
+import veslo.util.LogHistogram;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of the {@link BatchExecutor} batch: call results in the order of the inputs,
+ * call/assertion errors by input index and latency statistics.
+ *
+ * @param <I> - input type
+ * @param <R> - call result type (usually {@link veslo.client.response.DualResponse})
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class BatchResult<I, R> {
+
+    private final List<I> inputs;
+    private final List<R> results;
+    private final Map<Integer, Throwable> errors;
+    private final LogHistogram latency;
+    private final long elapsedNanos;
+
+    /**
+     * @param inputs       - batch inputs
+     * @param results      - call results in the order of the inputs (null for the failed calls)
+     * @param errors       - call/assertion errors by input index
+     * @param latency      - call latency histogram (nanoseconds)
+     * @param elapsedNanos - batch execution time
+     */
+    public BatchResult(@Nonnull final List<I> inputs,
+                       @Nonnull final List<R> results,
+                       @Nonnull final Map<Integer, Throwable> errors,
+                       @Nonnull final LogHistogram latency,
+                       final long elapsedNanos) {
+        this.inputs = Collections.unmodifiableList(new ArrayList<>(inputs));
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+        this.errors = Collections.unmodifiableMap(new TreeMap<>(errors));
+        this.latency = latency;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return batch inputs
+     */
+    @Nonnull
+    public List<I> getInputs() {
+        return inputs;
+    }
+
+    /**
+     * @return call results in the order of the inputs (null for the failed calls)
+     */
+    @Nonnull
+    public List<R> getResults() {
+        return results;
+    }
+
+    /**
+     * @param index - input index
+     * @return call result or null
+     */
+    @Nullable
+    public R getResult(final int index) {
+        return results.get(index);
+    }
+
+    /**
+     * @return call and assertion errors by input index (sorted)
+     */
+    @Nonnull
+    public Map<Integer, Throwable> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return number of calls
+     */
+    public int size() {
+        return inputs.size();
+    }
+
+    /**
+     * @return true if there are no call or assertion errors
+     */
+    public boolean isSuccessful() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * @return call latency histogram (nanoseconds)
+     */
+    @Nonnull
+    public LogHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @param percentile - percentile (0..100)
+     * @return call latency percentile in milliseconds
+     */
+    public double getLatencyPercentileMillis(final double percentile) {
+        return latency.getPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return batch execution time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return completed calls per second
+     */
+    public double getThroughput() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Aggregates all call and assertion errors into a single {@link BriefAssertionError}
+     * (see {@link SoftlyAsserter}).
+     *
+     * @return this
+     * @throws BriefAssertionError if the batch has errors
+     */
+    @Nonnull
+    public BatchResult<I, R> assertNoErrors() {
+        try (final SoftlyAsserter asserter = SoftlyAsserter.get()) {
+            errors.forEach((index, error) -> asserter.addErrors(new BriefAssertionError("Batch call #" + index +
+                    " (" + inputs.get(index) + ") failed:\n" + error.getMessage(), error)));
+        }
+        return this;
+    }
+
+    /**
+     * @return batch summary (calls, errors, throughput and latency in milliseconds)
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ENGLISH, "Batch: calls=%d errors=%d elapsed=%.1fms throughput=%.1f/s " +
+                        "latency(ms): p50=%.1f p90=%.1f p99=%.1f max=%.1f",
+                size(), errors.size(), elapsedNanos / 1_000_000D, getThroughput(),
+                getLatencyPercentileMillis(50), getLatencyPercentileMillis(90), getLatencyPercentileMillis(99),
+                latency.getMax() / 1_000_000D);
+    }
+
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import veslo.client.VesloContext;
+import veslo.client.response.IDualResponse;
+import veslo.util.Utils;
+import veslo.util.VesloParallel;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Dependency-aware executor of API calls for test fixtures.
+ * Each node is an API call that receives the results of its upstream nodes.
+ * Independent branches are executed concurrently, a node starts as soon as all its dependencies succeeded.
+ * If a node fails (exception or unsuccessful {@link IDualResponse}), all its downstream nodes are cancelled
+ * (not executed), the independent branches are still executed.
+ * <p>
+ * Usage:
+ * * CallGraph graph = new CallGraph();
+ * * Node&lt;DualResponse&lt;Org, Err&gt;&gt; org = graph.node("org", () -&gt; client.createOrg(new Org()));
+ * * Node&lt;DualResponse&lt;User, Err&gt;&gt; user = graph.node("user", in -&gt; client.createUser(in.sucDTO(org).getId()), org);
+ * * Node&lt;DualResponse&lt;Pet, Err&gt;&gt; pet = graph.node("pet", in -&gt; client.createPet(in.sucDTO(org).getId()), org);
+ * * graph.node("order", in -&gt; client.createOrder(in.sucDTO(user), in.sucDTO(pet)), user, pet);
+ * * CallGraphResult result = graph.execute().assertNoErrors();
+ * * logger.info("Critical path: {}", result.getCriticalPath());
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class CallGraph {
+
+    private final Logger logger;
+    private final Map<String, Node<?>> nodes = new LinkedHashMap<>();
+    @Nullable
+    private ExecutorService executor;
+
+    /**
+     * Default constructor
+     */
+    public CallGraph() {
+        this(LoggerFactory.getLogger(CallGraph.class));
+    }
+
+    /**
+     * @param logger - required Slf4J logger
+     */
+    public CallGraph(@Nonnull final Logger logger) {
+        Utils.parameterRequireNonNull(logger, LOGGER_PARAMETER);
+        this.logger = logger;
+    }
+
+    /**
+     * @param executor - node executor (is not shut down by the graph),
+     *                 null - new {@link VesloParallel#newPerTaskExecutor()} per execution
+     * @return this
+     */
+    @Nonnull
+    public CallGraph withExecutor(@Nullable final ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Add a root node (without dependencies)
+     *
+     * @param name - unique node name
+     * @param call - API call
+     * @param <R>  - call result type
+     * @return graph node
+     */
+    @Nonnull
+    public <R> Node<R> node(@Nonnull final String name, @Nonnull final Supplier<R> call) {
+        Utils.parameterRequireNonNull(call, CALL_PARAMETER);
+        return node(name, inputs -> call.get());
+    }
+
+    /**
+     * Add a node depending on the upstream nodes
+     *
+     * @param name         - unique node name
+     * @param call         - API call receiving the upstream results
+     * @param dependencies - upstream nodes of this graph
+     * @param <R>          - call result type
+     * @return graph node
+     */
+    @Nonnull
+    public <R> Node<R> node(@Nonnull final String name,
+                            @Nonnull final Function<Inputs, R> call,
+                            @Nonnull final Node<?>... dependencies) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(call, CALL_PARAMETER);
+        Utils.parameterRequireNonNull(dependencies, DEPENDENCIES_PARAMETER);
+        if (nodes.containsKey(name)) {
+            throw new IllegalArgumentException("Node with name '" + name + "' already exists");
+        }
+        for (Node<?> dependency : dependencies) {
+            Utils.parameterRequireNonNull(dependency, DEPENDENCY_PARAMETER);
+            if (nodes.get(dependency.getName()) != dependency) {
+                throw new IllegalArgumentException("Node '" + dependency.getName() + "' is not part of the graph");
+            }
+        }
+        // dependencies can only refer to the existing nodes, so the graph is acyclic by construction
+        final Node<R> node = new Node<>(name, call, Arrays.asList(dependencies));
+        nodes.put(name, node);
+        return node;
+    }
+
+    /**
+     * @return graph nodes in the order of addition
+     */
+    @Nonnull
+    public List<Node<?>> getNodes() {
+        return Collections.unmodifiableList(new ArrayList<>(nodes.values()));
+    }
+
+    /**
+     * Execute the graph and wait for all nodes to be completed or cancelled.
+     *
+     * @return execution result
+     */
+    @Nonnull
+    public CallGraphResult execute() {
+        final Execution execution = new Execution();
+        final ExecutorService service = executor == null ? VesloParallel.newPerTaskExecutor() : executor;
+        logger.info("Call graph execution started ({} nodes)", nodes.size());
+        try {
+            execution.lock.lock();
+            try {
+                for (Node<?> node : nodes.values()) {
+                    if (node.getDependencies().isEmpty()) {
+                        submit(service, execution, node);
+                    }
+                }
+            } finally {
+                execution.lock.unlock();
+            }
+            execution.done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Call graph execution interrupted", e);
+        } finally {
+            if (executor == null) {
+                service.shutdown();
+            }
+        }
+        final CallGraphResult result;
+        execution.lock.lock();
+        try {
+            result = new CallGraphResult(getNodes(), execution.outcomes, System.nanoTime() - execution.start);
+        } finally {
+            execution.lock.unlock();
+        }
+        logger.info("{}", result);
+        return result;
+    }
+
+    private void submit(final ExecutorService service, final Execution execution, final Node<?> node) {
+        execution.outcomes.put(node, CallGraphResult.Outcome.running(System.nanoTime() - execution.start));
+        final Runnable task = VesloContext.current().wrap(() -> {
+            logger.debug("Call graph node '{}' started", node.getName());
+            Object value = null;
+            Throwable error = null;
+            try {
+                value = node.call.apply(new Inputs(execution));
+                if (value instanceof IDualResponse && !((IDualResponse<?, ?>) value).getResponse().isSuccessful()) {
+                    error = new IllegalStateException("Node '" + node.getName() + "' received unsuccessful response: " +
+                            "HTTP " + ((IDualResponse<?, ?>) value).getResponse().code());
+                }
+            } catch (Throwable e) {
+                error = e;
+            }
+            complete(service, execution, node, value, error);
+        });
+        try {
+            service.execute(task);
+        } catch (RuntimeException e) {
+            // for example, RejectedExecutionException of a bounded or shut down executor:
+            // the node fails and its downstream nodes are cancelled, so the execution is not blocked
+            complete(service, execution, node, null, e);
+        }
+    }
+
+    private void complete(final ExecutorService service,
+                          final Execution execution,
+                          final Node<?> node,
+                          final Object value,
+                          final Throwable error) {
+        execution.lock.lock();
+        try {
+            final long end = System.nanoTime() - execution.start;
+            execution.outcomes.put(node, execution.outcomes.get(node).complete(end, value, error));
+            execution.done.countDown();
+            if (error != null) {
+                logger.warn("Call graph node '{}' failed: {}", node.getName(), error.getMessage());
+            }
+            for (Node<?> dependent : nodes.values()) {
+                if (!dependent.getDependencies().contains(node) || execution.outcomes.containsKey(dependent)) {
+                    continue;
+                }
+                if (error != null) {
+                    cancel(execution, dependent, node);
+                } else if (dependent.getDependencies().stream().allMatch(d -> execution.isSucceeded(d))) {
+                    submit(service, execution, dependent);
+                }
+            }
+        } finally {
+            execution.lock.unlock();
+        }
+    }
+
+    private void cancel(final Execution execution, final Node<?> node, final Node<?> cause) {
+        execution.outcomes.put(node, CallGraphResult.Outcome.cancelled(cause));
+        execution.done.countDown();
+        logger.debug("Call graph node '{}' cancelled (upstream node '{}')", node.getName(), cause.getName());
+        for (Node<?> dependent : nodes.values()) {
+            if (dependent.getDependencies().contains(node) && !execution.outcomes.containsKey(dependent)) {
+                cancel(execution, dependent, cause);
+            }
+        }
+    }
+
+    private final class Execution {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Node<?>, CallGraphResult.Outcome> outcomes = new LinkedHashMap<>();
+        private final CountDownLatch done = new CountDownLatch(nodes.size());
+        private final long start = System.nanoTime();
+
+        private boolean isSucceeded(final Node<?> node) {
+            final CallGraphResult.Outcome outcome = outcomes.get(node);
+            return outcome != null && outcome.getState() == CallGraphResult.State.SUCCEEDED;
+        }
+
+    }
+
+    /**
+     * Upstream node results available to the node call
+     */
+    public final class Inputs {
+
+        private final Execution execution;
+
+        private Inputs(final Execution execution) {
+            this.execution = execution;
+        }
+
+        /**
+         * @param node - upstream node
+         * @param <R>  - node result type
+         * @return upstream node result
+         * @throws IllegalStateException if the node is not completed successfully
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public <R> R get(@Nonnull final Node<R> node) {
+            Utils.parameterRequireNonNull(node, NODE_PARAMETER);
+            execution.lock.lock();
+            try {
+                if (!execution.isSucceeded(node)) {
+                    throw new IllegalStateException("Node '" + node.getName() + "' is not completed successfully");
+                }
+                return (R) execution.outcomes.get(node).getValue();
+            } finally {
+                execution.lock.unlock();
+            }
+        }
+
+        /**
+         * @param node  - upstream node returning {@link IDualResponse}
+         * @param <SUC> - successful DTO type
+         * @return {@link IDualResponse#getSucDTO()} of the upstream node result
+         */
+        @Nullable
+        public <SUC> SUC sucDTO(@Nonnull final Node<? extends IDualResponse<SUC, ?>> node) {
+            final IDualResponse<SUC, ?> response = get(node);
+            return response == null ? null : response.getSucDTO();
+        }
+
+    }
+
+    /**
+     * Graph node (API call)
+     *
+     * @param <R> - call result type
+     */
+    public static final class Node<R> {
+
+        private final String name;
+        private final Function<Inputs, R> call;
+        private final List<Node<?>> dependencies;
+
+        private Node(final String name, final Function<Inputs, R> call, final List<Node<?>> dependencies) {
+            this.name = name;
+            this.call = call;
+            this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+        }
+
+        /**
+         * @return node name
+         */
+        @Nonnull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return upstream nodes
+         */
+        @Nonnull
+        public List<Node<?>> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.batch;
+
+import veslo.BriefAssertionError;
+import veslo.asserter.SoftlyAsserter;
+import veslo.client.batch.CallGraph.Node;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+import static veslo.constant.ParameterNameConstants.NODE_PARAMETER;
+
+/**
+ * {@link CallGraph} execution result: node states, results, errors, timings and the critical path.
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class CallGraphResult {
+
+    private final List<Node<?>> nodes;
+    private final Map<Node<?>, Outcome> outcomes;
+    private final long elapsedNanos;
+    private final List<Node<?>> criticalPath;
+
+    /**
+     * @param nodes        - graph nodes
+     * @param outcomes     - node outcomes
+     * @param elapsedNanos - graph execution time
+     */
+    CallGraphResult(final List<Node<?>> nodes, final Map<Node<?>, Outcome> outcomes, final long elapsedNanos) {
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+        this.outcomes = new HashMap<>(outcomes);
+        this.elapsedNanos = elapsedNanos;
+        this.criticalPath = Collections.unmodifiableList(findCriticalPath());
+    }
+
+    /**
+     * @param node - graph node
+     * @return node state
+     */
+    @Nonnull
+    public State getState(@Nonnull final Node<?> node) {
+        return outcome(node).getState();
+    }
+
+    /**
+     * @param node - graph node
+     * @param <R>  - node result type
+     * @return node result (null if the node is cancelled or the call threw an exception)
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <R> R get(@Nonnull final Node<R> node) {
+        return (R) outcome(node).getValue();
+    }
+
+    /**
+     * @param node - graph node
+     * @return node error or null
+     */
+    @Nullable
+    public Throwable getError(@Nonnull final Node<?> node) {
+        return outcome(node).getError();
+    }
+
+    /**
+     * @param node - graph node
+     * @return node call duration in nanoseconds (0 if cancelled)
+     */
+    public long getDurationNanos(@Nonnull final Node<?> node) {
+        final Outcome outcome = outcome(node);
+        return outcome.getEndNanos() - outcome.getStartNanos();
+    }
+
+    /**
+     * @param state - node state
+     * @return nodes in the state
+     */
+    @Nonnull
+    public List<Node<?>> getNodes(@Nonnull final State state) {
+        return nodes.stream().filter(node -> getState(node) == state).collect(Collectors.toList());
+    }
+
+    /**
+     * @return true if all nodes succeeded
+     */
+    public boolean isSuccessful() {
+        return getNodes(State.SUCCEEDED).size() == nodes.size();
+    }
+
+    /**
+     * @return graph execution time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * The chain of executed nodes that determined the graph execution time:
+     * starts from the last completed node and goes upstream through the latest completed dependency.
+     *
+     * @return critical path nodes (from the root)
+     */
+    @Nonnull
+    public List<Node<?>> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * @return sum of the call durations on the critical path in nanoseconds
+     */
+    public long getCriticalPathNanos() {
+        return criticalPath.stream().mapToLong(this::getDurationNanos).sum();
+    }
+
+    /**
+     * Aggregates the node errors into a single {@link BriefAssertionError} (see {@link SoftlyAsserter}).
+     * Cancelled nodes are listed in the failed node error message.
+     *
+     * @return this
+     * @throws BriefAssertionError if some node failed
+     */
+    @Nonnull
+    public CallGraphResult assertNoErrors() {
+        try (final SoftlyAsserter asserter = SoftlyAsserter.get()) {
+            for (Node<?> node : getNodes(State.FAILED)) {
+                final List<String> cancelled = nodes.stream()
+                        .filter(n -> outcome(n).getCause() == node)
+                        .map(Node::getName)
+                        .collect(Collectors.toList());
+                final Throwable error = outcome(node).getError();
+                //noinspection ConstantConditions (FAILED state)
+                asserter.addErrors(new BriefAssertionError("Call graph node '" + node.getName() + "' failed" +
+                        (cancelled.isEmpty() ? "" : " (cancelled downstream nodes: " + cancelled + ")") + ":\n" +
+                        error.getMessage(), error));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return graph execution summary
+     */
+    @Override
+    public String toString() {
+        final StringJoiner path = new StringJoiner(" -> ");
+        criticalPath.forEach(node -> path.add(node.getName()));
+        return String.format(Locale.ENGLISH, "Call graph: nodes=%d succeeded=%d failed=%d cancelled=%d " +
+                        "elapsed=%.1fms critical path (%.1fms): %s",
+                nodes.size(), getNodes(State.SUCCEEDED).size(), getNodes(State.FAILED).size(),
+                getNodes(State.CANCELLED).size(), elapsedNanos / 1_000_000D, getCriticalPathNanos() / 1_000_000D, path);
+    }
+
+    private Outcome outcome(final Node<?> node) {
+        Utils.parameterRequireNonNull(node, NODE_PARAMETER);
+        final Outcome outcome = outcomes.get(node);
+        if (outcome == null) {
+            throw new IllegalArgumentException("Node '" + node.getName() + "' is not part of the graph");
+        }
+        return outcome;
+    }
+
+    private List<Node<?>> findCriticalPath() {
+        final List<Node<?>> path = new ArrayList<>();
+        Node<?> last = latest(nodes);
+        while (last != null) {
+            path.add(0, last);
+            last = latest(last.getDependencies());
+        }
+        return path;
+    }
+
+    @Nullable
+    private Node<?> latest(final List<Node<?>> candidates) {
+        Node<?> latest = null;
+        for (Node<?> node : candidates) {
+            final Outcome outcome = outcomes.get(node);
+            if (outcome != null && outcome.getState() != State.CANCELLED
+                    && (latest == null || outcome.getEndNanos() > outcomes.get(latest).getEndNanos())) {
+                latest = node;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Node execution state
+     */
+    public enum State {
+        /**
+         * Node call is in progress (final state only if the execution was interrupted)
+         */
+        RUNNING,
+        /**
+         * Node call completed successfully
+         */
+        SUCCEEDED,
+        /**
+         * Node call threw an exception or returned unsuccessful response
+         */
+        FAILED,
+        /**
+         * Node was not executed because an upstream node failed
+         */
+        CANCELLED,
+    }
+
+    /**
+     * Immutable node outcome (times are relative to the graph execution start)
+     */
+    static final class Outcome {
+
+        private final State state;
+        private final long startNanos;
+        private final long endNanos;
+        private final Object value;
+        private final Throwable error;
+        private final Node<?> cause;
+
+        private Outcome(State state, long startNanos, long endNanos, Object value, Throwable error, Node<?> cause) {
+            this.state = state;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.value = value;
+            this.error = error;
+            this.cause = cause;
+        }
+
+        static Outcome running(final long startNanos) {
+            return new Outcome(State.RUNNING, startNanos, startNanos, null, null, null);
+        }
+
+        static Outcome cancelled(final Node<?> cause) {
+            return new Outcome(State.CANCELLED, 0, 0, null, null, cause);
+        }
+
+        Outcome complete(final long endNanos, final Object value, final Throwable error) {
+            final State result = error == null ? State.SUCCEEDED : State.FAILED;
+            return new Outcome(result, startNanos, endNanos, value, error, null);
+        }
+
+        State getState() {
+            return state;
+        }
+
+        long getStartNanos() {
+            return startNanos;
+        }
+
+        long getEndNanos() {
+            return endNanos;
+        }
+
+        Object getValue() {
+            return value;
+        }
+
+        Throwable getError() {
+            return error;
+        }
+
+        Node<?> getCause() {
+            return cause;
+        }
+
+    }
+
+}
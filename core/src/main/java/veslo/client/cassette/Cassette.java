@@ -0,0 +1,364 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.cassette;
+
+import veslo.RuntimeIOException;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Append-only store of the recorded exchanges ({@link CassetteEntry}).
+ * <p>
+ * Files:
+ * - {@code <name>} - data: [raw length (int)][compressed length (int)][deflated entry] records;
+ * - {@code <name>.idx} - index: fixed-size [fingerprint hash (long)][data offset (long)][record time (long)] entries.
+ * <p>
+ * The index is memory-mapped on open (no parsing of the data file), the records are read by offset on demand.
+ * The newest record of the fingerprint wins (re-recording refreshes the entry without rewriting the file).
+ * Records are appended data first, so an interrupted write leaves an unreferenced tail only.
+ * {@link #compact(boolean)} rewrites the files without the superseded, expired and (optionally) unused records.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class Cassette implements Closeable {
+
+    public static final String INDEX_EXTENSION = ".idx";
+    private static final int INDEX_ENTRY_SIZE = 3 * Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path dataFile;
+    private final Path indexFile;
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private volatile FileChannel data;
+    private volatile FileChannel index;
+    private volatile Duration maxAge = null;
+
+    /**
+     * @param file - cassette data file (created if absent)
+     * @throws RuntimeIOException if the cassette cannot be opened
+     */
+    public Cassette(@Nonnull final Path file) {
+        Utils.parameterRequireNonNull(file, FILE_PARAMETER);
+        this.dataFile = file.toAbsolutePath();
+        this.indexFile = dataFile.resolveSibling(dataFile.getFileName() + INDEX_EXTENSION);
+        try {
+            open();
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to open cassette: " + dataFile, e);
+        }
+    }
+
+    /**
+     * @param file - cassette data file (created if absent)
+     * @return opened cassette
+     * @throws RuntimeIOException if the cassette cannot be opened
+     */
+    @Nonnull
+    public static Cassette open(@Nonnull final Path file) {
+        return new Cassette(file);
+    }
+
+    /**
+     * @param maxAge - entries recorded earlier are expired: not replayed (re-recorded) and dropped on compaction
+     *               (null - entries never expire)
+     * @return this
+     */
+    @Nonnull
+    public Cassette withMaxAge(@Nullable final Duration maxAge) {
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    /**
+     * @param fingerprint - request fingerprint
+     * @return the newest not expired entry or null
+     * @throws RuntimeIOException if the record cannot be read
+     */
+    @Nullable
+    public CassetteEntry get(@Nonnull final String fingerprint) {
+        Utils.parameterRequireNonNull(fingerprint, VALUE_PARAMETER);
+        final Slot slot = slots.get(hash(fingerprint));
+        if (slot == null || isExpired(slot.recordedAtMillis)) {
+            return null;
+        }
+        final CassetteEntry entry = read(slot.offset);
+        if (!entry.getFingerprint().equals(fingerprint)) {
+            // hash collision
+            return null;
+        }
+        slot.used = true;
+        return entry;
+    }
+
+    /**
+     * Append the entry (supersedes the previous entry of the fingerprint)
+     *
+     * @param entry - recorded exchange
+     * @throws RuntimeIOException if the record cannot be written
+     */
+    public synchronized void put(@Nonnull final CassetteEntry entry) {
+        Utils.parameterRequireNonNull(entry, ENTRY_PARAMETER);
+        try {
+            final long offset = append(data, index, entry);
+            final Slot slot = new Slot(offset, entry.getRecordedAtMillis());
+            slot.used = true;
+            slots.put(hash(entry.getFingerprint()), slot);
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to write cassette: " + dataFile, e);
+        }
+    }
+
+    /**
+     * @return number of the fingerprints (including expired)
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * @return cassette data file size in bytes
+     */
+    public long getDataSize() {
+        try {
+            return data.size();
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to read cassette: " + dataFile, e);
+        }
+    }
+
+    /**
+     * Rewrite the cassette without the superseded and expired records.
+     * Must not be called concurrently with the replayed calls.
+     *
+     * @param dropUnused - drop the entries not replayed or recorded since the cassette was opened
+     * @return number of the remaining entries
+     * @throws RuntimeIOException if the cassette cannot be rewritten
+     */
+    public synchronized int compact(final boolean dropUnused) {
+        final List<Slot> live = new ArrayList<>();
+        slots.values().forEach(slot -> {
+            if (!isExpired(slot.recordedAtMillis) && (!dropUnused || slot.used)) {
+                live.add(slot);
+            }
+        });
+        live.sort(Comparator.comparingLong(slot -> slot.offset));
+        final Path dataTmp = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+        final Path indexTmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try {
+            try (FileChannel newData = FileChannel.open(dataTmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 FileChannel newIndex = FileChannel.open(indexTmp, StandardOpenOption.CREATE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (Slot slot : live) {
+                    append(newData, newIndex, read(slot.offset));
+                }
+            }
+            close();
+            Files.move(dataTmp, dataFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(indexTmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            open();
+            return slots.size();
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to compact cassette: " + dataFile, e);
+        }
+    }
+
+    /**
+     * @return cassette data file
+     */
+    @Nonnull
+    public Path getFile() {
+        return dataFile;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (data != null) {
+            data.close();
+        }
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Cassette{file=" + dataFile + ", entries=" + slots.size() + "}";
+    }
+
+    private synchronized void open() throws IOException {
+        final Path parent = dataFile.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        data = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        index = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        slots.clear();
+        final long dataSize = data.size();
+        // a torn index tail (interrupted write) is ignored
+        final long indexSize = index.size() - index.size() % INDEX_ENTRY_SIZE;
+        if (indexSize > 0) {
+            final MappedByteBuffer mapped = index.map(FileChannel.MapMode.READ_ONLY, 0, indexSize);
+            while (mapped.remaining() >= INDEX_ENTRY_SIZE) {
+                final long hash = mapped.getLong();
+                final long offset = mapped.getLong();
+                final long recordedAtMillis = mapped.getLong();
+                if (offset < dataSize) {
+                    slots.put(hash, new Slot(offset, recordedAtMillis));
+                }
+            }
+        }
+        index.position(indexSize);
+        data.position(dataSize);
+    }
+
+    private static long append(final FileChannel dataChannel,
+                               final FileChannel indexChannel,
+                               final CassetteEntry entry) throws IOException {
+        final byte[] raw = entry.encode();
+        final byte[] compressed = deflate(raw);
+        final long offset = dataChannel.position();
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + compressed.length);
+        record.putInt(raw.length).putInt(compressed.length).put(compressed).flip();
+        while (record.hasRemaining()) {
+            dataChannel.write(record);
+        }
+        final ByteBuffer indexEntry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        indexEntry.putLong(hash(entry.getFingerprint())).putLong(offset).putLong(entry.getRecordedAtMillis()).flip();
+        while (indexEntry.hasRemaining()) {
+            indexChannel.write(indexEntry);
+        }
+        return offset;
+    }
+
+    private CassetteEntry read(final long offset) {
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            readFully(header, offset);
+            final int rawLength = header.getInt(0);
+            final ByteBuffer compressed = ByteBuffer.allocate(header.getInt(Integer.BYTES));
+            readFully(compressed, offset + RECORD_HEADER_SIZE);
+            return CassetteEntry.decode(inflate(compressed.array(), rawLength));
+        } catch (IOException | DataFormatException e) {
+            throw new RuntimeIOException("Unable to read cassette record at " + offset + ": " + dataFile, e);
+        }
+    }
+
+    private void readFully(final ByteBuffer buffer, final long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            final int read = data.read(buffer, current);
+            if (read < 0) {
+                throw new IOException("Unexpected end of the cassette file");
+            }
+            current += read;
+        }
+    }
+
+    private boolean isExpired(final long recordedAtMillis) {
+        final Duration age = maxAge;
+        return age != null && System.currentTimeMillis() - recordedAtMillis > age.toMillis();
+    }
+
+    /**
+     * FNV-1a 64-bit hash (stable between runs)
+     */
+    private static long hash(final String fingerprint) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < fingerprint.length(); i++) {
+            hash ^= fingerprint.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static byte[] deflate(final byte[] raw) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            final ByteArrayOutputStream result = new ByteArrayOutputStream(raw.length / 2 + 64);
+            final byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                result.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] compressed, final int rawLength) throws DataFormatException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            final byte[] result = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                final int inflated = inflater.inflate(result, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated cassette record");
+                }
+                length += inflated;
+            }
+            return result;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Slot {
+
+        private final long offset;
+        private final long recordedAtMillis;
+        private volatile boolean used;
+
+        private Slot(final long offset, final long recordedAtMillis) {
+            this.offset = offset;
+            this.recordedAtMillis = recordedAtMillis;
+        }
+
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.cassette;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Recorded exchange: request fingerprint (see {@link CassetteMatchingRules}) and the response
+ * (status, headers and decoded body).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class CassetteEntry {
+
+    private final String fingerprint;
+    private final long recordedAtMillis;
+    private final String method;
+    private final String url;
+    private final int code;
+    private final String message;
+    private final Headers headers;
+    private final String contentType;
+    private final byte[] body;
+
+    /**
+     * @param fingerprint      - request fingerprint
+     * @param recordedAtMillis - record time
+     * @param method           - request method
+     * @param url              - request URL
+     * @param code             - response status code
+     * @param message          - response status message
+     * @param headers          - response headers
+     * @param contentType      - response body content type
+     * @param body             - response body
+     */
+    public CassetteEntry(@Nonnull final String fingerprint,
+                         final long recordedAtMillis,
+                         @Nonnull final String method,
+                         @Nonnull final String url,
+                         final int code,
+                         @Nonnull final String message,
+                         @Nonnull final Headers headers,
+                         @Nullable final String contentType,
+                         @Nonnull final byte[] body) {
+        Utils.parameterRequireNonNull(fingerprint, VALUE_PARAMETER);
+        Utils.parameterRequireNonNull(method, METHOD_PARAMETER);
+        Utils.parameterRequireNonNull(url, URL_PARAMETER);
+        Utils.parameterRequireNonNull(message, MESSAGE_PARAMETER);
+        Utils.parameterRequireNonNull(headers, HEADERS_PARAMETER);
+        Utils.parameterRequireNonNull(body, BODY_PARAMETER);
+        this.fingerprint = fingerprint;
+        this.recordedAtMillis = recordedAtMillis;
+        this.method = method;
+        this.url = url;
+        this.code = code;
+        this.message = message;
+        this.headers = headers;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    /**
+     * @param request - replayed request
+     * @return recorded response for the request
+     */
+    @Nonnull
+    public Response toResponse(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final long now = System.currentTimeMillis();
+        final MediaType mediaType = contentType == null ? null : MediaType.parse(contentType);
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(message)
+                .headers(headers)
+                .body(ResponseBody.create(mediaType, body))
+                .sentRequestAtMillis(now)
+                .receivedResponseAtMillis(now)
+                .build();
+    }
+
+    @Nonnull
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getRecordedAtMillis() {
+        return recordedAtMillis;
+    }
+
+    @Nonnull
+    public String getMethod() {
+        return method;
+    }
+
+    @Nonnull
+    public String getUrl() {
+        return url;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    @Nonnull
+    public String getMessage() {
+        return message;
+    }
+
+    @Nonnull
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    @Nullable
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Nonnull
+    public byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + url + " -> " + code + " " + message + " (" + body.length + " bytes)";
+    }
+
+    byte[] encode() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 256);
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(fingerprint);
+            out.writeLong(recordedAtMillis);
+            out.writeUTF(method);
+            out.writeUTF(url);
+            out.writeInt(code);
+            out.writeUTF(message);
+            out.writeInt(headers.size());
+            for (int i = 0; i < headers.size(); i++) {
+                out.writeUTF(headers.name(i));
+                out.writeUTF(headers.value(i));
+            }
+            out.writeBoolean(contentType != null);
+            if (contentType != null) {
+                out.writeUTF(contentType);
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    static CassetteEntry decode(final byte[] data) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            final String fingerprint = in.readUTF();
+            final long recordedAtMillis = in.readLong();
+            final String method = in.readUTF();
+            final String url = in.readUTF();
+            final int code = in.readInt();
+            final String message = in.readUTF();
+            final Headers.Builder headers = new Headers.Builder();
+            for (int i = in.readInt(); i > 0; i--) {
+                headers.addUnsafeNonAscii(in.readUTF(), in.readUTF());
+            }
+            final String contentType = in.readBoolean() ? in.readUTF() : null;
+            final byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new CassetteEntry(fingerprint, recordedAtMillis, method, url, code, message, headers.build(),
+                    contentType, body);
+        }
+    }
+
+}
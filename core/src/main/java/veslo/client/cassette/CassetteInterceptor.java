@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.cassette;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.internal.EverythingIsNonNull;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Application interceptor recording the exchanges into the {@link Cassette}
+ * and replaying them without the network.
+ * <p>
+ * The replayed response does not reach the network interceptors, so the cassette must be an application
+ * interceptor (a network interceptor must call {@link Chain#proceed(Request)} exactly once).
+ * Add the {@link veslo.client.inteceptor.CompositeInterceptor} as an application interceptor before the cassette
+ * if the replayed exchanges should pass through the intercept actions (logging, Allure, cookies).
+ * <p>
+ * Modes:
+ * - {@link Mode#RECORD} - all requests go to the network, responses are recorded (cassette refresh);
+ * - {@link Mode#REPLAY} - requests are served from the cassette, a miss fails the call ({@link IOException});
+ * - {@link Mode#REPLAY_OR_RECORD} - requests are served from the cassette, misses and expired entries
+ * (see {@link Cassette#withMaxAge}) go to the network and are recorded.
+ * <p>
+ * Usage:
+ * * Cassette cassette = Cassette.open(Paths.get("src/test/resources/cassettes/petstore"));
+ * * PetApi api = TestClient.build(BASE_URL, new CompositeInterceptor(), new UniversalCallAdapterFactory(),
+ * *         new ExtensionConverterFactory(), PetApi.class, new CassetteInterceptor(cassette, Mode.REPLAY_OR_RECORD));
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class CassetteInterceptor implements Interceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CassetteInterceptor.class);
+
+    private final Cassette cassette;
+    private final Mode mode;
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder recorded = new LongAdder();
+    private volatile CassetteMatchingRules matchingRules = new CassetteMatchingRules();
+    private volatile Predicate<Response> recordFilter = response -> response.code() < 500;
+
+    /**
+     * @param cassette - exchanges storage
+     * @param mode     - record/replay mode
+     */
+    public CassetteInterceptor(@Nonnull final Cassette cassette, @Nonnull final Mode mode) {
+        Utils.parameterRequireNonNull(cassette, CASSETTE_PARAMETER);
+        Utils.parameterRequireNonNull(mode, MODE_PARAMETER);
+        this.cassette = cassette;
+        this.mode = mode;
+    }
+
+    /**
+     * @param matchingRules - request matching rules
+     * @return this
+     */
+    @Nonnull
+    public CassetteInterceptor withMatchingRules(@Nonnull final CassetteMatchingRules matchingRules) {
+        Utils.parameterRequireNonNull(matchingRules, RULES_PARAMETER);
+        this.matchingRules = matchingRules;
+        return this;
+    }
+
+    /**
+     * @param recordFilter - recorded responses filter (default: status code &lt; 500, server errors are not recorded)
+     * @return this
+     */
+    @Nonnull
+    public CassetteInterceptor withRecordFilter(@Nonnull final Predicate<Response> recordFilter) {
+        Utils.parameterRequireNonNull(recordFilter, FILTER_PARAMETER);
+        this.recordFilter = recordFilter;
+        return this;
+    }
+
+    /**
+     * @param chain - {@link Chain}
+     * @return replayed or network (recorded) response
+     * @throws IOException on the replay miss ({@link Mode#REPLAY}) or network errors
+     */
+    @Override
+    @EverythingIsNonNull
+    public Response intercept(final Chain chain) throws IOException {
+        Utils.parameterRequireNonNull(chain, CHAIN_PARAMETER);
+        final Request request = chain.request();
+        final String fingerprint = matchingRules.fingerprint(request);
+        if (mode != Mode.RECORD) {
+            final CassetteEntry entry = cassette.get(fingerprint);
+            if (entry != null) {
+                replayed.increment();
+                LOGGER.debug("Cassette replay: {} {}", request.method(), request.url());
+                return entry.toResponse(request);
+            }
+            if (mode == Mode.REPLAY) {
+                throw new IOException("No cassette entry for the request: " + request.method() + " " +
+                                      request.url() + "\nCassette: " + cassette.getFile());
+            }
+        }
+        final Response response = chain.proceed(request);
+        if (!recordFilter.test(response)) {
+            return response;
+        }
+        final ResponseBody body = response.body();
+        final byte[] bytes = body == null ? new byte[0] : body.bytes();
+        final MediaType contentType = body == null ? null : body.contentType();
+        cassette.put(new CassetteEntry(fingerprint, System.currentTimeMillis(), request.method(),
+                request.url().toString(), response.code(), response.message(), response.headers(),
+                contentType == null ? null : contentType.toString(), bytes));
+        recorded.increment();
+        LOGGER.debug("Cassette record: {} {}", request.method(), request.url());
+        return response.newBuilder().body(ResponseBody.create(contentType, bytes)).build();
+    }
+
+    @Nonnull
+    public Cassette getCassette() {
+        return cassette;
+    }
+
+    @Nonnull
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return number of the responses served from the cassette
+     */
+    public long getReplayedCount() {
+        return replayed.sum();
+    }
+
+    /**
+     * @return number of the recorded responses
+     */
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    /**
+     * Cassette mode
+     */
+    public enum Mode {
+        RECORD,
+        REPLAY,
+        REPLAY_OR_RECORD
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.cassette;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Request matching rules of the {@link CassetteInterceptor}: the request fingerprint is the SHA-256 hash
+ * of the canonical request (method, URL without the ignored query parameters, sorted query parameters,
+ * sorted not ignored headers and the normalized body).
+ * <p>
+ * By default the volatile headers are ignored ({@link #DEFAULT_IGNORED_HEADERS}).
+ * <p>
+ * Usage:
+ * * new CassetteMatchingRules()
+ * *         .withIgnoredHeaders("X-Request-Id")
+ * *         .withIgnoredQueryParameters("timestamp")
+ * *         .withIgnoredBodyPattern("\"createdAt\":\"[^\"]*\"");
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class CassetteMatchingRules {
+
+    /**
+     * Headers changing from run to run (lowercase)
+     */
+    public static final Set<String> DEFAULT_IGNORED_HEADERS = Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(
+            "authorization", "content-length", "cookie", "date", "traceparent", "tracestate", "user-agent")));
+
+    private final Set<String> ignoredHeaders = new CopyOnWriteArraySet<>(DEFAULT_IGNORED_HEADERS);
+    private final Set<String> ignoredQueryParameters = new CopyOnWriteArraySet<>();
+    private final List<UnaryOperator<String>> bodyNormalizers = new CopyOnWriteArrayList<>();
+    private volatile boolean allHeadersIgnored = false;
+    private volatile boolean bodyIgnored = false;
+
+    /**
+     * @param headers - names of the headers excluded from the fingerprint (case insensitive)
+     * @return this
+     */
+    @Nonnull
+    public CassetteMatchingRules withIgnoredHeaders(@Nonnull final String... headers) {
+        Utils.parameterRequireNonNull(headers, HEADERS_PARAMETER);
+        for (String header : headers) {
+            ignoredHeaders.add(header.toLowerCase(Locale.ROOT));
+        }
+        return this;
+    }
+
+    /**
+     * Exclude all headers from the fingerprint
+     *
+     * @return this
+     */
+    @Nonnull
+    public CassetteMatchingRules withAllHeadersIgnored() {
+        this.allHeadersIgnored = true;
+        return this;
+    }
+
+    /**
+     * @param names - names of the query parameters excluded from the fingerprint
+     * @return this
+     */
+    @Nonnull
+    public CassetteMatchingRules withIgnoredQueryParameters(@Nonnull final String... names) {
+        Utils.parameterRequireNonNull(names, NAME_PARAMETER);
+        ignoredQueryParameters.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    /**
+     * Exclude the request body from the fingerprint
+     *
+     * @return this
+     */
+    @Nonnull
+    public CassetteMatchingRules withBodyIgnored() {
+        this.bodyIgnored = true;
+        return this;
+    }
+
+    /**
+     * @param normalizer - request body (UTF-8) normalizer (applied in the registration order)
+     * @return this
+     */
+    @Nonnull
+    public CassetteMatchingRules withBodyNormalizer(@Nonnull final UnaryOperator<String> normalizer) {
+        Utils.parameterRequireNonNull(normalizer, NORMALIZER_PARAMETER);
+        bodyNormalizers.add(normalizer);
+        return this;
+    }
+
+    /**
+     * @param regex - request body fragments excluded from the fingerprint (generated ids, timestamps)
+     * @return this
+     */
+    @Nonnull
+    public CassetteMatchingRules withIgnoredBodyPattern(@Nonnull final String regex) {
+        Utils.parameterRequireNonNull(regex, REGEX_PARAMETER);
+        final Pattern pattern = Pattern.compile(regex);
+        return withBodyNormalizer(body -> pattern.matcher(body).replaceAll(""));
+    }
+
+    /**
+     * @param request - request to match
+     * @return request fingerprint (64 lowercase hex characters)
+     * @throws IOException if the request body cannot be read
+     */
+    @Nonnull
+    public String fingerprint(@Nonnull final Request request) throws IOException {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(canonical(request).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final StringBuilder result = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param request - request to match
+     * @return canonical request (the fingerprint source)
+     * @throws IOException if the request body cannot be read
+     */
+    @Nonnull
+    public String canonical(@Nonnull final Request request) throws IOException {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final HttpUrl url = request.url();
+        final StringBuilder result = new StringBuilder()
+                .append(request.method()).append(' ')
+                .append(url.scheme()).append("://").append(url.host()).append(':').append(url.port())
+                .append(url.encodedPath()).append('\n');
+        final List<String> query = new ArrayList<>();
+        for (int i = 0; i < url.querySize(); i++) {
+            if (!ignoredQueryParameters.contains(url.queryParameterName(i))) {
+                query.add(url.queryParameterName(i) + "=" + url.queryParameterValue(i));
+            }
+        }
+        Collections.sort(query);
+        result.append(String.join("&", query)).append('\n');
+        if (!allHeadersIgnored) {
+            final List<String> headers = new ArrayList<>();
+            for (int i = 0; i < request.headers().size(); i++) {
+                final String name = request.headers().name(i).toLowerCase(Locale.ROOT);
+                if (!ignoredHeaders.contains(name)) {
+                    headers.add(name + ": " + request.headers().value(i));
+                }
+            }
+            Collections.sort(headers);
+            headers.forEach(header -> result.append(header).append('\n'));
+        }
+        final RequestBody body = request.body();
+        if (!bodyIgnored && body != null && !body.isOneShot()) {
+            result.append('\n').append(normalize(body));
+        }
+        return result.toString();
+    }
+
+    private String normalize(final RequestBody body) throws IOException {
+        try (final Buffer buffer = new Buffer()) {
+            body.writeTo(buffer);
+            String result = buffer.readUtf8();
+            for (UnaryOperator<String> normalizer : bodyNormalizers) {
+                result = normalizer.apply(result);
+            }
+            return result;
+        }
+    }
+
+}
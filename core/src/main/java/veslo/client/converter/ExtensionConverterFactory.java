@@ -41,6 +41,7 @@ import veslo.client.converter.defaults.RawBodyTypeConverter;
 import veslo.client.header.ContentType;
 import veslo.util.ConvertUtils;
 import veslo.util.ReflectUtils;
+import veslo.jfr.VesloEvents;
 import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
@@ -156,6 +157,7 @@ public class ExtensionConverterFactory extends retrofit2.Converter.Factory {
                 final Class<?> bodyClass = body.getClass();
                 final String bodyTypeName = Utils.getTypeName(bodyClass);
                 logger.debug("Definition of request converter for type {}", bodyTypeName);
+                final Object resolution = VesloEvents.beginConverterResolution();
                 RequestBodyConverter converter = getRequestConverterFromCallAnnotation(bodyClass, pA, mA, rtf);
                 if (converter == null) {
                     converter = getRawRequestConverter(bodyClass, pA, mA, rtf);
@@ -172,13 +174,16 @@ public class ExtensionConverterFactory extends retrofit2.Converter.Factory {
                 if (converter == null) {
                     converter = getJavaTypeRequestConverter(bodyClass, pA, mA, rtf);
                 }
+                VesloEvents.commitConverterResolution(resolution, mA, VesloEvents.REQUEST, bodyClass, converter);
                 if (converter == null) {
                     logger.error("Request converter not found");
                     final String info = getSupportedConvertersInfo(REQUEST, mA);
                     throw new ConverterNotFoundException(REQUEST, ConvertUtils.getContentType(mA), bodyClass, info);
                 } else {
                     logger.debug("Request converter found: {}", Utils.getTypeName(converter));
+                    final Object conversion = VesloEvents.beginConversion();
                     final RequestBody result = converter.convert(body);
+                    VesloEvents.commitConversion(conversion, mA, VesloEvents.REQUEST, bodyClass, converter, result);
                     logger.debug("Converted request body: {}", Utils.getTypeName(result));
                     return result;
                 }
@@ -214,6 +219,7 @@ public class ExtensionConverterFactory extends retrofit2.Converter.Factory {
                 final Type bodyType = getResponseBodyType(type);
                 final String bodyTypeName = Utils.getTypeName(bodyType);
                 logger.debug("Definition of response converter for type: {}", bodyTypeName);
+                final Object resolution = VesloEvents.beginConverterResolution();
                 ResponseBodyConverter<?> converter = getResponseConverterFromCallAnnotation(bodyType, mA, rtf);
                 if (converter == null) {
                     converter = getRawResponseConverter(bodyType, mA, rtf);
@@ -225,6 +231,7 @@ public class ExtensionConverterFactory extends retrofit2.Converter.Factory {
                     converter = getPackageResponseConverter(bodyType, mA, rtf);
                 }
                 if (converter == null && respBody == null) {
+                    VesloEvents.commitConverterResolution(resolution, mA, VesloEvents.RESPONSE, bodyType, null);
                     // It makes no sense to look for a converter further if there is no ResponseBody.
                     logger.debug("{} not present. Nothing to convert.", responseBodyTypeName);
                     return null;
@@ -235,6 +242,7 @@ public class ExtensionConverterFactory extends retrofit2.Converter.Factory {
                 if (converter == null) {
                     converter = getJavaTypeResponseConverter(bodyType, mA, rtf);
                 }
+                VesloEvents.commitConverterResolution(resolution, mA, VesloEvents.RESPONSE, bodyType, converter);
                 if (converter == null) {
                     logger.error("Response converter not found");
                     final String info = getSupportedConvertersInfo(RESPONSE, mA);
@@ -242,7 +250,9 @@ public class ExtensionConverterFactory extends retrofit2.Converter.Factory {
                     throw new ConverterNotFoundException(RESPONSE, contentType, bodyType, info);
                 } else {
                     logger.debug("Response converter found: {}", Utils.getTypeName(converter));
+                    final Object conversion = VesloEvents.beginConversion();
                     final Object result = converter.convert(respBody);
+                    VesloEvents.commitConversion(conversion, mA, VesloEvents.RESPONSE, bodyType, converter, respBody);
                     logger.debug("Response body successfully converted");
                     return result;
                 }
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.internal.http.HttpHeaders;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.internal.EverythingIsNonNull;
+import veslo.util.OkhttpUtils;
+import veslo.util.ThrowableRunnable;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Asynchronous {@link LoggingAction}.
+ * Only an immutable snapshot of the exchange (request/response with a copy of the body bytes)
+ * is captured on the calling thread. Formatting and writing are performed by the background thread
+ * behind a bounded queue. Nothing is captured if the INFO level is disabled for the logger.
+ * <p>
+ * Body logging can be limited per endpoint via {@link BodyLogPolicies} (as for the {@link LoggingAction}).
+ * If the response body logging is limited (head/tail bytes, omitted content type), the response body is not
+ * buffered on the calling thread: it is summarized while the caller reads it, and only the formatted entry
+ * is queued (see {@link OkhttpUtils#formatResponse(Response, BodyLogPolicy, java.util.function.Consumer)}).
+ * <p>
+ * Queue overflow is handled by the {@link OverflowPolicy}:
+ * - {@link OverflowPolicy#BLOCK} - the calling thread waits for free space in the queue (default);
+ * - {@link OverflowPolicy#DROP} - the log entry is discarded and {@link #getDroppedCount()} is incremented.
+ * <p>
+ * Lifecycle: each instance owns one daemon writer thread and one JVM shutdown hook (writes the remaining entries
+ * on exit). Create one action per client (not per call) and {@link #close()} it when the client is no longer used:
+ * closing stops the thread and removes the hook, entries submitted after closing are written synchronously.
+ * <p>
+ * Interceptor initialisation:
+ * * AsyncLoggingAction logging = new AsyncLoggingAction(logger, 4096, OverflowPolicy.DROP);
+ * * new CompositeInterceptor()
+ * *         .withRequestInterceptActionsChain(logging)
+ * *         .withResponseInterceptActionsChain(logging);
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class AsyncLoggingAction extends LoggingAction implements Closeable {
+
+    /**
+     * Default log entries queue capacity
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Background threads counter (for thread naming)
+     */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Queue stop marker
+     */
+    private static final ThrowableRunnable STOP = () -> {
+    };
+
+    private final BlockingQueue<ThrowableRunnable> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong loggedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Condition pendingIsEmpty = pendingLock.newCondition();
+    /**
+     * Submitters enqueue under the read lock, {@link #close()} switches the state under the write lock
+     * (no entry is queued after the stop marker)
+     */
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private final Thread worker;
+    private final Thread shutdownHook;
+    private volatile boolean closed = false;
+
+    /**
+     * Default constructor with class logger
+     */
+    public AsyncLoggingAction() {
+        this(LoggerFactory.getLogger(AsyncLoggingAction.class));
+    }
+
+    /**
+     * @param logger - required Slf4J logger
+     */
+    public AsyncLoggingAction(final Logger logger) {
+        this(logger, DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param logger         - required Slf4J logger
+     * @param queueCapacity  - max number of log entries awaiting formatting
+     * @param overflowPolicy - queue overflow handling policy
+     */
+    @EverythingIsNonNull
+    public AsyncLoggingAction(final Logger logger, final int queueCapacity, final OverflowPolicy overflowPolicy) {
+        this(logger, BodyLogPolicies.UNLIMITED, queueCapacity, overflowPolicy);
+    }
+
+    /**
+     * @param logger          - required Slf4J logger
+     * @param bodyLogPolicies - per-endpoint body logging policies
+     */
+    @EverythingIsNonNull
+    public AsyncLoggingAction(final Logger logger, final BodyLogPolicies bodyLogPolicies) {
+        this(logger, bodyLogPolicies, DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param logger          - required Slf4J logger
+     * @param bodyLogPolicies - per-endpoint body logging policies
+     * @param queueCapacity   - max number of log entries awaiting formatting
+     * @param overflowPolicy  - queue overflow handling policy
+     */
+    @EverythingIsNonNull
+    public AsyncLoggingAction(final Logger logger,
+                              final BodyLogPolicies bodyLogPolicies,
+                              final int queueCapacity,
+                              final OverflowPolicy overflowPolicy) {
+        super(logger, bodyLogPolicies);
+        Utils.parameterRequireNonNull(logger, LOGGER_PARAMETER);
+        Utils.parameterRequireNonNull(overflowPolicy, OVERFLOW_POLICY_PARAMETER);
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be greater than zero. Actual: " + queueCapacity);
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.worker = new Thread(this::drain, "veslo-async-logging-" + THREAD_COUNTER.incrementAndGet());
+        this.worker.setDaemon(true);
+        this.worker.start();
+        this.shutdownHook = new Thread(this::close, worker.getName() + "-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Captures the request snapshot and queues its formatting
+     * (the body is not captured if it is omitted by the policy)
+     *
+     * @param request - {@link Request}
+     * @return the original {@link Request} (with the sampling decision tag if the exchange is sampled)
+     * @throws IOException - request body reading errors
+     */
+    @Override
+    @Nonnull
+    public Request requestAction(@Nonnull Request request) throws IOException {
+        if (getLogger().isInfoEnabled()) {
+            final Request sampled = getBodyLogPolicies().sample(request);
+            if (getBodyLogPolicies().isSampled(sampled)) {
+                final BodyLogPolicy policy = getBodyLogPolicies().getPolicy(sampled);
+                final RequestBody body = sampled.body();
+                final Request snapshot = body != null && policy.isOmitted(body.contentType())
+                        ? sampled : snapshot(sampled);
+                submit(() -> getLogger().info(OkhttpUtils.requestToString(snapshot, policy)));
+            }
+            return sampled;
+        }
+        return request;
+    }
+
+    /**
+     * Captures the response snapshot and queues its formatting.
+     * If the body logging is limited by the policy, the body is summarized while the caller reads it
+     * and the entry is queued when the body is exhausted or closed.
+     *
+     * @param response - {@link Response}
+     * @return the original {@link Response} or the response with the summarizing body (body is not consumed)
+     * @throws IOException - response body reading errors
+     */
+    @Override
+    @Nonnull
+    public Response responseAction(@Nonnull Response response) throws IOException {
+        final Request request = response.request();
+        if (getLogger().isInfoEnabled() && getBodyLogPolicies().isSampled(request)) {
+            final BodyLogPolicy policy = getBodyLogPolicies().getPolicy(request);
+            final ResponseBody body = response.body();
+            if (policy.isTruncated() || (body != null && policy.isOmitted(body.contentType()))) {
+                return OkhttpUtils.formatResponse(response, policy, message -> submit(() -> getLogger().info(message)));
+            }
+            final Response snapshot = snapshot(response);
+            submit(() -> getLogger().info(OkhttpUtils.responseToString(snapshot)));
+        }
+        return response;
+    }
+
+    /**
+     * Queues the transport error logging (preserves the order of log entries)
+     *
+     * @param exception - Exception thrown when making a request to the server
+     */
+    @Override
+    public void errorAction(@Nonnull Throwable exception) {
+        submit(() -> super.errorAction(exception));
+    }
+
+    /**
+     * Waits until all queued log entries are written
+     *
+     * @param timeout - max waiting time
+     * @param unit    - timeout {@link TimeUnit}
+     * @return true if the queue was drained before the timeout elapsed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean flush(final long timeout, @Nonnull final TimeUnit unit) throws InterruptedException {
+        Utils.parameterRequireNonNull(unit, TIME_UNIT_PARAMETER);
+        long nanos = unit.toNanos(timeout);
+        pendingLock.lock();
+        try {
+            while (pendingCount.get() > 0) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = pendingIsEmpty.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the remaining log entries and stops the background thread.
+     * Entries submitted after closing are written synchronously.
+     */
+    @Override
+    public void close() {
+        stateLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        try {
+            queue.put(STOP);
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // entries left if the background thread did not stop in time
+        ThrowableRunnable task;
+        while ((task = queue.poll()) != null) {
+            if (task != STOP) {
+                write(task);
+                release();
+            }
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignore) {
+            // JVM shutdown in progress
+        }
+    }
+
+    /**
+     * @return number of written log entries
+     */
+    public long getLoggedCount() {
+        return loggedCount.get();
+    }
+
+    /**
+     * @return number of log entries discarded due to queue overflow ({@link OverflowPolicy#DROP})
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return number of queued (not yet written) log entries
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * @return queue overflow handling policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return true if the action is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Copy of the request with the buffered body bytes.
+     * The captured {@link BodySnapshot} is reused without copying.
+     * Duplex and one-shot bodies are not read (the formatter omits them).
+     *
+     * @param request - {@link Request}
+     * @return immutable {@link Request} snapshot
+     * @throws IOException - request body writing errors
+     */
+    @EverythingIsNonNull
+    protected Request snapshot(final Request request) throws IOException {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final RequestBody body = request.body();
+        if (body == null || body.isDuplex() || body.isOneShot() || body.contentLength() == 0) {
+            return request;
+        }
+        final BodySnapshot captured = BodySnapshot.of(body);
+        final Buffer bytes;
+        if (captured != null) {
+            // body captured by the CompositeInterceptor (zero-copy view)
+            bytes = captured.buffer();
+        } else {
+            bytes = new Buffer();
+            body.writeTo(bytes);
+        }
+        final MediaType contentType = body.contentType();
+        final long contentLength = body.contentLength();
+        final RequestBody copy = new RequestBody() {
+
+            @Nullable
+            @Override
+            public MediaType contentType() {
+                return contentType;
+            }
+
+            @Override
+            public long contentLength() {
+                return contentLength;
+            }
+
+            @Override
+            public void writeTo(@Nonnull BufferedSink sink) throws IOException {
+                final Buffer copy = bytes.clone();
+                sink.write(copy, copy.size());
+            }
+
+        };
+        return request.newBuilder().method(request.method(), copy).build();
+    }
+
+    /**
+     * Copy of the response with the buffered body bytes (the body logging is not limited by the policy).
+     * The original response body is buffered, but not consumed.
+     *
+     * @param response - {@link Response}
+     * @return immutable {@link Response} snapshot
+     * @throws IOException - response body reading errors
+     */
+    @EverythingIsNonNull
+    protected Response snapshot(final Response response) throws IOException {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        final ResponseBody body = response.body();
+        final Headers headers = OkhttpUtils.getResponseHeaders(response);
+        if (body == null || !HttpHeaders.hasBody(response) || OkhttpUtils.bodyHasUnknownEncoding(headers)) {
+            return response;
+        }
+        final BufferedSource source = body.source();
+        source.request(Long.MAX_VALUE);
+        // okio shares the segments of the cloned buffer (no bytes copying)
+        final Buffer copy = source.getBuffer().clone();
+        return response.newBuilder()
+                .body(ResponseBody.create(body.contentType(), body.contentLength(), copy))
+                .build();
+    }
+
+    /**
+     * @param task - log entry writing task
+     */
+    protected void submit(final ThrowableRunnable task) {
+        stateLock.readLock().lock();
+        try {
+            if (!closed) {
+                enqueue(task);
+                return;
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        write(task);
+    }
+
+    private void enqueue(final ThrowableRunnable task) {
+        pendingCount.incrementAndGet();
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                // the background thread is alive until the stop marker is queued by close()
+                queue.put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                discard();
+            }
+        } else if (!queue.offer(task)) {
+            discard();
+        }
+    }
+
+    private void discard() {
+        droppedCount.incrementAndGet();
+        release();
+    }
+
+    private void release() {
+        if (pendingCount.decrementAndGet() <= 0) {
+            pendingLock.lock();
+            try {
+                pendingIsEmpty.signalAll();
+            } finally {
+                pendingLock.unlock();
+            }
+        }
+    }
+
+    private void write(final ThrowableRunnable task) {
+        try {
+            task.execute();
+            loggedCount.incrementAndGet();
+        } catch (Throwable e) {
+            getLogger().error("Unable to write the log entry", e);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final ThrowableRunnable task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == STOP) {
+                return;
+            }
+            try {
+                write(task);
+            } finally {
+                release();
+            }
+        }
+    }
+
+    /**
+     * Queue overflow handling policy
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The calling thread waits for free space in the queue
+         */
+        BLOCK,
+
+        /**
+         * The log entry is discarded
+         */
+        DROP,
+
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.Request;
+import retrofit2.Invocation;
+import veslo.client.EndpointInfo;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Per-endpoint {@link BodyLogPolicy} registry (immutable, {@code with*} methods return a copy).
+ * The endpoint key is the {@link EndpointInfo} value of the API method
+ * or the HTTP method with the encoded URL path ("GET /api/export").
+ * <p>
+ * Usage:
+ * * BodyLogPolicies policies = new BodyLogPolicies()
+ * *         .withDefaultPolicy(BodyLogPolicy.truncated(4096, 0))
+ * *         .withEndpointPolicy("Export report", BodyLogPolicy.truncated(256, 256))
+ * *         .withEndpointPolicy("GET /api/status", BodyLogPolicy.UNLIMITED.withSampleRate(0.05));
+ * * new LoggingAction(logger, policies);
+ * <p>
+ * The sampling decision is made once per exchange (on the request) and is stored in the request tag,
+ * so all actions using the same policies log both the request and the response or neither of them.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class BodyLogPolicies {
+
+    /**
+     * Logs all bodies as is
+     */
+    public static final BodyLogPolicies UNLIMITED = new BodyLogPolicies();
+
+    private final Map<String, BodyLogPolicy> endpointPolicies;
+    private final BodyLogPolicy defaultPolicy;
+
+    /**
+     * Policies with {@link BodyLogPolicy#UNLIMITED} default policy and without endpoint policies
+     */
+    public BodyLogPolicies() {
+        this(BodyLogPolicy.UNLIMITED, Collections.emptyMap());
+    }
+
+    private BodyLogPolicies(final BodyLogPolicy defaultPolicy, final Map<String, BodyLogPolicy> endpointPolicies) {
+        this.defaultPolicy = defaultPolicy;
+        this.endpointPolicies = endpointPolicies;
+    }
+
+    /**
+     * @param policy - policy for endpoints without own policy
+     * @return copy of the policies with the default policy
+     */
+    @Nonnull
+    public BodyLogPolicies withDefaultPolicy(@Nonnull final BodyLogPolicy policy) {
+        Utils.parameterRequireNonNull(policy, POLICY_PARAMETER);
+        return new BodyLogPolicies(policy, endpointPolicies);
+    }
+
+    /**
+     * @param endpoint - {@link EndpointInfo} value or HTTP method with URL path ("GET /api/export")
+     * @param policy   - endpoint policy
+     * @return copy of the policies with the endpoint policy
+     */
+    @Nonnull
+    public BodyLogPolicies withEndpointPolicy(@Nonnull final String endpoint, @Nonnull final BodyLogPolicy policy) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        Utils.parameterRequireNonNull(policy, POLICY_PARAMETER);
+        final Map<String, BodyLogPolicy> policies = new HashMap<>(endpointPolicies);
+        policies.put(endpoint, policy);
+        return new BodyLogPolicies(defaultPolicy, Collections.unmodifiableMap(policies));
+    }
+
+    /**
+     * @param request - {@link Request}
+     * @return policy of the request endpoint or default policy
+     */
+    @Nonnull
+    public BodyLogPolicy getPolicy(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        if (endpointPolicies.isEmpty()) {
+            return defaultPolicy;
+        }
+        final String endpointInfo = getEndpointInfo(request);
+        if (endpointInfo != null) {
+            final BodyLogPolicy policy = endpointPolicies.get(endpointInfo);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        final String route = request.method() + " " + request.url().encodedPath();
+        return endpointPolicies.getOrDefault(route, defaultPolicy);
+    }
+
+    /**
+     * Makes the sampling decision for the exchange if it is not made yet.
+     *
+     * @param request - {@link Request}
+     * @return request with the sampling decision tag (or the original request if all exchanges are logged)
+     */
+    @Nonnull
+    public Request sample(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        if (request.tag(SamplingDecision.class) != null) {
+            return request;
+        }
+        final BodyLogPolicy policy = getPolicy(request);
+        if (policy.getSampleRate() >= 1) {
+            return request;
+        }
+        final SamplingDecision decision = policy.nextSample() ? SamplingDecision.LOGGED : SamplingDecision.SKIPPED;
+        return request.newBuilder().tag(SamplingDecision.class, decision).build();
+    }
+
+    /**
+     * @param request - {@link Request} (for the response - {@link okhttp3.Response#request()})
+     * @return false if the exchange is excluded from logging by the sampling
+     */
+    public boolean isSampled(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        return request.tag(SamplingDecision.class) != SamplingDecision.SKIPPED;
+    }
+
+    /**
+     * @param request - {@link Request}
+     * @return {@link EndpointInfo} value of the called API method or null
+     */
+    @Nullable
+    public static String getEndpointInfo(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final Invocation invocation = request.tag(Invocation.class);
+        if (invocation == null) {
+            return null;
+        }
+        final EndpointInfo endpointInfo = invocation.method().getAnnotation(EndpointInfo.class);
+        return endpointInfo == null ? null : endpointInfo.value();
+    }
+
+    /**
+     * Exchange sampling decision (request tag)
+     */
+    public enum SamplingDecision {
+        LOGGED,
+        SKIPPED,
+    }
+
+}
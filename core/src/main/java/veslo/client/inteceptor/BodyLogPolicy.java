@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.MediaType;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static veslo.constant.ParameterNameConstants.TYPES_PARAMETER;
+
+/**
+ * Immutable request/response body logging policy:
+ * - head/tail bytes limits (the body is logged as the first N and the last M bytes,
+ * the total size and SHA-256 hash are always present in the log entry);
+ * - sampling rate (for example, 0.1 means "log every tenth exchange");
+ * - content types which bodies are never logged (for example, "image/*").
+ * <p>
+ * Policy example:
+ * * BodyLogPolicy.truncated(1024, 256)
+ * *         .withSampleRate(0.01)
+ * *         .withOmittedContentTypes("image/*", "application/octet-stream");
+ * <p>
+ * Per-endpoint policies are configured via {@link BodyLogPolicies}.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class BodyLogPolicy {
+
+    /**
+     * Logs bodies as is
+     */
+    public static final BodyLogPolicy UNLIMITED = new BodyLogPolicy(-1, -1, 1D, Collections.emptySet());
+
+    private final int maxHeadBytes;
+    private final int maxTailBytes;
+    private final double sampleRate;
+    private final Set<String> omittedContentTypes;
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    protected BodyLogPolicy(final int maxHeadBytes,
+                            final int maxTailBytes,
+                            final double sampleRate,
+                            final Set<String> omittedContentTypes) {
+        if (sampleRate < 0 || sampleRate > 1 || Double.isNaN(sampleRate)) {
+            throw new IllegalArgumentException("Sample rate must be in the range [0, 1]. Actual: " + sampleRate);
+        }
+        this.maxHeadBytes = Math.max(-1, maxHeadBytes);
+        this.maxTailBytes = Math.max(-1, maxTailBytes);
+        this.sampleRate = sampleRate;
+        this.omittedContentTypes = Collections.unmodifiableSet(omittedContentTypes);
+    }
+
+    /**
+     * @param maxHeadBytes - number of logged leading bytes
+     * @param maxTailBytes - number of logged trailing bytes
+     * @return policy logging the first and the last body bytes
+     */
+    @Nonnull
+    public static BodyLogPolicy truncated(final int maxHeadBytes, final int maxTailBytes) {
+        return UNLIMITED.withMaxHeadBytes(maxHeadBytes).withMaxTailBytes(maxTailBytes);
+    }
+
+    /**
+     * @param maxHeadBytes - number of logged leading bytes (negative value - no limits)
+     * @return new policy with the specified value
+     */
+    @Nonnull
+    public BodyLogPolicy withMaxHeadBytes(final int maxHeadBytes) {
+        return new BodyLogPolicy(maxHeadBytes, maxTailBytes, sampleRate, omittedContentTypes);
+    }
+
+    /**
+     * @param maxTailBytes - number of logged trailing bytes (negative value - no limits)
+     * @return new policy with the specified value
+     */
+    @Nonnull
+    public BodyLogPolicy withMaxTailBytes(final int maxTailBytes) {
+        return new BodyLogPolicy(maxHeadBytes, maxTailBytes, sampleRate, omittedContentTypes);
+    }
+
+    /**
+     * @param sampleRate - share of logged exchanges in the range [0, 1]
+     * @return new policy with the specified value
+     */
+    @Nonnull
+    public BodyLogPolicy withSampleRate(final double sampleRate) {
+        return new BodyLogPolicy(maxHeadBytes, maxTailBytes, sampleRate, omittedContentTypes);
+    }
+
+    /**
+     * @param types - omitted content types ("type/subtype" or "type/*")
+     * @return new policy with the specified value
+     */
+    @Nonnull
+    public BodyLogPolicy withOmittedContentTypes(@Nonnull final String... types) {
+        Utils.parameterRequireNonNull(types, TYPES_PARAMETER);
+        final Set<String> omitted = Arrays.stream(types)
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(HashSet::new));
+        return new BodyLogPolicy(maxHeadBytes, maxTailBytes, sampleRate, omitted);
+    }
+
+    /**
+     * @return true if head or tail limit is set
+     */
+    public boolean isTruncated() {
+        return maxHeadBytes >= 0 || maxTailBytes >= 0;
+    }
+
+    /**
+     * @param mediaType - body content type
+     * @return true if the body of the specified content type should not be logged
+     */
+    public boolean isOmitted(@Nullable final MediaType mediaType) {
+        if (mediaType == null || omittedContentTypes.isEmpty()) {
+            return false;
+        }
+        final String type = mediaType.type().toLowerCase(Locale.ROOT);
+        final String subtype = mediaType.subtype().toLowerCase(Locale.ROOT);
+        return omittedContentTypes.contains(type + "/" + subtype) || omittedContentTypes.contains(type + "/*");
+    }
+
+    /**
+     * Deterministic sampling: with the 0.1 rate the 1st, 11th, 21st... exchanges are logged.
+     *
+     * @return true if the next exchange should be logged
+     */
+    public boolean nextSample() {
+        if (sampleRate >= 1) {
+            return true;
+        }
+        if (sampleRate <= 0) {
+            return false;
+        }
+        final long index = sampleCounter.getAndIncrement();
+        return Math.ceil(index * sampleRate) != Math.ceil((index + 1) * sampleRate);
+    }
+
+    /**
+     * @return number of logged leading bytes (0 if only the tail limit is set, -1 if unlimited)
+     */
+    public int getMaxHeadBytes() {
+        return maxHeadBytes < 0 && maxTailBytes >= 0 ? 0 : maxHeadBytes;
+    }
+
+    /**
+     * @return number of logged trailing bytes (0 if only the head limit is set, -1 if unlimited)
+     */
+    public int getMaxTailBytes() {
+        return maxTailBytes < 0 && maxHeadBytes >= 0 ? 0 : maxTailBytes;
+    }
+
+    /**
+     * @return share of logged exchanges
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return omitted content types
+     */
+    @Nonnull
+    public Set<String> getOmittedContentTypes() {
+        return omittedContentTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "BodyLogPolicy{" +
+                "maxHeadBytes=" + maxHeadBytes +
+                ", maxTailBytes=" + maxTailBytes +
+                ", sampleRate=" + sampleRate +
+                ", omittedContentTypes=" + omittedContentTypes +
+                '}';
+    }
+
+}
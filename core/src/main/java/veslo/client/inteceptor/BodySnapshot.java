@@ -0,0 +1,286 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Immutable reference-counted copy of the request/response body bytes.
+ * The body is read once, then every reader gets its own zero-copy view of the same bytes
+ * ({@link #buffer()}, okio shares the segments of the cloned buffer).
+ * <p>
+ * The snapshot is created with one reference owned by the {@link ExchangeSnapshot}.
+ * The response body view ({@link #responseBody(MediaType, long)}) holds its own reference until it is closed.
+ * Long-lived readers may {@link #retain()} the snapshot.
+ * The last {@link #release()} returns the bytes to the okio segments pool.
+ * Releasing is optional: snapshot bytes are on the heap and are collected together with the snapshot.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class BodySnapshot {
+
+    private final Buffer buffer;
+    private final long size;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private BodySnapshot(final Buffer buffer) {
+        this.buffer = buffer;
+        this.size = buffer.size();
+    }
+
+    /**
+     * @param body - request body (not one-shot or duplex)
+     * @return snapshot of the body bytes
+     * @throws IOException - body writing errors
+     */
+    @Nonnull
+    public static BodySnapshot capture(@Nonnull final RequestBody body) throws IOException {
+        Utils.parameterRequireNonNull(body, BODY_PARAMETER);
+        final Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return new BodySnapshot(buffer);
+    }
+
+    /**
+     * The source is read to the end. Segments are moved from the source buffer without copying.
+     *
+     * @param source - body bytes source
+     * @return snapshot of the body bytes
+     * @throws IOException - source reading errors
+     */
+    @Nonnull
+    public static BodySnapshot capture(@Nonnull final BufferedSource source) throws IOException {
+        Utils.parameterRequireNonNull(source, SOURCE_PARAMETER);
+        final Buffer buffer = new Buffer();
+        buffer.writeAll(source);
+        return new BodySnapshot(buffer);
+    }
+
+    /**
+     * @param body - request body
+     * @return snapshot if the body is the snapshot view otherwise null
+     */
+    @Nullable
+    public static BodySnapshot of(@Nullable final RequestBody body) {
+        return body instanceof SnapshotRequestBody ? ((SnapshotRequestBody) body).snapshot : null;
+    }
+
+    /**
+     * @param body - response body
+     * @return snapshot if the body is the snapshot view otherwise null
+     */
+    @Nullable
+    public static BodySnapshot of(@Nullable final ResponseBody body) {
+        return body instanceof SnapshotResponseBody ? ((SnapshotResponseBody) body).snapshot : null;
+    }
+
+    /**
+     * @return new zero-copy readable view of the body bytes
+     * @throws IllegalStateException if the snapshot is released
+     */
+    @Nonnull
+    public synchronized Buffer buffer() {
+        requireNotReleased();
+        return buffer.clone();
+    }
+
+    /**
+     * @param charset - body charset
+     * @return body as string
+     */
+    @Nonnull
+    public String string(@Nonnull final Charset charset) {
+        Utils.parameterRequireNonNull(charset, CHARSET_PARAMETER);
+        return buffer().readString(charset);
+    }
+
+    /**
+     * @return body size in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return this with incremented references counter
+     * @throws IllegalStateException if the snapshot is released
+     */
+    @Nonnull
+    public BodySnapshot retain() {
+        if (references.getAndUpdate(count -> count > 0 ? count + 1 : count) <= 0) {
+            throw new IllegalStateException("Body snapshot is released");
+        }
+        return this;
+    }
+
+    /**
+     * Decrements references counter. The last release frees the body bytes.
+     */
+    public void release() {
+        final int count = references.updateAndGet(c -> c > 0 ? c - 1 : c);
+        if (count == 0) {
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * @return true if all references are released
+     */
+    public boolean isReleased() {
+        return references.get() <= 0;
+    }
+
+    /**
+     * @return number of snapshot references
+     */
+    public int getReferenceCount() {
+        return Math.max(0, references.get());
+    }
+
+    /**
+     * @param contentType   - original body content type
+     * @param contentLength - original body content length
+     * @return replayable request body writing the snapshot bytes
+     */
+    @Nonnull
+    public RequestBody requestBody(@Nullable final MediaType contentType, final long contentLength) {
+        requireNotReleased();
+        return new SnapshotRequestBody(this, contentType, contentLength);
+    }
+
+    /**
+     * @param contentType   - original body content type
+     * @param contentLength - original body content length
+     * @return response body reading the snapshot bytes (the reference is released on the body closing)
+     */
+    @Nonnull
+    public ResponseBody responseBody(@Nullable final MediaType contentType, final long contentLength) {
+        return new SnapshotResponseBody(retain(), contentType, contentLength);
+    }
+
+    private void requireNotReleased() {
+        if (isReleased()) {
+            throw new IllegalStateException("Body snapshot is released");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BodySnapshot{size=" + size + ", references=" + getReferenceCount() + '}';
+    }
+
+    private static final class SnapshotRequestBody extends RequestBody {
+
+        private final BodySnapshot snapshot;
+        private final MediaType contentType;
+        private final long contentLength;
+
+        private SnapshotRequestBody(BodySnapshot snapshot, @Nullable MediaType contentType, long contentLength) {
+            this.snapshot = snapshot;
+            this.contentType = contentType;
+            this.contentLength = contentLength;
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public void writeTo(@Nonnull BufferedSink sink) throws IOException {
+            final Buffer bytes = snapshot.buffer();
+            sink.write(bytes, bytes.size());
+        }
+
+    }
+
+    private static final class SnapshotResponseBody extends ResponseBody {
+
+        private final BodySnapshot snapshot;
+        private final MediaType contentType;
+        private final long contentLength;
+        private final BufferedSource source;
+
+        private SnapshotResponseBody(BodySnapshot snapshot, @Nullable MediaType contentType, long contentLength) {
+            this.snapshot = snapshot;
+            this.contentType = contentType;
+            this.contentLength = contentLength;
+            this.source = Okio.buffer(new ForwardingSource(snapshot.buffer()) {
+
+                private final AtomicBoolean closed = new AtomicBoolean();
+
+                @Override
+                public void close() throws IOException {
+                    if (closed.compareAndSet(false, true)) {
+                        try {
+                            snapshot.release();
+                        } finally {
+                            super.close();
+                        }
+                    }
+                }
+
+            });
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+        @Nonnull
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+
+    }
+
+}
@@ -18,24 +18,46 @@ package veslo.client.inteceptor;
 
 import okhttp3.Interceptor;
 import okhttp3.Request;
+import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.internal.http.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import veslo.client.metrics.EndpointMetrics;
+import veslo.jfr.VesloEvents;
 import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringJoiner;
 
-import static veslo.constant.ParameterNameConstants.ACTIONS_PARAMETER;
-import static veslo.constant.ParameterNameConstants.ACTION_PARAMETER;
+import static veslo.constant.ParameterNameConstants.*;
 
 /**
  * Interceptor allows you to store multiple
  * request, response and exception handlers.
  * <p>
+ * If the body capture is enabled ({@link #withBodyCapture(boolean)}), request and response bodies are read once
+ * into immutable {@link BodySnapshot}s before the actions are called.
+ * Actions, converters and {@link veslo.client.response.IDualResponse} read zero-copy views of the same bytes.
+ * The snapshots are available through the {@link ExchangeSnapshot} request tag.
+ * Note: the response body is buffered in full, so do not enable the capture for streaming endpoints.
+ * <p>
+ * Actions can be registered for the specific routes (host, HTTP method, path pattern, see {@link RouteMatcher}):
+ * {@link #withRouteRequestInterceptActions(String, RequestInterceptAction...)},
+ * {@link #withRouteResponseInterceptActions(String, ResponseInterceptAction...)}.
+ * Route request actions are called before the request actions chain
+ * (so the route-specific request changes are visible to the logging actions),
+ * route response actions are called after the response actions chain.
+ * <p>
+ * Actions timing per phase is collected if {@link InterceptorMetrics} are set ({@link #withMetrics(InterceptorMetrics)}).
+ * Exchange latency, body sizes and status classes per endpoint are collected if {@link EndpointMetrics}
+ * are set ({@link #withEndpointMetrics(EndpointMetrics)}).
+ * <p>
  *
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
  * Created: 24.11.2021
@@ -44,7 +66,12 @@ public class CompositeInterceptor implements Interceptor {
 
     private final List<RequestInterceptAction> requestInterceptActions = new ArrayList<>();
     private final List<ResponseInterceptAction> responseInterceptAction = new ArrayList<>();
+    private final RouteMatcher<RequestInterceptAction> routeRequestInterceptActions = new RouteMatcher<>();
+    private final RouteMatcher<ResponseInterceptAction> routeResponseInterceptActions = new RouteMatcher<>();
     private final Logger logger;
+    private volatile boolean bodyCapture = false;
+    private volatile InterceptorMetrics metrics = null;
+    private volatile EndpointMetrics endpointMetrics = null;
 
     public CompositeInterceptor() {
         this(LoggerFactory.getLogger(CompositeInterceptor.class));
@@ -62,6 +89,121 @@ public class CompositeInterceptor implements Interceptor {
         return responseInterceptAction;
     }
 
+    /**
+     * @param bodyCapture - true to capture request/response bodies into {@link BodySnapshot}s (disabled by default)
+     * @return this
+     */
+    public CompositeInterceptor withBodyCapture(boolean bodyCapture) {
+        this.bodyCapture = bodyCapture;
+        return this;
+    }
+
+    /**
+     * @return true if request/response bodies are captured into {@link BodySnapshot}s
+     */
+    public boolean isBodyCapture() {
+        return bodyCapture;
+    }
+
+    /**
+     * @param route   - route pattern (see {@link RouteMatcher})
+     * @param actions - actions called for the matched requests only
+     * @return this
+     */
+    public CompositeInterceptor withRouteRequestInterceptActions(String route, RequestInterceptAction... actions) {
+        Utils.parameterRequireNonNull(route, ROUTE_PARAMETER);
+        Utils.parameterRequireNonNull(actions, ACTIONS_PARAMETER);
+        for (RequestInterceptAction action : actions) {
+            Utils.parameterRequireNonNull(action, ACTION_PARAMETER);
+            routeRequestInterceptActions.add(route, action);
+        }
+        logger.debug("Received a list of RequestInterceptAction for the route '{}': {}", route, actions);
+        return this;
+    }
+
+    /**
+     * @param route   - route pattern (see {@link RouteMatcher})
+     * @param actions - actions called for the matched responses (errors) only
+     * @return this
+     */
+    public CompositeInterceptor withRouteResponseInterceptActions(String route, ResponseInterceptAction... actions) {
+        Utils.parameterRequireNonNull(route, ROUTE_PARAMETER);
+        Utils.parameterRequireNonNull(actions, ACTIONS_PARAMETER);
+        for (ResponseInterceptAction action : actions) {
+            Utils.parameterRequireNonNull(action, ACTION_PARAMETER);
+            routeResponseInterceptActions.add(route, action);
+        }
+        logger.debug("Received a list of ResponseInterceptAction for the route '{}': {}", route, actions);
+        return this;
+    }
+
+    /**
+     * @param request - {@link Request}
+     * @return route request actions followed by the request actions chain
+     */
+    public List<RequestInterceptAction> getRequestInterceptActions(@Nonnull Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        if (routeRequestInterceptActions.isEmpty()) {
+            return getRequestInterceptActions();
+        }
+        final List<RequestInterceptAction> result = new ArrayList<>(
+                routeRequestInterceptActions.match(request.method(), request.url()));
+        result.addAll(getRequestInterceptActions());
+        return result;
+    }
+
+    /**
+     * @param request - {@link Request}
+     * @return response actions chain followed by the route response actions
+     */
+    public List<ResponseInterceptAction> getResponseInterceptActions(@Nonnull Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        if (routeResponseInterceptActions.isEmpty()) {
+            return getResponseInterceptAction();
+        }
+        final List<ResponseInterceptAction> result = new ArrayList<>(getResponseInterceptAction());
+        result.addAll(routeResponseInterceptActions.match(request.method(), request.url()));
+        return result;
+    }
+
+    /**
+     * Enables the actions timing (disabled by default).
+     *
+     * @param metrics - actions timing storage (null - disable timing)
+     * @return this
+     */
+    public CompositeInterceptor withMetrics(@Nullable InterceptorMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * @return actions timing storage or null if the timing is disabled
+     */
+    @Nullable
+    public InterceptorMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Enables the per-endpoint exchange metrics (disabled by default).
+     *
+     * @param endpointMetrics - endpoint metrics registry (null - disable metrics)
+     * @return this
+     */
+    public CompositeInterceptor withEndpointMetrics(@Nullable EndpointMetrics endpointMetrics) {
+        this.endpointMetrics = endpointMetrics;
+        return this;
+    }
+
+    /**
+     * @return endpoint metrics registry or null if the metrics are disabled
+     */
+    @Nullable
+    public EndpointMetrics getEndpointMetrics() {
+        return endpointMetrics;
+    }
+
     /**
      * The sequence of execution of {@link RequestInterceptAction} depends
      * on the sequence of passing them to the requestActionsChain
@@ -130,31 +272,154 @@ public class CompositeInterceptor implements Interceptor {
     @Override
     @Nonnull
     public Response intercept(@Nonnull Chain realChain) throws IOException {
+        final InterceptorMetrics metrics = this.metrics;
+        final long interceptStart = metrics == null ? 0 : System.nanoTime();
+        try {
+            return intercept(realChain, metrics);
+        } finally {
+            if (metrics != null) {
+                metrics.record(this, InterceptorMetrics.Phase.TOTAL, interceptStart);
+            }
+        }
+    }
+
+    @SuppressWarnings("java:S3776")
+    private Response intercept(final Chain realChain, @Nullable final InterceptorMetrics metrics) throws IOException {
+        final List<RequestInterceptAction> requestActions = getRequestInterceptActions(realChain.request());
+        final List<ResponseInterceptAction> responseActions = getResponseInterceptActions(realChain.request());
         Chain chain = realChain;
-        for (RequestInterceptAction action : getRequestInterceptActions()) {
+        for (RequestInterceptAction action : requestActions) {
             logger.trace("chainAction() call: {}", action);
+            final long start = metrics == null ? 0 : System.nanoTime();
+            final Object event = VesloEvents.beginInterceptAction();
             chain = action.chainAction(chain);
+            VesloEvents.commitInterceptAction(event, action, InterceptorMetrics.Phase.CHAIN.name(), chain.request());
+            if (metrics != null) {
+                metrics.record(action, InterceptorMetrics.Phase.CHAIN, start);
+            }
         }
+        final EndpointMetrics endpointMetrics = this.endpointMetrics;
+        final EndpointMetrics runMetrics = EndpointMetrics.getRunMetrics() == endpointMetrics ?
+                null : EndpointMetrics.getRunMetrics();
+        final boolean timed = metrics != null || endpointMetrics != null || runMetrics != null;
+        Request request = null;
+        long proceedStart = 0;
+        long proceedNanos = 0;
         Response response;
         try {
-            Request request = chain.request();
-            for (RequestInterceptAction action : getRequestInterceptActions()) {
+            request = chain.request();
+            if (bodyCapture) {
+                final long start = metrics == null ? 0 : System.nanoTime();
+                request = captureRequestBody(request);
+                if (metrics != null) {
+                    metrics.record(this, InterceptorMetrics.Phase.BODY_CAPTURE, start);
+                }
+            }
+            for (RequestInterceptAction action : requestActions) {
                 logger.trace("requestAction() call: {}", action);
+                final long start = metrics == null ? 0 : System.nanoTime();
+                final Object event = VesloEvents.beginInterceptAction();
                 request = action.requestAction(request);
+                VesloEvents.commitInterceptAction(event, action, InterceptorMetrics.Phase.REQUEST.name(), request);
+                if (metrics != null) {
+                    metrics.record(action, InterceptorMetrics.Phase.REQUEST, start);
+                }
             }
+            proceedStart = timed ? System.nanoTime() : 0;
             response = chain.proceed(request);
+            proceedNanos = timed ? System.nanoTime() - proceedStart : 0;
+            if (metrics != null) {
+                metrics.record(this, InterceptorMetrics.Phase.PROCEED, proceedStart);
+            }
         } catch (IOException | RuntimeException e) {
-            for (ResponseInterceptAction action : getResponseInterceptAction()) {
+            if (endpointMetrics != null && proceedStart != 0) {
+                endpointMetrics.recordError(request, proceedStart, System.nanoTime() - proceedStart);
+            }
+            if (runMetrics != null && proceedStart != 0) {
+                runMetrics.recordError(request, proceedStart, System.nanoTime() - proceedStart);
+            }
+            for (ResponseInterceptAction action : responseActions) {
                 logger.trace("errorAction() call: {}", action);
+                final long start = metrics == null ? 0 : System.nanoTime();
+                final Object event = VesloEvents.beginInterceptAction();
                 action.errorAction(e);
+                VesloEvents.commitInterceptAction(event, action, InterceptorMetrics.Phase.ERROR.name(), request);
+                if (metrics != null) {
+                    metrics.record(action, InterceptorMetrics.Phase.ERROR, start);
+                }
             }
             throw e;
         }
-        for (ResponseInterceptAction action : getResponseInterceptAction()) {
+        if (bodyCapture) {
+            final long start = metrics == null ? 0 : System.nanoTime();
+            response = captureResponseBody(response);
+            if (metrics != null) {
+                metrics.record(this, InterceptorMetrics.Phase.BODY_CAPTURE, start);
+            }
+        }
+        if (endpointMetrics != null) {
+            endpointMetrics.recordExchange(request, response, proceedStart, proceedNanos);
+        }
+        if (runMetrics != null) {
+            runMetrics.recordExchange(request, response, proceedStart, proceedNanos);
+        }
+        for (ResponseInterceptAction action : responseActions) {
             logger.trace("responseAction() call: {}", action);
+            final long start = metrics == null ? 0 : System.nanoTime();
+            final Object event = VesloEvents.beginInterceptAction();
             response = action.responseAction(response);
+            VesloEvents.commitInterceptAction(event, action, InterceptorMetrics.Phase.RESPONSE.name(), request);
+            if (metrics != null) {
+                metrics.record(action, InterceptorMetrics.Phase.RESPONSE, start);
+            }
         }
         return response;
     }
 
+    /**
+     * @param request - network request
+     * @return request with the {@link ExchangeSnapshot} tag and the snapshot body (if body is replayable)
+     * @throws IOException - request body writing errors
+     */
+    protected Request captureRequestBody(@Nonnull Request request) throws IOException {
+        if (ExchangeSnapshot.of(request) != null) {
+            return request;
+        }
+        final RequestBody body = request.body();
+        final Request.Builder builder = request.newBuilder();
+        BodySnapshot snapshot = null;
+        if (body != null && !body.isDuplex() && !body.isOneShot()) {
+            snapshot = BodySnapshot.of(body);
+            if (snapshot == null) {
+                snapshot = BodySnapshot.capture(body);
+                builder.method(request.method(), snapshot.requestBody(body.contentType(), body.contentLength()));
+            }
+        }
+        return builder.tag(ExchangeSnapshot.class, new ExchangeSnapshot(snapshot)).build();
+    }
+
+    /**
+     * The original response body is read to the end and closed.
+     *
+     * @param response - network response
+     * @return response with the snapshot body
+     * @throws IOException - response body reading errors
+     */
+    protected Response captureResponseBody(@Nonnull Response response) throws IOException {
+        final ExchangeSnapshot exchange = ExchangeSnapshot.of(response.request());
+        final ResponseBody body = response.body();
+        if (exchange == null || body == null || !HttpHeaders.hasBody(response) || BodySnapshot.of(body) != null) {
+            return response;
+        }
+        final BodySnapshot snapshot;
+        try (final ResponseBody original = body) {
+            snapshot = BodySnapshot.capture(original.source());
+        }
+        exchange.setResponseBody(snapshot);
+        return response.newBuilder()
+                // the captured size is known even for the chunked response (content length -1)
+                .body(snapshot.responseBody(body.contentType(), snapshot.size()))
+                .build();
+    }
+
 }
@@ -18,12 +18,15 @@ package veslo.client.inteceptor;
 
 import okhttp3.*;
 import retrofit2.internal.EverythingIsNonNull;
+import veslo.client.VesloContext;
 import veslo.util.Utils;
 
 import java.net.URL;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -54,6 +57,9 @@ import static veslo.constant.ParameterNameConstants.*;
  * *        .build()
  * *        .create(SomeClient.class);
  * <p>
+ * Cookies are stored in the {@link VesloContext} and are shared by the tasks
+ * executed via {@link veslo.util.VesloParallel}.
+ * <p>
  *
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
  * Created: 26.12.2021
@@ -66,9 +72,14 @@ public class CookieAction implements InterceptAction {
     public static final CookieAction INSTANCE = new CookieAction();
 
     /**
-     * ThreadLocal {@link Set} of {@link Cookie} cache
+     * {@link VesloContext} key of the {@link Cookie} cache (concurrent {@link Set})
      */
-    private static final ThreadLocal<Set<Cookie>> COOKIES = ThreadLocal.withInitial(HashSet::new);
+    private static final VesloContext.Key<Set<Cookie>> COOKIES = VesloContext.Key.of("cookies");
+
+    /**
+     * Makes the cookie replacement atomic (a lock instead of a monitor to avoid virtual thread pinning)
+     */
+    private static final Lock REPLACE_LOCK = new ReentrantLock();
 
     /**
      * Build {@link Request} with a cookie header if cached cookies
@@ -106,10 +117,7 @@ public class CookieAction implements InterceptAction {
      */
     @EverythingIsNonNull
     public static Set<Cookie> getCookie() {
-        if (COOKIES.get() == null) {
-            COOKIES.set(new HashSet<>());
-        }
-        return COOKIES.get();
+        return VesloContext.current().computeIfAbsent(COOKIES, ConcurrentHashMap::newKeySet);
     }
 
     /**
@@ -177,7 +185,7 @@ public class CookieAction implements InterceptAction {
     }
 
     /**
-     * Add {@link Cookie} to {@link ThreadLocal} set with replacement by name, domain and path
+     * Add {@link Cookie} to {@link VesloContext} set with replacement by name, domain and path
      *
      * @param cookies - {@link Cookie} list to add
      */
@@ -188,7 +196,7 @@ public class CookieAction implements InterceptAction {
     }
 
     /**
-     * Add {@link Cookie} to {@link ThreadLocal} set with/without replacement
+     * Add {@link Cookie} to {@link VesloContext} set with/without replacement
      *
      * @param cookies - {@link Cookie} list to add
      * @param replace - flag for replacement by name, domain and path
@@ -196,14 +204,20 @@ public class CookieAction implements InterceptAction {
     @EverythingIsNonNull
     public static void addCookie(final boolean replace, final Cookie... cookies) {
         Utils.parameterRequireNonNull(cookies, COOKIES_PARAMETER);
-        for (Cookie cookie : cookies) {
-            Utils.parameterRequireNonNull(cookie, COOKIE_PARAMETER);
-            if (replace) {
-                getCookie().removeIf(c -> c.domain().equals(cookie.domain())
-                        && c.path().equals(cookie.path())
-                        && c.name().equals(cookie.name()));
+        final Set<Cookie> cache = getCookie();
+        REPLACE_LOCK.lock();
+        try {
+            for (Cookie cookie : cookies) {
+                Utils.parameterRequireNonNull(cookie, COOKIE_PARAMETER);
+                if (replace) {
+                    cache.removeIf(c -> c.domain().equals(cookie.domain())
+                            && c.path().equals(cookie.path())
+                            && c.name().equals(cookie.name()));
+                }
+                cache.add(cookie);
             }
-            getCookie().add(cookie);
+        } finally {
+            REPLACE_LOCK.unlock();
         }
     }
 
@@ -281,7 +295,7 @@ public class CookieAction implements InterceptAction {
      * Clear all Cookies
      */
     public static void clearCookie() {
-        COOKIES.remove();
+        VesloContext.current().remove(COOKIES);
     }
 
     public static String toStringCookies() {
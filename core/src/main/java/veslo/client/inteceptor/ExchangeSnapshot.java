@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static veslo.constant.ParameterNameConstants.REQUEST_PARAMETER;
+import static veslo.constant.ParameterNameConstants.RESPONSE_PARAMETER;
+
+/**
+ * Request/response body snapshots of the HTTP exchange captured by the {@link CompositeInterceptor}
+ * (see {@link CompositeInterceptor#withBodyCapture(boolean)}).
+ * The exchange snapshot is attached to the network request as a tag and is available:
+ * - for intercept actions: {@link #of(Request)}, {@link #of(Response)};
+ * - for the application level (call adapters, {@link veslo.client.response.IDualResponse}): {@link #of(Response)}
+ * (the network response request is used).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class ExchangeSnapshot implements Closeable {
+
+    private final BodySnapshot requestBody;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile BodySnapshot responseBody;
+
+    /**
+     * @param requestBody - captured request body (nullable)
+     */
+    public ExchangeSnapshot(@Nullable final BodySnapshot requestBody) {
+        this.requestBody = requestBody;
+    }
+
+    /**
+     * @param request - {@link Request}
+     * @return exchange snapshot from the request tag or null
+     */
+    @Nullable
+    public static ExchangeSnapshot of(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        return request.tag(ExchangeSnapshot.class);
+    }
+
+    /**
+     * @param response - {@link Response} (network or application level)
+     * @return exchange snapshot or null
+     */
+    @Nullable
+    public static ExchangeSnapshot of(@Nonnull final Response response) {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        final ExchangeSnapshot snapshot = of(response.request());
+        if (snapshot != null) {
+            return snapshot;
+        }
+        final Response networkResponse = response.networkResponse();
+        return networkResponse == null ? null : of(networkResponse.request());
+    }
+
+    /**
+     * @return captured request body or null
+     */
+    @Nullable
+    public BodySnapshot getRequestBody() {
+        return requestBody;
+    }
+
+    /**
+     * @return captured response body or null (the response is not received yet or has no body)
+     */
+    @Nullable
+    public BodySnapshot getResponseBody() {
+        return responseBody;
+    }
+
+    /**
+     * @param responseBody - captured response body
+     */
+    void setResponseBody(@Nullable final BodySnapshot responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    /**
+     * Releases the exchange references to the body snapshots
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            if (requestBody != null) {
+                requestBody.release();
+            }
+            final BodySnapshot response = responseBody;
+            if (response != null) {
+                response.release();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeSnapshot{requestBody=" + requestBody + ", responseBody=" + responseBody + '}';
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.inteceptor;
+
+import veslo.util.LogHistogram;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static veslo.constant.ParameterNameConstants.METHODS_PARAMETER;
+
+/**
+ * Immutable hedged request policy:
+ * - if the response is not received within the hedge delay, a duplicate request is sent,
+ * the first received response is used, and the other call is cancelled;
+ * - the hedge delay is the observed latency percentile of the endpoint
+ * (bounded by the min/max delay; the initial delay is used until enough latencies are observed);
+ * - only idempotent methods are hedged (GET, HEAD by default).
+ * <p>
+ * Policy example:
+ * * HedgePolicy.percentile(95)
+ * *         .withDelayBounds(50, 5_000)
+ * *         .withInitialDelay(1_000, 20);
+ * <p>
+ * Per-endpoint and per-route policies are configured via {@link HedgingInterceptor}.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class HedgePolicy {
+
+    /**
+     * Requests are not hedged
+     */
+    public static final HedgePolicy DISABLED = new HedgePolicy(false, 95, 10, 10_000, 1_000, 20,
+            Collections.emptySet());
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+    private final long initialDelayMillis;
+    private final int minSamples;
+    private final Set<String> methods;
+
+    protected HedgePolicy(final boolean enabled,
+                          final double percentile,
+                          final long minDelayMillis,
+                          final long maxDelayMillis,
+                          final long initialDelayMillis,
+                          final int minSamples,
+                          final Set<String> methods) {
+        if (percentile <= 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("Percentile must be in the range (0, 100]. Actual: " + percentile);
+        }
+        if (minDelayMillis < 0 || maxDelayMillis < minDelayMillis) {
+            throw new IllegalArgumentException("Invalid hedge delay bounds: [" + minDelayMillis + ", " +
+                    maxDelayMillis + "]");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayMillis = minDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.initialDelayMillis = Math.max(0, initialDelayMillis);
+        this.minSamples = Math.max(0, minSamples);
+        this.methods = Collections.unmodifiableSet(methods);
+    }
+
+    /**
+     * @param percentile - observed latency percentile used as the hedge delay (0..100]
+     * @return policy hedging GET and HEAD requests
+     */
+    @Nonnull
+    public static HedgePolicy percentile(final double percentile) {
+        return new HedgePolicy(true, percentile, DISABLED.minDelayMillis, DISABLED.maxDelayMillis,
+                DISABLED.initialDelayMillis, DISABLED.minSamples, new HashSet<>(Arrays.asList("GET", "HEAD")));
+    }
+
+    /**
+     * @param minDelayMillis - minimum hedge delay
+     * @param maxDelayMillis - maximum hedge delay
+     * @return new policy with the specified values
+     */
+    @Nonnull
+    public HedgePolicy withDelayBounds(final long minDelayMillis, final long maxDelayMillis) {
+        return new HedgePolicy(enabled, percentile, minDelayMillis, maxDelayMillis, initialDelayMillis, minSamples,
+                methods);
+    }
+
+    /**
+     * @param initialDelayMillis - hedge delay until the minimum number of latencies is observed
+     * @param minSamples         - minimum number of observed latencies for the percentile based delay
+     * @return new policy with the specified values
+     */
+    @Nonnull
+    public HedgePolicy withInitialDelay(final long initialDelayMillis, final int minSamples) {
+        return new HedgePolicy(enabled, percentile, minDelayMillis, maxDelayMillis, initialDelayMillis, minSamples,
+                methods);
+    }
+
+    /**
+     * @param methods - hedged HTTP methods (must be idempotent)
+     * @return new policy with the specified values
+     */
+    @Nonnull
+    public HedgePolicy withMethods(@Nonnull final String... methods) {
+        Utils.parameterRequireNonNull(methods, METHODS_PARAMETER);
+        final Set<String> set = Arrays.stream(methods)
+                .map(m -> m.toUpperCase(Locale.ENGLISH))
+                .collect(Collectors.toSet());
+        return new HedgePolicy(enabled, percentile, minDelayMillis, maxDelayMillis, initialDelayMillis, minSamples,
+                set);
+    }
+
+    /**
+     * @param method - HTTP method
+     * @return true if the request with the method should be hedged
+     */
+    public boolean isHedged(@Nonnull final String method) {
+        return enabled && methods.contains(method.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * @param latencies - observed endpoint latencies (nanoseconds)
+     * @return hedge delay in milliseconds
+     */
+    public long getHedgeDelayMillis(@Nonnull final LogHistogram latencies) {
+        if (latencies.getCount() < minSamples) {
+            return Math.min(maxDelayMillis, Math.max(minDelayMillis, initialDelayMillis));
+        }
+        final long observed = TimeUnit.NANOSECONDS.toMillis(latencies.getPercentile(percentile));
+        return Math.min(maxDelayMillis, Math.max(minDelayMillis, observed));
+    }
+
+    /**
+     * @return true if the requests are hedged
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return observed latency percentile used as the hedge delay
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * @return minimum hedge delay in milliseconds
+     */
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    /**
+     * @return maximum hedge delay in milliseconds
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * @return hedge delay until the minimum number of latencies is observed
+     */
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    /**
+     * @return minimum number of observed latencies for the percentile based delay
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * @return hedged HTTP methods
+     */
+    @Nonnull
+    public Set<String> getMethods() {
+        return methods;
+    }
+
+    @Override
+    public String toString() {
+        if (!enabled) {
+            return "HedgePolicy{disabled}";
+        }
+        return String.format(Locale.ENGLISH, "HedgePolicy{p%.1f, delay=[%d, %d]ms, initial=%dms/%d samples, " +
+                "methods=%s}", percentile, minDelayMillis, maxDelayMillis, initialDelayMillis, minSamples, methods);
+    }
+
+}
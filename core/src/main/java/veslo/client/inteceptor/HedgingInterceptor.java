@@ -0,0 +1,567 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.inteceptor;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Timeout;
+import retrofit2.Invocation;
+import veslo.client.EndpointInfo;
+import veslo.util.LogHistogram;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Application interceptor sending hedged requests for idempotent calls ({@link HedgePolicy}).
+ * The original call is executed as a clone, if the response is not received within the hedge delay,
+ * the second clone is executed in parallel, the first received response is returned
+ * and the other call is cancelled (its late response is closed).
+ * Hedged requests are limited by the {@link RetryBudget}, so the hedging can not overload the service.
+ * <p>
+ * Must be added as the first application interceptor (cloned calls pass through the whole chain):
+ * * HedgingInterceptor hedging = new HedgingInterceptor()
+ * *         .withDefaultPolicy(HedgePolicy.percentile(95))
+ * *         .withEndpointPolicy("Get pet", HedgePolicy.percentile(90).withDelayBounds(20, 500))
+ * *         .withRoutePolicy("GET /v2/store/**", HedgePolicy.DISABLED)
+ * *         .withRetryBudget(RetryBudget.of(0.1, 1, 10));
+ * * OkHttpClient client = new OkHttpClient.Builder().addInterceptor(hedging).build();
+ * <p>
+ * Policy lookup order: {@link EndpointInfo} value or "METHOD /path" endpoint policy, route policy
+ * ({@link RouteMatcher} pattern), default policy. Latencies are collected per endpoint:
+ * the winner latencies ({@link #getLatencies(String)}, the hedge delay source) and the loser elapsed times
+ * at the cancellation ({@link #getCensoredLatencies(String)}, the lower bound of the loser latency),
+ * so slow responses are not hidden by the hedging and do not inflate the hedge delay.
+ * <p>
+ * The primary and hedged calls are cancelled when the original call completes (the loser)
+ * or is cancelled. OkHttp does not notify interceptors about the cancellation, so the original call
+ * cancellation is propagated only for the calls created by the {@link #callFactory(Call.Factory)}:
+ * * new Retrofit.Builder().callFactory(hedging.callFactory(client))...
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class HedgingInterceptor implements Interceptor, Closeable {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final Map<String, HedgePolicy> endpointPolicies = new ConcurrentHashMap<>();
+    private final RouteMatcher<RoutePolicy> routePolicies = new RouteMatcher<>();
+    private final Map<String, LogHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LogHistogram> censoredLatencies = new ConcurrentHashMap<>();
+    private final Map<Call, Race> races = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Set<Call> attempts = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private final LongAdder hedgeCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+    private final LongAdder budgetRejectedCount = new LongAdder();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(daemon("timer"));
+    private final ExecutorService executor = Executors.newCachedThreadPool(daemon("call"));
+    private volatile HedgePolicy defaultPolicy = HedgePolicy.DISABLED;
+    private volatile RetryBudget retryBudget = RetryBudget.of(0.1, 1, 10);
+
+    /**
+     * @param policy - policy for endpoints without own policy
+     * @return this
+     */
+    public HedgingInterceptor withDefaultPolicy(@Nonnull final HedgePolicy policy) {
+        Utils.parameterRequireNonNull(policy, POLICY_PARAMETER);
+        this.defaultPolicy = policy;
+        return this;
+    }
+
+    /**
+     * @param endpoint - {@link EndpointInfo} value or HTTP method with URL path ("GET /v2/pet/1")
+     * @param policy   - endpoint policy
+     * @return this
+     */
+    public HedgingInterceptor withEndpointPolicy(@Nonnull final String endpoint, @Nonnull final HedgePolicy policy) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        Utils.parameterRequireNonNull(policy, POLICY_PARAMETER);
+        endpointPolicies.put(endpoint, policy);
+        return this;
+    }
+
+    /**
+     * @param route  - {@link RouteMatcher} route pattern ("GET /v2/pet/{petId}")
+     * @param policy - route policy
+     * @return this
+     */
+    public HedgingInterceptor withRoutePolicy(@Nonnull final String route, @Nonnull final HedgePolicy policy) {
+        Utils.parameterRequireNonNull(route, ROUTE_PARAMETER);
+        Utils.parameterRequireNonNull(policy, POLICY_PARAMETER);
+        routePolicies.add(route, new RoutePolicy(route, policy));
+        return this;
+    }
+
+    /**
+     * @param budget - hedged requests budget (shared by all endpoints)
+     * @return this
+     */
+    public HedgingInterceptor withRetryBudget(@Nonnull final RetryBudget budget) {
+        Utils.parameterRequireNonNull(budget, BUDGET_PARAMETER);
+        this.retryBudget = budget;
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public Response intercept(@Nonnull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        if (attempts.contains(chain.call())) {
+            return chain.proceed(request);
+        }
+        final String endpoint = getEndpoint(request);
+        final HedgePolicy policy = getPolicy(request, endpoint);
+        if (!policy.isHedged(request.method()) || request.body() != null && request.body().isOneShot()) {
+            return chain.proceed(request);
+        }
+        final String key = getLatencyKey(request, endpoint);
+        final LogHistogram histogram = latencies.computeIfAbsent(key, k -> new LogHistogram());
+        final LogHistogram censored = censoredLatencies.computeIfAbsent(key, k -> new LogHistogram());
+        final RetryBudget budget = retryBudget;
+        budget.deposit();
+        final Call original = chain.call();
+        final Race race = new Race(original.clone(), histogram, censored);
+        races.put(original, race);
+        if (original.isCanceled()) {
+            // cancelled before the registration
+            race.cancelAll();
+        }
+        final long delay = policy.getHedgeDelayMillis(histogram);
+        final ScheduledFuture<?> hedgeTask = scheduler
+                .schedule(() -> startHedge(original, race, budget), delay, TimeUnit.MILLISECONDS);
+        attempts.add(race.primary);
+        try {
+            try {
+                final Response response = race.primary.execute();
+                if (race.offer(race.primary, response)) {
+                    hedgeTask.cancel(false);
+                    race.cancelLoser();
+                    return response;
+                }
+                // the hedged call has already won
+                response.close();
+            } catch (IOException e) {
+                race.fail(race.primary, e);
+            } finally {
+                attempts.remove(race.primary);
+            }
+            hedgeTask.cancel(false);
+            return race.await();
+        } finally {
+            races.remove(original);
+        }
+    }
+
+    /**
+     * @param client - calls factory ({@link okhttp3.OkHttpClient} with this interceptor)
+     * @return calls factory propagating the call cancellation to the primary and hedged calls
+     */
+    @Nonnull
+    public Call.Factory callFactory(@Nonnull final Call.Factory client) {
+        Utils.parameterRequireNonNull(client, CLIENT_PARAMETER);
+        return request -> new CancellableCall(client.newCall(request));
+    }
+
+    private void startHedge(final Call original, final Race race, final RetryBudget budget) {
+        if (original.isCanceled() || race.isCompleted()) {
+            return;
+        }
+        if (!budget.tryWithdraw()) {
+            budgetRejectedCount.increment();
+            return;
+        }
+        final Call hedge = original.clone();
+        attempts.add(hedge);
+        if (!race.startHedge(hedge)) {
+            attempts.remove(hedge);
+            return;
+        }
+        hedgeCount.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    final Response response = hedge.execute();
+                    if (race.offer(hedge, response)) {
+                        hedgeWinCount.increment();
+                        race.cancelLoser();
+                    } else {
+                        response.close();
+                    }
+                } catch (IOException e) {
+                    race.fail(hedge, e);
+                } finally {
+                    attempts.remove(hedge);
+                }
+            });
+        } catch (RuntimeException e) {
+            attempts.remove(hedge);
+            race.fail(hedge, new IOException("Unable to execute hedged request", e));
+        }
+    }
+
+    /**
+     * @param request - {@link Request}
+     * @return request policy
+     */
+    @Nonnull
+    public HedgePolicy getPolicy(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        return getPolicy(request, getEndpoint(request));
+    }
+
+    private HedgePolicy getPolicy(final Request request, final String endpoint) {
+        final HedgePolicy endpointPolicy = endpointPolicies.get(endpoint);
+        if (endpointPolicy != null) {
+            return endpointPolicy;
+        }
+        final List<RoutePolicy> routes = routePolicies.match(request.method(), request.url());
+        return routes.isEmpty() ? defaultPolicy : routes.get(0).policy;
+    }
+
+    /**
+     * @param endpoint - {@link EndpointInfo} value, route pattern, API method ("PetApi#getPet")
+     *                 or HTTP method with URL path ("GET /v2/pet/1")
+     * @return observed endpoint latencies (nanoseconds) or null if the endpoint was not called
+     */
+    @Nullable
+    public LogHistogram getLatencies(@Nonnull final String endpoint) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        return latencies.get(endpoint);
+    }
+
+    /**
+     * @param endpoint - {@link EndpointInfo} value, route pattern, API method ("PetApi#getPet")
+     *                 or HTTP method with URL path ("GET /v2/pet/1")
+     * @return elapsed time (nanoseconds) of the cancelled loser calls or null if the endpoint was not called
+     */
+    @Nullable
+    public LogHistogram getCensoredLatencies(@Nonnull final String endpoint) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        return censoredLatencies.get(endpoint);
+    }
+
+    /**
+     * @return number of sent hedged requests
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    /**
+     * @return number of hedged requests received before the original request
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    /**
+     * @return number of hedged requests rejected by the retry budget
+     */
+    public long getBudgetRejectedCount() {
+        return budgetRejectedCount.sum();
+    }
+
+    /**
+     * @return hedged requests budget
+     */
+    @Nonnull
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Stops the hedged requests threads
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private String getLatencyKey(final Request request, final String endpoint) {
+        if (endpointPolicies.containsKey(endpoint)) {
+            return endpoint;
+        }
+        final List<RoutePolicy> routes = routePolicies.match(request.method(), request.url());
+        if (!routes.isEmpty()) {
+            return routes.get(0).route;
+        }
+        final Invocation invocation = request.tag(Invocation.class);
+        if (invocation != null) {
+            return invocation.method().getDeclaringClass().getSimpleName() + "#" + invocation.method().getName();
+        }
+        return endpoint;
+    }
+
+    private static String getEndpoint(final Request request) {
+        final String endpointInfo = BodyLogPolicies.getEndpointInfo(request);
+        return endpointInfo != null ? endpointInfo : request.method() + " " + request.url().encodedPath();
+    }
+
+    private static ThreadFactory daemon(final String name) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "veslo-hedge-" + name + "-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Call cancelling the race of the hedged call
+     */
+    private final class CancellableCall implements Call {
+
+        private final Call delegate;
+
+        private CancellableCall(final Call delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @Nonnull
+        public Request request() {
+            return delegate.request();
+        }
+
+        @Override
+        @Nonnull
+        public Response execute() throws IOException {
+            return delegate.execute();
+        }
+
+        @Override
+        public void enqueue(@Nonnull final Callback callback) {
+            delegate.enqueue(callback);
+        }
+
+        @Override
+        public void cancel() {
+            delegate.cancel();
+            final Race race = races.get(delegate);
+            if (race != null) {
+                race.cancelAll();
+            }
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return delegate.isExecuted();
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return delegate.isCanceled();
+        }
+
+        @Override
+        @Nonnull
+        public Timeout timeout() {
+            return delegate.timeout();
+        }
+
+        @Override
+        @Nonnull
+        @SuppressWarnings("MethodDoesntCallSuperMethod")
+        public Call clone() {
+            return new CancellableCall(delegate.clone());
+        }
+
+    }
+
+    private static final class RoutePolicy {
+
+        private final String route;
+        private final HedgePolicy policy;
+
+        private RoutePolicy(final String route, final HedgePolicy policy) {
+            this.route = route;
+            this.policy = policy;
+        }
+
+    }
+
+    /**
+     * Primary and hedged calls race (the first response wins)
+     */
+    private static final class Race {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition done = lock.newCondition();
+        private final Call primary;
+        private final LogHistogram histogram;
+        private final LogHistogram censored;
+        private final long primaryStart = System.nanoTime();
+        private long hedgeStart;
+        private Call hedge;
+        private Call winner;
+        private Response response;
+        private IOException primaryError;
+        private IOException hedgeError;
+        private boolean closed;
+
+        private Race(final Call primary, final LogHistogram histogram, final LogHistogram censored) {
+            this.primary = primary;
+            this.histogram = histogram;
+            this.censored = censored;
+        }
+
+        private boolean startHedge(final Call call) {
+            lock.lock();
+            try {
+                if (closed || winner != null || primaryError != null) {
+                    return false;
+                }
+                hedge = call;
+                hedgeStart = System.nanoTime();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean offer(final Call call, final Response candidate) {
+            lock.lock();
+            try {
+                if (winner != null || closed) {
+                    return false;
+                }
+                winner = call;
+                response = candidate;
+                histogram.record(elapsed(call));
+                done.signalAll();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void fail(final Call call, final IOException error) {
+            lock.lock();
+            try {
+                if (call == primary) {
+                    primaryError = error;
+                } else {
+                    hedgeError = error;
+                }
+                done.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isCompleted() {
+            lock.lock();
+            try {
+                return winner != null || closed || primaryError != null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Cancels the loser call and records its elapsed time (censored latency) if it is still in flight
+         */
+        private void cancelLoser() {
+            final Call loser;
+            lock.lock();
+            try {
+                loser = winner == primary ? hedge : primary;
+                if (loser != null && (loser == primary ? primaryError : hedgeError) == null) {
+                    censored.record(elapsed(loser));
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (loser != null) {
+                loser.cancel();
+            }
+        }
+
+        /**
+         * Cancels the primary and hedged calls (the original call is cancelled)
+         */
+        private void cancelAll() {
+            final Call hedged;
+            lock.lock();
+            try {
+                closed = true;
+                hedged = hedge;
+            } finally {
+                lock.unlock();
+            }
+            primary.cancel();
+            if (hedged != null) {
+                hedged.cancel();
+            }
+        }
+
+        private long elapsed(final Call call) {
+            return System.nanoTime() - (call == primary ? primaryStart : hedgeStart);
+        }
+
+        /**
+         * Waits for the hedged call after the primary call failure or loss
+         */
+        private Response await() throws IOException {
+            lock.lock();
+            try {
+                while (winner == null && hedge != null && hedgeError == null) {
+                    done.awaitUninterruptibly();
+                }
+                closed = true;
+                if (winner != null) {
+                    return response;
+                }
+                if (primaryError == null && hedgeError == null) {
+                    throw new IOException("Canceled");
+                }
+                if (primaryError != null && hedgeError != null) {
+                    primaryError.addSuppressed(hedgeError);
+                }
+                throw primaryError != null ? primaryError : hedgeError;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
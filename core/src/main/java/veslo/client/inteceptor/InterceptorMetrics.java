@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import org.slf4j.Logger;
+import veslo.util.LogHistogram;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Timing of the {@link CompositeInterceptor} actions in nanoseconds.
+ * Every action class has a {@link LogHistogram} for each {@link Phase} it participates in.
+ * Interceptor own phases (body capture, network call, whole interception) are recorded
+ * for the {@link CompositeInterceptor} class.
+ * <p>
+ * Usage:
+ * * InterceptorMetrics metrics = new InterceptorMetrics();
+ * * new CompositeInterceptor().withMetrics(metrics);
+ * * ...
+ * * metrics.getHistogram(LoggingAction.class, Phase.RESPONSE).getPercentile(99);
+ * * metrics.scheduleDump(logger, 1, TimeUnit.MINUTES);
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class InterceptorMetrics implements Closeable {
+
+    private final Map<Class<?>, Map<Phase, LogHistogram>> histograms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param action     - timed object (action or interceptor)
+     * @param phase      - interception phase
+     * @param startNanos - {@link System#nanoTime()} at the beginning of the phase
+     */
+    public void record(@Nonnull final Object action, @Nonnull final Phase phase, final long startNanos) {
+        histogram(action.getClass(), phase).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @param actionClass - action class
+     * @param phase       - interception phase
+     * @return histogram or null if nothing is recorded
+     */
+    @Nullable
+    public LogHistogram getHistogram(@Nonnull final Class<?> actionClass, @Nonnull final Phase phase) {
+        Utils.parameterRequireNonNull(actionClass, ACTION_CLASS_PARAMETER);
+        Utils.parameterRequireNonNull(phase, PHASE_PARAMETER);
+        final Map<Phase, LogHistogram> phases = histograms.get(actionClass);
+        return phases == null ? null : phases.get(phase);
+    }
+
+    /**
+     * @return unmodifiable view of recorded histograms by action class and phase
+     */
+    @Nonnull
+    public Map<Class<?>, Map<Phase, LogHistogram>> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Removes all recorded values
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * @return timing table in microseconds
+     */
+    @Nonnull
+    public String dump() {
+        final StringJoiner result = new StringJoiner("\n", "Intercept actions timing (µs):\n", "");
+        final List<Class<?>> classes = new ArrayList<>(histograms.keySet());
+        classes.sort(Comparator.comparing(Class::getName));
+        for (Class<?> actionClass : classes) {
+            final Map<Phase, LogHistogram> phases = histograms.get(actionClass);
+            for (Phase phase : Phase.values()) {
+                final LogHistogram h = phases.get(phase);
+                if (h == null) {
+                    continue;
+                }
+                result.add(String.format(Locale.ROOT,
+                        "%s %s: count=%d mean=%.1f p50=%.1f p90=%.1f p99=%.1f max=%.1f",
+                        actionClass.getName(), phase, h.getCount(), h.getMean() / 1000,
+                        h.getPercentile(50) / 1000D, h.getPercentile(90) / 1000D,
+                        h.getPercentile(99) / 1000D, h.getMax() / 1000D));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Periodically writes {@link #dump()} to the logger with the INFO level (daemon thread)
+     *
+     * @param logger - Slf4J logger
+     * @param period - dump period
+     * @param unit   - period {@link TimeUnit}
+     * @return scheduled dump task (can be cancelled)
+     */
+    @Nonnull
+    public synchronized ScheduledFuture<?> scheduleDump(@Nonnull final Logger logger,
+                                                        final long period,
+                                                        @Nonnull final TimeUnit unit) {
+        Utils.parameterRequireNonNull(logger, LOGGER_PARAMETER);
+        Utils.parameterRequireNonNull(unit, TIME_UNIT_PARAMETER);
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "veslo-interceptor-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler.scheduleAtFixedRate(() -> {
+            if (!histograms.isEmpty()) {
+                logger.info(dump());
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Stops the periodic dump
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private LogHistogram histogram(final Class<?> actionClass, final Phase phase) {
+        Map<Phase, LogHistogram> phases = histograms.get(actionClass);
+        if (phases == null) {
+            phases = histograms.computeIfAbsent(actionClass, c -> new ConcurrentHashMap<>());
+        }
+        LogHistogram histogram = phases.get(phase);
+        if (histogram == null) {
+            histogram = phases.computeIfAbsent(phase, p -> new LogHistogram());
+        }
+        return histogram;
+    }
+
+    /**
+     * Interception phases
+     */
+    public enum Phase {
+        /**
+         * {@link RequestInterceptAction#chainAction(okhttp3.Interceptor.Chain)}
+         */
+        CHAIN,
+        /**
+         * {@link RequestInterceptAction#requestAction(okhttp3.Request)}
+         */
+        REQUEST,
+        /**
+         * {@link ResponseInterceptAction#responseAction(okhttp3.Response)}
+         */
+        RESPONSE,
+        /**
+         * {@link ResponseInterceptAction#errorAction(Throwable)}
+         */
+        ERROR,
+        /**
+         * Request/response bodies capturing ({@link CompositeInterceptor} only)
+         */
+        BODY_CAPTURE,
+        /**
+         * Network call ({@link CompositeInterceptor} only)
+         */
+        PROCEED,
+        /**
+         * Whole interception including actions and network call ({@link CompositeInterceptor} only)
+         */
+        TOTAL,
+    }
+
+}
@@ -21,29 +21,54 @@ import okhttp3.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import veslo.util.OkhttpUtils;
+import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 
+import static veslo.constant.ParameterNameConstants.BODY_LOG_POLICIES_PARAMETER;
+
+/**
+ * Logs requests/responses with the INFO level.
+ * Request/response formatting is skipped if the INFO level is disabled for the logger.
+ * <p>
+ * Body logging can be limited per endpoint via {@link BodyLogPolicies}
+ * (head/tail bytes, sampling rate, omitted content types).
+ * <p>
+ * For the asynchronous logging see {@link AsyncLoggingAction}
+ */
 public class LoggingAction implements InterceptAction {
 
     public static final LoggingAction INSTANCE = new LoggingAction();
 
     private final Logger logger;
+    private final BodyLogPolicies bodyLogPolicies;
 
     public LoggingAction() {
         this(LoggerFactory.getLogger(LoggingAction.class));
     }
 
     public LoggingAction(Logger logger) {
+        this(logger, BodyLogPolicies.UNLIMITED);
+    }
+
+    public LoggingAction(Logger logger, BodyLogPolicies bodyLogPolicies) {
+        Utils.parameterRequireNonNull(bodyLogPolicies, BODY_LOG_POLICIES_PARAMETER);
         this.logger = logger;
+        this.bodyLogPolicies = bodyLogPolicies;
     }
 
     @Override
     @Nonnull
     public Request requestAction(@Nonnull Request request) throws IOException {
-        String requestLogMsg = OkhttpUtils.requestToString(request);
-        logger.info(requestLogMsg);
+        if (logger.isInfoEnabled()) {
+            final Request sampled = bodyLogPolicies.sample(request);
+            if (bodyLogPolicies.isSampled(sampled)) {
+                String requestLogMsg = OkhttpUtils.requestToString(sampled, bodyLogPolicies.getPolicy(sampled));
+                logger.info(requestLogMsg);
+            }
+            return sampled;
+        }
         return request;
     }
 
@@ -69,9 +94,25 @@ public class LoggingAction implements InterceptAction {
     @Override
     @Nonnull
     public Response responseAction(@Nonnull Response response) throws IOException {
-        String responseLogMsg = OkhttpUtils.responseToString(response);
-        logger.info(responseLogMsg);
+        final Request request = response.request();
+        if (logger.isInfoEnabled() && bodyLogPolicies.isSampled(request)) {
+            return OkhttpUtils.formatResponse(response, bodyLogPolicies.getPolicy(request), logger::info);
+        }
         return response;
     }
 
+    /**
+     * @return Slf4J logger
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * @return per-endpoint body logging policies
+     */
+    public BodyLogPolicies getBodyLogPolicies() {
+        return bodyLogPolicies;
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.inteceptor;
+
+import javax.annotation.Nonnull;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the share of additional (hedged or retried) requests:
+ * each original request deposits {@code ratio} tokens, the bucket is also refilled with
+ * {@code minPerSecond} tokens per second (for low traffic), each additional request withdraws one token.
+ * The bucket capacity bounds the burst of additional requests.
+ * <p>
+ * For example, {@code RetryBudget.of(0.1, 1, 10)} allows at most ~10% of additional requests
+ * plus one per second, but no more than 10 in a row.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double capacity;
+    private final LongSupplier ticker;
+    private double tokens;
+    private long lastRefillNanos;
+
+    RetryBudget(final double ratio, final double minPerSecond, final double capacity, final LongSupplier ticker) {
+        if (ratio < 0 || minPerSecond < 0 || capacity < 1 || Double.isNaN(ratio) || Double.isNaN(minPerSecond)) {
+            throw new IllegalArgumentException(String.format(Locale.ENGLISH, "Invalid retry budget: " +
+                    "ratio=%s minPerSecond=%s capacity=%s", ratio, minPerSecond, capacity));
+        }
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.capacity = capacity;
+        this.ticker = ticker;
+        this.tokens = Math.min(capacity, minPerSecond);
+        this.lastRefillNanos = ticker.getAsLong();
+    }
+
+    /**
+     * @param ratio        - tokens deposited by each original request
+     * @param minPerSecond - tokens deposited per second
+     * @param capacity     - maximum number of tokens (at least 1)
+     * @return new retry budget
+     */
+    @Nonnull
+    public static RetryBudget of(final double ratio, final double minPerSecond, final double capacity) {
+        return new RetryBudget(ratio, minPerSecond, capacity, System::nanoTime);
+    }
+
+    /**
+     * Deposit tokens for the original request
+     */
+    public synchronized void deposit() {
+        refill();
+        tokens = Math.min(capacity, tokens + ratio);
+    }
+
+    /**
+     * @return true if the additional request is allowed (one token is withdrawn)
+     */
+    public synchronized boolean tryWithdraw() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return available tokens
+     */
+    public synchronized double getTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        final long now = ticker.getAsLong();
+        final double seconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        lastRefillNanos = now;
+        if (seconds > 0) {
+            tokens = Math.min(capacity, tokens + seconds * minPerSecond);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ENGLISH, "RetryBudget{ratio=%s, minPerSecond=%s, capacity=%s, tokens=%.2f}",
+                ratio, minPerSecond, capacity, getTokens());
+    }
+
+}
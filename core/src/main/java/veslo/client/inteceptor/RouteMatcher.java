@@ -0,0 +1,230 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.HttpUrl;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Compiled set of route patterns. Patterns are stored in a trie by host, HTTP method and path segments,
+ * so the lookup takes O(path segments) regardless of the number of registered routes.
+ * <p>
+ * Route pattern format: "[METHOD] [host]/path"
+ * - METHOD: HTTP method or "*" (any method if omitted);
+ * - host: host name, "*.example.com" (any subdomain) or "*" (any host if omitted);
+ * - path: "/" separated segments, where "*" or "{name}" matches any single segment,
+ * "**" (last segment only) matches any number of trailing segments.
+ * <p>
+ * Examples:
+ * * "GET petstore.swagger.io/v2/pet/{petId}"
+ * * "POST /v2/user/**"
+ * * "*.example.com/**"
+ * <p>
+ * Values are returned in the registration order.
+ * <p>
+ *
+ * @param <T> - route value type
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class RouteMatcher<T> {
+
+    private static final String ANY = "*";
+    private static final String ANY_TAIL = "**";
+
+    private final Map<String, HostNode<T>> exactHosts = new ConcurrentHashMap<>();
+    private final Map<String, HostNode<T>> subdomainHosts = new ConcurrentHashMap<>();
+    private final HostNode<T> anyHost = new HostNode<>();
+    private final AtomicInteger order = new AtomicInteger();
+    private volatile boolean empty = true;
+
+    /**
+     * @param route - route pattern
+     * @param value - route value
+     * @return this
+     * @throws IllegalArgumentException if the route pattern is invalid
+     */
+    public RouteMatcher<T> add(@Nonnull final String route, @Nonnull final T value) {
+        Utils.parameterRequireNonNull(route, ROUTE_PARAMETER);
+        Utils.parameterRequireNonNull(value, VALUE_PARAMETER);
+        final String[] parts = route.trim().split("\\s+");
+        if (parts.length > 2 || parts[0].isEmpty()) {
+            throw new IllegalArgumentException("Invalid route pattern: '" + route + "'");
+        }
+        final String method = parts.length == 2 ? parts[0].toUpperCase(Locale.ROOT) : ANY;
+        final String location = parts.length == 2 ? parts[1] : parts[0];
+        final int pathStart = location.indexOf('/');
+        final String host = (pathStart < 0 ? location : location.substring(0, pathStart)).toLowerCase(Locale.ROOT);
+        final String path = pathStart < 0 ? "" : location.substring(pathStart);
+        final HostNode<T> hostNode;
+        if (host.isEmpty() || host.equals(ANY)) {
+            hostNode = anyHost;
+        } else if (host.startsWith("*.")) {
+            hostNode = subdomainHosts.computeIfAbsent(host.substring(1), h -> new HostNode<>());
+        } else {
+            hostNode = exactHosts.computeIfAbsent(host, h -> new HostNode<>());
+        }
+        PathNode<T> node = hostNode.methods.computeIfAbsent(method, m -> new PathNode<>());
+        final List<String> segments = segments(path);
+        for (int i = 0; i < segments.size(); i++) {
+            final String segment = segments.get(i);
+            if (segment.equals(ANY_TAIL)) {
+                if (i != segments.size() - 1) {
+                    throw new IllegalArgumentException("'**' is allowed as the last path segment only: '" + route + "'");
+                }
+                node.tail.add(new Entry<>(order.getAndIncrement(), value));
+                empty = false;
+                return this;
+            }
+            if (segment.equals(ANY) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                node = node.wildcard();
+            } else {
+                node = node.children.computeIfAbsent(segment, s -> new PathNode<>());
+            }
+        }
+        node.terminal.add(new Entry<>(order.getAndIncrement(), value));
+        empty = false;
+        return this;
+    }
+
+    /**
+     * @param method - HTTP method
+     * @param url    - request URL
+     * @return values of the matched routes in the registration order
+     */
+    @Nonnull
+    public List<T> match(@Nonnull final String method, @Nonnull final HttpUrl url) {
+        Utils.parameterRequireNonNull(method, METHOD_PARAMETER);
+        Utils.parameterRequireNonNull(url, URL_PARAMETER);
+        if (empty) {
+            return Collections.emptyList();
+        }
+        final List<Entry<T>> matched = new ArrayList<>();
+        final List<String> segments = url.pathSegments();
+        final String host = url.host().toLowerCase(Locale.ROOT);
+        match(exactHosts.get(host), method, segments, matched);
+        if (!subdomainHosts.isEmpty()) {
+            for (int dot = host.indexOf('.'); dot >= 0; dot = host.indexOf('.', dot + 1)) {
+                match(subdomainHosts.get(host.substring(dot)), method, segments, matched);
+            }
+        }
+        match(anyHost, method, segments, matched);
+        if (matched.isEmpty()) {
+            return Collections.emptyList();
+        }
+        matched.sort(Comparator.comparingInt(e -> e.order));
+        final List<T> result = new ArrayList<>(matched.size());
+        for (Entry<T> entry : matched) {
+            if (!result.contains(entry.value)) {
+                result.add(entry.value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return true if no routes are registered
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    private static <T> void match(final HostNode<T> hostNode,
+                                  final String method,
+                                  final List<String> segments,
+                                  final List<Entry<T>> matched) {
+        if (hostNode == null) {
+            return;
+        }
+        match(hostNode.methods.get(method), segments, 0, matched);
+        match(hostNode.methods.get(ANY), segments, 0, matched);
+    }
+
+    private static <T> void match(final PathNode<T> node,
+                                  final List<String> segments,
+                                  final int index,
+                                  final List<Entry<T>> matched) {
+        if (node == null) {
+            return;
+        }
+        matched.addAll(node.tail);
+        // trailing slash ("/v2/pet/") produces the last empty segment
+        if (index == segments.size() || (index == segments.size() - 1 && segments.get(index).isEmpty())) {
+            matched.addAll(node.terminal);
+            return;
+        }
+        final String segment = segments.get(index);
+        match(node.children.get(segment), segments, index + 1, matched);
+        match(node.wildcard, segments, index + 1, matched);
+    }
+
+    private static List<String> segments(final String path) {
+        final List<String> result = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                result.add(segment);
+            }
+        }
+        return result;
+    }
+
+    private static final class HostNode<T> {
+        private final Map<String, PathNode<T>> methods = new ConcurrentHashMap<>();
+    }
+
+    private static final class PathNode<T> {
+
+        private final Map<String, PathNode<T>> children = new ConcurrentHashMap<>();
+        private final List<Entry<T>> terminal = new CopyOnWriteArrayList<>();
+        private final List<Entry<T>> tail = new CopyOnWriteArrayList<>();
+        private volatile PathNode<T> wildcard;
+
+        private synchronized PathNode<T> wildcard() {
+            if (wildcard == null) {
+                wildcard = new PathNode<>();
+            }
+            return wildcard;
+        }
+
+    }
+
+    private static final class Entry<T> {
+
+        private final int order;
+        private final T value;
+
+        private Entry(int order, T value) {
+            this.order = order;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,601 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.journal;
+
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Structured journal of the API calls in the HAR 1.2 or NDJSON format for offline analysis
+ * (browser dev tools, HAR viewers, jq, DuckDB, Elasticsearch...).
+ * Each call is written as one record with the request/response metadata, body sizes, endpoint info
+ * and phase timings (see {@link JournalEntry}). Bodies are not written.
+ * <p>
+ * The calling thread only captures the immutable {@link JournalEntry} and puts it into the pre-allocated
+ * bounded queue (ring buffer). If the queue is full, the calling thread waits no longer than
+ * {@link #withMaxBlockTime(Duration)}, then the entry is discarded and {@link #getDroppedCount()} is incremented.
+ * The background thread drains the queue in batches, formats the batch and writes it
+ * to the {@link FileChannel} with a single write.
+ * <p>
+ * Files are named {@code <prefix>-0001.har}, {@code <prefix>-0002.har}... (existing files are not overwritten)
+ * and rotated before the batch write if the file size exceeds {@link #withMaxFileSize(long)}
+ * or the file is older than {@link #withRotationInterval(Duration)}.
+ * NDJSON files are valid after each batch. HAR files are completed (closing brackets) on rotation
+ * and {@link #close()} (called by the JVM shutdown hook if the journal is not closed explicitly).
+ * <p>
+ * Usage:
+ * * ExchangeJournal journal = new ExchangeJournal(Paths.get("target/journal"), ExchangeJournal.Format.HAR);
+ * * new Retrofit.Builder()
+ * *         .addCallAdapterFactory(new UniversalCallAdapterFactory().withExchangeJournal(journal))
+ * *         ...
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class ExchangeJournal implements Closeable {
+
+    /**
+     * Default journal entries queue capacity
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    /**
+     * Max number of entries written with a single write
+     */
+    public static final int BATCH_SIZE = 256;
+
+    /**
+     * Default max journal file size (64 MiB)
+     */
+    public static final long DEFAULT_MAX_FILE_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * Default max waiting time of the calling thread if the queue is full
+     */
+    public static final Duration DEFAULT_MAX_BLOCK_TIME = Duration.ofMillis(10);
+
+    public static final String DEFAULT_FILE_PREFIX = "exchanges";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExchangeJournal.class);
+
+    /**
+     * Background threads counter (for thread naming)
+     */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Queue stop marker
+     */
+    private static final JournalEntry STOP = JournalEntry
+            .failed("", new Request.Builder().url("http://localhost/").build(), null, 0, 0);
+
+    private final Path directory;
+    private final Format format;
+    private final BlockingQueue<JournalEntry> queue;
+    private final List<Path> files = new CopyOnWriteArrayList<>();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Condition pendingIsEmpty = pendingLock.newCondition();
+    private final Thread worker;
+    private final Thread shutdownHook;
+    private volatile boolean closed = false;
+    private volatile String filePrefix = DEFAULT_FILE_PREFIX;
+    private volatile long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+    private volatile long rotationIntervalMillis = 0;
+    private volatile long maxBlockNanos = DEFAULT_MAX_BLOCK_TIME.toNanos();
+
+    // the background thread state
+    private final StringBuilder text = new StringBuilder(64 * 1024);
+    private FileChannel channel;
+    private long fileSize;
+    private long fileOpenedAtMillis;
+    private long fileEntries;
+    private int fileIndex;
+
+    /**
+     * @param directory - journal files directory (created if absent)
+     * @param format    - journal format
+     */
+    public ExchangeJournal(@Nonnull final Path directory, @Nonnull final Format format) {
+        this(directory, format, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param directory     - journal files directory (created if absent)
+     * @param format        - journal format
+     * @param queueCapacity - max number of entries awaiting writing
+     */
+    public ExchangeJournal(@Nonnull final Path directory, @Nonnull final Format format, final int queueCapacity) {
+        Utils.parameterRequireNonNull(directory, DIRECTORY_PARAMETER);
+        Utils.parameterRequireNonNull(format, FORMAT_PARAMETER);
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be greater than zero. Actual: " + queueCapacity);
+        }
+        this.directory = directory.toAbsolutePath();
+        this.format = format;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::drain, "veslo-exchange-journal-" + THREAD_COUNTER.incrementAndGet());
+        this.worker.setDaemon(true);
+        this.worker.start();
+        this.shutdownHook = new Thread(this::close, worker.getName() + "-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * @param filePrefix - journal file name prefix (applied to the next opened file)
+     * @return this
+     */
+    @Nonnull
+    public ExchangeJournal withFilePrefix(@Nonnull final String filePrefix) {
+        Utils.parameterRequireNonNull(filePrefix, NAME_PARAMETER);
+        this.filePrefix = filePrefix;
+        return this;
+    }
+
+    /**
+     * @param maxFileSize - the file is rotated if its size exceeds the limit (bytes)
+     * @return this
+     */
+    @Nonnull
+    public ExchangeJournal withMaxFileSize(final long maxFileSize) {
+        if (maxFileSize < 1) {
+            throw new IllegalArgumentException("Max file size must be greater than zero. Actual: " + maxFileSize);
+        }
+        this.maxFileSize = maxFileSize;
+        return this;
+    }
+
+    /**
+     * @param rotationInterval - the file is rotated if it is older than the interval (null - no time rotation)
+     * @return this
+     */
+    @Nonnull
+    public ExchangeJournal withRotationInterval(@Nullable final Duration rotationInterval) {
+        this.rotationIntervalMillis = rotationInterval == null ? 0 : rotationInterval.toMillis();
+        return this;
+    }
+
+    /**
+     * @param maxBlockTime - max waiting time of the calling thread if the queue is full
+     *                     (null or zero - the entry is discarded immediately)
+     * @return this
+     */
+    @Nonnull
+    public ExchangeJournal withMaxBlockTime(@Nullable final Duration maxBlockTime) {
+        this.maxBlockNanos = maxBlockTime == null ? 0 : Math.max(0, maxBlockTime.toNanos());
+        return this;
+    }
+
+    /**
+     * Queues the entry for writing
+     *
+     * @param entry - journal entry
+     * @return true if the entry is queued, false if the entry is discarded (the queue is full or the journal closed)
+     */
+    public boolean record(@Nonnull final JournalEntry entry) {
+        Utils.parameterRequireNonNull(entry, ENTRY_PARAMETER);
+        if (closed) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        pendingCount.incrementAndGet();
+        boolean queued;
+        try {
+            queued = maxBlockNanos == 0
+                    ? queue.offer(entry)
+                    : queue.offer(entry, maxBlockNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            droppedCount.incrementAndGet();
+            release(1);
+        }
+        return queued;
+    }
+
+    /**
+     * Waits until all queued entries are written
+     *
+     * @param timeout - max waiting time
+     * @param unit    - timeout {@link TimeUnit}
+     * @return true if the queue was drained before the timeout elapsed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean flush(final long timeout, @Nonnull final TimeUnit unit) throws InterruptedException {
+        Utils.parameterRequireNonNull(unit, TIME_UNIT_PARAMETER);
+        long nanos = unit.toNanos(timeout);
+        pendingLock.lock();
+        try {
+            while (pendingCount.get() > 0) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = pendingIsEmpty.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the remaining entries, completes the current file and stops the background thread.
+     * Entries recorded after closing are discarded.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(STOP);
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignore) {
+            // JVM shutdown in progress
+        }
+    }
+
+    /**
+     * @return written journal files (including the current file)
+     */
+    @Nonnull
+    public List<Path> getFiles() {
+        return Collections.unmodifiableList(new ArrayList<>(files));
+    }
+
+    /**
+     * @return number of written entries
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return number of discarded entries (queue overflow, write errors or closed journal)
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return number of queued (not yet written) entries
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @Nonnull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Nonnull
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * @return true if the journal is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void release(final int count) {
+        if (pendingCount.addAndGet(-count) <= 0) {
+            pendingLock.lock();
+            try {
+                pendingIsEmpty.signalAll();
+            } finally {
+                pendingLock.unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        final List<JournalEntry> batch = new ArrayList<>(BATCH_SIZE);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            stop = batch.removeIf(entry -> entry == STOP);
+            if (stop) {
+                // entries queued concurrently with closing
+                queue.drainTo(batch);
+                batch.removeIf(entry -> entry == STOP);
+            }
+            try {
+                write(batch);
+            } finally {
+                release(batch.size());
+                batch.clear();
+            }
+        }
+        closeFile();
+    }
+
+    private void write(final List<JournalEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (channel == null || fileSize >= maxFileSize
+                || (rotationIntervalMillis > 0
+                    && System.currentTimeMillis() - fileOpenedAtMillis >= rotationIntervalMillis)) {
+                closeFile();
+                openFile();
+            }
+            text.setLength(0);
+            for (JournalEntry entry : batch) {
+                if (format == Format.HAR) {
+                    if (fileEntries > 0 || text.length() > 0) {
+                        text.append(",\n");
+                    }
+                    appendHarEntry(entry);
+                } else {
+                    appendNdjsonEntry(entry);
+                    text.append('\n');
+                }
+            }
+            writeText();
+            fileEntries += batch.size();
+            writtenCount.addAndGet(batch.size());
+        } catch (IOException | RuntimeException e) {
+            droppedCount.addAndGet(batch.size());
+            LOGGER.error("Unable to write the exchange journal entries", e);
+            closeFile();
+        }
+    }
+
+    private void openFile() throws IOException {
+        Files.createDirectories(directory);
+        Path file;
+        do {
+            fileIndex++;
+            file = directory.resolve(String.format(Locale.ROOT, "%s-%04d.%s",
+                    filePrefix, fileIndex, format.getExtension()));
+        } while (Files.exists(file));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        files.add(file);
+        fileSize = 0;
+        fileEntries = 0;
+        fileOpenedAtMillis = System.currentTimeMillis();
+        if (format == Format.HAR) {
+            final String version = ExchangeJournal.class.getPackage().getImplementationVersion();
+            text.setLength(0);
+            text.append("{\"log\":{\"version\":\"1.2\",\"creator\":{\"name\":\"veslo\",\"version\":\"")
+                    .append(version == null ? "" : escapeJson(version))
+                    .append("\"},\"entries\":[\n");
+            writeText();
+        }
+    }
+
+    private void closeFile() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (format == Format.HAR) {
+                text.setLength(0);
+                text.append("\n]}}\n");
+                writeText();
+            }
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.error("Unable to close the exchange journal file", e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    private void writeText() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            fileSize += channel.write(buffer);
+        }
+    }
+
+    private void appendHarEntry(final JournalEntry entry) {
+        final boolean timed = entry.getWaitNanos() >= 0;
+        final long timeNanos = timed
+                ? positive(entry.getDnsNanos()) + positive(entry.getConnectNanos()) + positive(entry.getSendNanos())
+                  + positive(entry.getWaitNanos()) + positive(entry.getReceiveNanos())
+                : entry.getElapsedNanos();
+        text.append("{\"startedDateTime\":\"").append(Instant.ofEpochMilli(entry.getStartedAtMillis())).append('"')
+                .append(",\"time\":").append(millis(timeNanos))
+                .append(",\"request\":{\"method\":\"").append(escapeJson(entry.getMethod()))
+                .append("\",\"url\":\"").append(escapeJson(entry.getUrl()))
+                .append("\",\"httpVersion\":\"").append(entry.getProtocol())
+                .append("\",\"cookies\":[],\"headers\":");
+        appendHeaders(entry.getRequestHeaders());
+        text.append(",\"queryString\":[");
+        final HttpUrl url = HttpUrl.parse(entry.getUrl());
+        for (int i = 0; url != null && i < url.querySize(); i++) {
+            appendNameValue(i, url.queryParameterName(i), url.queryParameterValue(i));
+        }
+        text.append("],\"headersSize\":-1,\"bodySize\":").append(entry.getRequestBodySize())
+                .append("},\"response\":{\"status\":").append(entry.getStatus())
+                .append(",\"statusText\":\"").append(escapeJson(entry.getStatusText()))
+                .append("\",\"httpVersion\":\"").append(entry.getProtocol())
+                .append("\",\"cookies\":[],\"headers\":");
+        appendHeaders(entry.getResponseHeaders());
+        text.append(",\"content\":{\"size\":").append(positive(entry.getResponseBodySize()))
+                .append(",\"mimeType\":\"").append(escapeJson(entry.getMimeType()))
+                .append("\"},\"redirectURL\":\"\",\"headersSize\":-1,\"bodySize\":").append(entry.getResponseBodySize())
+                .append("},\"cache\":{},\"timings\":{\"blocked\":-1")
+                .append(",\"dns\":").append(millis(entry.getDnsNanos()))
+                .append(",\"connect\":").append(millis(entry.getConnectNanos()))
+                .append(",\"send\":").append(millis(positive(entry.getSendNanos())))
+                .append(",\"wait\":").append(millis(timed ? entry.getWaitNanos() : entry.getElapsedNanos()))
+                .append(",\"receive\":").append(millis(positive(entry.getReceiveNanos())))
+                .append(",\"ssl\":").append(millis(entry.getTlsNanos()))
+                .append("},\"_endpoint\":\"").append(escapeJson(entry.getEndpointInfo()))
+                .append("\",\"_callTime\":").append(millis(entry.getElapsedNanos()))
+                .append(",\"_conversion\":").append(millis(entry.getConversionNanos()));
+        if (entry.getError() != null) {
+            text.append(",\"_error\":\"").append(escapeJson(entry.getError())).append('"');
+        }
+        text.append('}');
+    }
+
+    private void appendNdjsonEntry(final JournalEntry entry) {
+        text.append("{\"startedDateTime\":\"").append(Instant.ofEpochMilli(entry.getStartedAtMillis()))
+                .append("\",\"endpoint\":\"").append(escapeJson(entry.getEndpointInfo()))
+                .append("\",\"method\":\"").append(escapeJson(entry.getMethod()))
+                .append("\",\"url\":\"").append(escapeJson(entry.getUrl()))
+                .append("\",\"status\":").append(entry.getStatus())
+                .append(",\"requestBodySize\":").append(entry.getRequestBodySize())
+                .append(",\"responseBodySize\":").append(entry.getResponseBodySize())
+                .append(",\"mimeType\":\"").append(escapeJson(entry.getMimeType()))
+                .append("\",\"timeMs\":").append(millis(entry.getElapsedNanos()))
+                .append(",\"dnsMs\":").append(millis(entry.getDnsNanos()))
+                .append(",\"connectMs\":").append(millis(entry.getConnectNanos()))
+                .append(",\"tlsMs\":").append(millis(entry.getTlsNanos()))
+                .append(",\"sendMs\":").append(millis(entry.getSendNanos()))
+                .append(",\"waitMs\":").append(millis(entry.getWaitNanos()))
+                .append(",\"receiveMs\":").append(millis(entry.getReceiveNanos()))
+                .append(",\"conversionMs\":").append(millis(entry.getConversionNanos()))
+                .append(",\"error\":");
+        if (entry.getError() == null) {
+            text.append("null}");
+        } else {
+            text.append('"').append(escapeJson(entry.getError())).append("\"}");
+        }
+    }
+
+    private void appendHeaders(final Headers headers) {
+        text.append('[');
+        for (int i = 0; i < headers.size(); i++) {
+            appendNameValue(i, headers.name(i), headers.value(i));
+        }
+        text.append(']');
+    }
+
+    private void appendNameValue(final int index, final String name, @Nullable final String value) {
+        if (index > 0) {
+            text.append(',');
+        }
+        text.append("{\"name\":\"").append(escapeJson(name))
+                .append("\",\"value\":\"").append(value == null ? "" : escapeJson(value)).append("\"}");
+    }
+
+    private static long positive(final long value) {
+        return Math.max(0, value);
+    }
+
+    private static String millis(final long nanos) {
+        if (nanos < 0) {
+            return "-1";
+        }
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000D);
+    }
+
+    private static String escapeJson(final String value) {
+        final StringBuilder result = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                result.append('\\').append(c);
+            } else if (c < 0x20) {
+                result.append(String.format("\\u%04x", (int) c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Journal format
+     */
+    public enum Format {
+
+        /**
+         * HTTP Archive 1.2 (one JSON document per file, the entry extensions are prefixed with "_")
+         */
+        HAR("har"),
+
+        /**
+         * Newline delimited JSON (one flat JSON object per call)
+         */
+        NDJSON("ndjson"),
+
+        ;
+
+        private final String extension;
+
+        Format(final String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * @return journal file extension
+         */
+        @Nonnull
+        public String getExtension() {
+            return extension;
+        }
+
+    }
+
+}
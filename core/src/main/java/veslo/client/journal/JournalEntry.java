@@ -0,0 +1,303 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.journal;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import veslo.client.metrics.CallTiming;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Locale;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Immutable record of the single API call written by the {@link ExchangeJournal}.
+ * The entry is captured on the calling thread and contains only the exchange metadata
+ * (request line, headers, body sizes, status, phase timings and endpoint info), so capturing is cheap
+ * and does not read the bodies. Phase durations are taken from the {@link CallTiming} of the call
+ * (-1 if the client is built without the {@link veslo.client.metrics.CallTimingRecorder} or the phase did not happen).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class JournalEntry {
+
+    private final long startedAtMillis;
+    private final long elapsedNanos;
+    private final String endpointInfo;
+    private final String method;
+    private final String url;
+    private final String protocol;
+    private final Headers requestHeaders;
+    private final long requestBodySize;
+    private final int status;
+    private final String statusText;
+    private final Headers responseHeaders;
+    private final long responseBodySize;
+    private final String mimeType;
+    private final String error;
+    private final long dnsNanos;
+    private final long connectNanos;
+    private final long tlsNanos;
+    private final long sendNanos;
+    private final long waitNanos;
+    private final long receiveNanos;
+    private final long conversionNanos;
+
+    private JournalEntry(final String endpointInfo,
+                         final Request request,
+                         @Nullable final Response response,
+                         @Nullable final Throwable error,
+                         final long startedAtMillis,
+                         final long elapsedNanos) {
+        this.startedAtMillis = startedAtMillis;
+        this.elapsedNanos = elapsedNanos;
+        this.endpointInfo = endpointInfo;
+        this.method = request.method();
+        this.url = request.url().toString();
+        this.requestHeaders = request.headers();
+        this.requestBodySize = contentLength(request.body());
+        if (response == null) {
+            this.protocol = "HTTP/1.1";
+            this.status = 0;
+            this.statusText = "";
+            this.responseHeaders = Headers.of();
+            this.responseBodySize = -1;
+            this.mimeType = "";
+        } else {
+            final ResponseBody body = response.body();
+            final MediaType contentType = body == null ? null : body.contentType();
+            this.protocol = response.protocol().toString().toUpperCase(Locale.ROOT);
+            this.status = response.code();
+            this.statusText = response.message();
+            this.responseHeaders = response.headers();
+            this.responseBodySize = body == null ? -1 : body.contentLength();
+            this.mimeType = contentType == null ? "" : contentType.toString();
+        }
+        this.error = error == null ? null : String.valueOf(error);
+        final CallTiming timing = request.tag(CallTiming.class);
+        if (timing == null) {
+            this.dnsNanos = -1;
+            this.connectNanos = -1;
+            this.tlsNanos = -1;
+            this.sendNanos = -1;
+            this.waitNanos = -1;
+            this.receiveNanos = -1;
+            this.conversionNanos = -1;
+        } else {
+            this.dnsNanos = timing.getDnsNanos();
+            this.connectNanos = timing.getConnectNanos();
+            this.tlsNanos = timing.getTlsNanos();
+            this.sendNanos = timing.getRequestNanos();
+            this.waitNanos = timing.getServerNanos();
+            this.receiveNanos = sum(timing.getResponseHeadersNanos(), timing.getResponseBodyNanos());
+            this.conversionNanos = timing.getConversionNanos();
+        }
+    }
+
+    /**
+     * @param endpointInfo    - called method info
+     * @param response        - okhttp raw response of the call
+     * @param startedAtMillis - call start time ({@link System#currentTimeMillis()})
+     * @param elapsedNanos    - call duration (body conversion included)
+     * @return journal entry of the completed call
+     */
+    @Nonnull
+    public static JournalEntry of(@Nonnull final String endpointInfo,
+                                  @Nonnull final Response response,
+                                  final long startedAtMillis,
+                                  final long elapsedNanos) {
+        Utils.parameterRequireNonNull(endpointInfo, ENDPOINT_INFO_PARAMETER);
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        return new JournalEntry(endpointInfo, response.request(), response, null, startedAtMillis, elapsedNanos);
+    }
+
+    /**
+     * @param endpointInfo    - called method info
+     * @param request         - request of the call
+     * @param error           - transport error (nullable)
+     * @param startedAtMillis - call start time ({@link System#currentTimeMillis()})
+     * @param elapsedNanos    - time to the error
+     * @return journal entry of the call completed without response (status 0)
+     */
+    @Nonnull
+    public static JournalEntry failed(@Nonnull final String endpointInfo,
+                                      @Nonnull final Request request,
+                                      @Nullable final Throwable error,
+                                      final long startedAtMillis,
+                                      final long elapsedNanos) {
+        Utils.parameterRequireNonNull(endpointInfo, ENDPOINT_INFO_PARAMETER);
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        return new JournalEntry(endpointInfo, request, null, error, startedAtMillis, elapsedNanos);
+    }
+
+    private static long contentLength(@Nullable final RequestBody body) {
+        if (body == null) {
+            return 0;
+        }
+        try {
+            return body.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long sum(final long first, final long second) {
+        if (first < 0 || second < 0) {
+            return first < 0 ? second : first;
+        }
+        return first + second;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    /**
+     * @return call duration (body conversion included)
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Nonnull
+    public String getEndpointInfo() {
+        return endpointInfo;
+    }
+
+    @Nonnull
+    public String getMethod() {
+        return method;
+    }
+
+    @Nonnull
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return HTTP version ("HTTP/1.1", "H2"...)
+     */
+    @Nonnull
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Nonnull
+    public Headers getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    /**
+     * @return request body size (0 - no body, -1 - unknown)
+     */
+    public long getRequestBodySize() {
+        return requestBodySize;
+    }
+
+    /**
+     * @return HTTP status code (0 - no response)
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    @Nonnull
+    public String getStatusText() {
+        return statusText;
+    }
+
+    @Nonnull
+    public Headers getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    /**
+     * @return response body size (-1 - unknown)
+     */
+    public long getResponseBodySize() {
+        return responseBodySize;
+    }
+
+    @Nonnull
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * @return transport error or null
+     */
+    @Nullable
+    public String getError() {
+        return error;
+    }
+
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    /**
+     * @return connection duration (TLS handshake included) or -1
+     */
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    public long getTlsNanos() {
+        return tlsNanos;
+    }
+
+    /**
+     * @return request sending duration or -1
+     */
+    public long getSendNanos() {
+        return sendNanos;
+    }
+
+    /**
+     * @return server processing duration (request sent -> response headers started) or -1
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * @return response headers and body reading duration or -1
+     */
+    public long getReceiveNanos() {
+        return receiveNanos;
+    }
+
+    public long getConversionNanos() {
+        return conversionNanos;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + url + " -> " + status + " (" + endpointInfo + ")";
+    }
+
+}
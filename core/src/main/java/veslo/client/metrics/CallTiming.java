@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static veslo.constant.ParameterNameConstants.REQUEST_PARAMETER;
+import static veslo.constant.ParameterNameConstants.RESPONSE_PARAMETER;
+
+/**
+ * Network phase timing of the single API call recorded by the {@link CallTimingRecorder}
+ * (okhttp {@link okhttp3.EventListener} events) and the response conversion time
+ * recorded by the {@link veslo.client.adapter.UniversalCallAdapterFactory}.
+ * The timing is attached to the application request as a tag and is available via {@link #of(Response)}
+ * or {@link veslo.client.response.IDualResponse#getCallTiming()}.
+ * <p>
+ * Phase durations are in nanoseconds. The phase duration is -1 if the phase did not happen
+ * (for example, DNS, connect and TLS phases for the pooled connection).
+ * If the phase happened several times (redirects, retries), the last occurrence is used.
+ * Note: the success body is converted by retrofit while it is read,
+ * so the success body conversion is included in the response body phase.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class CallTiming {
+
+    private final AtomicLongArray events = new AtomicLongArray(Event.values().length);
+    private volatile long conversionNanos = -1;
+
+    /**
+     * @param request - {@link Request}
+     * @return call timing from the request tag or null
+     */
+    @Nullable
+    public static CallTiming of(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        return request.tag(CallTiming.class);
+    }
+
+    /**
+     * @param response - {@link Response} (application level)
+     * @return call timing or null (the client is built without {@link CallTimingRecorder})
+     */
+    @Nullable
+    public static CallTiming of(@Nonnull final Response response) {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        return of(response.request());
+    }
+
+    /**
+     * Records the event time ({@link System#nanoTime()})
+     *
+     * @param event - call event
+     */
+    public void record(@Nonnull final Event event) {
+        record(event, System.nanoTime());
+    }
+
+    void record(final Event event, final long nanoTime) {
+        events.set(event.ordinal(), nanoTime);
+    }
+
+    /**
+     * @param event - call event
+     * @return true if the event is recorded
+     */
+    public boolean isRecorded(@Nonnull final Event event) {
+        return events.get(event.ordinal()) != 0;
+    }
+
+    /**
+     * @return DNS lookup duration or -1
+     */
+    public long getDnsNanos() {
+        return between(Event.DNS_START, Event.DNS_END);
+    }
+
+    /**
+     * @return connection duration (TLS handshake included) or -1
+     */
+    public long getConnectNanos() {
+        return between(Event.CONNECT_START, Event.CONNECT_END);
+    }
+
+    /**
+     * @return TLS handshake duration or -1
+     */
+    public long getTlsNanos() {
+        return between(Event.SECURE_CONNECT_START, Event.SECURE_CONNECT_END);
+    }
+
+    /**
+     * @return request sending duration (headers and body) or -1
+     */
+    public long getRequestNanos() {
+        final Event end = isRecorded(Event.REQUEST_BODY_END) ? Event.REQUEST_BODY_END : Event.REQUEST_HEADERS_END;
+        return between(Event.REQUEST_HEADERS_START, end);
+    }
+
+    /**
+     * @return server processing duration (request sent -> response headers started) or -1
+     */
+    public long getServerNanos() {
+        final Event start = isRecorded(Event.REQUEST_BODY_END) ? Event.REQUEST_BODY_END : Event.REQUEST_HEADERS_END;
+        return between(start, Event.RESPONSE_HEADERS_START);
+    }
+
+    /**
+     * @return time to the first response byte (call start -> response headers started) or -1
+     */
+    public long getTimeToFirstByteNanos() {
+        return between(Event.CALL_START, Event.RESPONSE_HEADERS_START);
+    }
+
+    /**
+     * @return response headers reading duration or -1
+     */
+    public long getResponseHeadersNanos() {
+        return between(Event.RESPONSE_HEADERS_START, Event.RESPONSE_HEADERS_END);
+    }
+
+    /**
+     * @return response body reading duration (success body conversion included) or -1
+     */
+    public long getResponseBodyNanos() {
+        return between(Event.RESPONSE_BODY_START, Event.RESPONSE_BODY_END);
+    }
+
+    /**
+     * @return response conversion duration ({@link veslo.client.response.IDualResponse} creation) or -1
+     */
+    public long getConversionNanos() {
+        return conversionNanos;
+    }
+
+    /**
+     * @param conversionNanos - response conversion duration
+     */
+    public void setConversionNanos(final long conversionNanos) {
+        this.conversionNanos = conversionNanos;
+    }
+
+    /**
+     * @return call duration (call start -> call end or failure) or -1 if the call is not completed
+     */
+    public long getTotalNanos() {
+        return between(Event.CALL_START, Event.CALL_END);
+    }
+
+    private long between(final Event start, final Event end) {
+        final long startNanos = events.get(start.ordinal());
+        final long endNanos = events.get(end.ordinal());
+        if (startNanos == 0 || endNanos == 0 || endNanos < startNanos) {
+            return -1;
+        }
+        return endNanos - startNanos;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        append(sb, "dns", getDnsNanos());
+        append(sb, "connect", getConnectNanos());
+        append(sb, "tls", getTlsNanos());
+        append(sb, "request", getRequestNanos());
+        append(sb, "server", getServerNanos());
+        append(sb, "headers", getResponseHeadersNanos());
+        append(sb, "body", getResponseBodyNanos());
+        append(sb, "conversion", getConversionNanos());
+        append(sb, "total", getTotalNanos());
+        return sb.toString();
+    }
+
+    private static void append(final StringBuilder sb, final String name, final long nanos) {
+        if (nanos >= 0) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(name).append('=').append(String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000D));
+        }
+    }
+
+    /**
+     * okhttp call events
+     */
+    public enum Event {
+        CALL_START,
+        DNS_START,
+        DNS_END,
+        CONNECT_START,
+        CONNECT_END,
+        SECURE_CONNECT_START,
+        SECURE_CONNECT_END,
+        REQUEST_HEADERS_START,
+        REQUEST_HEADERS_END,
+        REQUEST_BODY_START,
+        REQUEST_BODY_END,
+        RESPONSE_HEADERS_START,
+        RESPONSE_HEADERS_END,
+        RESPONSE_BODY_START,
+        RESPONSE_BODY_END,
+        CALL_END,
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import okhttp3.*;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static veslo.client.metrics.CallTiming.Event.*;
+
+/**
+ * Records the {@link CallTiming} of each okhttp call.
+ * Must be installed as the client event listener factory and as the application interceptor:
+ * <pre>{@code
+ * new OkHttpClient.Builder()
+ *         .eventListenerFactory(CallTimingRecorder.INSTANCE)
+ *         .addInterceptor(CallTimingRecorder.INSTANCE)
+ * }</pre>
+ * The event listener records the call events. The interceptor attaches the call timing to the request as a tag
+ * (okhttp request tags are immutable, so the tag can only be added by the interceptor).
+ * {@link veslo.client.TestClient} installs the recorder by default.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class CallTimingRecorder implements EventListener.Factory, Interceptor {
+
+    public static final CallTimingRecorder INSTANCE = new CallTimingRecorder();
+
+    /** timings of the started calls not yet reached by the interceptor */
+    private final Map<Call, CallTiming> pending = new ConcurrentHashMap<>();
+
+    @Override
+    @Nonnull
+    public EventListener create(@Nonnull final Call call) {
+        return new Listener(new CallTiming());
+    }
+
+    @Override
+    @Nonnull
+    public Response intercept(@Nonnull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        final CallTiming timing = pending.remove(chain.call());
+        if (timing == null || request.tag(CallTiming.class) != null) {
+            return chain.proceed(request);
+        }
+        return chain.proceed(request.newBuilder().tag(CallTiming.class, timing).build());
+    }
+
+    /**
+     * @return number of the started calls not yet reached by the interceptor
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private final class Listener extends EventListener {
+
+        private final CallTiming timing;
+
+        private Listener(final CallTiming timing) {
+            this.timing = timing;
+        }
+
+        @Override
+        public void callStart(@Nonnull final Call call) {
+            timing.record(CALL_START);
+            pending.put(call, timing);
+        }
+
+        @Override
+        public void dnsStart(@Nonnull final Call call, @Nonnull final String domainName) {
+            timing.record(DNS_START);
+        }
+
+        @Override
+        public void dnsEnd(@Nonnull final Call call,
+                           @Nonnull final String domainName,
+                           @Nonnull final List<InetAddress> inetAddressList) {
+            timing.record(DNS_END);
+        }
+
+        @Override
+        public void connectStart(@Nonnull final Call call,
+                                 @Nonnull final InetSocketAddress inetSocketAddress,
+                                 @Nonnull final Proxy proxy) {
+            timing.record(CONNECT_START);
+        }
+
+        @Override
+        public void secureConnectStart(@Nonnull final Call call) {
+            timing.record(SECURE_CONNECT_START);
+        }
+
+        @Override
+        public void secureConnectEnd(@Nonnull final Call call, @Nullable final Handshake handshake) {
+            timing.record(SECURE_CONNECT_END);
+        }
+
+        @Override
+        public void connectEnd(@Nonnull final Call call,
+                               @Nonnull final InetSocketAddress inetSocketAddress,
+                               @Nonnull final Proxy proxy,
+                               @Nullable final Protocol protocol) {
+            timing.record(CONNECT_END);
+        }
+
+        @Override
+        public void requestHeadersStart(@Nonnull final Call call) {
+            timing.record(REQUEST_HEADERS_START);
+        }
+
+        @Override
+        public void requestHeadersEnd(@Nonnull final Call call, @Nonnull final Request request) {
+            timing.record(REQUEST_HEADERS_END);
+        }
+
+        @Override
+        public void requestBodyStart(@Nonnull final Call call) {
+            timing.record(REQUEST_BODY_START);
+        }
+
+        @Override
+        public void requestBodyEnd(@Nonnull final Call call, final long byteCount) {
+            timing.record(REQUEST_BODY_END);
+        }
+
+        @Override
+        public void responseHeadersStart(@Nonnull final Call call) {
+            timing.record(RESPONSE_HEADERS_START);
+        }
+
+        @Override
+        public void responseHeadersEnd(@Nonnull final Call call, @Nonnull final Response response) {
+            timing.record(RESPONSE_HEADERS_END);
+        }
+
+        @Override
+        public void responseBodyStart(@Nonnull final Call call) {
+            timing.record(RESPONSE_BODY_START);
+        }
+
+        @Override
+        public void responseBodyEnd(@Nonnull final Call call, final long byteCount) {
+            timing.record(RESPONSE_BODY_END);
+        }
+
+        @Override
+        public void callEnd(@Nonnull final Call call) {
+            timing.record(CALL_END);
+            pending.remove(call);
+        }
+
+        @Override
+        public void callFailed(@Nonnull final Call call, @Nonnull final IOException ioe) {
+            timing.record(CALL_END);
+            pending.remove(call);
+        }
+
+    }
+
+}
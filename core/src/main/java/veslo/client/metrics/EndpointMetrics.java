@@ -0,0 +1,422 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import retrofit2.Invocation;
+import retrofit2.http.DELETE;
+import retrofit2.http.GET;
+import retrofit2.http.HEAD;
+import retrofit2.http.HTTP;
+import retrofit2.http.OPTIONS;
+import retrofit2.http.PATCH;
+import retrofit2.http.POST;
+import retrofit2.http.PUT;
+import veslo.RuntimeIOException;
+import veslo.client.EndpointInfo;
+import veslo.client.inteceptor.BodyLogPolicies;
+import veslo.util.LogHistogram;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Per-endpoint metrics registry ({@link EndpointStats}) with OkHttp client gauges.
+ * The endpoint key is the {@link EndpointInfo} value of the API method
+ * or the HTTP method with the path template of the API method ("GET /v2/pet/{petId}").
+ * For requests without the retrofit {@link Invocation} tag the encoded URL path is used.
+ * <p>
+ * Usage:
+ * * EndpointMetrics metrics = new EndpointMetrics();
+ * * OkHttpClient client = new OkHttpClient.Builder()
+ * *         .addNetworkInterceptor(new CompositeInterceptor().withEndpointMetrics(metrics))
+ * *         .build();
+ * * metrics.withClientGauges("petstore", client);
+ * * new Retrofit.Builder()
+ * *         .client(client)
+ * *         .addCallAdapterFactory(new UniversalCallAdapterFactory().withEndpointMetrics(metrics))
+ * *         ...
+ * * metrics.getEndpoint("POST /v2/pet").getExchangeLatency().getPercentile(95);
+ * * metrics.writePrometheus(Paths.get("target/metrics.prom"));
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class EndpointMetrics {
+
+    private static final Map<Method, String> PATH_TEMPLATES = new ConcurrentHashMap<>();
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99};
+    private static volatile EndpointMetrics runMetrics = null;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, OkHttpClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Enables the test run metrics registry. While enabled, the run metrics are recorded
+     * by all {@link veslo.client.inteceptor.CompositeInterceptor},
+     * {@link veslo.client.adapter.UniversalCallAdapterFactory} and {@link veslo.client.response.BaseDualResponse}
+     * instances in addition to the configured registries
+     * (see {@link veslo.junit.PerformanceReportExtension}).
+     *
+     * @return run metrics registry
+     */
+    @Nonnull
+    public static synchronized EndpointMetrics enableRunMetrics() {
+        if (runMetrics == null) {
+            runMetrics = new EndpointMetrics();
+        }
+        return runMetrics;
+    }
+
+    /**
+     * @return run metrics registry or null if the run metrics are disabled
+     */
+    @Nullable
+    public static EndpointMetrics getRunMetrics() {
+        return runMetrics;
+    }
+
+    /**
+     * Disables the test run metrics registry
+     */
+    public static synchronized void disableRunMetrics() {
+        runMetrics = null;
+    }
+
+    /**
+     * Registers connection pool and dispatcher gauges of the client
+     *
+     * @param name   - client name (gauge label)
+     * @param client - OkHttp client
+     * @return this
+     */
+    public EndpointMetrics withClientGauges(@Nonnull final String name, @Nonnull final OkHttpClient client) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(client, CLIENT_PARAMETER);
+        clients.put(name, client);
+        return this;
+    }
+
+    /**
+     * Records the completed network exchange
+     *
+     * @param request      - network request
+     * @param response     - network response
+     * @param startNanos   - {@link System#nanoTime()} at the beginning of the exchange
+     * @param latencyNanos - exchange latency
+     */
+    public void recordExchange(@Nonnull final Request request,
+                               @Nonnull final Response response,
+                               final long startNanos,
+                               final long latencyNanos) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        final ResponseBody body = response.body();
+        stats(getEndpoint(request)).recordExchange(startNanos, latencyNanos, response.code(),
+                contentLength(request.body()), body == null ? -1 : body.contentLength());
+    }
+
+    /**
+     * Records the network exchange failed with the transport error
+     *
+     * @param request      - network request
+     * @param startNanos   - {@link System#nanoTime()} at the beginning of the exchange
+     * @param latencyNanos - time to the error
+     */
+    public void recordError(@Nonnull final Request request, final long startNanos, final long latencyNanos) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        stats(getEndpoint(request)).recordError(startNanos, latencyNanos);
+    }
+
+    /**
+     * Records the API call latency (including the body conversion)
+     *
+     * @param request      - API call request
+     * @param latencyNanos - call latency
+     */
+    public void recordCall(@Nonnull final Request request, final long latencyNanos) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        stats(getEndpoint(request)).recordCall(latencyNanos);
+    }
+
+    /**
+     * Records the response conversion duration
+     *
+     * @param request      - API call request
+     * @param latencyNanos - conversion duration
+     */
+    public void recordConversion(@Nonnull final Request request, final long latencyNanos) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        stats(getEndpoint(request)).recordConversion(latencyNanos);
+    }
+
+    /**
+     * Records the response assertion duration
+     *
+     * @param request      - API call request
+     * @param latencyNanos - assertion duration
+     */
+    public void recordAssertion(@Nonnull final Request request, final long latencyNanos) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        stats(getEndpoint(request)).recordAssertion(latencyNanos);
+    }
+
+    /**
+     * Records the response assertion duration
+     *
+     * @param endpoint     - endpoint key (see {@link #getEndpoint(Request)})
+     * @param latencyNanos - assertion duration
+     */
+    public void recordAssertion(@Nonnull final String endpoint, final long latencyNanos) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        stats(endpoint).recordAssertion(latencyNanos);
+    }
+
+    /**
+     * @param endpoint - {@link EndpointInfo} value or "METHOD /path/{template}"
+     * @return endpoint metrics or null if the endpoint was not called
+     */
+    @Nullable
+    public EndpointStats getEndpoint(@Nonnull final String endpoint) {
+        Utils.parameterRequireNonNull(endpoint, ENDPOINT_PARAMETER);
+        return endpoints.get(endpoint);
+    }
+
+    /**
+     * @return endpoint metrics sorted by the endpoint key
+     */
+    @Nonnull
+    public Map<String, EndpointStats> getEndpoints() {
+        return Collections.unmodifiableMap(new TreeMap<>(endpoints));
+    }
+
+    /**
+     * @return current gauge values by "client/gauge" key (connections, idleConnections, runningCalls, queuedCalls)
+     */
+    @Nonnull
+    public Map<String, Integer> getGauges() {
+        final Map<String, Integer> result = new TreeMap<>();
+        clients.forEach((name, client) -> {
+            final ConnectionPool pool = client.connectionPool();
+            final Dispatcher dispatcher = client.dispatcher();
+            result.put(name + "/connections", pool.connectionCount());
+            result.put(name + "/idleConnections", pool.idleConnectionCount());
+            result.put(name + "/runningCalls", dispatcher.runningCallsCount());
+            result.put(name + "/queuedCalls", dispatcher.queuedCallsCount());
+        });
+        return result;
+    }
+
+    /**
+     * Removes all endpoint metrics (gauges are kept)
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * @return metrics in the Prometheus text exposition format (latencies in seconds)
+     */
+    @Nonnull
+    public String toPrometheus() {
+        final StringBuilder result = new StringBuilder();
+        final Map<String, EndpointStats> sorted = getEndpoints();
+        summary(result, "veslo_http_exchange_latency_seconds", "Network exchange latency", sorted, 1e-9,
+                EndpointStats::getExchangeLatency);
+        summary(result, "veslo_http_call_latency_seconds", "API call latency including body conversion", sorted,
+                1e-9, EndpointStats::getCallLatency);
+        summary(result, "veslo_http_conversion_seconds", "Response conversion duration", sorted, 1e-9,
+                EndpointStats::getConversionLatency);
+        summary(result, "veslo_http_assertion_seconds", "Response assertion duration", sorted, 1e-9,
+                EndpointStats::getAssertionLatency);
+        summary(result, "veslo_http_request_bytes", "Request body size", sorted, 1, EndpointStats::getRequestBytes);
+        summary(result, "veslo_http_response_bytes", "Response body size", sorted, 1,
+                EndpointStats::getResponseBytes);
+        header(result, "veslo_http_responses_total", "Responses by status class", "counter");
+        sorted.forEach((endpoint, stats) -> {
+            for (int statusClass = 1; statusClass <= 5; statusClass++) {
+                final long count = stats.getStatusClassCount(statusClass);
+                if (count > 0) {
+                    result.append("veslo_http_responses_total{endpoint=\"").append(escape(endpoint))
+                            .append("\",status=\"").append(statusClass).append("xx\"} ").append(count).append('\n');
+                }
+            }
+        });
+        header(result, "veslo_http_errors_total", "Transport errors", "counter");
+        sorted.forEach((endpoint, stats) -> result.append("veslo_http_errors_total{endpoint=\"")
+                .append(escape(endpoint)).append("\"} ").append(stats.getErrorCount()).append('\n'));
+        if (!clients.isEmpty()) {
+            header(result, "veslo_okhttp_client", "OkHttp connection pool and dispatcher state", "gauge");
+            getGauges().forEach((key, value) -> {
+                final int slash = key.lastIndexOf('/');
+                result.append("veslo_okhttp_client{client=\"").append(escape(key.substring(0, slash)))
+                        .append("\",gauge=\"").append(key.substring(slash + 1)).append("\"} ")
+                        .append(value).append('\n');
+            });
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param path - Prometheus text file path (parent directories are created)
+     * @throws RuntimeIOException if unable to write the file
+     */
+    public void writePrometheus(@Nonnull final Path path) {
+        Utils.parameterRequireNonNull(path, PATH_PARAMETER);
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(path, toPrometheus().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to write metrics: " + path, e);
+        }
+    }
+
+    /**
+     * @param request - {@link Request}
+     * @return {@link EndpointInfo} value, "METHOD /path/{template}" of the API method or "METHOD /encoded/path"
+     */
+    @Nonnull
+    public static String getEndpoint(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final String endpointInfo = BodyLogPolicies.getEndpointInfo(request);
+        if (endpointInfo != null && !endpointInfo.trim().isEmpty()) {
+            return endpointInfo.trim();
+        }
+        final Invocation invocation = request.tag(Invocation.class);
+        final String template = invocation == null ? null :
+                PATH_TEMPLATES.computeIfAbsent(invocation.method(), EndpointMetrics::getPathTemplate);
+        if (template != null && !template.isEmpty()) {
+            return request.method() + " " + template;
+        }
+        return request.method() + " " + request.url().encodedPath();
+    }
+
+    private EndpointStats stats(final String endpoint) {
+        final EndpointStats stats = endpoints.get(endpoint);
+        return stats != null ? stats : endpoints.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    private static String getPathTemplate(final Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            final String path;
+            if (annotation instanceof GET) {
+                path = ((GET) annotation).value();
+            } else if (annotation instanceof POST) {
+                path = ((POST) annotation).value();
+            } else if (annotation instanceof PUT) {
+                path = ((PUT) annotation).value();
+            } else if (annotation instanceof DELETE) {
+                path = ((DELETE) annotation).value();
+            } else if (annotation instanceof PATCH) {
+                path = ((PATCH) annotation).value();
+            } else if (annotation instanceof HEAD) {
+                path = ((HEAD) annotation).value();
+            } else if (annotation instanceof OPTIONS) {
+                path = ((OPTIONS) annotation).value();
+            } else if (annotation instanceof HTTP) {
+                path = ((HTTP) annotation).path();
+            } else {
+                continue;
+            }
+            // relative URL without the query
+            final int query = path.indexOf('?');
+            final String result = query < 0 ? path : path.substring(0, query);
+            return result.startsWith("/") || result.isEmpty() ? result : "/" + result;
+        }
+        return "";
+    }
+
+    private static long contentLength(@Nullable final RequestBody body) {
+        if (body == null) {
+            return -1;
+        }
+        try {
+            return body.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void summary(final StringBuilder result,
+                                final String name,
+                                final String help,
+                                final Map<String, EndpointStats> endpoints,
+                                final double scale,
+                                final Function<EndpointStats, LogHistogram> histogram) {
+        header(result, name, help, "summary");
+        endpoints.forEach((endpoint, stats) -> {
+            final LogHistogram h = histogram.apply(stats);
+            if (h.getCount() == 0) {
+                return;
+            }
+            final String label = "endpoint=\"" + escape(endpoint) + "\"";
+            for (double quantile : QUANTILES) {
+                result.append(name).append('{').append(label).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(number(h.getPercentile(quantile * 100) * scale)).append('\n');
+            }
+            result.append(name).append("_sum{").append(label).append("} ")
+                    .append(number(h.getSum() * scale)).append('\n');
+            result.append(name).append("_count{").append(label).append("} ").append(h.getCount()).append('\n');
+        });
+    }
+
+    private static void header(final StringBuilder result, final String name, final String help, final String type) {
+        result.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        result.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String number(final double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointMetrics" + getEndpoints().keySet();
+    }
+
+}
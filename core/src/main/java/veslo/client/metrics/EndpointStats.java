@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import veslo.util.LogHistogram;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the single endpoint:
+ * - exchange latency (network call, recorded by {@link veslo.client.inteceptor.CompositeInterceptor});
+ * - call latency (API call including the body conversion,
+ * recorded by {@link veslo.client.adapter.UniversalCallAdapterFactory});
+ * - request and response body bytes (known content length only);
+ * - response conversion and response assertion overhead;
+ * - responses by the status class (1xx..5xx) and transport errors.
+ * <p>
+ * Latencies are in nanoseconds. All counters are striped, so concurrent recording does not contend.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class EndpointStats {
+
+    private final String endpoint;
+    private final LogHistogram exchangeLatency = new LogHistogram();
+    private final LogHistogram callLatency = new LogHistogram();
+    private final LogHistogram conversionLatency = new LogHistogram();
+    private final LogHistogram assertionLatency = new LogHistogram();
+    private final LogHistogram requestBytes = new LogHistogram();
+    private final LogHistogram responseBytes = new LogHistogram();
+    private final LongAdder[] statusClasses = new LongAdder[5];
+    private final LongAdder errors = new LongAdder();
+    private final LongAccumulator firstExchange = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator lastExchange = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    EndpointStats(final String endpoint) {
+        this.endpoint = endpoint;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    void recordExchange(final long startNanos, final long latencyNanos, final int code,
+                        final long requestLength, final long responseLength) {
+        exchangeLatency.record(latencyNanos);
+        firstExchange.accumulate(startNanos);
+        lastExchange.accumulate(startNanos + latencyNanos);
+        if (code >= 100 && code < 600) {
+            statusClasses[code / 100 - 1].increment();
+        }
+        if (requestLength >= 0) {
+            requestBytes.record(requestLength);
+        }
+        if (responseLength >= 0) {
+            responseBytes.record(responseLength);
+        }
+    }
+
+    void recordError(final long startNanos, final long latencyNanos) {
+        exchangeLatency.record(latencyNanos);
+        firstExchange.accumulate(startNanos);
+        lastExchange.accumulate(startNanos + latencyNanos);
+        errors.increment();
+    }
+
+    void recordCall(final long latencyNanos) {
+        callLatency.record(latencyNanos);
+    }
+
+    void recordConversion(final long latencyNanos) {
+        conversionLatency.record(latencyNanos);
+    }
+
+    void recordAssertion(final long latencyNanos) {
+        assertionLatency.record(latencyNanos);
+    }
+
+    /**
+     * @return {@link veslo.client.EndpointInfo} value or "METHOD /path/{template}"
+     */
+    @Nonnull
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return network exchange latencies (nanoseconds)
+     */
+    @Nonnull
+    public LogHistogram getExchangeLatency() {
+        return exchangeLatency;
+    }
+
+    /**
+     * @return API call latencies including the body conversion (nanoseconds)
+     */
+    @Nonnull
+    public LogHistogram getCallLatency() {
+        return callLatency;
+    }
+
+    /**
+     * @return response conversion durations ({@link veslo.client.response.IDualResponse} creation, nanoseconds)
+     */
+    @Nonnull
+    public LogHistogram getConversionLatency() {
+        return conversionLatency;
+    }
+
+    /**
+     * @return response assertion durations ({@link veslo.client.response.BaseDualResponse} assert methods,
+     * nanoseconds)
+     */
+    @Nonnull
+    public LogHistogram getAssertionLatency() {
+        return assertionLatency;
+    }
+
+    /**
+     * @return request body sizes (bytes)
+     */
+    @Nonnull
+    public LogHistogram getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return response body sizes (bytes)
+     */
+    @Nonnull
+    public LogHistogram getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @param statusClass - status class (1..5)
+     * @return number of responses with the status class
+     */
+    public long getStatusClassCount(final int statusClass) {
+        if (statusClass < 1 || statusClass > 5) {
+            throw new IllegalArgumentException("Status class must be in the range [1, 5]. Actual: " + statusClass);
+        }
+        return statusClasses[statusClass - 1].sum();
+    }
+
+    /**
+     * @return number of exchanges failed with the transport error
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * @return number of exchanges (responses and errors)
+     */
+    public long getExchangeCount() {
+        return exchangeLatency.getCount();
+    }
+
+    /**
+     * @return exchanges per second between the first exchange start and the last exchange end (0 if less than two)
+     */
+    public double getThroughput() {
+        final long count = getExchangeCount();
+        final long duration = lastExchange.get() - firstExchange.get();
+        if (count < 2 || duration <= 0) {
+            return 0;
+        }
+        return count * (double) TimeUnit.SECONDS.toNanos(1) / duration;
+    }
+
+    @Override
+    public String toString() {
+        return endpoint + ": exchanges=" + getExchangeCount() + " errors=" + getErrorCount() +
+                " latency(ns): " + exchangeLatency;
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import veslo.RuntimeIOException;
+import veslo.util.LogHistogram;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Test run performance report built from the {@link EndpointMetrics}:
+ * per-endpoint call counts, latency percentiles, transferred bytes, conversion and assertion overhead.
+ * The report is compared with the baseline (the JSON report of a previous run):
+ * the endpoint is flagged as regressed if its p50 or p95 latency exceeds the baseline by more than the threshold.
+ * <p>
+ * The latency is the network exchange latency ({@link veslo.client.inteceptor.CompositeInterceptor})
+ * or the API call latency if the exchanges are not recorded.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class PerformanceReport {
+
+    /**
+     * Default allowed latency growth relative to the baseline (20%)
+     */
+    public static final double DEFAULT_THRESHOLD = 0.2;
+    public static final String JSON_FILE_NAME = "performance-report.json";
+    public static final String HTML_FILE_NAME = "performance-report.html";
+
+    private static final Pattern BASELINE_ENDPOINT = Pattern.compile(
+            "\"endpoint\": \"((?:[^\"\\\\]|\\\\.)*)\".*\"p50Ms\": ([0-9.]+).*\"p95Ms\": ([0-9.]+)");
+
+    private final Map<String, EndpointStats> endpoints;
+    private final Map<String, double[]> baseline = new HashMap<>();
+    private double threshold = DEFAULT_THRESHOLD;
+
+    /**
+     * @param metrics - endpoint metrics registry
+     */
+    public PerformanceReport(@Nonnull final EndpointMetrics metrics) {
+        Utils.parameterRequireNonNull(metrics, METRICS_PARAMETER);
+        this.endpoints = metrics.getEndpoints();
+    }
+
+    /**
+     * @param threshold - allowed p50/p95 latency growth relative to the baseline (0.2 = 20%)
+     * @return this
+     */
+    @Nonnull
+    public PerformanceReport withThreshold(final double threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must be greater than or equal to zero. Actual: " + threshold);
+        }
+        this.threshold = threshold;
+        return this;
+    }
+
+    /**
+     * @param json - JSON report of a previous run ({@link #toJson()})
+     * @return this
+     */
+    @Nonnull
+    public PerformanceReport withBaseline(@Nonnull final String json) {
+        Utils.parameterRequireNonNull(json, BASELINE_PARAMETER);
+        final Matcher matcher = BASELINE_ENDPOINT.matcher(json);
+        while (matcher.find()) {
+            final String endpoint = matcher.group(1).replace("\\\"", "\"").replace("\\\\", "\\");
+            baseline.put(endpoint, new double[]{Double.parseDouble(matcher.group(2)),
+                    Double.parseDouble(matcher.group(3))});
+        }
+        return this;
+    }
+
+    /**
+     * @param path - JSON report file of a previous run (ignored if the file does not exist)
+     * @return this
+     * @throws RuntimeIOException if unable to read the file
+     */
+    @Nonnull
+    public PerformanceReport withBaseline(@Nonnull final Path path) {
+        Utils.parameterRequireNonNull(path, PATH_PARAMETER);
+        if (!Files.isRegularFile(path)) {
+            return this;
+        }
+        try {
+            return withBaseline(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to read baseline: " + path, e);
+        }
+    }
+
+    /**
+     * @return regressed endpoints descriptions (empty if there is no baseline or no regressions)
+     */
+    @Nonnull
+    public List<String> getRegressions() {
+        final List<String> result = new ArrayList<>();
+        endpoints.forEach((endpoint, stats) -> {
+            final String regression = getRegression(endpoint, stats);
+            if (regression != null) {
+                result.add(regression);
+            }
+        });
+        return Collections.unmodifiableList(result);
+    }
+
+    @Nullable
+    private String getRegression(final String endpoint, final EndpointStats stats) {
+        final double[] base = baseline.get(endpoint);
+        final LogHistogram latency = getLatency(stats);
+        if (base == null || latency.getCount() == 0) {
+            return null;
+        }
+        final double p50 = millis(latency.getPercentile(50));
+        final double p95 = millis(latency.getPercentile(95));
+        final List<String> regressed = new ArrayList<>();
+        if (base[0] > 0 && p50 > base[0] * (1 + threshold)) {
+            regressed.add("p50 " + format(p50) + "ms (baseline " + format(base[0]) + "ms)");
+        }
+        if (base[1] > 0 && p95 > base[1] * (1 + threshold)) {
+            regressed.add("p95 " + format(p95) + "ms (baseline " + format(base[1]) + "ms)");
+        }
+        return regressed.isEmpty() ? null : endpoint + ": " + String.join(", ", regressed);
+    }
+
+    /**
+     * @return JSON report (one endpoint per line)
+     */
+    @Nonnull
+    public String toJson() {
+        final StringBuilder result = new StringBuilder("{\n  \"endpoints\": [");
+        String separator = "\n";
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            final EndpointStats stats = entry.getValue();
+            final LogHistogram latency = getLatency(stats);
+            result.append(separator).append("    {\"endpoint\": \"").append(escapeJson(entry.getKey()))
+                    .append("\", \"calls\": ").append(getCalls(stats))
+                    .append(", \"errors\": ").append(stats.getErrorCount())
+                    .append(", \"p50Ms\": ").append(format(millis(latency.getPercentile(50))))
+                    .append(", \"p95Ms\": ").append(format(millis(latency.getPercentile(95))))
+                    .append(", \"p99Ms\": ").append(format(millis(latency.getPercentile(99))))
+                    .append(", \"maxMs\": ").append(format(millis(latency.getMax())))
+                    .append(", \"requestBytes\": ").append(stats.getRequestBytes().getSum())
+                    .append(", \"responseBytes\": ").append(stats.getResponseBytes().getSum())
+                    .append(", \"conversionMs\": ").append(format(millis(stats.getConversionLatency().getSum())))
+                    .append(", \"assertionMs\": ").append(format(millis(stats.getAssertionLatency().getSum())))
+                    .append(", \"regressed\": ").append(getRegression(entry.getKey(), stats) != null)
+                    .append('}');
+            separator = ",\n";
+        }
+        result.append("\n  ],\n  \"regressions\": [");
+        separator = "\n";
+        for (String regression : getRegressions()) {
+            result.append(separator).append("    \"").append(escapeJson(regression)).append('"');
+            separator = ",\n";
+        }
+        return result.append("\n  ]\n}\n").toString();
+    }
+
+    /**
+     * @return HTML report (regressed endpoints are highlighted)
+     */
+    @Nonnull
+    public String toHtml() {
+        final StringBuilder result = new StringBuilder("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n")
+                .append("<title>Veslo performance report</title>\n<style>\n")
+                .append("table {border-collapse: collapse;} th, td {border: 1px solid #ccc; padding: 4px 8px;}\n")
+                .append("td.num {text-align: right;} tr.regressed {background: #fdd;}\n")
+                .append("</style>\n</head>\n<body>\n<h1>Veslo performance report</h1>\n");
+        final List<String> regressions = getRegressions();
+        if (!regressions.isEmpty()) {
+            result.append("<h2>Regressions</h2>\n<ul>\n");
+            regressions.forEach(r -> result.append("<li>").append(escapeHtml(r)).append("</li>\n"));
+            result.append("</ul>\n");
+        }
+        result.append("<table>\n<tr><th>Endpoint</th><th>Calls</th><th>Errors</th><th>p50, ms</th><th>p95, ms</th>")
+                .append("<th>p99, ms</th><th>Max, ms</th><th>Request bytes</th><th>Response bytes</th>")
+                .append("<th>Conversion, ms</th><th>Assertion, ms</th></tr>\n");
+        endpoints.forEach((endpoint, stats) -> {
+            final LogHistogram latency = getLatency(stats);
+            result.append(getRegression(endpoint, stats) == null ? "<tr>" : "<tr class=\"regressed\">")
+                    .append("<td>").append(escapeHtml(endpoint)).append("</td>");
+            cell(result, String.valueOf(getCalls(stats)));
+            cell(result, String.valueOf(stats.getErrorCount()));
+            cell(result, format(millis(latency.getPercentile(50))));
+            cell(result, format(millis(latency.getPercentile(95))));
+            cell(result, format(millis(latency.getPercentile(99))));
+            cell(result, format(millis(latency.getMax())));
+            cell(result, String.valueOf(stats.getRequestBytes().getSum()));
+            cell(result, String.valueOf(stats.getResponseBytes().getSum()));
+            cell(result, format(millis(stats.getConversionLatency().getSum())));
+            cell(result, format(millis(stats.getAssertionLatency().getSum())));
+            result.append("</tr>\n");
+        });
+        return result.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    /**
+     * Writes {@link #JSON_FILE_NAME} and {@link #HTML_FILE_NAME} reports
+     *
+     * @param directory - report directory (created if absent)
+     * @throws RuntimeIOException if unable to write the reports
+     */
+    public void write(@Nonnull final Path directory) {
+        Utils.parameterRequireNonNull(directory, DIRECTORY_PARAMETER);
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(JSON_FILE_NAME), toJson().getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve(HTML_FILE_NAME), toHtml().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to write performance report: " + directory, e);
+        }
+    }
+
+    private static LogHistogram getLatency(final EndpointStats stats) {
+        return stats.getExchangeCount() > 0 ? stats.getExchangeLatency() : stats.getCallLatency();
+    }
+
+    private static long getCalls(final EndpointStats stats) {
+        return Math.max(stats.getExchangeCount(), stats.getCallLatency().getCount());
+    }
+
+    private static void cell(final StringBuilder result, final String value) {
+        result.append("<td class=\"num\">").append(value).append("</td>");
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000D;
+    }
+
+    private static String format(final double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String escapeJson(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHtml(final String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+}
@@ -21,6 +21,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import veslo.asserter.IHeadersAsserter;
 import veslo.asserter.IResponseAsserter;
+import veslo.client.inteceptor.ExchangeSnapshot;
+import veslo.client.metrics.EndpointMetrics;
+import veslo.jfr.VesloEvents;
+import veslo.trace.Span;
+import veslo.trace.VesloTracer;
 import veslo.util.Utils;
 
 import javax.annotation.Nonnull;
@@ -37,7 +42,20 @@ public abstract class BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER extends IRespo
 
     private final SUC_DTO sucDTO;
     private final ERR_DTO errDTO;
-    private final Response response;
+    /**
+     * Deferred success DTO conversion (null - {@link #sucDTO} is converted)
+     */
+    private final LazyDTO<SUC_DTO> lazySucDTO;
+    /**
+     * Deferred error DTO conversion (null - {@link #errDTO} is converted)
+     */
+    private final LazyDTO<ERR_DTO> lazyErrDTO;
+    private volatile Response response;
+    private volatile boolean compact;
+    /**
+     * Endpoint metrics key captured before the compaction drops the request tags (null - not compacted)
+     */
+    private volatile String endpointKey;
     private final String endpointInfo;
     private final Annotation[] callAnnotations;
     private Logger logger = LoggerFactory.getLogger(BaseDualResponse.class);
@@ -55,9 +73,36 @@ public abstract class BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER extends IRespo
                                final @Nonnull Response response,
                                final @Nonnull String endpointInfo,
                                final @Nonnull Annotation[] callAnnotations) {
+        this(response, sucDTO, errDTO, null, null, endpointInfo, callAnnotations);
+    }
+
+    /**
+     * Constructor with deferred DTO conversion
+     * (see {@link veslo.client.adapter.UniversalCallAdapterFactory#withLazyBodyConversion(boolean)})
+     *
+     * @param conversion      - okhttp raw response with the deferred DTO conversions
+     * @param endpointInfo    - called method info
+     * @param callAnnotations - called method annotations
+     */
+    protected BaseDualResponse(final @Nonnull LazyConversion<SUC_DTO, ERR_DTO> conversion,
+                               final @Nonnull String endpointInfo,
+                               final @Nonnull Annotation[] callAnnotations) {
+        this(conversion.getResponse(), null, null, conversion.getSucDTO(), conversion.getErrDTO(),
+                endpointInfo, callAnnotations);
+    }
+
+    private BaseDualResponse(final Response response,
+                             final SUC_DTO sucDTO,
+                             final ERR_DTO errDTO,
+                             final LazyDTO<SUC_DTO> lazySucDTO,
+                             final LazyDTO<ERR_DTO> lazyErrDTO,
+                             final String endpointInfo,
+                             final Annotation[] callAnnotations) {
         this.response = response;
         this.sucDTO = sucDTO;
         this.errDTO = errDTO;
+        this.lazySucDTO = lazySucDTO;
+        this.lazyErrDTO = lazyErrDTO;
         this.endpointInfo = endpointInfo;
         this.callAnnotations = callAnnotations;
     }
@@ -67,41 +112,70 @@ public abstract class BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER extends IRespo
     public abstract ASSERTER getResponseAsserter();
 
     public BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER> assertResponse(Consumer<ASSERTER> respAsserter) {
-        try (final ASSERTER responseAsserter = getResponseAsserter()) {
-            respAsserter.accept(responseAsserter);
-        }
+        assertWith(respAsserter);
         logger.info(WITHOUT_ERRORS_MSG);
         return this;
     }
 
     public BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER> assertSucResponse(BiConsumer<ASSERTER, SUC_DTO> respAsserter,
                                                                           SUC_DTO expected) {
-        try (final ASSERTER responseAsserter = getResponseAsserter()) {
-            respAsserter.accept(responseAsserter, expected);
-        }
+        assertWith(responseAsserter -> respAsserter.accept(responseAsserter, expected));
         logger.info(WITHOUT_ERRORS_MSG);
         return this;
     }
 
     public BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER> assertErrResponse(BiConsumer<ASSERTER, ERR_DTO> respAsserter,
                                                                           ERR_DTO expected) {
-        try (final ASSERTER responseAsserter = getResponseAsserter()) {
-            respAsserter.accept(responseAsserter, expected);
-        }
+        assertWith(responseAsserter -> respAsserter.accept(responseAsserter, expected));
         logger.info(WITHOUT_ERRORS_MSG);
         return this;
     }
 
+    private void assertWith(final Consumer<ASSERTER> assertion) {
+        final long start = System.nanoTime();
+        final Object event = VesloEvents.beginAssertion();
+        final Span span = VesloTracer.startSpan("Assertion: " + getEndpointInfo(), null);
+        boolean passed = false;
+        try {
+            try (final ASSERTER responseAsserter = getResponseAsserter()) {
+                assertion.accept(responseAsserter);
+            }
+            passed = true;
+        } catch (RuntimeException | Error e) {
+            if (span != null) {
+                span.setError(e);
+            }
+            throw e;
+        } finally {
+            final EndpointMetrics runMetrics = EndpointMetrics.getRunMetrics();
+            if (runMetrics != null) {
+                final String key = endpointKey;
+                if (key == null) {
+                    runMetrics.recordAssertion(getResponse().request(), System.nanoTime() - start);
+                } else {
+                    runMetrics.recordAssertion(key, System.nanoTime() - start);
+                }
+            }
+            VesloEvents.commitAssertion(event, getEndpointInfo(), getHttpStatusCode(), passed);
+            if (span != null) {
+                span.setAttribute("veslo.endpoint", getEndpointInfo())
+                        .setAttribute("http.status_code", getHttpStatusCode())
+                        .setAttribute("veslo.assertion.passed", passed)
+                        .end();
+            }
+        }
+    }
+
     @Override
     @Nullable
     public ERR_DTO getErrDTO() {
-        return errDTO;
+        return lazyErrDTO == null ? errDTO : lazyErrDTO.get();
     }
 
     @Override
     @Nullable
     public SUC_DTO getSucDTO() {
-        return sucDTO;
+        return lazySucDTO == null ? sucDTO : lazySucDTO.get();
     }
 
     @Override
@@ -117,6 +191,49 @@ public abstract class BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER extends IRespo
         return response;
     }
 
+    /**
+     * Replaces the retained okhttp {@link Response} with its minimal snapshot ({@link CompactResponse}):
+     * status, request line, headers and timings. The raw exchange (request headers, body and tags, handshake,
+     * network/prior responses) becomes available for garbage collection.
+     * Call it when the test no longer needs the raw exchange (for example, before keeping the response in a list).
+     * The deferred DTO conversions capture the raw exchange, so they are performed here
+     * (a conversion error is rethrown on the DTO access), and the captured body snapshots are released.
+     * Note: {@link #getExchangeSnapshot()} returns null after compaction.
+     *
+     * @return this
+     */
+    public BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER> compact() {
+        if (!compact) {
+            resolve(lazySucDTO);
+            resolve(lazyErrDTO);
+            final ExchangeSnapshot snapshot = ExchangeSnapshot.of(response);
+            endpointKey = EndpointMetrics.getEndpoint(response.request());
+            response = CompactResponse.of(response).toResponse();
+            if (snapshot != null) {
+                snapshot.close();
+            }
+            compact = true;
+        }
+        return this;
+    }
+
+    private static void resolve(@Nullable final LazyDTO<?> dto) {
+        if (dto != null) {
+            try {
+                dto.get();
+            } catch (RuntimeException ignore) {
+                // memoized by the LazyDTO and rethrown on the DTO access
+            }
+        }
+    }
+
+    /**
+     * @return true if the retained response is compacted
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
     @Override
     @Nonnull
     public Annotation[] getCallAnnotations() {
@@ -125,10 +242,12 @@ public abstract class BaseDualResponse<SUC_DTO, ERR_DTO, ASSERTER extends IRespo
 
     @Override
     public String toString() {
-        return ("Success DTO: " + getSucDTO() + "\n" +
-                "Error DTO: " + getErrDTO() + "\n" +
+        // does not trigger the lazy conversion
+        return ("Success DTO: " + (lazySucDTO == null ? sucDTO : lazySucDTO) + "\n" +
+                "Error DTO: " + (lazyErrDTO == null ? errDTO : lazyErrDTO) + "\n" +
                 "Raw response: " + getResponse() + "\n" +
                 "Call info: '" + getEndpointInfo() + "'\n" +
+                (getCallTiming() == null ? "" : "Call timing: " + getCallTiming() + "\n") +
                 "API method annotations:" + Utils.arrayToPrettyString(getCallAnnotations()));
     }
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.response;
+
+import okhttp3.Headers;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.internal.http.HttpMethod;
+import veslo.client.metrics.CallTiming;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static veslo.constant.ParameterNameConstants.RESPONSE_PARAMETER;
+
+/**
+ * Minimal immutable snapshot of the {@link Response} retained by the {@link BaseDualResponse} in the compact mode:
+ * status, request line, headers and timings.
+ * The request (headers, body, tags except the call timing), handshake, body and the network/prior/cache responses
+ * are not retained.
+ * <p>
+ * Header names and the values of the low-cardinality headers ({@link #INTERNED_VALUE_HEADERS}) are interned
+ * until the interner is full ({@link #MAX_INTERNED_VALUES}), so repeated strings are shared between the retained
+ * responses. Other header values (date, request id, cookies, tokens) are never interned (not retained by the
+ * interner after the response is released).
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class CompactResponse {
+
+    /**
+     * Maximum number of interned header names and values
+     */
+    public static final int MAX_INTERNED_VALUES = 10_000;
+
+    /**
+     * Headers (case-insensitive) with low-cardinality values that are interned
+     */
+    public static final Set<String> INTERNED_VALUE_HEADERS = Collections.unmodifiableSet(caseInsensitiveSet(
+            "Accept-Ranges", "Access-Control-Allow-Credentials", "Access-Control-Allow-Headers",
+            "Access-Control-Allow-Methods", "Access-Control-Allow-Origin", "Cache-Control", "Connection",
+            "Content-Encoding", "Content-Language", "Content-Type", "Pragma", "Server", "Strict-Transport-Security",
+            "Transfer-Encoding", "Vary", "X-Content-Type-Options", "X-Frame-Options", "X-Powered-By"));
+
+    private static final Map<String, String> INTERNER = new ConcurrentHashMap<>();
+    private static final RequestBody EMPTY_BODY = RequestBody.create(null, new byte[0]);
+
+    private final String method;
+    private final String url;
+    private final Protocol protocol;
+    private final int code;
+    private final String message;
+    private final String[] namesAndValues;
+    private final long sentRequestAtMillis;
+    private final long receivedResponseAtMillis;
+    private final CallTiming callTiming;
+
+    private CompactResponse(final Response response) {
+        this.method = intern(response.request().method());
+        this.url = response.request().url().toString();
+        this.protocol = response.protocol();
+        this.code = response.code();
+        this.message = intern(response.message());
+        final Headers headers = response.headers();
+        this.namesAndValues = new String[headers.size() * 2];
+        for (int i = 0; i < headers.size(); i++) {
+            final String name = headers.name(i);
+            namesAndValues[i * 2] = intern(name);
+            final String value = headers.value(i);
+            namesAndValues[i * 2 + 1] = INTERNED_VALUE_HEADERS.contains(name) ? intern(value) : value;
+        }
+        this.sentRequestAtMillis = response.sentRequestAtMillis();
+        this.receivedResponseAtMillis = response.receivedResponseAtMillis();
+        this.callTiming = CallTiming.of(response);
+    }
+
+    /**
+     * @param response - okhttp response
+     * @return compact response snapshot
+     */
+    @Nonnull
+    public static CompactResponse of(@Nonnull final Response response) {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        return new CompactResponse(response);
+    }
+
+    /**
+     * @return minimal okhttp {@link Response} (without body, handshake, request headers, body and tags
+     * except the {@link CallTiming})
+     * usable by the response asserters
+     */
+    @Nonnull
+    public Response toResponse() {
+        final Request request = new Request.Builder()
+                .url(url)
+                .method(method, HttpMethod.requiresRequestBody(method) ? EMPTY_BODY : null)
+                .tag(CallTiming.class, callTiming)
+                .build();
+        return new Response.Builder()
+                .request(request)
+                .protocol(protocol)
+                .code(code)
+                .message(message)
+                .headers(getHeaders())
+                .sentRequestAtMillis(sentRequestAtMillis)
+                .receivedResponseAtMillis(receivedResponseAtMillis)
+                .build();
+    }
+
+    /**
+     * @return request line (method and URL)
+     */
+    @Nonnull
+    public String getRequestLine() {
+        return method + " " + url;
+    }
+
+    /**
+     * @return HTTP status code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @return HTTP status message
+     */
+    @Nonnull
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return HTTP protocol
+     */
+    @Nonnull
+    public Protocol getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * @return response headers
+     */
+    @Nonnull
+    public Headers getHeaders() {
+        return Headers.of(namesAndValues);
+    }
+
+    /**
+     * @return request sending timestamp
+     */
+    public long getSentRequestAtMillis() {
+        return sentRequestAtMillis;
+    }
+
+    /**
+     * @return response receiving timestamp
+     */
+    public long getReceivedResponseAtMillis() {
+        return receivedResponseAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return getRequestLine() + " -> " + protocol + " " + code + " " + message +
+                " (" + (receivedResponseAtMillis - sentRequestAtMillis) + "ms)";
+    }
+
+    private static Set<String> caseInsensitiveSet(final String... values) {
+        final Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(Arrays.asList(values));
+        return set;
+    }
+
+    private static String intern(final String value) {
+        final String interned = INTERNER.get(value);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNER.size() >= MAX_INTERNED_VALUES) {
+            return value;
+        }
+        final String previous = INTERNER.putIfAbsent(value, value);
+        return previous == null ? value : previous;
+    }
+
+}
@@ -47,6 +47,41 @@ public class DualResponse<SUC_DTO, ERR_DTO>
         setLogger(LoggerFactory.getLogger(DualResponse.class));
     }
 
+    /**
+     * Constructor with deferred DTO conversion
+     *
+     * @param conversion      - okhttp raw response with the deferred DTO conversions
+     * @param endpointInfo    - called method info
+     * @param callAnnotations - called method annotations
+     */
+    protected DualResponse(final @Nonnull LazyConversion<SUC_DTO, ERR_DTO> conversion,
+                           final @Nonnull String endpointInfo,
+                           final @Nonnull Annotation[] callAnnotations) {
+        super(conversion, endpointInfo, callAnnotations);
+        setLogger(LoggerFactory.getLogger(DualResponse.class));
+    }
+
+    /**
+     * Creates the response with deferred DTO conversion
+     * (see {@link veslo.client.adapter.UniversalCallAdapterFactory#withLazyBodyConversion(boolean)})
+     *
+     * @param response        - okhttp raw response
+     * @param sucDTO          - nullable deferred success response DTO
+     * @param errDTO          - nullable deferred error response DTO
+     * @param endpointInfo    - called method info
+     * @param callAnnotations - called method annotations
+     * @param <SUC_DTO>       - success DTO type
+     * @param <ERR_DTO>       - error DTO type
+     * @return new {@link DualResponse}
+     */
+    public static <SUC_DTO, ERR_DTO> DualResponse<SUC_DTO, ERR_DTO> lazy(final @Nonnull Response response,
+                                                                        final @Nullable LazyDTO<SUC_DTO> sucDTO,
+                                                                        final @Nullable LazyDTO<ERR_DTO> errDTO,
+                                                                        final @Nonnull String endpointInfo,
+                                                                        final @Nonnull Annotation[] callAnnotations) {
+        return new DualResponse<>(new LazyConversion<>(response, sucDTO, errDTO), endpointInfo, callAnnotations);
+    }
+
     @Override
     public HeadersAsserter getHeadersAsserter() {
         return new HeadersAsserter(this);
@@ -18,6 +18,8 @@ package veslo.client.response;
 
 import okhttp3.Headers;
 import okhttp3.Response;
+import veslo.client.inteceptor.ExchangeSnapshot;
+import veslo.client.metrics.CallTiming;
 import veslo.util.OkhttpUtils;
 
 import javax.annotation.Nonnull;
@@ -68,6 +70,24 @@ public interface IDualResponse<SUC_DTO, ERR_DTO> {
     @Nonnull
     Annotation[] getCallAnnotations();
 
+    /**
+     * @return request/response body snapshots if the body capture is enabled in the
+     * {@link veslo.client.inteceptor.CompositeInterceptor} otherwise null
+     */
+    @Nullable
+    default ExchangeSnapshot getExchangeSnapshot() {
+        return ExchangeSnapshot.of(getResponse());
+    }
+
+    /**
+     * @return network phase timing of the call if the client is built with the
+     * {@link veslo.client.metrics.CallTimingRecorder} (default for {@link veslo.client.TestClient}) otherwise null
+     */
+    @Nullable
+    default CallTiming getCallTiming() {
+        return CallTiming.of(getResponse());
+    }
+
     /**
      * @return okhttp3 response headers
      */
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.response;
+
+import okhttp3.Response;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static veslo.constant.ParameterNameConstants.RESPONSE_PARAMETER;
+import static veslo.constant.SonarRuleConstants.SONAR_TYPE_PARAMETER_NAMING;
+
+/**
+ * Raw response with the deferred success/error DTO conversions.
+ * Argument of the deferred conversion {@link BaseDualResponse} constructor
+ * (see {@link DualResponse#lazy(Response, LazyDTO, LazyDTO, String, java.lang.annotation.Annotation[])}).
+ *
+ * @param <SUC_DTO> - success DTO type
+ * @param <ERR_DTO> - error DTO type
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+@SuppressWarnings(SONAR_TYPE_PARAMETER_NAMING)
+public final class LazyConversion<SUC_DTO, ERR_DTO> {
+
+    private final Response response;
+    private final LazyDTO<SUC_DTO> sucDTO;
+    private final LazyDTO<ERR_DTO> errDTO;
+
+    /**
+     * @param response - okhttp raw response
+     * @param sucDTO   - nullable deferred success response DTO
+     * @param errDTO   - nullable deferred error response DTO
+     */
+    public LazyConversion(@Nonnull final Response response,
+                          @Nullable final LazyDTO<SUC_DTO> sucDTO,
+                          @Nullable final LazyDTO<ERR_DTO> errDTO) {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        this.response = response;
+        this.sucDTO = sucDTO;
+        this.errDTO = errDTO;
+    }
+
+    /**
+     * @return okhttp raw response
+     */
+    @Nonnull
+    public Response getResponse() {
+        return response;
+    }
+
+    /**
+     * @return deferred success response DTO or null
+     */
+    @Nullable
+    public LazyDTO<SUC_DTO> getSucDTO() {
+        return sucDTO;
+    }
+
+    /**
+     * @return deferred error response DTO or null
+     */
+    @Nullable
+    public LazyDTO<ERR_DTO> getErrDTO() {
+        return errDTO;
+    }
+
+}
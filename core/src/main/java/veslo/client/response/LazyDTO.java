@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.response;
+
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static veslo.constant.ParameterNameConstants.SUPPLIER_PARAMETER;
+
+/**
+ * Deferred (memoized, thread-safe) response body conversion result.
+ * The conversion is performed on the first {@link #get()} call.
+ * A conversion error is also memoized and rethrown on every {@link #get()} call.
+ * <p>
+ * Passed to the deferred conversion {@link BaseDualResponse} constructor if the lazy body conversion is enabled
+ * (see {@link veslo.client.adapter.UniversalCallAdapterFactory#withLazyBodyConversion(boolean)}).
+ *
+ * @param <T> - DTO type
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class LazyDTO<T> implements Supplier<T> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Supplier<T> conversion;
+    private T value;
+    private RuntimeException error;
+    private volatile boolean resolved;
+
+    private LazyDTO(final Supplier<T> conversion) {
+        this.conversion = conversion;
+    }
+
+    /**
+     * @param conversion - body conversion function
+     * @param <T>        - DTO type
+     * @return new deferred conversion result
+     */
+    @Nonnull
+    public static <T> LazyDTO<T> of(@Nonnull final Supplier<T> conversion) {
+        Utils.parameterRequireNonNull(conversion, SUPPLIER_PARAMETER);
+        return new LazyDTO<>(conversion);
+    }
+
+    /**
+     * @return converted DTO
+     * @throws RuntimeException conversion error (for example {@link veslo.ConvertCallException})
+     */
+    @Override
+    @Nullable
+    public T get() {
+        if (!resolved) {
+            lock.lock();
+            try {
+                if (!resolved) {
+                    try {
+                        value = conversion.get();
+                    } catch (RuntimeException e) {
+                        error = e;
+                    }
+                    // release the captured response body
+                    conversion = null;
+                    resolved = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+
+    /**
+     * @return true if the conversion has already been performed
+     */
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * @return DTO string representation without triggering the conversion
+     */
+    @Override
+    public String toString() {
+        if (!resolved) {
+            return "<not converted yet>";
+        }
+        return error == null ? String.valueOf(value) : "<conversion error: " + error.getMessage() + ">";
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.response;
+
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ByteString;
+import retrofit2.Call;
+import retrofit2.Converter;
+import veslo.ConvertCallException;
+import veslo.RuntimeIOException;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Incremental (pull) response body reader for the line delimited streams (NDJSON, JSON Lines, JSON text sequences).
+ * Each element is read from the network source and converted by the registered response converter only when
+ * requested ({@link #hasNext()}), so the consumer controls the download rate (back-pressure).
+ * Closing the stream before the end cancels the call and discards the rest of the body.
+ * <p>
+ * For NDJSON-like content types, elements are converted as {@code application/json} bodies
+ * (see {@link #getElementMediaType(MediaType)}), otherwise - with the stream content type.
+ * <p>
+ * The error body of the non-2xx response is not an element stream: the stream has no elements
+ * and the unconverted error body is available via {@link #getErrorBody()}.
+ * <p>
+ * API method declaration (the {@link retrofit2.http.Streaming} annotation prevents the body buffering):
+ * * &#64;Streaming
+ * * &#64;GET("/api/events")
+ * * ResponseStream&lt;EventDTO&gt; events();
+ * <p>
+ * Usage:
+ * * try (ResponseStream&lt;EventDTO&gt; events = client.events()) {
+ * *     assertThat(events.next().getType(), is("started"));
+ * * } // the rest of the body is not downloaded
+ *
+ * @param <T> - element type
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class ResponseStream<T> implements Iterator<T>, Closeable {
+
+    /**
+     * Line delimited JSON content subtypes
+     */
+    public static final List<String> JSON_STREAM_SUBTYPES =
+            Arrays.asList("x-ndjson", "ndjson", "jsonl", "x-jsonlines", "json-seq", "stream+json");
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte RS = 0x1E;
+
+    private final Call<?> call;
+    private final Response rawResponse;
+    private final Type elementType;
+    private final Converter<ResponseBody, ?> converter;
+    @Nullable
+    private final ResponseBody body;
+    @Nullable
+    private final ResponseBody errorBody;
+    @Nullable
+    private final MediaType elementMediaType;
+    @Nullable
+    private ByteString nextElement;
+    private long elementCount;
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * @param call        - executed call
+     * @param response    - call response with unconverted {@link ResponseBody} (body or error body)
+     * @param elementType - element type
+     * @param converter   - element converter
+     */
+    public ResponseStream(@Nonnull final Call<?> call,
+                          @Nonnull final retrofit2.Response<?> response,
+                          @Nonnull final Type elementType,
+                          @Nonnull final Converter<ResponseBody, ?> converter) {
+        Utils.parameterRequireNonNull(call, CALL_PARAMETER);
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        Utils.parameterRequireNonNull(elementType, TYPE_PARAMETER);
+        Utils.parameterRequireNonNull(converter, CONVERTER_PARAMETER);
+        this.call = call;
+        this.rawResponse = response.raw();
+        this.elementType = elementType;
+        this.converter = converter;
+        final Object responseBody = response.body();
+        if (responseBody != null && !(responseBody instanceof ResponseBody)) {
+            throw new IllegalArgumentException("Unconverted response body expected, got: " + responseBody.getClass());
+        }
+        this.body = (ResponseBody) responseBody;
+        this.errorBody = response.errorBody();
+        this.elementMediaType = body == null ? null : getElementMediaType(body.contentType());
+        this.exhausted = body == null;
+    }
+
+    /**
+     * @param streamMediaType - stream content type
+     * @return {@code application/json} (with the stream charset) for NDJSON-like types, otherwise the stream type
+     */
+    @Nullable
+    public static MediaType getElementMediaType(@Nullable final MediaType streamMediaType) {
+        if (streamMediaType != null && JSON_STREAM_SUBTYPES.contains(streamMediaType.subtype().toLowerCase())) {
+            final Charset charset = streamMediaType.charset();
+            return MediaType.get("application/json" + (charset == null ? "" : "; charset=" + charset.name()));
+        }
+        return streamMediaType;
+    }
+
+    /**
+     * Blocks until the next element is received or the end of the stream is reached.
+     *
+     * @return true if the stream has the next element
+     * @throws RuntimeIOException if the stream read failed
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextElement != null) {
+            return true;
+        }
+        if (exhausted || closed) {
+            return false;
+        }
+        try {
+            nextElement = readElement();
+        } catch (IOException e) {
+            close();
+            throw new RuntimeIOException("Failed to read the response stream element #" + (elementCount + 1), e);
+        }
+        if (nextElement == null) {
+            exhausted = true;
+            close();
+        }
+        return nextElement != null;
+    }
+
+    /**
+     * @return next converted element
+     * @throws NoSuchElementException if the stream has no more elements
+     * @throws ConvertCallException   if the element is not convertible
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Response stream has no more elements");
+        }
+        final ByteString element = nextElement;
+        nextElement = null;
+        elementCount++;
+        try {
+            return (T) converter.convert(ResponseBody.create(elementMediaType, element));
+        } catch (ConvertCallException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ConvertCallException("Error converting response stream element #" + elementCount +
+                    " to type " + elementType.getTypeName(), e);
+        }
+    }
+
+    /**
+     * @return sequential stream of the remaining elements (closing the stream closes this object)
+     */
+    @Nonnull
+    public Stream<T> stream() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, characteristics), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Closes the response body. If the stream was not read to the end, the call is cancelled.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!exhausted) {
+            call.cancel();
+        }
+        if (body != null) {
+            body.close();
+        }
+        if (errorBody != null) {
+            errorBody.close();
+        }
+    }
+
+    /**
+     * @return unconverted error body of the non-2xx response (closed by {@link #close()}) or null for 2xx response
+     */
+    @Nullable
+    public ResponseBody getErrorBody() {
+        return errorBody;
+    }
+
+    /**
+     * @return okhttp {@link Response} (status and headers)
+     */
+    @Nonnull
+    public Response getResponse() {
+        return rawResponse;
+    }
+
+    /**
+     * @return true if the HTTP status code is 2xx
+     */
+    public boolean isSuccessful() {
+        return rawResponse.isSuccessful();
+    }
+
+    /**
+     * @return the number of elements returned by {@link #next()}
+     */
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * @return true if the end of the body has been reached
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * @return true if the stream is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Nullable
+    private ByteString readElement() throws IOException {
+        //noinspection ConstantConditions (exhausted if null)
+        final BufferedSource source = body.source();
+        while (true) {
+            final long index = source.indexOf(LF);
+            final ByteString line;
+            if (index == -1) {
+                // the last element without a trailing line feed
+                if (source.exhausted()) {
+                    return null;
+                }
+                line = source.readByteString();
+            } else {
+                line = source.readByteString(index);
+                source.skip(1);
+            }
+            final ByteString element = trim(line);
+            if (element.size() > 0) {
+                return element;
+            }
+        }
+    }
+
+    private static ByteString trim(final ByteString line) {
+        int start = 0;
+        int end = line.size();
+        while (start < end && (line.getByte(start) == RS || line.getByte(start) == ' ')) {
+            start++;
+        }
+        while (end > start && (line.getByte(end - 1) == CR || line.getByte(end - 1) == ' ')) {
+            end--;
+        }
+        return line.substring(start, end);
+    }
+
+}
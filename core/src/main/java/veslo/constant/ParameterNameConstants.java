@@ -104,11 +104,69 @@ public class ParameterNameConstants {
     public static final String THROWABLE_RUNNABLE_PARAMETER = "throwableRunnable";
     public static final String BASE_URL_PARAMETER = "baseUrl";
     public static final String INTERCEPTOR_PARAMETER = "interceptor";
+    public static final String INTERCEPTORS_PARAMETER = "applicationInterceptors";
     public static final String CALL_ADAPTER_FACTORY_PARAMETER = "callAdapterFactory";
     public static final String CONVERTER_FACTORY_PARAMETER = "converterFactory";
     public static final String CLIENT_CLASS_PARAMETER = "clientClass";
     public static final String TRUNCATION_PREDICATE_PARAMETER = "truncationPredicate";
     public static final String EXCLUDE_CLASSES = "excludeClasses";
+    public static final String OVERFLOW_POLICY_PARAMETER = "overflowPolicy";
+    public static final String TIME_UNIT_PARAMETER = "unit";
+    public static final String BUFFER_PARAMETER = "buffer";
+    public static final String POLICY_PARAMETER = "policy";
+    public static final String ENDPOINT_PARAMETER = "endpoint";
+    public static final String CONSUMER_PARAMETER = "consumer";
+    public static final String BODY_LOG_POLICIES_PARAMETER = "bodyLogPolicies";
+    public static final String SOURCE_PARAMETER = "source";
+    public static final String ACTION_CLASS_PARAMETER = "actionClass";
+    public static final String PHASE_PARAMETER = "phase";
+    public static final String METRICS_PARAMETER = "metrics";
+    public static final String ROUTE_PARAMETER = "route";
+    public static final String METHOD_PARAMETER = "method";
+    public static final String HANDLER_PARAMETER = "handler";
+    public static final String KEY_PARAMETER = "key";
+    public static final String NAME_PARAMETER = "name";
+    public static final String SUPPLIER_PARAMETER = "supplier";
+    public static final String TASK_PARAMETER = "task";
+    public static final String TASKS_PARAMETER = "tasks";
+    public static final String CONTEXT_PARAMETER = "context";
+    public static final String INPUTS_PARAMETER = "inputs";
+    public static final String ASSERTION_PARAMETER = "assertion";
+    public static final String DEPENDENCIES_PARAMETER = "dependencies";
+    public static final String DEPENDENCY_PARAMETER = "dependency";
+    public static final String NODE_PARAMETER = "node";
+    public static final String METHODS_PARAMETER = "methods";
+    public static final String BUDGET_PARAMETER = "budget";
+    public static final String DURATION_PARAMETER = "duration";
+    public static final String SCENARIO_PARAMETER = "scenario";
+    public static final String PROFILE_PARAMETER = "profile";
+    public static final String CLIENT_PARAMETER = "client";
+    public static final String HISTORY_PARAMETER = "history";
+    public static final String BASELINE_PARAMETER = "baseline";
+    public static final String DIRECTORY_PARAMETER = "directory";
+    public static final String SPAN_PARAMETER = "span";
+    public static final String EXPORTER_PARAMETER = "exporter";
+    public static final String RESPONDER_PARAMETER = "responder";
+    public static final String LATENCY_PARAMETER = "latency";
+    public static final String FAULT_PARAMETER = "fault";
+    public static final String MEDIA_TYPE_PARAMETER = "mediaType";
+    public static final String MESSAGE_PARAMETER = "message";
+    public static final String CASSETTE_PARAMETER = "cassette";
+    public static final String MODE_PARAMETER = "mode";
+    public static final String RULES_PARAMETER = "rules";
+    public static final String ENTRY_PARAMETER = "entry";
+    public static final String NORMALIZER_PARAMETER = "normalizer";
+    public static final String FILTER_PARAMETER = "filter";
+    public static final String HEADERS_PARAMETER = "headers";
+    public static final String REGEX_PARAMETER = "regex";
+    public static final String CHAIN_PARAMETER = "chain";
+    public static final String FORMAT_PARAMETER = "format";
+    public static final String CONTENT_PARAMETER = "content";
+    public static final String ATTACHMENT_SINK_PARAMETER = "attachmentSink";
+    public static final String LIFECYCLE_PARAMETER = "lifecycle";
+    public static final String ATTACHMENT_PARAMETER = "attachment";
+    public static final String CALL_OBSERVER_PARAMETER = "callObserver";
+    public static final String JOURNAL_PARAMETER = "journal";
 
     /**
      * Utility class. Forbidden instantiation.
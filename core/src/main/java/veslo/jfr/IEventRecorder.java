@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package veslo.jfr;
+
+import javax.annotation.Nullable;
+
+/**
+ * Typed part of the {@link VesloEvents} provided by the optional {@code jfr} module (Java 11+).
+ * The implementation is loaded by the {@link java.util.ServiceLoader}, so the core module
+ * does not depend on the {@code jdk.jfr} API and stays loadable on any Java 8+ runtime.
+ * Begin methods return null if the event type is not enabled by an active recording.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public interface IEventRecorder {
+
+    /**
+     * @return API call event or null
+     */
+    @Nullable
+    Object beginCall();
+
+    /**
+     * @param event       - {@link #beginCall()} result
+     * @param endpoint    - API method endpoint info
+     * @param successType - success DTO type name
+     * @param errorType   - error DTO type name
+     * @param statusCode  - HTTP status code (-1 if no response)
+     */
+    void commitCall(Object event, String endpoint, String successType, String errorType, int statusCode);
+
+    /**
+     * @return converter resolution event or null
+     */
+    @Nullable
+    Object beginConverterResolution();
+
+    /**
+     * @param event     - {@link #beginConverterResolution()} result
+     * @param endpoint  - API method endpoint info
+     * @param direction - {@link VesloEvents#REQUEST} or {@link VesloEvents#RESPONSE}
+     * @param bodyType  - body type name
+     * @param converter - resolved converter type name (empty if not resolved)
+     */
+    void commitConverterResolution(Object event, String endpoint, String direction, String bodyType,
+                                   String converter);
+
+    /**
+     * @return body conversion event or null
+     */
+    @Nullable
+    Object beginConversion();
+
+    /**
+     * @param event     - {@link #beginConversion()} result
+     * @param endpoint  - API method endpoint info
+     * @param direction - {@link VesloEvents#REQUEST} or {@link VesloEvents#RESPONSE}
+     * @param bodyType  - body type name
+     * @param converter - converter type name
+     * @param bytes     - body size (-1 if unknown)
+     */
+    void commitConversion(Object event, String endpoint, String direction, String bodyType, String converter,
+                          long bytes);
+
+    /**
+     * @return intercept action event or null
+     */
+    @Nullable
+    Object beginInterceptAction();
+
+    /**
+     * @param event    - {@link #beginInterceptAction()} result
+     * @param action   - intercept action type name
+     * @param phase    - action phase
+     * @param endpoint - intercepted request endpoint (empty if no request)
+     */
+    void commitInterceptAction(Object event, String action, String phase, String endpoint);
+
+    /**
+     * @return response assertion event or null
+     */
+    @Nullable
+    Object beginAssertion();
+
+    /**
+     * @param event      - {@link #beginAssertion()} result
+     * @param endpoint   - API method endpoint info
+     * @param statusCode - HTTP status code
+     * @param passed     - true if the assertion passed
+     */
+    void commitAssertion(Object event, String endpoint, int statusCode, boolean passed);
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.jfr;
+
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import veslo.UtilityClassException;
+import veslo.client.EndpointInfo;
+import veslo.client.metrics.EndpointMetrics;
+import veslo.client.response.IDualResponse;
+import veslo.util.Utils;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Java Flight Recorder events of the veslo API calls (category "Veslo"):
+ * - veslo.Call - API method call ({@link veslo.client.adapter.UniversalCallAdapterFactory});
+ * - veslo.ConverterResolution, veslo.Conversion - body converter resolution and conversion
+ * ({@link veslo.client.converter.ExtensionConverterFactory});
+ * - veslo.InterceptAction - {@link veslo.client.inteceptor.CompositeInterceptor} action calls;
+ * - veslo.Assertion - {@link veslo.client.response.BaseDualResponse} response assertions.
+ * <p>
+ * The events carry the endpoint info, so profiles (flame graphs) can be sliced by the endpoint.
+ * The events are recorded by the {@link IEventRecorder} of the optional {@code jfr} module (Java 11+)
+ * if it is present in the classpath.
+ * Begin methods return null if there is no recorder or the event type is not enabled by an active recording,
+ * commit methods ignore null events, so the events cost nothing without a recording.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class VesloEvents {
+
+    public static final String REQUEST = "REQUEST";
+    public static final String RESPONSE = "RESPONSE";
+
+    private static final IEventRecorder RECORDER = loadRecorder();
+
+    /**
+     * @return true if the {@link IEventRecorder} is present in the classpath and the JFR API is available
+     */
+    public static boolean isAvailable() {
+        return RECORDER != null;
+    }
+
+    /**
+     * @return API call event or null
+     */
+    @Nullable
+    public static Object beginCall() {
+        return RECORDER != null ? RECORDER.beginCall() : null;
+    }
+
+    /**
+     * @param event       - {@link #beginCall()} result
+     * @param endpoint    - API method endpoint info
+     * @param successType - success DTO type
+     * @param errorType   - error DTO type
+     * @param result      - API call result ({@link IDualResponse}) or null
+     */
+    public static void commitCall(@Nullable final Object event,
+                                  final String endpoint,
+                                  final Type successType,
+                                  final Type errorType,
+                                  @Nullable final Object result) {
+        if (event != null) {
+            final int statusCode = result instanceof IDualResponse ?
+                    ((IDualResponse<?, ?>) result).getHttpStatusCode() : -1;
+            RECORDER.commitCall(event, endpoint, Utils.getTypeName(successType), Utils.getTypeName(errorType),
+                    statusCode);
+        }
+    }
+
+    /**
+     * @return converter resolution event or null
+     */
+    @Nullable
+    public static Object beginConverterResolution() {
+        return RECORDER != null ? RECORDER.beginConverterResolution() : null;
+    }
+
+    /**
+     * @param event             - {@link #beginConverterResolution()} result
+     * @param methodAnnotations - API method annotations
+     * @param direction         - {@link #REQUEST} or {@link #RESPONSE}
+     * @param bodyType          - body type
+     * @param converter         - resolved converter or null
+     */
+    public static void commitConverterResolution(@Nullable final Object event,
+                                                 final Annotation[] methodAnnotations,
+                                                 final String direction,
+                                                 final Type bodyType,
+                                                 @Nullable final Object converter) {
+        if (event != null) {
+            RECORDER.commitConverterResolution(event, getEndpoint(methodAnnotations), direction,
+                    Utils.getTypeName(bodyType), converter == null ? "" : Utils.getTypeName(converter));
+        }
+    }
+
+    /**
+     * @return body conversion event or null
+     */
+    @Nullable
+    public static Object beginConversion() {
+        return RECORDER != null ? RECORDER.beginConversion() : null;
+    }
+
+    /**
+     * @param event             - {@link #beginConversion()} result
+     * @param methodAnnotations - API method annotations
+     * @param direction         - {@link #REQUEST} or {@link #RESPONSE}
+     * @param bodyType          - body type
+     * @param converter         - converter
+     * @param body              - converted {@link RequestBody} or source {@link ResponseBody} (nullable)
+     */
+    public static void commitConversion(@Nullable final Object event,
+                                        final Annotation[] methodAnnotations,
+                                        final String direction,
+                                        final Type bodyType,
+                                        final Object converter,
+                                        @Nullable final Object body) {
+        if (event != null) {
+            RECORDER.commitConversion(event, getEndpoint(methodAnnotations), direction,
+                    Utils.getTypeName(bodyType), Utils.getTypeName(converter), contentLength(body));
+        }
+    }
+
+    /**
+     * @return intercept action event or null
+     */
+    @Nullable
+    public static Object beginInterceptAction() {
+        return RECORDER != null ? RECORDER.beginInterceptAction() : null;
+    }
+
+    /**
+     * @param event   - {@link #beginInterceptAction()} result
+     * @param action  - intercept action
+     * @param phase   - action phase
+     * @param request - intercepted request or null
+     */
+    public static void commitInterceptAction(@Nullable final Object event,
+                                             final Object action,
+                                             final String phase,
+                                             @Nullable final Request request) {
+        if (event != null) {
+            RECORDER.commitInterceptAction(event, Utils.getTypeName(action), phase,
+                    request == null ? "" : EndpointMetrics.getEndpoint(request));
+        }
+    }
+
+    /**
+     * @return response assertion event or null
+     */
+    @Nullable
+    public static Object beginAssertion() {
+        return RECORDER != null ? RECORDER.beginAssertion() : null;
+    }
+
+    /**
+     * @param event      - {@link #beginAssertion()} result
+     * @param endpoint   - API method endpoint info
+     * @param statusCode - HTTP status code
+     * @param passed     - true if the assertion passed
+     */
+    public static void commitAssertion(@Nullable final Object event,
+                                       final String endpoint,
+                                       final int statusCode,
+                                       final boolean passed) {
+        if (event != null) {
+            RECORDER.commitAssertion(event, endpoint, statusCode, passed);
+        }
+    }
+
+    private static long contentLength(@Nullable final Object body) {
+        try {
+            if (body instanceof RequestBody) {
+                return ((RequestBody) body).contentLength();
+            }
+            if (body instanceof ResponseBody) {
+                return ((ResponseBody) body).contentLength();
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    private static String getEndpoint(final Annotation[] methodAnnotations) {
+        final EndpointInfo endpointInfo = Utils.getAnnotation(methodAnnotations, EndpointInfo.class);
+        return endpointInfo == null ? "" : endpointInfo.value();
+    }
+
+    @Nullable
+    private static IEventRecorder loadRecorder() {
+        try {
+            final Iterator<IEventRecorder> recorders =
+                    ServiceLoader.load(IEventRecorder.class, VesloEvents.class.getClassLoader()).iterator();
+            return recorders.hasNext() ? recorders.next() : null;
+        } catch (ServiceConfigurationError | LinkageError e) {
+            // the jfr module on the runtime without the JFR API (Java 8-10)
+            return null;
+        }
+    }
+
+    /**
+     * Utility class. Forbidden instantiation.
+     */
+    private VesloEvents() {
+        throw new UtilityClassException();
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.junit;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import veslo.client.metrics.EndpointMetrics;
+import veslo.client.metrics.PerformanceReport;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * JUnit 5 extension collecting the per-endpoint performance metrics over the whole test run
+ * ({@link EndpointMetrics#enableRunMetrics()}) and writing the {@link PerformanceReport} (JSON and HTML)
+ * at the end of the run. The report is compared with the baseline file (the JSON report of a previous run),
+ * endpoints with p50 or p95 latency regressed beyond the threshold are flagged in the report and logged.
+ * <p>
+ * Usage: {@code @ExtendWith(PerformanceReportExtension.class)} on the test classes
+ * or global registration via {@code META-INF/services/org.junit.jupiter.api.extension.Extension}.
+ * <p>
+ * System properties:
+ * - {@value #REPORT_DIR_PROPERTY} - report directory (default {@value #DEFAULT_REPORT_DIR});
+ * - {@value #BASELINE_PROPERTY} - baseline file (default {@value #DEFAULT_BASELINE});
+ * - {@value #THRESHOLD_PROPERTY} - allowed latency growth (default 0.2 = 20%).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class PerformanceReportExtension implements BeforeAllCallback {
+
+    public static final String REPORT_DIR_PROPERTY = "veslo.performance.report.dir";
+    public static final String BASELINE_PROPERTY = "veslo.performance.baseline";
+    public static final String THRESHOLD_PROPERTY = "veslo.performance.threshold";
+    public static final String DEFAULT_REPORT_DIR = "target/veslo-performance";
+    public static final String DEFAULT_BASELINE = "src/test/resources/performance-baseline.json";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PerformanceReportExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PerformanceReportExtension.class);
+
+    @Override
+    public void beforeAll(@Nonnull final ExtensionContext context) {
+        // the root store resources are closed at the end of the test run
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(RunReport.class, k -> new RunReport(),
+                RunReport.class);
+    }
+
+    static final class RunReport implements ExtensionContext.Store.CloseableResource {
+
+        private final EndpointMetrics metrics;
+
+        RunReport() {
+            this.metrics = EndpointMetrics.enableRunMetrics();
+        }
+
+        @Override
+        public void close() {
+            EndpointMetrics.disableRunMetrics();
+            final Path directory = Paths.get(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+            final Path baseline = Paths.get(System.getProperty(BASELINE_PROPERTY, DEFAULT_BASELINE));
+            final double threshold = Double.parseDouble(System.getProperty(THRESHOLD_PROPERTY,
+                    String.valueOf(PerformanceReport.DEFAULT_THRESHOLD)));
+            final PerformanceReport report = new PerformanceReport(metrics)
+                    .withThreshold(threshold)
+                    .withBaseline(baseline);
+            report.write(directory);
+            final List<String> regressions = report.getRegressions();
+            if (regressions.isEmpty()) {
+                LOGGER.info("Performance report: {}", directory.toAbsolutePath());
+            } else {
+                LOGGER.warn("Performance regressions (threshold {}%, baseline {}):\n{}\nPerformance report: {}",
+                        threshold * 100, baseline, String.join("\n", regressions), directory.toAbsolutePath());
+            }
+        }
+
+        EndpointMetrics getMetrics() {
+            return metrics;
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.junit;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import veslo.trace.OtlpJsonFileSpanExporter;
+import veslo.trace.Span;
+import veslo.trace.VesloTracer;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Paths;
+
+/**
+ * JUnit 5 extension starting the test root span ({@link VesloTracer#startTestSpan(String)}) before each test
+ * and ending it after the test (with the test error if the test failed). API calls, conversions and assertions
+ * of the test are recorded as child spans of the test trace.
+ * <p>
+ * Usage: {@code @ExtendWith(TracingExtension.class)} on the test classes
+ * or global registration via {@code META-INF/services/org.junit.jupiter.api.extension.Extension}.
+ * <p>
+ * If the span exporter is not configured ({@link VesloTracer#setExporter}), the {@value #TRACE_FILE_PROPERTY}
+ * system property enables the {@link OtlpJsonFileSpanExporter} writing to the specified file.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class TracingExtension implements BeforeEachCallback, AfterEachCallback {
+
+    public static final String TRACE_FILE_PROPERTY = "veslo.trace.file";
+
+    @Override
+    public void beforeEach(@Nonnull final ExtensionContext context) {
+        final String traceFile = System.getProperty(TRACE_FILE_PROPERTY);
+        if (!VesloTracer.isEnabled() && traceFile != null && !traceFile.trim().isEmpty()) {
+            synchronized (TracingExtension.class) {
+                if (!VesloTracer.isEnabled()) {
+                    VesloTracer.setExporter(new OtlpJsonFileSpanExporter(Paths.get(traceFile.trim())));
+                }
+            }
+        }
+        final Span span = VesloTracer.startTestSpan(context.getDisplayName());
+        if (span != null) {
+            span.setAttribute("test.class", context.getRequiredTestClass().getName())
+                    .setAttribute("test.method", context.getRequiredTestMethod().getName())
+                    .setAttribute("test.id", context.getUniqueId());
+        }
+    }
+
+    @Override
+    public void afterEach(@Nonnull final ExtensionContext context) {
+        VesloTracer.endTestSpan(context.getExecutionException().orElse(null));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.trace;
+
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static veslo.constant.ParameterNameConstants.SPAN_PARAMETER;
+
+/**
+ * {@link SpanExporter} keeping the ended spans in memory (for the test assertions and custom reporting)
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void export(@Nonnull final Span span) {
+        Utils.parameterRequireNonNull(span, SPAN_PARAMETER);
+        spans.add(span);
+    }
+
+    /**
+     * @return exported spans (in the end order)
+     */
+    @Nonnull
+    public List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * @param traceId - trace identifier
+     * @return exported spans of the trace (in the end order)
+     */
+    @Nonnull
+    public List<Span> getSpans(@Nonnull final String traceId) {
+        return spans.stream().filter(span -> span.getTraceId().equals(traceId)).collect(Collectors.toList());
+    }
+
+    /**
+     * Remove all exported spans
+     */
+    public void reset() {
+        spans.clear();
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.trace;
+
+import veslo.RuntimeIOException;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * {@link SpanExporter} appending the spans to a file in the OTLP/JSON format:
+ * one {@code ExportTraceServiceRequest} ({@code {"resourceSpans":[...]}}) per line,
+ * the same layout as the OpenTelemetry Collector file exporter/receiver, so the file can be imported
+ * into the tracing backend next to the server-side traces.
+ * <p>
+ * Spans are buffered and written on {@link #flush()} (at the end of each test root span)
+ * or when the buffer reaches the batch size.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    public static final String DEFAULT_SERVICE_NAME = "veslo-tests";
+    public static final int DEFAULT_BATCH_SIZE = 512;
+
+    private final Path file;
+    private final Queue<Span> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private volatile String serviceName = DEFAULT_SERVICE_NAME;
+    private volatile int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * @param file - OTLP/JSON output file (appended)
+     */
+    public OtlpJsonFileSpanExporter(@Nonnull final Path file) {
+        Utils.parameterRequireNonNull(file, FILE_PARAMETER);
+        this.file = file;
+    }
+
+    /**
+     * @param serviceName - "service.name" resource attribute value
+     * @return this
+     */
+    public OtlpJsonFileSpanExporter withServiceName(@Nonnull final String serviceName) {
+        Utils.parameterRequireNonNull(serviceName, NAME_PARAMETER);
+        this.serviceName = serviceName;
+        return this;
+    }
+
+    /**
+     * @param batchSize - number of the buffered spans that triggers the write
+     * @return this
+     */
+    public OtlpJsonFileSpanExporter withBatchSize(final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than zero. Actual: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public void export(@Nonnull final Span span) {
+        Utils.parameterRequireNonNull(span, SPAN_PARAMETER);
+        buffer.add(span);
+        if (buffered.incrementAndGet() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        final List<Span> spans = new ArrayList<>();
+        for (Span span = buffer.poll(); span != null; span = buffer.poll()) {
+            buffered.decrementAndGet();
+            spans.add(span);
+        }
+        if (spans.isEmpty()) {
+            return;
+        }
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, (toJson(spans) + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to write spans: " + file, e);
+        }
+    }
+
+    /**
+     * @return OTLP/JSON output file
+     */
+    @Nonnull
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @param spans - spans to convert
+     * @return OTLP/JSON {@code ExportTraceServiceRequest} (single line)
+     */
+    @Nonnull
+    public String toJson(@Nonnull final List<Span> spans) {
+        final StringBuilder result = new StringBuilder("{\"resourceSpans\":[{\"resource\":{\"attributes\":[");
+        appendAttribute(result, "service.name", serviceName);
+        result.append("]},\"scopeSpans\":[{\"scope\":{\"name\":\"veslo\"},\"spans\":[");
+        String separator = "";
+        for (Span span : spans) {
+            result.append(separator);
+            appendSpan(result, span);
+            separator = ",";
+        }
+        return result.append("]}]}]}").toString();
+    }
+
+    private static void appendSpan(final StringBuilder result, final Span span) {
+        result.append("{\"traceId\":\"").append(span.getTraceId())
+                .append("\",\"spanId\":\"").append(span.getSpanId()).append('"');
+        if (span.getParentSpanId() != null) {
+            result.append(",\"parentSpanId\":\"").append(span.getParentSpanId()).append('"');
+        }
+        result.append(",\"name\":\"").append(escapeJson(span.getName()))
+                .append("\",\"kind\":").append(span.getKind().getCode())
+                .append(",\"startTimeUnixNano\":\"").append(span.getStartEpochNanos())
+                .append("\",\"endTimeUnixNano\":\"").append(span.getEndEpochNanos())
+                .append("\",\"attributes\":[");
+        String separator = "";
+        for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+            result.append(separator);
+            appendAttribute(result, attribute.getKey(), attribute.getValue());
+            separator = ",";
+        }
+        result.append("],\"status\":{");
+        if (span.getStatusMessage() != null) {
+            result.append("\"message\":\"").append(escapeJson(span.getStatusMessage())).append("\",");
+        }
+        result.append("\"code\":").append(span.getStatus().ordinal()).append("}}");
+    }
+
+    private static void appendAttribute(final StringBuilder result, final String key, final Object value) {
+        result.append("{\"key\":\"").append(escapeJson(key)).append("\",\"value\":{");
+        if (value instanceof Boolean) {
+            result.append("\"boolValue\":").append(value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            // int64 is a string in the OTLP/JSON
+            result.append("\"intValue\":\"").append(value).append('"');
+        } else if ((value instanceof Double || value instanceof Float)
+                   && Double.isFinite(((Number) value).doubleValue())) {
+            result.append("\"doubleValue\":").append(value);
+        } else {
+            result.append("\"stringValue\":\"").append(escapeJson(String.valueOf(value))).append('"');
+        }
+        result.append("}}");
+    }
+
+    private static String escapeJson(final String value) {
+        final StringBuilder result = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                result.append('\\').append(c);
+            } else if (c < 0x20) {
+                result.append(String.format("\\u%04x", (int) c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+}
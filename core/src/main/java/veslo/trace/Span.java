@@ -0,0 +1,291 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.trace;
+
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static veslo.constant.ParameterNameConstants.KEY_PARAMETER;
+import static veslo.constant.ParameterNameConstants.NAME_PARAMETER;
+
+/**
+ * Lightweight span (W3C trace context compatible identifiers, OTLP compatible data model).
+ * The span is passed to the {@link SpanExporter} once on {@link #end()}.
+ * Attributes and status can be changed concurrently until the span is ended.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class Span {
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final Kind kind;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final SpanExporter exporter;
+    private final Map<String, Object> attributes = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final AtomicBoolean ended = new AtomicBoolean();
+    private volatile long endEpochNanos;
+    private volatile Status status = Status.UNSET;
+    private volatile String statusMessage;
+
+    private Span(@Nonnull final String traceId,
+                 @Nullable final String parentSpanId,
+                 @Nonnull final String name,
+                 @Nonnull final Kind kind,
+                 @Nullable final SpanExporter exporter) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        this.traceId = traceId;
+        this.spanId = randomHex(8);
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind == null ? Kind.INTERNAL : kind;
+        this.exporter = exporter;
+        this.startEpochNanos = System.currentTimeMillis() * 1_000_000;
+        this.startNanoTime = System.nanoTime();
+    }
+
+    /**
+     * @param name     - span name
+     * @param kind     - span kind (null - {@link Kind#INTERNAL})
+     * @param exporter - span exporter (null - the span is not exported)
+     * @return started span of a new trace
+     */
+    @Nonnull
+    public static Span root(@Nonnull final String name,
+                            @Nullable final Kind kind,
+                            @Nullable final SpanExporter exporter) {
+        return new Span(randomHex(16), null, name, kind, exporter);
+    }
+
+    /**
+     * @param name - span name
+     * @param kind - span kind (null - {@link Kind#INTERNAL})
+     * @return started child span of this span (the same trace and exporter)
+     */
+    @Nonnull
+    public Span child(@Nonnull final String name, @Nullable final Kind kind) {
+        return new Span(traceId, spanId, name, kind, exporter);
+    }
+
+    /**
+     * @param key   - attribute key
+     * @param value - attribute value (String, Boolean, Long/Integer, Double or any object as a string).
+     *              Null - remove the attribute.
+     * @return this
+     */
+    @Nonnull
+    public Span setAttribute(@Nonnull final String key, @Nullable final Object value) {
+        Utils.parameterRequireNonNull(key, KEY_PARAMETER);
+        if (value == null) {
+            attributes.remove(key);
+        } else {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * @param status  - span status (null - {@link Status#UNSET})
+     * @param message - status description
+     * @return this
+     */
+    @Nonnull
+    public Span setStatus(@Nullable final Status status, @Nullable final String message) {
+        this.status = status == null ? Status.UNSET : status;
+        this.statusMessage = message;
+        return this;
+    }
+
+    /**
+     * Mark the span as failed ({@link Status#ERROR}) and add the OpenTelemetry exception attributes
+     *
+     * @param throwable - error (null - do nothing)
+     * @return this
+     */
+    @Nonnull
+    public Span setError(@Nullable final Throwable throwable) {
+        if (throwable != null) {
+            setAttribute("exception.type", throwable.getClass().getName());
+            setAttribute("exception.message", throwable.getMessage());
+            setStatus(Status.ERROR, throwable.getClass().getSimpleName() + ": " + throwable.getMessage());
+        }
+        return this;
+    }
+
+    /**
+     * End the span and export it (only the first call takes effect)
+     */
+    public void end() {
+        if (ended.compareAndSet(false, true)) {
+            endEpochNanos = startEpochNanos + (System.nanoTime() - startNanoTime);
+            if (exporter != null) {
+                exporter.export(this);
+            }
+        }
+    }
+
+    /**
+     * @return true if the span is ended
+     */
+    public boolean isEnded() {
+        return ended.get();
+    }
+
+    /**
+     * @return W3C traceparent header value (version 00, sampled)
+     */
+    @Nonnull
+    public String getTraceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    /**
+     * @return 32 lowercase hex characters trace identifier
+     */
+    @Nonnull
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * @return 16 lowercase hex characters span identifier
+     */
+    @Nonnull
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * @return parent span identifier or null for the root span
+     */
+    @Nullable
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Nonnull
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return span attributes copy (in the insertion order)
+     */
+    @Nonnull
+    public Map<String, Object> getAttributes() {
+        synchronized (attributes) {
+            return new LinkedHashMap<>(attributes);
+        }
+    }
+
+    @Nonnull
+    public Status getStatus() {
+        return status;
+    }
+
+    @Nullable
+    public String getStatusMessage() {
+        return statusMessage;
+    }
+
+    /**
+     * @return start time (nanoseconds since the epoch)
+     */
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    /**
+     * @return end time (nanoseconds since the epoch) or 0 if the span is not ended
+     */
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    /**
+     * @return span duration in nanoseconds or -1 if the span is not ended
+     */
+    public long getDurationNanos() {
+        return isEnded() ? endEpochNanos - startEpochNanos : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "Span{name='" + name + "', traceparent=" + getTraceparent() +
+               (parentSpanId == null ? "" : ", parent=" + parentSpanId) +
+               ", kind=" + kind + ", status=" + status + ", attributes=" + getAttributes() + "}";
+    }
+
+    private static String randomHex(final int bytes) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder result = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i++) {
+            // the first byte is never zero (all-zero identifiers are invalid)
+            final int value = i == 0 ? random.nextInt(1, 256) : random.nextInt(256);
+            result.append(Character.forDigit(value >> 4, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Span kind (OTLP SpanKind)
+     */
+    public enum Kind {
+        INTERNAL(1),
+        CLIENT(3);
+
+        private final int code;
+
+        Kind(final int code) {
+            this.code = code;
+        }
+
+        /**
+         * @return OTLP SpanKind code
+         */
+        public int getCode() {
+            return code;
+        }
+    }
+
+    /**
+     * Span status (OTLP StatusCode)
+     */
+    public enum Status {
+        UNSET,
+        OK,
+        ERROR
+    }
+
+}
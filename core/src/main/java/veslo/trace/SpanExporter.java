@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.trace;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Pluggable {@link Span} exporter (see {@link VesloTracer#setExporter(SpanExporter)}).
+ * Implementations must be thread-safe: spans of the parallel calls are exported concurrently.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public interface SpanExporter {
+
+    /**
+     * Called once for each ended span
+     *
+     * @param span - ended span
+     */
+    void export(@Nonnull Span span);
+
+    /**
+     * Write the buffered spans (called at the end of each test root span)
+     */
+    default void flush() {
+        // do nothing
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.trace;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.internal.EverythingIsNonNull;
+import veslo.client.inteceptor.InterceptAction;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * {@link veslo.client.inteceptor.CompositeInterceptor} action propagating the trace context
+ * to the server via the W3C {@code traceparent} header and recording the HTTP exchange span
+ * (child of the API call span, see {@link VesloTracer}).
+ * <p>
+ * Interceptor initialisation:
+ * * public class CustomCompositeInterceptor extends CompositeInterceptor {
+ * *
+ * *     public CustomCompositeInterceptor() {
+ * *         super(LoggerFactory.getLogger(CustomCompositeInterceptor.class));
+ * *         withRequestInterceptActionsChain(TraceparentAction.INSTANCE, LoggingAction.INSTANCE);
+ * *         withResponseInterceptActionsChain(LoggingAction.INSTANCE, TraceparentAction.INSTANCE);
+ * *     }
+ * *
+ * * }
+ * <p>
+ * The header set by the test is not replaced. Without the span exporter the header is still added
+ * (the span is not recorded), so the server-side traces of the test calls can be found by the trace id
+ * logged at the DEBUG level.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class TraceparentAction implements InterceptAction {
+
+    /**
+     * Default instance
+     */
+    public static final TraceparentAction INSTANCE = new TraceparentAction();
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TraceparentAction.class);
+
+    /**
+     * The exchange span between the request and response/error actions (called in the same thread)
+     */
+    private static final ThreadLocal<Span> EXCHANGE_SPAN = new ThreadLocal<>();
+
+    /**
+     * Start the HTTP exchange span and add the {@code traceparent} header (if absent)
+     *
+     * @param request - {@link Request}
+     * @return {@link Request} with the {@code traceparent} header
+     */
+    @Override
+    @EverythingIsNonNull
+    public Request requestAction(final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        EXCHANGE_SPAN.remove();
+        if (request.header(TRACEPARENT_HEADER) != null) {
+            return request;
+        }
+        final String name = "HTTP " + request.method();
+        Span span = VesloTracer.startSpan(request, name, Span.Kind.CLIENT);
+        if (span == null) {
+            // tracing is disabled: propagation only
+            span = Span.root(name, Span.Kind.CLIENT, null);
+        } else {
+            span.setAttribute("http.method", request.method())
+                    .setAttribute("http.url", request.url().toString());
+            EXCHANGE_SPAN.set(span);
+        }
+        final String traceparent = span.getTraceparent();
+        LOGGER.debug("{}: {}", TRACEPARENT_HEADER, traceparent);
+        return request.newBuilder().header(TRACEPARENT_HEADER, traceparent).build();
+    }
+
+    /**
+     * End the HTTP exchange span with the response status code
+     *
+     * @param response - {@link Response}
+     * @return {@link Response}
+     */
+    @Override
+    @EverythingIsNonNull
+    public Response responseAction(final Response response) {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        final Span span = EXCHANGE_SPAN.get();
+        if (span != null) {
+            EXCHANGE_SPAN.remove();
+            span.setAttribute("http.status_code", response.code());
+            if (response.code() >= 500) {
+                span.setStatus(Span.Status.ERROR, "HTTP " + response.code());
+            }
+            span.end();
+        }
+        return response;
+    }
+
+    /**
+     * End the HTTP exchange span with the error
+     *
+     * @param throwable - Error received when making a request
+     */
+    @Override
+    public void errorAction(@Nonnull final Throwable throwable) {
+        Utils.parameterRequireNonNull(throwable, THROWABLE_PARAMETER);
+        final Span span = EXCHANGE_SPAN.get();
+        if (span != null) {
+            EXCHANGE_SPAN.remove();
+            span.setError(throwable).end();
+        }
+    }
+
+}
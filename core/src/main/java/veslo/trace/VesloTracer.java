@@ -0,0 +1,243 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.trace;
+
+import okhttp3.Request;
+import retrofit2.Invocation;
+import veslo.UtilityClassException;
+import veslo.client.VesloContext;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Dependency-free tracing of the API calls (no OpenTelemetry SDK required).
+ * <p>
+ * Span tree of a test: test root span ({@link #startTestSpan(String)}, see {@link veslo.junit.TracingExtension})
+ * -&gt; API call span (call adapter) -&gt; HTTP exchange span ({@link TraceparentAction}, propagated to the server
+ * via the W3C {@code traceparent} header) and body conversion span; response assertion spans are children
+ * of the test root span.
+ * <p>
+ * Tracing is enabled by the exporter ({@link #setExporter(SpanExporter)}): {@link InMemorySpanExporter}
+ * or {@link OtlpJsonFileSpanExporter}. Without the exporter, spans are not created
+ * (the {@link TraceparentAction} still propagates the trace context).
+ * <p>
+ * The test root span is stored in the {@link VesloContext}, so the calls made via {@link veslo.util.VesloParallel}
+ * are linked to the test trace.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class VesloTracer {
+
+    /**
+     * {@link VesloContext} key of the test root span
+     */
+    private static final VesloContext.Key<Span> TEST_SPAN = VesloContext.Key.of("traceTestSpan");
+
+    /**
+     * In-flight API call spans by the retrofit {@link Invocation} (unique per call, survives the request rebuild)
+     */
+    private static final Map<Object, Span> CALL_SPANS = new ConcurrentHashMap<>();
+
+    private static volatile SpanExporter exporter = null;
+
+    /**
+     * @param spanExporter - span exporter (null - disable tracing)
+     */
+    public static void setExporter(@Nullable final SpanExporter spanExporter) {
+        exporter = spanExporter;
+    }
+
+    /**
+     * @return span exporter or null if tracing is disabled
+     */
+    @Nullable
+    public static SpanExporter getExporter() {
+        return exporter;
+    }
+
+    /**
+     * @return true if the span exporter is configured
+     */
+    public static boolean isEnabled() {
+        return exporter != null;
+    }
+
+    /**
+     * Start the test root span (new trace) and bind it to the current {@link VesloContext}
+     *
+     * @param name - span name (test name)
+     * @return started span or null if tracing is disabled
+     */
+    @Nullable
+    public static Span startTestSpan(@Nonnull final String name) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        final SpanExporter spanExporter = exporter;
+        if (spanExporter == null) {
+            return null;
+        }
+        final Span span = Span.root(name, Span.Kind.INTERNAL, spanExporter);
+        VesloContext.current().put(TEST_SPAN, span);
+        return span;
+    }
+
+    /**
+     * End the test root span bound to the current {@link VesloContext} and flush the span exporter
+     *
+     * @param error - test error (null - the test passed)
+     */
+    public static void endTestSpan(@Nullable final Throwable error) {
+        final Span span = VesloContext.current().remove(TEST_SPAN);
+        if (span != null) {
+            if (error == null) {
+                span.setStatus(Span.Status.OK, null);
+            } else {
+                span.setError(error);
+            }
+            span.end();
+        }
+        final SpanExporter spanExporter = exporter;
+        if (spanExporter != null) {
+            spanExporter.flush();
+        }
+    }
+
+    /**
+     * @return test root span bound to the current {@link VesloContext} or null
+     */
+    @Nullable
+    public static Span getTestSpan() {
+        return VesloContext.current().get(TEST_SPAN);
+    }
+
+    /**
+     * @param name - span name
+     * @param kind - span kind (null - {@link Span.Kind#INTERNAL})
+     * @return started child span of the test root span (root span if absent) or null if tracing is disabled
+     */
+    @Nullable
+    public static Span startSpan(@Nonnull final String name, @Nullable final Span.Kind kind) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        final SpanExporter spanExporter = exporter;
+        if (spanExporter == null) {
+            return null;
+        }
+        final Span parent = getTestSpan();
+        return parent == null ? Span.root(name, kind, spanExporter) : parent.child(name, kind);
+    }
+
+    /**
+     * Start the API call span and register it as a parent of the request exchange and conversion spans
+     *
+     * @param request      - API call request
+     * @param endpointInfo - called endpoint info
+     * @return started span or null if tracing is disabled
+     */
+    @Nullable
+    public static Span startCallSpan(@Nonnull final Request request, @Nonnull final String endpointInfo) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        Utils.parameterRequireNonNull(endpointInfo, ENDPOINT_INFO_PARAMETER);
+        final Span span = startSpan("API call: " + endpointInfo, Span.Kind.INTERNAL);
+        if (span != null) {
+            span.setAttribute("veslo.endpoint", endpointInfo)
+                    .setAttribute("http.method", request.method())
+                    .setAttribute("http.url", request.url().toString());
+            CALL_SPANS.put(getCallKey(request), span);
+        }
+        return span;
+    }
+
+    /**
+     * End the API call span and unregister it
+     *
+     * @param request    - API call request
+     * @param span       - API call span (null - do nothing)
+     * @param statusCode - response HTTP status code (negative - the call failed)
+     */
+    public static void endCallSpan(@Nonnull final Request request, @Nullable final Span span, final int statusCode) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        if (span == null) {
+            return;
+        }
+        CALL_SPANS.remove(getCallKey(request), span);
+        if (statusCode < 0) {
+            span.setStatus(Span.Status.ERROR, "API call failed");
+        } else {
+            span.setAttribute("http.status_code", statusCode);
+        }
+        span.end();
+    }
+
+    /**
+     * @param request - API call request (the original or rebuilt by the interceptors)
+     * @return in-flight API call span, test root span or null
+     */
+    @Nullable
+    public static Span getParentSpan(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final Span span = CALL_SPANS.get(getCallKey(request));
+        return span == null ? getTestSpan() : span;
+    }
+
+    /**
+     * @param request - API call request
+     * @param name    - span name
+     * @param kind    - span kind (null - {@link Span.Kind#INTERNAL})
+     * @return started child span of the {@link #getParentSpan(Request)} (root span if absent)
+     * or null if tracing is disabled
+     */
+    @Nullable
+    public static Span startSpan(@Nonnull final Request request,
+                                 @Nonnull final String name,
+                                 @Nullable final Span.Kind kind) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        final SpanExporter spanExporter = exporter;
+        if (spanExporter == null) {
+            return null;
+        }
+        final Span parent = getParentSpan(request);
+        return parent == null ? Span.root(name, kind, spanExporter) : parent.child(name, kind);
+    }
+
+    /**
+     * @return number of the in-flight API call spans (for leak checks)
+     */
+    public static int getCallSpanCount() {
+        return CALL_SPANS.size();
+    }
+
+    private static Object getCallKey(final Request request) {
+        final Invocation invocation = request.tag(Invocation.class);
+        return invocation == null ? request : invocation;
+    }
+
+    /**
+     * Utility class. Forbidden instantiation.
+     */
+    private VesloTracer() {
+        throw new UtilityClassException();
+    }
+
+}
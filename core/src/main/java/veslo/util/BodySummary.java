@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.util;
+
+import okio.Buffer;
+import okio.ByteString;
+import okio.Sink;
+import okio.Timeout;
+
+import javax.annotation.Nonnull;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static veslo.constant.ParameterNameConstants.BUFFER_PARAMETER;
+
+/**
+ * Streaming body summary: total size, SHA-256 hash, first N and last M bytes.
+ * Only the head and the tail are retained, so summarizing a body of any size
+ * takes a constant amount of memory.
+ * <p>
+ * Usage:
+ * * BodySummary summary = new BodySummary(1024, 256);
+ * * requestBody.writeTo(Okio.buffer(summary));
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class BodySummary implements Sink {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Buffer head = new Buffer();
+    private final byte[] tail;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private final int maxHeadBytes;
+    private final MessageDigest digest;
+    private int tailPosition = 0;
+    private long size = 0;
+    private ByteString sha256;
+
+    /**
+     * @param maxHeadBytes - number of retained leading bytes (not negative)
+     * @param maxTailBytes - number of retained trailing bytes (not negative)
+     */
+    public BodySummary(final int maxHeadBytes, final int maxTailBytes) {
+        if (maxHeadBytes < 0 || maxTailBytes < 0) {
+            throw new IllegalArgumentException("Retained bytes number must be not negative. " +
+                    "Head: " + maxHeadBytes + ", tail: " + maxTailBytes);
+        }
+        this.maxHeadBytes = maxHeadBytes;
+        this.tail = new byte[maxTailBytes];
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required for every Java platform implementation
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Consumes bytes from the source buffer
+     *
+     * @param source    - okio buffer
+     * @param byteCount - number of bytes to consume
+     */
+    @Override
+    public void write(@Nonnull final Buffer source, final long byteCount) {
+        Utils.parameterRequireNonNull(source, BUFFER_PARAMETER);
+        if (sha256 != null) {
+            throw new IllegalStateException("Body summary is closed");
+        }
+        long remaining = byteCount;
+        while (remaining > 0) {
+            final int read = source.read(chunk, 0, (int) Math.min(chunk.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            update(chunk, read);
+            remaining -= read;
+        }
+    }
+
+    /**
+     * Consumes a copy of the source buffer bytes (the source is not changed)
+     *
+     * @param source    - okio buffer
+     * @param offset    - first byte index
+     * @param byteCount - number of bytes to consume
+     */
+    public void writeCopy(@Nonnull final Buffer source, final long offset, final long byteCount) {
+        Utils.parameterRequireNonNull(source, BUFFER_PARAMETER);
+        try (final Buffer copy = new Buffer()) {
+            // segments are shared, not copied
+            source.copyTo(copy, offset, byteCount);
+            write(copy, byteCount);
+        }
+    }
+
+    private void update(final byte[] bytes, final int count) {
+        digest.update(bytes, 0, count);
+        final long headFree = maxHeadBytes - head.size();
+        if (headFree > 0) {
+            head.write(bytes, 0, (int) Math.min(headFree, count));
+        }
+        if (tail.length > 0) {
+            final int offset = Math.max(0, count - tail.length);
+            for (int i = offset; i < count; i++) {
+                tail[tailPosition] = bytes[i];
+                tailPosition = (tailPosition + 1) % tail.length;
+            }
+        }
+        size += count;
+    }
+
+    @Override
+    public void flush() {
+        // nothing is buffered
+    }
+
+    @Override
+    @Nonnull
+    public Timeout timeout() {
+        return Timeout.NONE;
+    }
+
+    /**
+     * Completes the hash calculation. Further writes are not allowed.
+     */
+    @Override
+    public void close() {
+        if (sha256 == null) {
+            sha256 = ByteString.of(digest.digest());
+        }
+    }
+
+    /**
+     * @return total number of consumed bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return true if the consumed bytes do not fit into the head and the tail
+     */
+    public boolean isTruncated() {
+        return size > (long) maxHeadBytes + tail.length;
+    }
+
+    /**
+     * @return SHA-256 hash of consumed bytes in hex (the summary is closed)
+     */
+    @Nonnull
+    public String sha256() {
+        close();
+        return sha256.hex();
+    }
+
+    /**
+     * @return leading bytes (all bytes if the body is not truncated)
+     */
+    @Nonnull
+    public ByteString head() {
+        if (!isTruncated()) {
+            return ByteString.of(headAndTail());
+        }
+        return head.snapshot();
+    }
+
+    /**
+     * @return trailing bytes (empty if the body is not truncated)
+     */
+    @Nonnull
+    public ByteString tail() {
+        if (!isTruncated()) {
+            return ByteString.EMPTY;
+        }
+        final byte[] result = new byte[tail.length];
+        System.arraycopy(tail, tailPosition, result, 0, tail.length - tailPosition);
+        System.arraycopy(tail, 0, result, tail.length - tailPosition, tailPosition);
+        return ByteString.of(result);
+    }
+
+    private byte[] headAndTail() {
+        // size <= maxHeadBytes + tail.length
+        final int headSize = (int) head.size();
+        final int restSize = (int) (size - headSize);
+        final byte[] result = new byte[headSize + restSize];
+        System.arraycopy(head.snapshot().toByteArray(), 0, result, 0, headSize);
+        for (int i = 0; i < restSize; i++) {
+            result[headSize + i] = tail[Math.floorMod(tailPosition - restSize + i, tail.length)];
+        }
+        return result;
+    }
+
+}
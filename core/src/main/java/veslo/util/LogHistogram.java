@@ -0,0 +1,271 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.util;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative long values (for example, durations in nanoseconds).
+ * Values are counted in logarithmic buckets: each power of two is split into 2^subBucketBits linear sub-buckets,
+ * so the relative error of percentiles does not exceed 2^-subBucketBits (12.5% for the default 3 bits,
+ * 0.1% for 10 bits ({@link #ofSignificantDigits(int)} with 3 digits)). Values less than 2^subBucketBits
+ * are counted exactly.
+ * <p>
+ * Sub-buckets of each power of two and the bucket counters (striped {@link LongAdder}s) are created on the first hit,
+ * so concurrent recording does not contend and a histogram takes memory only for the recorded value ranges.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class LogHistogram {
+
+    /**
+     * Default number of sub-bucket bits (12.5% relative error)
+     */
+    public static final int DEFAULT_SUB_BUCKET_BITS = 3;
+
+    /**
+     * Maximum number of sub-bucket bits
+     */
+    public static final int MAX_SUB_BUCKET_BITS = 16;
+
+    private final int subBucketBits;
+    private final AtomicReferenceArray<AtomicReferenceArray<LongAdder>> buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Histogram with {@link #DEFAULT_SUB_BUCKET_BITS} sub-bucket bits
+     */
+    public LogHistogram() {
+        this(DEFAULT_SUB_BUCKET_BITS);
+    }
+
+    /**
+     * @param subBucketBits - number of sub-bucket bits in the range [1, {@link #MAX_SUB_BUCKET_BITS}]
+     */
+    public LogHistogram(final int subBucketBits) {
+        if (subBucketBits < 1 || subBucketBits > MAX_SUB_BUCKET_BITS) {
+            throw new IllegalArgumentException("Sub-bucket bits must be in the range [1, " + MAX_SUB_BUCKET_BITS +
+                    "]. Actual: " + subBucketBits);
+        }
+        this.subBucketBits = subBucketBits;
+        this.buckets = new AtomicReferenceArray<>(Long.SIZE - subBucketBits + 1);
+    }
+
+    /**
+     * @param significantDigits - number of significant decimal digits in the range [1, 4]
+     * @return histogram with relative error not exceeding 10^-significantDigits
+     */
+    public static LogHistogram ofSignificantDigits(final int significantDigits) {
+        if (significantDigits < 1 || significantDigits > 4) {
+            throw new IllegalArgumentException("Significant digits must be in the range [1, 4]. " +
+                    "Actual: " + significantDigits);
+        }
+        return new LogHistogram((int) Math.ceil(Math.log(Math.pow(10, significantDigits)) / Math.log(2)));
+    }
+
+    /**
+     * @param value - recorded value (negative values are recorded as 0)
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        final int index = bucketIndex(v, subBucketBits);
+        final int exponent = index >>> subBucketBits;
+        AtomicReferenceArray<LongAdder> subBuckets = buckets.get(exponent);
+        if (subBuckets == null) {
+            buckets.compareAndSet(exponent, null, new AtomicReferenceArray<>(1 << subBucketBits));
+            subBuckets = buckets.get(exponent);
+        }
+        final int subBucket = index & ((1 << subBucketBits) - 1);
+        LongAdder bucket = subBuckets.get(subBucket);
+        if (bucket == null) {
+            subBuckets.compareAndSet(subBucket, null, new LongAdder());
+            bucket = subBuckets.get(subBucket);
+        }
+        bucket.increment();
+        count.increment();
+        sum.add(v);
+        min.accumulate(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Adds values of other histogram to this histogram
+     *
+     * @param other - histogram with the same number of sub-bucket bits
+     */
+    public void add(final LogHistogram other) {
+        if (other.subBucketBits != subBucketBits) {
+            throw new IllegalArgumentException("Unable to add histogram with " + other.subBucketBits +
+                    " sub-bucket bits to histogram with " + subBucketBits + " sub-bucket bits");
+        }
+        final long[] counts = other.snapshot();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                final int exponent = i >>> subBucketBits;
+                AtomicReferenceArray<LongAdder> subBuckets = buckets.get(exponent);
+                if (subBuckets == null) {
+                    buckets.compareAndSet(exponent, null, new AtomicReferenceArray<>(1 << subBucketBits));
+                    subBuckets = buckets.get(exponent);
+                }
+                final int subBucket = i & ((1 << subBucketBits) - 1);
+                subBuckets.compareAndSet(subBucket, null, new LongAdder());
+                subBuckets.get(subBucket).add(counts[i]);
+            }
+        }
+        count.add(other.getCount());
+        sum.add(other.getSum());
+        if (other.getCount() > 0) {
+            min.accumulate(other.getMin());
+            max.accumulate(other.getMax());
+        }
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return sum of recorded values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return min recorded value (0 if empty)
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * @return max recorded value (0 if empty)
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return mean of recorded values (0 if empty)
+     */
+    public double getMean() {
+        final long c = getCount();
+        return c == 0 ? 0 : (double) getSum() / c;
+    }
+
+    /**
+     * @return number of sub-bucket bits
+     */
+    public int getSubBucketBits() {
+        return subBucketBits;
+    }
+
+    /**
+     * @param percentile - percentile in the range (0, 100]
+     * @return upper bound of the bucket containing the percentile (not greater than max, 0 if empty)
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile <= 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("Percentile must be in the range (0, 100]. Actual: " + percentile);
+        }
+        final long[] counts = snapshot();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(percentile / 100 * total);
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= rank) {
+                return Math.min(bucketUpperBound(i, subBucketBits), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears the histogram. Values recorded concurrently with the reset may be partially lost.
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, null);
+        }
+        count.reset();
+        sum.reset();
+        min.reset();
+        max.reset();
+    }
+
+    private long[] snapshot() {
+        final long[] counts = new long[buckets.length() << subBucketBits];
+        for (int exponent = 0; exponent < buckets.length(); exponent++) {
+            final AtomicReferenceArray<LongAdder> subBuckets = buckets.get(exponent);
+            if (subBuckets != null) {
+                for (int subBucket = 0; subBucket < subBuckets.length(); subBucket++) {
+                    final LongAdder bucket = subBuckets.get(subBucket);
+                    counts[(exponent << subBucketBits) + subBucket] = bucket == null ? 0 : bucket.sum();
+                }
+            }
+        }
+        return counts;
+    }
+
+    static int bucketIndex(final long value, final int subBucketBits) {
+        final int subBuckets = 1 << subBucketBits;
+        if (value < subBuckets) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - subBucketBits)) & (subBuckets - 1);
+        return (exponent - subBucketBits + 1) * subBuckets + subBucket;
+    }
+
+    static long bucketUpperBound(final int index, final int subBucketBits) {
+        final int subBuckets = 1 << subBucketBits;
+        if (index < subBuckets) {
+            return index;
+        }
+        final int shift = index / subBuckets - 1;
+        final long subBucket = subBuckets + (long) (index % subBuckets);
+        final long next = (subBucket + 1) << shift;
+        // the last bucket of 2^63 exponent overflows
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "count=%d mean=%.1f p50=%d p90=%d p99=%d max=%d",
+                getCount(), getMean(),
+                getPercentile(50), getPercentile(90), getPercentile(99), getMax());
+    }
+
+}
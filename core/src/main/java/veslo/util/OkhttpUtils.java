@@ -19,20 +19,27 @@ package veslo.util;
 import okhttp3.*;
 import okhttp3.internal.http.HttpHeaders;
 import okio.Buffer;
+import okio.BufferedSink;
 import okio.BufferedSource;
+import okio.ByteString;
+import okio.ForwardingSource;
 import okio.GzipSource;
+import okio.Okio;
+import okio.Source;
 import retrofit2.internal.EverythingIsNonNull;
 import veslo.UtilityClassException;
+import veslo.client.inteceptor.BodyLogPolicy;
+import veslo.client.inteceptor.BodySnapshot;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static veslo.constant.ParameterNameConstants.REQUEST_PARAMETER;
-import static veslo.constant.ParameterNameConstants.RESPONSE_PARAMETER;
+import static veslo.constant.ParameterNameConstants.*;
 
 /**
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
@@ -64,7 +71,23 @@ public class OkhttpUtils {
      */
     @Nonnull
     public static String requestToString(@Nonnull final Request request) throws IOException {
+        return requestToString(request, BodyLogPolicy.UNLIMITED);
+    }
+
+    /**
+     * The request body is written to the {@link BodySummary} if the policy limits the logged bytes,
+     * so the body is never buffered in full.
+     *
+     * @param request - {@link okhttp3.Request} (not nullable)
+     * @param policy  - body logging policy (not nullable)
+     * @return - string representation of {@link okhttp3.Request}
+     * @throws IOException - no comments
+     */
+    @Nonnull
+    public static String requestToString(@Nonnull final Request request,
+                                         @Nonnull final BodyLogPolicy policy) throws IOException {
         Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        Utils.parameterRequireNonNull(policy, POLICY_PARAMETER);
         final StringJoiner resultMessage = new StringJoiner("\n");
         final RequestBody requestBody = request.body();
         final boolean hasRequestBody = requestBody != null && requestBody.contentLength() != 0;
@@ -82,6 +105,16 @@ public class OkhttpUtils {
             resultMessage.add("Body: (encoded body omitted)");
         } else if (requestBody.isDuplex()) {
             resultMessage.add("Body: (duplex request body omitted)");
+        } else if (requestBody.isOneShot()) {
+            resultMessage.add("Body: (one-shot request body omitted)");
+        } else if (policy.isOmitted(requestBody.contentType())) {
+            resultMessage.add(omittedByPolicy(requestBody.contentType(), requestBody.contentLength()));
+        } else if (policy.isTruncated()) {
+            final BodySummary summary = new BodySummary(policy.getMaxHeadBytes(), policy.getMaxTailBytes());
+            try (final BufferedSink sink = Okio.buffer(summary)) {
+                requestBody.writeTo(sink);
+            }
+            addBodySummary(resultMessage, summary, getCharset(requestBody), null, true);
         } else {
             try (final Buffer buffer = new Buffer()) {
                 requestBody.writeTo(buffer);
@@ -160,6 +193,156 @@ public class OkhttpUtils {
         return resultMessage.add("").toString();
     }
 
+    /**
+     * Formats the response according to the body logging policy.
+     * If the policy limits the logged bytes and the body is not buffered yet,
+     * the body is not read here: the returned response body passes the bytes through the {@link BodySummary}
+     * and the message is passed to the consumer when the body is exhausted, fails or is closed
+     * (also if nothing was read).
+     * Otherwise, the message is passed to the consumer immediately.
+     *
+     * @param response - {@link okhttp3.Response} (not nullable)
+     * @param policy   - body logging policy (not nullable)
+     * @param consumer - formatted message consumer (not nullable)
+     * @return response to be passed on (the body is not consumed)
+     * @throws IOException - no comments
+     */
+    @Nonnull
+    @EverythingIsNonNull
+    public static Response formatResponse(final Response response,
+                                          final BodyLogPolicy policy,
+                                          final Consumer<String> consumer) throws IOException {
+        Utils.parameterRequireNonNull(response, RESPONSE_PARAMETER);
+        Utils.parameterRequireNonNull(policy, POLICY_PARAMETER);
+        Utils.parameterRequireNonNull(consumer, CONSUMER_PARAMETER);
+        final ResponseBody responseBody = response.body();
+        final Headers responseHeaders = getResponseHeaders(response);
+        if (responseBody == null || !HttpHeaders.hasBody(response) || bodyHasUnknownEncoding(responseHeaders) ||
+                (!policy.isTruncated() && !policy.isOmitted(responseBody.contentType()))) {
+            consumer.accept(responseToString(response));
+            return response;
+        }
+        final StringJoiner resultMessage = new StringJoiner("\n");
+        resultMessage.add("RESPONSE:\n" + response.code()
+                + (response.message().isEmpty() ? "" : ' ' + response.message())
+                + ' ' + response.request().url());
+        if (responseHeaders.toMultimap().isEmpty()) {
+            resultMessage.add("Headers: (absent)");
+        } else {
+            resultMessage.add("Headers:");
+            resultMessage.add("  " + responseHeaders.toString().trim().replaceAll("\n", "\n  ")); //NOSONAR
+        }
+        if (policy.isOmitted(responseBody.contentType())) {
+            resultMessage.add(omittedByPolicy(responseBody.contentType(), responseBody.contentLength()));
+            consumer.accept(resultMessage.add("").toString());
+            return response;
+        }
+        final String contentEncoding = responseHeaders.get("Content-Encoding");
+        final String encoding = "gzip".equalsIgnoreCase(contentEncoding) ? contentEncoding : null;
+        final Charset charset = getCharset(responseBody);
+        final BodySummary summary = new BodySummary(policy.getMaxHeadBytes(), policy.getMaxTailBytes());
+        final BufferedSource source = responseBody.source();
+        final long contentLength = responseBody.contentLength();
+        final BodySnapshot snapshot = BodySnapshot.of(responseBody);
+        if (snapshot != null || (contentLength >= 0 && source.getBuffer().size() >= contentLength)) {
+            // already buffered (captured by the interceptor or a mocked response)
+            if (snapshot != null) {
+                summary.writeCopy(snapshot.buffer(), 0, snapshot.size());
+            } else {
+                summary.writeCopy(source.getBuffer(), 0, contentLength);
+            }
+            addBodySummary(resultMessage, summary, charset, encoding, true);
+            consumer.accept(resultMessage.add("").toString());
+            return response;
+        }
+        final Source summarizingSource = new ForwardingSource(source) {
+
+            private boolean completed = false;
+
+            @Override
+            public long read(@Nonnull Buffer sink, long byteCount) throws IOException {
+                final long read;
+                try {
+                    read = super.read(sink, byteCount);
+                } catch (IOException | RuntimeException e) {
+                    complete(false);
+                    throw e;
+                }
+                if (read < 0) {
+                    complete(true);
+                } else {
+                    summary.writeCopy(sink, sink.size() - read, read);
+                }
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    complete(false);
+                } finally {
+                    super.close();
+                }
+            }
+
+            private void complete(final boolean exhausted) {
+                if (!completed) {
+                    completed = true;
+                    if (!exhausted && summary.size() == 0) {
+                        resultMessage.add("Body: (unread " + (contentLength < 0 ? "" : contentLength + "-byte ")
+                                + "body closed by the consumer)");
+                    } else {
+                        addBodySummary(resultMessage, summary, charset, encoding, exhausted);
+                    }
+                    consumer.accept(resultMessage.add("").toString());
+                }
+            }
+
+        };
+        final ResponseBody summarizingBody = ResponseBody
+                .create(responseBody.contentType(), contentLength, Okio.buffer(summarizingSource));
+        return response.newBuilder().body(summarizingBody).build();
+    }
+
+    private static String omittedByPolicy(@Nullable final MediaType contentType, final long contentLength) {
+        return "Body: (" + contentType + (contentLength < 0 ? "" : " " + contentLength + "-byte")
+                + " body omitted by policy)";
+    }
+
+    private static void addBodySummary(final StringJoiner resultMessage,
+                                       final BodySummary summary,
+                                       final Charset charset,
+                                       @Nullable final String encoding,
+                                       final boolean exhausted) {
+        final String size = (exhausted ? "" : "partially read ") + summary.size() + "-byte";
+        final String hash = ", sha256: " + summary.sha256();
+        final ByteString head = summary.head();
+        final ByteString tail = summary.tail();
+        final boolean isPlaintext;
+        try (final Buffer prefix = new Buffer()) {
+            isPlaintext = isPlaintext(prefix.write(head.size() > 0 ? head : tail));
+        }
+        if (encoding != null || !isPlaintext) {
+            final String kind = encoding != null ? encoding + "-encoded " : "binary ";
+            resultMessage.add("Body: (" + kind + size + " body omitted" + hash + ")");
+        } else if (!summary.isTruncated()) {
+            resultMessage.add("Body: (" + size + " body" + hash + ")");
+            if (head.size() > 0) {
+                resultMessage.add("  " + head.string(charset).replace("\n", "\n  ")); //NOSONAR
+            }
+        } else {
+            resultMessage.add("Body: (" + size + " body" + hash + ", truncated to the first " + head.size()
+                    + " and the last " + tail.size() + " bytes)");
+            if (head.size() > 0) {
+                resultMessage.add("  " + head.string(charset).replace("\n", "\n  ")); //NOSONAR
+            }
+            resultMessage.add("  ...");
+            if (tail.size() > 0) {
+                resultMessage.add("  " + tail.string(charset).replace("\n", "\n  ")); //NOSONAR
+            }
+        }
+    }
+
     @EverythingIsNonNull
     public static Headers getRequestHeaders(final Request request) throws IOException {
         Utils.parameterRequireNonNull(request, "request");
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.util;
+
+import veslo.ParallelExecutionException;
+import veslo.UtilityClassException;
+import veslo.client.VesloContext;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static veslo.constant.ParameterNameConstants.TASKS_PARAMETER;
+import static veslo.constant.ParameterNameConstants.TASK_PARAMETER;
+
+/**
+ * Parallel execution of blocking API calls.
+ * <p>
+ * On Java 21+ each task is executed in its own virtual thread
+ * ({@code Executors.newVirtualThreadPerTaskExecutor()} is detected at runtime, the library is still Java 8 compatible).
+ * Virtual threads are used only if the executor can actually be created
+ * (on Java 19/20 without {@code --enable-preview} the method exists, but throws).
+ * Otherwise, a daemon platform thread pool limited by {@link #PLATFORM_MAX_CONCURRENCY} is used.
+ * <p>
+ * The {@link VesloContext} and SLF4J MDC of the calling thread are propagated to every task.
+ * <p>
+ * Carrier pinning: a virtual thread blocked inside a {@code synchronized} block pins its carrier thread.
+ * Veslo code does not block on I/O inside monitors, but OkHttp does briefly synchronize on the connection pool.
+ * Use the {@code maxConcurrency} argument to bound the number of in-flight calls
+ * (it should not exceed the OkHttp connection pool size by much)
+ * and {@code -Djdk.tracePinnedThreads=short} to diagnose pinning.
+ * <p>
+ * Usage:
+ * * VesloParallel.run(() -&gt; client.getPet(1), () -&gt; client.getPet(2));
+ * * List&lt;DualResponse&lt;Pet, Err&gt;&gt; responses = VesloParallel.call(100, tasks);
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class VesloParallel {
+
+    /**
+     * Default number of concurrently executed tasks on JVMs without virtual threads
+     */
+    public static final int PLATFORM_MAX_CONCURRENCY = 64;
+
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = getVirtualExecutorFactory();
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Utility class. Forbidden instantiation.
+     */
+    private VesloParallel() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * @return true if the virtual-thread-per-task executor can be created (Java 21+ or preview features enabled)
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * The caller is responsible for shutting down the executor.
+     *
+     * @return virtual-thread-per-task executor (Java 21+) or daemon cached platform thread pool
+     */
+    @Nonnull
+    public static ExecutorService newPerTaskExecutor() {
+        if (VIRTUAL_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException ignore) {
+                // fallback to platform threads
+            }
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "veslo-parallel-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return default concurrency limit (unlimited for virtual threads)
+     */
+    public static int getDefaultMaxConcurrency() {
+        return isVirtualThreadsSupported() ? Integer.MAX_VALUE : PLATFORM_MAX_CONCURRENCY;
+    }
+
+    /**
+     * Execute tasks in parallel and wait for all of them to complete.
+     *
+     * @param tasks - tasks to execute
+     * @throws ParallelExecutionException if a task failed with checked exception
+     *                                    (runtime exceptions and errors are rethrown as is)
+     */
+    public static void run(@Nonnull final ThrowableRunnable... tasks) {
+        Utils.parameterRequireNonNull(tasks, TASKS_PARAMETER);
+        final List<ThrowableSupplier<Object>> suppliers = new ArrayList<>();
+        for (ThrowableRunnable task : Arrays.asList(tasks)) {
+            Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+            suppliers.add(() -> {
+                task.execute();
+                return null;
+            });
+        }
+        call(suppliers);
+    }
+
+    /**
+     * Execute tasks in parallel with the default concurrency limit.
+     *
+     * @param tasks - tasks to execute
+     * @param <T>   - task result type
+     * @return task results in the order of the tasks
+     * @throws ParallelExecutionException if a task failed with checked exception
+     *                                    (runtime exceptions and errors are rethrown as is)
+     */
+    @Nonnull
+    public static <T> List<T> call(@Nonnull final Collection<? extends ThrowableSupplier<T>> tasks) {
+        return call(getDefaultMaxConcurrency(), tasks);
+    }
+
+    /**
+     * Execute tasks in parallel and wait for all of them to complete.
+     * All tasks are executed even if some of them failed.
+     * The first failure is rethrown, the other failures are added to it as suppressed.
+     *
+     * @param maxConcurrency - maximum number of concurrently executed tasks
+     * @param tasks          - tasks to execute
+     * @param <T>            - task result type
+     * @return task results in the order of the tasks
+     * @throws ParallelExecutionException if a task failed with checked exception
+     *                                    (runtime exceptions and errors are rethrown as is)
+     */
+    @Nonnull
+    public static <T> List<T> call(final int maxConcurrency,
+                                   @Nonnull final Collection<? extends ThrowableSupplier<T>> tasks) {
+        Utils.parameterRequireNonNull(tasks, TASKS_PARAMETER);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        final VesloContext context = VesloContext.current();
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        final ExecutorService executor = newPerTaskExecutor();
+        try {
+            for (ThrowableSupplier<T> task : tasks) {
+                Utils.parameterRequireNonNull(task, TASK_PARAMETER);
+                permits.acquire();
+                final Callable<T> callable = context.wrap(() -> {
+                    try {
+                        return task.execute();
+                    } catch (Exception | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new ExecutionException(e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+                futures.add(executor.submit(callable));
+            }
+            return await(futures);
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ParallelExecutionException("Parallel execution interrupted", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static <T> List<T> await(final List<Future<T>> futures) throws InterruptedException {
+        final List<T> results = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ExecutionException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+                results.add(null);
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new ParallelExecutionException("Parallel task failed", failure);
+        }
+        return results;
+    }
+
+    private static Method getVirtualExecutorFactory() {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            // Java 19/20: the preview API throws UnsupportedOperationException without --enable-preview
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return factory;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+}
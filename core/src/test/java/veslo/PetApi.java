@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo;
+
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
+import veslo.client.EndpointInfo;
+import veslo.client.response.DualResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Shared API client of the core module tests (use with {@link internal.test.utils.client.StubBackend})
+ */
+public interface PetApi {
+
+    String GET_PET = "Get pet";
+    String FIND_PET = "Find \"pet\" <by name>";
+
+    @GET("/pet/{id}")
+    @EndpointInfo(GET_PET)
+    DualResponse<String, String> getPet(@Path("id") int id);
+
+    @GET("/pet/{id}")
+    @EndpointInfo(GET_PET)
+    CompletableFuture<DualResponse<String, String>> getPetAsync(@Path("id") int id);
+
+    @GET("/pet/{id}")
+    DualResponse<String, String> getPetWithoutInfo(@Path("id") int id);
+
+    @GET("/pet")
+    @EndpointInfo(FIND_PET)
+    DualResponse<String, String> findPet(@Query("name") String name);
+
+    @POST("/pet/{id}")
+    DualResponse<String, String> addPet(@Path("id") int id, @Body String body);
+
+}
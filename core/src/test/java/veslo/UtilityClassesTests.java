@@ -25,6 +25,8 @@ import veslo.client.TrustSocketHelper;
 import veslo.constant.ParameterNameConstants;
 import veslo.constant.SonarRuleConstants;
 import veslo.example.ExampleApiClientAssertions;
+import veslo.jfr.VesloEvents;
+import veslo.trace.VesloTracer;
 import veslo.util.CaseUtils;
 import veslo.util.OkhttpUtils;
 import veslo.util.ReflectUtils;
@@ -45,6 +47,8 @@ public class UtilityClassesTests extends BaseUnitTest {
         assertUtilityClassException(ReflectUtils.class);
         assertUtilityClassException(OkhttpUtils.class);
         assertUtilityClassException(TestClient.class);
+        assertUtilityClassException(VesloEvents.class);
+        assertUtilityClassException(VesloTracer.class);
         assertUtilityClassException(CaseUtils.class);
         assertUtilityClassException(Utils.class);
     }
@@ -22,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import veslo.BaseCoreUnitTest;
 import veslo.BriefAssertionError;
 
+import java.time.Duration;
+
 @SuppressWarnings({"ConstantConditions"})
 @DisplayName("AssertionMatcher.class unit tests")
 public class AssertionMatcherUnitTests extends BaseCoreUnitTest {
@@ -103,4 +105,13 @@ public class AssertionMatcherUnitTests extends BaseCoreUnitTest {
                 .assertMessageIs("reason\nExpected: is null\n  Actual: test");
     }
 
+    @Test
+    @DisplayName("#durationBelow() positive and negative")
+    public void test1792396800088() {
+        AssertionMatcher.durationBelow("reason", Duration.ofMillis(199), Duration.ofMillis(200));
+        assertThrow(() -> AssertionMatcher.durationBelow("reason", Duration.ofSeconds(2), Duration.ofNanos(1_500)))
+                .assertClass(BriefAssertionError.class)
+                .assertMessageIs("reason\nExpected: below 0.0015ms\n  Actual: was 2000ms");
+    }
+
 }
@@ -30,6 +30,7 @@ import veslo.example.dto.ErrDTO;
 import veslo.example.dto.SucDTO;
 import veslo.util.TripleConsumer;
 
+import java.time.Duration;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -866,6 +867,96 @@ public class ResponseAsserterUnitTests extends BaseCoreUnitTest {
 
     }
 
+    @Nested
+    @DisplayName("Response time assertion methods tests")
+    public class ResponseTimeAssertionMethodsTests {
+
+        @Test
+        @DisplayName("#assertResponseTimeBelow() and #assertTimeToFirstByteBelow() softly checks")
+        public void test1792396800086() {
+            final ResponseAsserter<?, ?, ?> asserter = getTimedResponseAsserter(1000, 1250, "");
+            assertIs(asserter.getResponseTime(), Duration.ofMillis(250));
+            assertIs(asserter.getTimeToFirstByte(), Duration.ofMillis(250));
+            asserter.assertResponseTimeBelow(Duration.ofMillis(251))
+                    .assertTimeToFirstByteBelow(Duration.ofSeconds(1))
+                    .blame();
+            assertThrow(() -> asserter.assertResponseTimeBelow(Duration.ofMillis(200))
+                    .assertTimeToFirstByteBelow(Duration.ofNanos(249_500_000))
+                    .blame())
+                    .assertClass(BriefAssertionError.class)
+                    .assertMessageIs("Collected the following errors:\n" +
+                            "\n" +
+                            "Response time\n" +
+                            "Expected: below 200ms\n" +
+                            "  Actual: was 250ms\n" +
+                            "\n" +
+                            "Time to first byte\n" +
+                            "Expected: below 249.5ms\n" +
+                            "  Actual: was 250ms");
+            assertNPE(() -> asserter.assertResponseTimeBelow(null), "duration");
+            assertNPE(() -> asserter.assertTimeToFirstByteBelow(null), "duration");
+        }
+
+        @Test
+        @DisplayName("#assertResponseTimePercentileBelow() checks the last calls to the endpoint")
+        public void test1792396800087() {
+            final ResponseTimeHistory history = new ResponseTimeHistory(10);
+            for (int i = 1; i <= 19; i++) {
+                getTimedResponseAsserter(0, i * 10, "Get pet")
+                        .assertResponseTimePercentileBelow(history, 50, 5, Duration.ofSeconds(1))
+                        .blame();
+            }
+            assertIs(history.getCount("Get pet"), 10);
+            // last 5 calls: 150...190ms
+            assertIs(history.getPercentile("Get pet", 95, 5), Duration.ofMillis(190));
+            assertIs(history.getPercentile("Get pet", 50, 5), Duration.ofMillis(170));
+            final ResponseAsserter<?, ?, ?> asserter = getTimedResponseAsserter(0, 200, "Get pet");
+            assertThrow(() -> asserter.assertResponseTimePercentileBelow(history, 95, 5, Duration.ofMillis(195))
+                    .assertResponseTimePercentileBelow(history, 95, 5, Duration.ofMillis(195))
+                    .blame())
+                    .assertClass(BriefAssertionError.class)
+                    .assertMessageIs("Collected the following errors:\n" +
+                            "\n" +
+                            "Response time p95 of the last 5 calls to 'Get pet'\n" +
+                            "Expected: below 195ms\n" +
+                            "  Actual: was 200ms\n" +
+                            "\n" +
+                            "Response time p95 of the last 5 calls to 'Get pet'\n" +
+                            "Expected: below 195ms\n" +
+                            "  Actual: was 200ms");
+            // recorded once per history
+            assertIs(history.getPercentile("Get pet", 100, 10), Duration.ofMillis(200));
+            assertIs(history.getPercentile("Get pet", 20, 10), Duration.ofMillis(120));
+            assertIs(history.getPercentile("unknown", 95, 5), null);
+            assertThrow(() -> asserter.assertResponseTimePercentileBelow(history, 0, 5, Duration.ZERO))
+                    .assertClass(IllegalArgumentException.class)
+                    .assertMessageIs("Percentile must be in the range (0, 100]. Actual: 0.0");
+            assertThrow(() -> asserter.assertResponseTimePercentileBelow(history, 95, 0, Duration.ZERO))
+                    .assertClass(IllegalArgumentException.class)
+                    .assertMessageIs("Last calls count must be greater than zero. Actual: 0");
+            assertThrow(() -> new ResponseTimeHistory(0))
+                    .assertClass(IllegalArgumentException.class)
+                    .assertMessageIs("Capacity must be greater than zero. Actual: 0");
+            assertNPE(() -> asserter.assertResponseTimePercentileBelow(null, 95, 5, Duration.ZERO), "history");
+            assertNPE(() -> asserter.assertResponseTimePercentileBelow(95, 5, null), "duration");
+            assertNPE(() -> history.record(null, Duration.ZERO), "endpoint");
+            history.reset();
+            assertIs(history.getCount("Get pet"), 0);
+        }
+
+    }
+
+    public static ResponseAsserter<?, ?, ?> getTimedResponseAsserter(long sentAtMillis,
+                                                                     long receivedAtMillis,
+                                                                     String endpointInfo) {
+        final Response response = OkHttpTestUtils.getResponse(200).newBuilder()
+                .sentRequestAtMillis(sentAtMillis)
+                .receivedResponseAtMillis(receivedAtMillis)
+                .build();
+        return new ResponseAsserter<>(new DualResponse<>(null, null, response, endpointInfo, arrayOf()),
+                EMPTY_HEADER_ASSERTER);
+    }
+
     public static ResponseAsserter<SucDTO, ?, ?> getSucResponseAsserter(int status, SucDTO dto) {
         return getSucResponseAsserter(status, dto, EMPTY_HEADER_ASSERTER);
     }
@@ -50,6 +50,10 @@ public class TestClientTests extends BaseUnitTest {
             assertNPE(() -> TestClient.build(URL, INTERCEPTOR, null, C_FACTORY, CLI_CLASS), "callAdapterFactory");
             assertNPE(() -> TestClient.build(URL, INTERCEPTOR, CA_FACTORY, null, CLI_CLASS), "converterFactory");
             assertNPE(() -> TestClient.build(URL, INTERCEPTOR, CA_FACTORY, C_FACTORY, null), "clientClass");
+            assertNPE(() -> TestClient.build(URL, INTERCEPTOR, CA_FACTORY, C_FACTORY, CLI_CLASS, (Interceptor[]) null),
+                    "applicationInterceptors");
+            assertNPE(() -> TestClient.build(URL, INTERCEPTOR, CA_FACTORY, C_FACTORY, CLI_CLASS, (Interceptor) null),
+                    "interceptor");
         }
 
         @Test
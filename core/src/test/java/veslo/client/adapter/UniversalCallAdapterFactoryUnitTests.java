@@ -17,29 +17,49 @@
 package veslo.client.adapter;
 
 import internal.test.utils.RetrofitTestUtils;
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import okhttp3.ResponseBody;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.NOPLogger;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
+import retrofit2.Callback;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 import veslo.BaseCoreUnitTest;
 import veslo.ConvertCallException;
 import veslo.HttpCallException;
+import veslo.PetApi;
+import veslo.client.adapter.ICallObserver.ObservedCall;
 import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.metrics.EndpointMetrics;
 import veslo.client.response.DualResponse;
 import veslo.client.response.IDualResponse;
+import veslo.client.response.LazyConversion;
+import veslo.client.response.LazyDTO;
+import veslo.util.ThrowableSupplier;
+import veslo.util.VesloParallel;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @SuppressWarnings({"rawtypes", "InstantiatingObjectToGetClassObject", "unchecked", "ConstantConditions", "SameParameterValue"})
 @DisplayName("DualCallAdapterFactory tests")
@@ -251,6 +271,265 @@ public class UniversalCallAdapterFactoryUnitTests extends BaseCoreUnitTest {
 
     }
 
+    @Nested
+    @DisplayName("Lazy body conversion")
+    public class LazyBodyConversionTests {
+
+        private final UniversalCallAdapterFactory lazyFactory = new UniversalCallAdapterFactory()
+                .withLazyBodyConversion(true);
+
+        @Test
+        @DisplayName("Bodies are converted on first access and memoized")
+        public void test1792396800065() {
+            final ParameterizedType type = (ParameterizedType) DUAL_RESPONSE_GENERIC_STRING_TYPE;
+            assertThat("", FACTORY.isLazyBodyConversion(), is(false));
+            assertThat("", lazyFactory.getCallAdapter(type, STRING_C, STRING_C, INFO, AA, RETROFIT).responseType(),
+                    is(ResponseBody.class));
+            final Response<Object> response = Response.success(ResponseBody.create(null, "suc"));
+            final IDualResponse<?, ?> dual = lazyFactory
+                    .convertIDualResponse(response, STRING_C, STRING_C, INFO, AA, RETROFIT);
+            assertThat("", dual.toString(), containsString("Success DTO: <not converted yet>"));
+            assertThat("", dual.getResponse().code(), is(200));
+            assertThat("", dual.getSucDTO(), is("suc"));
+            assertThat("", dual.getSucDTO(), sameInstance(dual.getSucDTO()));
+            assertThat("", dual.toString(), containsString("Success DTO: suc"));
+            final Response<Object> error = Response.error(400, ResponseBody.create(null, "err"));
+            final IDualResponse<?, ?> errDual = lazyFactory
+                    .convertIDualResponse(error, STRING_C, STRING_C, INFO, AA, RETROFIT);
+            assertThat("", errDual.getErrDTO(), is("err"));
+            assertThat("", errDual.getSucDTO(), nullValue());
+        }
+
+        @Test
+        @DisplayName("Conversion error is thrown at access time (ConvertCallException)")
+        public void test1792396800066() {
+            final Response<Object> response = Response.success(ResponseBody.create(null, "not a number"));
+            final IDualResponse<?, ?> dual = lazyFactory
+                    .convertIDualResponse(response, Integer.class, STRING_C, INFO, AA, RETROFIT);
+            assertThat("", dual.getResponse().isSuccessful(), is(true));
+            assertThrow(dual::getSucDTO).assertClass(ConvertCallException.class);
+            assertThrow(dual::getSucDTO).assertClass(ConvertCallException.class);
+            assertThat("", dual.toString(), containsString("Success DTO: <conversion error: "));
+        }
+
+        @Test
+        @DisplayName("LazyDTO converts once under concurrent access")
+        public void test1792396800067() throws Exception {
+            final AtomicInteger conversions = new AtomicInteger();
+            final LazyDTO<String> lazy = LazyDTO.of(() -> "dto" + conversions.incrementAndGet());
+            assertThat("", lazy.isResolved(), is(false));
+            final List<ThrowableSupplier<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                tasks.add(lazy::get);
+            }
+            assertThat("", VesloParallel.call(tasks), everyItem(is("dto1")));
+            assertThat("", conversions.get(), is(1));
+            assertNPE(() -> LazyDTO.of(null), "supplier");
+        }
+
+        @Test
+        @DisplayName("Typed IDualResponse heir: explicit lazy constructor, mode fixed per call adapter")
+        @SuppressWarnings("unchecked")
+        public void test1792396800117() {
+            final UniversalCallAdapterFactory custom =
+                    new UniversalCallAdapterFactory(NOPLogger.NOP_LOGGER, DualResponse::new);
+            assertThrow(() -> custom.withLazyBodyConversion(true))
+                    .assertClass(IllegalStateException.class)
+                    .assertMessageIs("Lazy body conversion of the custom IDualResponse requires " +
+                            "ILazyDualResponseConsumer. Use withLazyBodyConversion(ILazyDualResponseConsumer).");
+            final UniversalCallAdapterFactory lazy = custom.withLazyBodyConversion((r, s, e, i, a) ->
+                    new StringResponse(new LazyConversion<>(r, (LazyDTO<String>) (LazyDTO<?>) s,
+                            (LazyDTO<String>) (LazyDTO<?>) e), i, a));
+            assertThat("", custom.isLazyBodyConversion(), is(false));
+            final ParameterizedType type = (ParameterizedType) DUAL_RESPONSE_GENERIC_STRING_TYPE;
+            final CallAdapter<Object, Object> adapter = lazy.getCallAdapter(type, STRING_C, STRING_C, INFO, AA, RETROFIT);
+            assertThat("", adapter.responseType(), is(ResponseBody.class));
+            final Call<Object> call = mock(Call.class);
+            when(call.request()).thenReturn(new okhttp3.Request.Builder().url("http://localhost").build());
+            try {
+                when(call.execute()).thenReturn(Response.success(ResponseBody.create(null, "suc")));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            final StringResponse dual = (StringResponse) adapter.adapt(call);
+            final String sucDTO = dual.getSucDTO();
+            assertThat("", sucDTO, is("suc"));
+            assertThat("", dual.getErrDTO(), nullValue());
+        }
+
+        @Test
+        @DisplayName("Configuration returns a copy of the same factory class, the shared INSTANCE is not changed")
+        public void test1792396800125() {
+            final UniversalCallAdapterFactory lazy = UniversalCallAdapterFactory.INSTANCE.withLazyBodyConversion(true);
+            assertThat("", lazy, not(sameInstance(UniversalCallAdapterFactory.INSTANCE)));
+            assertThat("", lazy.isLazyBodyConversion(), is(true));
+            assertThat("", UniversalCallAdapterFactory.INSTANCE.isLazyBodyConversion(), is(false));
+            assertThat("", lazy.withLazyBodyConversion(false).isLazyBodyConversion(), is(false));
+            assertThat("", lazy.isLazyBodyConversion(), is(true));
+            final UniversalCallAdapterFactory heir = new UniversalCallAdapterFactory(NOPLogger.NOP_LOGGER) {
+            };
+            assertThat("", heir.withLazyBodyConversion(true).getClass(), is(heir.getClass()));
+            assertThat("", heir.withLazyBodyConversion(true).getDualResponseConsumer(),
+                    sameInstance(heir.getDualResponseConsumer()));
+        }
+
+    }
+
+    private static final class StringResponse extends DualResponse<String, String> {
+
+        private StringResponse(final LazyConversion<String, String> conversion,
+                               final String endpointInfo,
+                               final Annotation[] callAnnotations) {
+            super(conversion, endpointInfo, callAnnotations);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("CompletableFuture return type")
+    public class AsyncCallTests {
+
+        @Test
+        @DisplayName("CompletableFuture<DualResponse> completed via Call.enqueue()")
+        public void test1792396800047() throws Exception {
+            final Type returnType = AsyncTypes.class.getMethod("dual").getGenericReturnType();
+            final CallAdapter<?, ?> adapter = FACTORY.get(returnType, AA, RETROFIT);
+            assertThat("", adapter.responseType(), is(FACTORY.getCompletableFutureResultType(returnType)));
+            final Call call = enqueuedCall(RetrofitTestUtils.getResponse(200, "suc"), null);
+            final CompletableFuture<?> future = (CompletableFuture<?>) adapter.adapt(call);
+            final IDualResponse response = (IDualResponse) future.get(5, TimeUnit.SECONDS);
+            assertThat("", response, instanceOf(DualResponse.class));
+            assertThat("", response.getSucDTO(), is("suc"));
+            verify(call, never()).execute();
+        }
+
+        @Test
+        @DisplayName("CompletableFuture<T> plain type completed via Call.enqueue()")
+        public void test1792396800048() throws Exception {
+            final Type returnType = AsyncTypes.class.getMethod("string").getGenericReturnType();
+            final CallAdapter<?, ?> adapter = FACTORY.get(returnType, AA, RETROFIT);
+            assertThat("", adapter.responseType(), is(String.class));
+            final Call call = enqueuedCall(RetrofitTestUtils.getResponse(200, "suc"), null);
+            final CompletableFuture<?> future = (CompletableFuture<?>) adapter.adapt(call);
+            assertThat("", future.get(5, TimeUnit.SECONDS), is("suc"));
+        }
+
+        @Test
+        @DisplayName("Transport error completes the future exceptionally")
+        public void test1792396800049() throws Exception {
+            final Type returnType = AsyncTypes.class.getMethod("dual").getGenericReturnType();
+            final Call call = enqueuedCall(null, new IOException("test1792396800049"));
+            final CompletableFuture<?> future = (CompletableFuture<?>) FACTORY.get(returnType, AA, RETROFIT).adapt(call);
+            assertThrow(() -> future.get(5, TimeUnit.SECONDS))
+                    .assertClass(ExecutionException.class)
+                    .assertCause(cause -> cause
+                            .assertClass(HttpCallException.class)
+                            .assertMessageIs("Failed to make API call. See the reason below."));
+        }
+
+        @Test
+        @DisplayName("Future cancelling cancels the call")
+        public void test1792396800050() throws Exception {
+            final Type returnType = AsyncTypes.class.getMethod("dual").getGenericReturnType();
+            final Call call = RetrofitTestUtils.getCall(200, "");
+            final CompletableFuture<?> future = (CompletableFuture<?>) FACTORY.get(returnType, AA, RETROFIT).adapt(call);
+            assertThat("", future.cancel(true), is(true));
+            verify(call).cancel();
+        }
+
+        @Test
+        @DisplayName("Raw CompletableFuture return type is not supported")
+        public void test1792396800051() {
+            assertThrow(() -> FACTORY.get(CompletableFuture.class, AA, RETROFIT))
+                    .assertClass(IllegalArgumentException.class)
+                    .assertMessageIs("CompletableFuture return type must be parameterized " +
+                            "as CompletableFuture<Foo> or CompletableFuture<? extends Foo>");
+            assertNPE(() -> FACTORY.enqueue(null, r -> r), "call");
+            assertNPE(() -> FACTORY.enqueue(mock(Call.class), null), "handler");
+        }
+
+        private Call enqueuedCall(retrofit2.Response<?> response, Throwable error) {
+            final Call call = RetrofitTestUtils.getCall(200, "");
+            doAnswer(invocation -> {
+                final Callback callback = invocation.getArgument(0);
+                if (error == null) {
+                    callback.onResponse(call, response);
+                } else {
+                    callback.onFailure(call, error);
+                }
+                return null;
+            }).when(call).enqueue(any());
+            return call;
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Call observers")
+    public class CallObserverTests {
+
+        @Test
+        @DisplayName("Observers are notified on start, completion and failure after the built-in ones")
+        public void test1792396800121() {
+            final List<String> events = new ArrayList<>();
+            final ICallObserver observer = new ICallObserver() {
+
+                @Override
+                public Object onStart(ObservedCall call) {
+                    events.add("start " + call.getEndpointInfo());
+                    return call.getRequest().url().encodedPath();
+                }
+
+                @Override
+                public void onComplete(ObservedCall call, Object state, IDualResponse<?, ?> result) {
+                    events.add("complete " + state + " " + result.getHttpStatusCode());
+                }
+
+                @Override
+                public void onFailure(ObservedCall call, Object state, Throwable error) {
+                    events.add("failure " + state + " " + error.getClass().getSimpleName());
+                }
+
+            };
+            final ICallObserver failing = mock(ICallObserver.class);
+            when(failing.onStart(any())).thenThrow(new IllegalStateException("test1792396800121"));
+            final EndpointMetrics metrics = new EndpointMetrics();
+            final UniversalCallAdapterFactory factory = new UniversalCallAdapterFactory()
+                    .withCallObserver(failing)
+                    .withCallObserver(observer)
+                    .withEndpointMetrics(metrics);
+            assertIs(factory.getCallObservers().size(), 6);
+            assertIs(factory.getCallObservers().subList(2, 6),
+                    Arrays.asList(CallObservers.JFR, CallObservers.TRACING, failing, observer));
+            final PetApi api = TestClientBuilder.build(PetApi.class, factory, new ExtensionConverterFactory(),
+                    new StubBackend().withCode("/pet/404", 404).withError("/pet/500", "Connection reset"));
+            api.getPet(404);
+            assertThrow(() -> api.getPet(500)).assertClass(HttpCallException.class);
+            assertIs(events.toString(), "[start Get pet, complete /pet/404 404, " +
+                    "start Get pet, failure /pet/500 HttpCallException]");
+            assertIs(metrics.getEndpoint("Get pet").getCallLatency().getCount(), 2L);
+            verify(failing, times(1)).onComplete(any(), isNull(), any());
+            verify(failing, times(1)).onFailure(any(), isNull(), any());
+            assertNPE(() -> factory.withCallObserver(null), "callObserver");
+            assertThrow(() -> factory.getCallObservers().clear()).assertClass(UnsupportedOperationException.class);
+            final int shared = UniversalCallAdapterFactory.INSTANCE.getCallObservers().size();
+            assertIs(UniversalCallAdapterFactory.INSTANCE.withCallObserver(observer).getCallObservers().size(),
+                    shared + 1);
+            assertIs(UniversalCallAdapterFactory.INSTANCE.getCallObservers().size(), shared);
+            assertIs(factory.withCallObserver(observer).getCallObservers().size(), 7);
+            assertIs(factory.getCallObservers().size(), 6);
+        }
+
+    }
+
+    private interface AsyncTypes {
+
+        CompletableFuture<DualResponse<String, String>> dual();
+
+        CompletableFuture<String> string();
+
+    }
+
     @Nested
     @DisplayName("getParameterizedType() method")
     public class GetParameterizedTypeMethodTests {
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+import veslo.BriefAssertionError;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@DisplayName("BatchExecutor class tests")
+public class BatchExecutorUnitTests extends BaseCoreUnitTest {
+
+    private static final List<Integer> INPUTS = IntStream.range(0, 40).boxed().collect(Collectors.toList());
+
+    @Test
+    @DisplayName("Ordered results, concurrency limit, collected errors and statistics")
+    public void test1792396800060() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final BatchResult<Integer, String> result = new BatchExecutor()
+                .withMaxConcurrency(4)
+                .execute(INPUTS, input -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    active.decrementAndGet();
+                    if (input == 7) {
+                        throw new IllegalStateException("call failed");
+                    }
+                    return "id" + input;
+                }, r -> {
+                    if (r.equals("id13")) {
+                        throw new AssertionError("unexpected id");
+                    }
+                });
+        assertTrue(maxActive.get() <= 4);
+        assertIs(result.size(), 40);
+        assertIs(result.getResult(0), "id0");
+        assertIs(result.getResult(7), null);
+        assertIs(result.getResult(13), "id13");
+        assertIs(result.getResult(39), "id39");
+        assertIs(result.getErrors().keySet().toString(), "[7, 13]");
+        assertTrue(!result.isSuccessful());
+        assertIs(result.getLatency().getCount(), 40L);
+        assertTrue(result.getThroughput() > 0);
+        assertTrue(result.getLatencyPercentileMillis(50) >= 1);
+        assertTrue(result.toString().startsWith("Batch: calls=40 errors=2 elapsed="));
+        assertThrow(result::assertNoErrors)
+                .assertClass(BriefAssertionError.class)
+                .assertMessageIs("Collected the following errors:\n\n" +
+                        "Batch call #7 (7) failed:\ncall failed\n\n" +
+                        "Batch call #13 (13) failed:\nunexpected id");
+    }
+
+    @Test
+    @DisplayName("Asynchronous calls and the supplied executor")
+    public void test1792396800061() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final BatchResult<Integer, Integer> async = new BatchExecutor()
+                    .enqueue(INPUTS, input -> input == 3
+                            ? failedFuture(new IllegalArgumentException("async"))
+                            : CompletableFuture.supplyAsync(() -> input * 2, executor));
+            assertIs(async.getResult(20), 40);
+            assertIs(async.getErrors().get(3).getMessage(), "async");
+            final BatchResult<Integer, Integer> sync = new BatchExecutor()
+                    .withExecutor(executor)
+                    .execute(Arrays.asList(1, 2, 3), input -> input + 1)
+                    .assertNoErrors();
+            assertIs(sync.getResults(), Arrays.asList(2, 3, 4));
+            assertTrue(!executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+        assertThrow(() -> new BatchExecutor().withMaxConcurrency(0))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("maxConcurrency must be positive: 0");
+        assertNPE(() -> new BatchExecutor().execute(null, i -> i), "inputs");
+        assertNPE(() -> new BatchExecutor().execute(INPUTS, null), "call");
+        assertNPE(() -> new BatchExecutor().enqueue(INPUTS, CompletableFuture::completedFuture, null), "assertion");
+    }
+
+    @Test
+    @DisplayName("Rejected call submission fails the call and does not block the batch")
+    public void test1792396800124() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        final BatchResult<Integer, Integer> result = new BatchExecutor()
+                .withMaxConcurrency(2)
+                .withExecutor(executor)
+                .execute(Arrays.asList(1, 2, 3), input -> input + 1);
+        assertIs(result.size(), 3);
+        assertIs(result.getResults(), Arrays.asList(null, null, null));
+        assertIs(result.getErrors().keySet().toString(), "[0, 1, 2]");
+        assertIs(result.getErrors().get(2).getClass(), RejectedExecutionException.class);
+        assertTrue(!result.isSuccessful());
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.batch;
+
+import internal.test.utils.OkHttpTestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+import veslo.BriefAssertionError;
+import veslo.client.batch.CallGraph.Node;
+import veslo.client.batch.CallGraphResult.State;
+import veslo.client.response.DualResponse;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("CallGraph class tests")
+public class CallGraphUnitTests extends BaseCoreUnitTest {
+
+    private static DualResponse<String, String> response(String suc, int status) {
+        return new DualResponse<>(suc, null, OkHttpTestUtils.getResponse(status), "info", new Annotation[]{});
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Independent branches run concurrently, upstream results are passed downstream, critical path")
+    public void test1792396800062() {
+        final CountDownLatch parallel = new CountDownLatch(2);
+        final CallGraph graph = new CallGraph();
+        final Node<DualResponse<String, String>> org = graph.node("org", () -> response("org1", 200));
+        final Node<DualResponse<String, String>> user = graph.node("user", in -> {
+            parallel.countDown();
+            await(parallel);
+            return response(in.sucDTO(org) + "/user", 200);
+        }, org);
+        final Node<DualResponse<String, String>> pet = graph.node("pet", in -> {
+            parallel.countDown();
+            await(parallel);
+            sleep(30);
+            return response(in.sucDTO(org) + "/pet", 201);
+        }, org);
+        final Node<String> order = graph.node("order", in -> in.sucDTO(user) + "+" + in.sucDTO(pet), user, pet);
+        final CallGraphResult result = graph.execute().assertNoErrors();
+        assertTrue(result.isSuccessful());
+        assertIs(result.get(order), "org1/user+org1/pet");
+        assertIs(result.getState(order), State.SUCCEEDED);
+        assertIs(result.getCriticalPath(), Arrays.asList(org, pet, order));
+        assertTrue(result.getCriticalPathNanos() >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertTrue(result.getElapsedNanos() >= result.getCriticalPathNanos());
+        assertTrue(result.toString().contains("critical path"));
+        assertTrue(result.toString().endsWith("org -> pet -> order"));
+    }
+
+    @Test
+    @DisplayName("Failed node cancels downstream nodes, independent branches are executed")
+    public void test1792396800063() {
+        final List<String> executed = new ArrayList<>();
+        final CallGraph graph = new CallGraph();
+        final Node<DualResponse<String, String>> org = graph.node("org", () -> response("org1", 200));
+        final Node<DualResponse<String, String>> user = graph.node("user", in -> response(null, 400), org);
+        final Node<String> order = graph.node("order", in -> {
+            executed.add("order");
+            return "order";
+        }, user);
+        final Node<String> audit = graph.node("audit", in -> {
+            executed.add("audit");
+            return "audit";
+        }, order);
+        final Node<String> pet = graph.node("pet", in -> {
+            throw new IllegalArgumentException("pet error");
+        }, org);
+        final Node<String> report = graph.node("report", in -> "report", org);
+        final CallGraphResult result = graph.execute();
+        assertIs(executed.size(), 0);
+        assertIs(result.getState(user), State.FAILED);
+        assertIs(result.getState(order), State.CANCELLED);
+        assertIs(result.getState(audit), State.CANCELLED);
+        assertIs(result.getState(pet), State.FAILED);
+        assertIs(result.getState(report), State.SUCCEEDED);
+        assertIs(result.get(user).getResponse().code(), 400);
+        assertIs(result.getNodes(State.CANCELLED), Arrays.asList(order, audit));
+        assertThrow(result::assertNoErrors)
+                .assertClass(BriefAssertionError.class)
+                .assertMessageIs("Collected the following errors:\n\n" +
+                        "Call graph node 'user' failed (cancelled downstream nodes: [order, audit]):\n" +
+                        "Node 'user' received unsuccessful response: HTTP 400\n\n" +
+                        "Call graph node 'pet' failed:\npet error");
+    }
+
+    @Test
+    @DisplayName("Node names are unique and dependencies belong to the graph")
+    public void test1792396800064() {
+        final CallGraph graph = new CallGraph();
+        final Node<String> node = new CallGraph().node("a", () -> "a");
+        graph.node("a", () -> "a");
+        assertThrow(() -> graph.node("a", () -> "b"))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Node with name 'a' already exists");
+        assertThrow(() -> graph.node("b", in -> "b", node))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Node 'a' is not part of the graph");
+        assertNPE(() -> graph.node(null, () -> "b"), "name");
+        assertNPE(() -> graph.node("b", in -> "b", (Node<?>) null), "dependency");
+        assertIs(graph.getNodes().size(), 1);
+    }
+
+    @Test
+    @DisplayName("Rejected node submission fails the node and cancels its downstream nodes")
+    public void test1792396800116() {
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        final AtomicInteger accepted = new AtomicInteger();
+        // accepts the root node only, rejects the downstream nodes
+        final ExecutorService bounded = new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                if (accepted.incrementAndGet() > 1) {
+                    throw new RejectedExecutionException("queue is full");
+                }
+                service.execute(command);
+            }
+
+            @Override
+            public void shutdown() {
+                service.shutdown();
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return service.shutdownNow();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return service.isShutdown();
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return service.isTerminated();
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                return service.awaitTermination(timeout, unit);
+            }
+        };
+        try {
+            final CallGraph graph = new CallGraph().withExecutor(bounded);
+            final Node<String> org = graph.node("org", () -> "org");
+            final Node<String> user = graph.node("user", in -> "user", org);
+            final Node<String> order = graph.node("order", in -> "order", user);
+            final CallGraphResult result = graph.execute();
+            assertIs(result.getState(org), State.SUCCEEDED);
+            assertIs(result.getState(user), State.FAILED);
+            assertIs(result.getError(user).getMessage(), "queue is full");
+            assertIs(result.getState(order), State.CANCELLED);
+        } finally {
+            service.shutdownNow();
+        }
+        final ExecutorService shutDown = Executors.newSingleThreadExecutor();
+        shutDown.shutdown();
+        final CallGraph graph = new CallGraph().withExecutor(shutDown);
+        final Node<String> root = graph.node("root", () -> "root");
+        final Node<String> leaf = graph.node("leaf", in -> "leaf", root);
+        final CallGraphResult result = graph.execute();
+        assertIs(result.getState(root), State.FAILED);
+        assertIs(result.getError(root).getClass(), RejectedExecutionException.class);
+        assertIs(result.getState(leaf), State.CANCELLED);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.cassette;
+
+import internal.test.utils.client.StubBackend;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+import veslo.HttpCallException;
+import veslo.PetApi;
+import veslo.client.TestClient;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.inteceptor.CompositeInterceptor;
+import veslo.client.response.DualResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static veslo.client.cassette.CassetteInterceptor.Mode.*;
+
+@DisplayName("CassetteInterceptor class tests")
+public class CassetteInterceptorUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Exchanges are recorded and replayed without the network by the TestClient application interceptor")
+    public void test1792396800106() throws IOException {
+        final Path file = new File("target/cassettes/test1792396800106").toPath();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.resolveSibling(file.getFileName() + Cassette.INDEX_EXTENSION));
+        final StubBackend network = new StubBackend()
+                .withCode("/pet/500", 500)
+                .withHeader("X-Pet", "rex")
+                .withBody(request -> "pet " + request.url().pathSegments().get(1));
+        try (Cassette cassette = Cassette.open(file)) {
+            final CassetteInterceptor record = new CassetteInterceptor(cassette, REPLAY_OR_RECORD);
+            final PetApi recording = client(record, network);
+            assertIs(recording.getPetWithoutInfo(1).getSucDTO(), "pet 1");
+            assertIs(recording.getPetWithoutInfo(1).getSucDTO(), "pet 1");
+            assertIs(recording.getPetWithoutInfo(500).getHttpStatusCode(), 500);
+            assertIs(network.getCount(), 2);
+            assertIs(record.getRecordedCount(), 1L);
+            assertIs(record.getReplayedCount(), 1L);
+        }
+        try (Cassette cassette = Cassette.open(file)) {
+            final CassetteInterceptor replay = new CassetteInterceptor(cassette, REPLAY);
+            final PetApi replaying = client(replay, network);
+            final DualResponse<String, String> response = replaying.getPetWithoutInfo(1);
+            assertIs(response.getSucDTO(), "pet 1");
+            assertIs(response.getResponse().header("X-Pet"), "rex");
+            assertThrow(() -> replaying.getPetWithoutInfo(2))
+                    .assertClass(HttpCallException.class)
+                    .assertCause(cause -> cause
+                            .assertClass(IOException.class)
+                            .assertMessageContains("No cassette entry for the request: GET http://localhost/pet/2"));
+            assertIs(network.getCount(), 2);
+            final CassetteInterceptor refresh = new CassetteInterceptor(cassette, RECORD);
+            assertIs(client(refresh, network).getPetWithoutInfo(1).getSucDTO(), "pet 1");
+            assertIs(network.getCount(), 3);
+            assertIs(refresh.getRecordedCount(), 1L);
+            assertIs(refresh.getCassette(), cassette);
+            assertIs(refresh.getMode(), RECORD);
+        }
+        assertNPE(() -> new CassetteInterceptor(null, RECORD), "cassette");
+        assertNPE(() -> new CassetteInterceptor(Cassette.open(file), null), "mode");
+    }
+
+    private static PetApi client(final CassetteInterceptor cassette, final StubBackend network) {
+        // the CompositeInterceptor is the TestClient network interceptor, the stub backend replaces the network
+        return TestClient.build("http://localhost", new CompositeInterceptor(), new UniversalCallAdapterFactory(),
+                new ExtensionConverterFactory(), PetApi.class, cassette, network);
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.cassette;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("Cassette class tests")
+public class CassetteUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Entries survive reopening, the newest record wins, compaction drops superseded records")
+    public void test1792396800103() throws IOException {
+        final Path file = cassetteFile("test1792396800103");
+        final String body = "{\"name\":\"" + String.join("", java.util.Collections.nCopies(100, "rex")) + "\"}";
+        try (Cassette cassette = Cassette.open(file)) {
+            cassette.put(entry("a", 200, body, System.currentTimeMillis()));
+            cassette.put(entry("b", 404, "", System.currentTimeMillis()));
+            cassette.put(entry("a", 201, body, System.currentTimeMillis()));
+            assertIs(cassette.size(), 2);
+            // compressed
+            assertThat("", cassette.getDataSize(), lessThan((long) body.length() * 2));
+        }
+        // torn index tail (interrupted write) is ignored
+        Files.write(file.resolveSibling(file.getFileName() + Cassette.INDEX_EXTENSION), new byte[5],
+                StandardOpenOption.APPEND);
+        try (Cassette cassette = Cassette.open(file)) {
+            assertIs(cassette.size(), 2);
+            final CassetteEntry entry = cassette.get("a");
+            assertIs(entry.getCode(), 201);
+            assertIs(entry.getHeaders().get("X-Id"), "a");
+            assertIs(entry.getContentType(), "application/json; charset=utf-8");
+            assertIs(new String(entry.getBody(), StandardCharsets.UTF_8), body);
+            assertIs(entry.toString(), "GET http://localhost/a -> 201 OK (" + body.length() + " bytes)");
+            final Response response = entry.toResponse(new Request.Builder().url("http://localhost/a").build());
+            assertIs(response.code(), 201);
+            assertIs(response.body().string(), body);
+            assertIs(cassette.get("absent"), null);
+            final long size = cassette.getDataSize();
+            assertIs(cassette.compact(true), 1);
+            assertThat("", cassette.getDataSize(), lessThan(size));
+            assertIs(cassette.get("b"), null);
+            assertIs(cassette.get("a").getCode(), 201);
+            cassette.put(entry("c", 200, "", System.currentTimeMillis()));
+        }
+        try (Cassette cassette = Cassette.open(file)) {
+            assertIs(cassette.size(), 2);
+            assertIs(cassette.toString(), "Cassette{file=" + file.toAbsolutePath() + ", entries=2}");
+        }
+    }
+
+    @Test
+    @DisplayName("Expired entries are not replayed and are dropped on compaction")
+    public void test1792396800104() throws IOException {
+        try (Cassette cassette = Cassette.open(cassetteFile("test1792396800104")).withMaxAge(Duration.ofHours(1))) {
+            cassette.put(entry("old", 200, "old", System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+            cassette.put(entry("new", 200, "new", System.currentTimeMillis()));
+            assertIs(cassette.get("old"), null);
+            assertIs(cassette.get("new").getMessage(), "OK");
+            assertIs(cassette.compact(false), 1);
+            cassette.withMaxAge(null);
+            assertIs(cassette.get("old"), null);
+        }
+        assertNPE(() -> Cassette.open(null), "file");
+        assertThrow(() -> Cassette.open(new File("pom.xml/cassette").toPath()))
+                .assertClass(veslo.RuntimeIOException.class)
+                .assertMessageContains("Unable to open cassette: ");
+    }
+
+    @Test
+    @DisplayName("Fingerprint ignores volatile headers, ignored query parameters and normalized body fragments")
+    public void test1792396800105() throws IOException {
+        final CassetteMatchingRules rules = new CassetteMatchingRules()
+                .withIgnoredHeaders("X-Request-Id")
+                .withIgnoredQueryParameters("ts")
+                .withIgnoredBodyPattern("\"createdAt\":\"[^\"]*\",?");
+        final Request first = request("http://localhost/pet?b=2&a=1&ts=1", "1", "{\"createdAt\":\"1\",\"id\":1}");
+        final Request second = request("http://localhost/pet?a=1&b=2&ts=2", "2", "{\"createdAt\":\"2\",\"id\":1}");
+        assertIs(rules.canonical(first), "POST http://localhost:80/pet\na=1&b=2\nx-tenant: t\n\n{\"id\":1}");
+        assertIs(rules.fingerprint(first), rules.fingerprint(second));
+        assertThat("", rules.fingerprint(first), matchesPattern("[0-9a-f]{64}"));
+        final Request otherBody = request("http://localhost/pet?a=1&b=2", "1", "{\"id\":2}");
+        assertThat("", rules.fingerprint(otherBody), not(rules.fingerprint(first)));
+        final Request otherTenant = first.newBuilder().header("X-Tenant", "other").build();
+        assertThat("", rules.fingerprint(otherTenant), not(rules.fingerprint(first)));
+        rules.withAllHeadersIgnored().withBodyIgnored();
+        assertIs(rules.canonical(otherTenant), "POST http://localhost:80/pet\na=1&b=2\n");
+        assertNPE(() -> rules.fingerprint(null), "request");
+        assertNPE(() -> rules.withBodyNormalizer(null), "normalizer");
+    }
+
+    private static Request request(final String url, final String requestId, final String body) {
+        return new Request.Builder()
+                .url(url)
+                .header("X-Request-Id", requestId)
+                .header("X-Tenant", "t")
+                .header("User-Agent", "test")
+                .post(RequestBody.create(MediaType.get("application/json"), body))
+                .build();
+    }
+
+    private static CassetteEntry entry(final String fingerprint, final int code, final String body, final long time) {
+        return new CassetteEntry(fingerprint, time, "GET", "http://localhost/" + fingerprint, code, "OK",
+                Headers.of("X-Id", fingerprint), "application/json; charset=utf-8",
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Path cassetteFile(final String name) throws IOException {
+        final Path file = new File("target/cassettes/" + name).toPath();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.resolveSibling(name + Cassette.INDEX_EXTENSION));
+        return file;
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import internal.test.utils.OkHttpTestUtils;
+import internal.test.utils.log.UnitTestLogger;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Okio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteLoggingEvent;
+import veslo.BaseCoreUnitTest;
+
+import java.io.ByteArrayInputStream;
+import java.net.SocketException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static veslo.client.inteceptor.AsyncLoggingAction.OverflowPolicy.BLOCK;
+import static veslo.client.inteceptor.AsyncLoggingAction.OverflowPolicy.DROP;
+
+@DisplayName("AsyncLoggingAction class tests")
+public class AsyncLoggingActionUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Required parameters")
+    public void test1792396800002() {
+        assertNPE(() -> new AsyncLoggingAction(null, 1, BLOCK), "logger");
+        assertNPE(() -> new AsyncLoggingAction(new UnitTestLogger(), 1, null), "overflowPolicy");
+        assertThrow(() -> new AsyncLoggingAction(new UnitTestLogger(), 0, BLOCK))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Queue capacity must be greater than zero. Actual: 0");
+    }
+
+    @Test
+    @DisplayName("#requestAction() logging an HTTP request in the background thread")
+    public void test1792396800003() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        final Request request = OkHttpTestUtils.getRequest(MediaType.get("text/plain"), "generated");
+        try (final AsyncLoggingAction action = new AsyncLoggingAction(logger)) {
+            final Request result = action.requestAction(request);
+            assertIs(result, request);
+            assertTrue(action.flush(5, TimeUnit.SECONDS));
+            assertIs(action.getLoggedCount(), 1L);
+        }
+        assertIs(logger.getLogEventCount(), 1);
+        final SubstituteLoggingEvent logEvent = logger.getNextLogEvent();
+        assertIs(logEvent.getLevel(), Level.INFO);
+        assertIs(logEvent.getThreadName().startsWith("veslo-async-logging-"), true);
+        assertIs(logEvent.getMessage(), "REQUEST:\n" +
+                "POST http://localhost/\n" +
+                "Headers:\n" +
+                "  Content-Type: text/plain\n" +
+                "  X-Request-ID: generated\n" +
+                "  Content-Length: 9\n" +
+                "Body: (9-byte body)\n" +
+                "  generated\n");
+    }
+
+    @Test
+    @DisplayName("#responseAction() logging an HTTP response without consuming the body")
+    public void test1792396800004() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        final Response response = OkHttpTestUtils.getResponse();
+        try (final AsyncLoggingAction action = new AsyncLoggingAction(logger)) {
+            final Response result = action.responseAction(response);
+            assertIs(result, response);
+            assertTrue(action.flush(5, TimeUnit.SECONDS));
+        }
+        assertIs(response.body().string(), "generated");
+        assertIs(logger.getLogEventCount(), 1);
+        assertIs(logger.getNextLogEvent().getMessage(), "RESPONSE:\n" +
+                "200 TEST http://localhost/\n" +
+                "Headers:\n" +
+                "  Content-Type: text/plain\n" +
+                "  Content-Length: 9\n" +
+                "  X-Request-ID: generated\n" +
+                "Body: (9-byte body)\n" +
+                "  generated\n");
+    }
+
+    @Test
+    @DisplayName("Limited response body is summarized while read instead of buffering on the calling thread")
+    public void test1792396800127() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        final ResponseBody streamed = ResponseBody.create(MediaType.get("text/plain"), -1,
+                Okio.buffer(Okio.source(new ByteArrayInputStream("0123456789".getBytes(UTF_8)))));
+        final Response response = OkHttpTestUtils.getResponse().newBuilder().body(streamed).build();
+        final BodyLogPolicies policies = new BodyLogPolicies().withDefaultPolicy(BodyLogPolicy.truncated(2, 2));
+        try (final AsyncLoggingAction action = new AsyncLoggingAction(logger, policies)) {
+            assertIs(action.getBodyLogPolicies(), policies);
+            action.requestAction(OkHttpTestUtils.getRequest(MediaType.get("text/plain"), "generated"));
+            final Response result = action.responseAction(response);
+            assertIs(streamed.source().getBuffer().size(), 0L);
+            assertIs(result.body().string(), "0123456789");
+            assertTrue(action.flush(5, TimeUnit.SECONDS));
+            assertIs(action.getLoggedCount(), 2L);
+        }
+        assertIs(logger.getLogEventCount(), 2);
+        final String request = logger.getNextLogEvent().getMessage();
+        assertTrue(request.contains("Body: (9-byte body, sha256: "));
+        assertTrue(request.endsWith(", truncated to the first 2 and the last 2 bytes)\n  ge\n  ...\n  ed\n"));
+        final String message = logger.getNextLogEvent().getMessage();
+        assertTrue(message.contains("Body: (10-byte body, sha256: "));
+        assertTrue(message.endsWith(", truncated to the first 2 and the last 2 bytes)\n  01\n  ...\n  89\n"));
+        assertNPE(() -> new AsyncLoggingAction(logger, null), "bodyLogPolicies");
+    }
+
+    @Test
+    @DisplayName("Nothing is captured if the INFO level is disabled")
+    public void test1792396800005() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        logger.setInfoEnabled(false);
+        try (final AsyncLoggingAction action = new AsyncLoggingAction(logger)) {
+            action.requestAction(OkHttpTestUtils.getRequest(MediaType.get("text/plain"), "generated"));
+            action.responseAction(OkHttpTestUtils.getResponse());
+            assertIs(action.getPendingCount(), 0L);
+            assertTrue(action.flush(5, TimeUnit.SECONDS));
+            assertIs(action.getLoggedCount(), 0L);
+        }
+        assertIs(logger.getLogEventCount(), 0);
+    }
+
+    @Test
+    @DisplayName("#errorAction() keeps the order of log entries")
+    public void test1792396800006() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        try (final AsyncLoggingAction action = new AsyncLoggingAction(logger)) {
+            action.requestAction(OkHttpTestUtils.getRequest(MediaType.get("text/plain"), "generated"));
+            action.errorAction(new SocketException("test1792396800006"));
+            assertTrue(action.flush(5, TimeUnit.SECONDS));
+        }
+        assertIs(logger.getLogEventCount(), 2);
+        assertIs(logger.getNextLogEvent().getLevel(), Level.INFO);
+        assertIs(logger.getNextLogEvent().getMessage(), "java.net.SocketException: test1792396800006");
+    }
+
+    @Test
+    @DisplayName("DROP policy discards entries on queue overflow")
+    public void test1792396800007() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (final AsyncLoggingAction action = new AsyncLoggingAction(logger, 1, DROP)) {
+            // occupy the background thread
+            action.submit(() -> {
+                started.countDown();
+                latch.await();
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            action.errorAction(new SocketException("queued"));
+            action.errorAction(new SocketException("dropped"));
+            assertIs(action.getDroppedCount(), 1L);
+            latch.countDown();
+            assertTrue(action.flush(5, TimeUnit.SECONDS));
+        }
+        assertIs(logger.getLogEventCount(), 1);
+        assertIs(logger.getNextLogEvent().getMessage(), "java.net.SocketException: queued");
+    }
+
+    @Test
+    @DisplayName("Entries submitted after closing are written synchronously")
+    public void test1792396800008() {
+        final UnitTestLogger logger = new UnitTestLogger();
+        final AsyncLoggingAction action = new AsyncLoggingAction(logger);
+        action.close();
+        assertTrue(action.isClosed());
+        action.errorAction(new SocketException("test1792396800008"));
+        assertIs(action.getLoggedCount(), 1L);
+        assertIs(logger.getLogEventCount(), 1);
+        assertIs(logger.getNextLogEvent().getThreadName(), Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Closing while a BLOCK submitter waits for the full queue writes all entries")
+    public void test1792396800115() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AsyncLoggingAction action = new AsyncLoggingAction(logger, 1, BLOCK);
+        // occupy the background thread and fill the queue
+        action.submit(() -> {
+            started.countDown();
+            latch.await();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        action.errorAction(new SocketException("queued"));
+        final Thread submitter = new Thread(() -> action.errorAction(new SocketException("blocked")));
+        submitter.start();
+        while (submitter.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        final Thread closer = new Thread(action::close);
+        closer.start();
+        latch.countDown();
+        submitter.join(5000);
+        closer.join(5000);
+        assertIs(submitter.isAlive(), false);
+        assertIs(closer.isAlive(), false);
+        assertIs(action.getPendingCount(), 0L);
+        assertTrue(action.flush(0, TimeUnit.SECONDS));
+        assertIs(logger.getLogEventCount(), 2);
+        assertIs(logger.getNextLogEvent().getMessage(), "java.net.SocketException: queued");
+        assertIs(logger.getNextLogEvent().getMessage(), "java.net.SocketException: blocked");
+    }
+
+}
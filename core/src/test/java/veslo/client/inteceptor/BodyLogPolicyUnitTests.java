@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import internal.test.utils.OkHttpTestUtils;
+import internal.test.utils.log.UnitTestLogger;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import retrofit2.Invocation;
+import veslo.BaseCoreUnitTest;
+import veslo.client.EndpointInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings("ConstantConditions")
+@DisplayName("BodyLogPolicy class tests")
+public class BodyLogPolicyUnitTests extends BaseCoreUnitTest {
+
+    @Nested
+    @DisplayName("BodyLogPolicy class tests")
+    public class BodyLogPolicyTests {
+
+        @Test
+        @DisplayName("Head/tail limits")
+        public void test1792396800017() {
+            assertIs(BodyLogPolicy.UNLIMITED.isTruncated(), false);
+            assertIs(BodyLogPolicy.UNLIMITED.getMaxHeadBytes(), -1);
+            assertIs(BodyLogPolicy.UNLIMITED.getMaxTailBytes(), -1);
+            final BodyLogPolicy head = BodyLogPolicy.UNLIMITED.withMaxHeadBytes(10);
+            assertIs(head.isTruncated(), true);
+            assertIs(head.getMaxHeadBytes(), 10);
+            assertIs(head.getMaxTailBytes(), 0);
+            final BodyLogPolicy tail = BodyLogPolicy.UNLIMITED.withMaxTailBytes(5);
+            assertIs(tail.getMaxHeadBytes(), 0);
+            assertIs(tail.getMaxTailBytes(), 5);
+        }
+
+        @Test
+        @DisplayName("Sample rate out of range")
+        public void test1792396800018() {
+            assertThrow(() -> BodyLogPolicy.UNLIMITED.withSampleRate(1.5))
+                    .assertClass(IllegalArgumentException.class)
+                    .assertMessageIs("Sample rate must be in the range [0, 1]. Actual: 1.5");
+            assertThrow(() -> BodyLogPolicy.UNLIMITED.withSampleRate(-0.1))
+                    .assertClass(IllegalArgumentException.class)
+                    .assertMessageIs("Sample rate must be in the range [0, 1]. Actual: -0.1");
+        }
+
+        @Test
+        @DisplayName("#nextSample() deterministic sampling")
+        public void test1792396800019() {
+            final BodyLogPolicy policy = BodyLogPolicy.UNLIMITED.withSampleRate(0.25);
+            final List<Boolean> samples = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                samples.add(policy.nextSample());
+            }
+            assertIs(samples.toString(), "[true, false, false, false, true, false, false, false]");
+            assertIs(BodyLogPolicy.UNLIMITED.withSampleRate(0).nextSample(), false);
+            assertIs(BodyLogPolicy.UNLIMITED.nextSample(), true);
+        }
+
+        @Test
+        @DisplayName("#isOmitted() content type and wildcard subtype")
+        public void test1792396800020() {
+            final BodyLogPolicy policy = BodyLogPolicy.UNLIMITED
+                    .withOmittedContentTypes("image/*", "Application/Octet-Stream");
+            assertIs(policy.isOmitted(MediaType.get("image/png")), true);
+            assertIs(policy.isOmitted(MediaType.get("application/octet-stream")), true);
+            assertIs(policy.isOmitted(MediaType.get("application/json")), false);
+            assertIs(policy.isOmitted(null), false);
+            assertNPE(() -> policy.withOmittedContentTypes((String[]) null), "types");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("BodyLogPolicies class tests")
+    public class BodyLogPoliciesTests {
+
+        private final BodyLogPolicy exportPolicy = BodyLogPolicy.truncated(1, 1);
+        private final BodyLogPolicy statusPolicy = BodyLogPolicy.truncated(2, 2);
+        private final BodyLogPolicy defaultPolicy = BodyLogPolicy.truncated(3, 3);
+        private final BodyLogPolicies policies = new BodyLogPolicies()
+                .withDefaultPolicy(defaultPolicy)
+                .withEndpointPolicy("Export report", exportPolicy)
+                .withEndpointPolicy("POST /api/status", statusPolicy);
+
+        @Test
+        @DisplayName("#getPolicy() by @EndpointInfo value")
+        public void test1792396800021() throws Exception {
+            final Invocation invocation = Invocation
+                    .of(TestClient.class.getMethod("export"), Collections.emptyList());
+            final Request request = OkHttpTestUtils.getRequest().newBuilder()
+                    .tag(Invocation.class, invocation)
+                    .build();
+            assertIs(BodyLogPolicies.getEndpointInfo(request), "Export report");
+            assertIs(policies.getPolicy(request), exportPolicy);
+        }
+
+        @Test
+        @DisplayName("#getPolicy() by HTTP method and URL path or default policy")
+        public void test1792396800022() {
+            final Request status = OkHttpTestUtils.getRequest("http://localhost/api/status");
+            assertIs(policies.getPolicy(status), statusPolicy);
+            final Request other = OkHttpTestUtils.getRequest("http://localhost/api/other");
+            assertIs(policies.getPolicy(other), defaultPolicy);
+            assertIs(BodyLogPolicies.getEndpointInfo(other), null);
+        }
+
+        @Test
+        @DisplayName("#sample() decision is made once per exchange")
+        public void test1792396800023() {
+            final BodyLogPolicies sampled = new BodyLogPolicies()
+                    .withDefaultPolicy(BodyLogPolicy.UNLIMITED.withSampleRate(0.5));
+            final Request first = sampled.sample(OkHttpTestUtils.getRequest());
+            assertIs(sampled.isSampled(first), true);
+            assertIs(sampled.sample(first), first);
+            final Request second = sampled.sample(OkHttpTestUtils.getRequest());
+            assertIs(sampled.isSampled(second), false);
+            final Request request = OkHttpTestUtils.getRequest();
+            assertIs(policies.sample(request), request);
+            assertIs(policies.isSampled(request), true);
+        }
+
+        @Test
+        @DisplayName("Policies are immutable (with* methods return a copy)")
+        public void test1792396800024() {
+            final Request request = OkHttpTestUtils.getRequest("http://localhost/api/status");
+            final BodyLogPolicies copy = BodyLogPolicies.UNLIMITED.withDefaultPolicy(defaultPolicy);
+            assertIs(copy.getPolicy(request), defaultPolicy);
+            assertIs(BodyLogPolicies.UNLIMITED.getPolicy(request), BodyLogPolicy.UNLIMITED);
+            final BodyLogPolicies endpoint = copy.withEndpointPolicy("POST /api/status", statusPolicy);
+            assertIs(endpoint.getPolicy(request), statusPolicy);
+            assertIs(copy.getPolicy(request), defaultPolicy);
+        }
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792396800025() {
+            assertNPE(() -> policies.withDefaultPolicy(null), "policy");
+            assertNPE(() -> policies.withEndpointPolicy(null, defaultPolicy), "endpoint");
+            assertNPE(() -> policies.withEndpointPolicy("GET /", null), "policy");
+            assertNPE(() -> policies.getPolicy(null), "request");
+            assertNPE(() -> policies.sample(null), "request");
+        }
+
+        @Test
+        @DisplayName("LoggingAction skips sampled out exchange")
+        public void test1792396800026() throws Exception {
+            final UnitTestLogger logger = new UnitTestLogger();
+            final BodyLogPolicies sampled = new BodyLogPolicies()
+                    .withDefaultPolicy(BodyLogPolicy.UNLIMITED.withSampleRate(0.5));
+            final LoggingAction action = new LoggingAction(logger, sampled);
+            for (int i = 0; i < 4; i++) {
+                final Request request = action.requestAction(OkHttpTestUtils.getRequest());
+                action.responseAction(OkHttpTestUtils.getResponse(request));
+            }
+            assertIs(logger.getLogEventCount(), 4);
+        }
+
+    }
+
+    private interface TestClient {
+
+        @EndpointInfo("Export report")
+        void export();
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@SuppressWarnings("ConstantConditions")
+@DisplayName("BodySnapshot class tests")
+public class BodySnapshotUnitTests extends BaseCoreUnitTest {
+
+    private static final MediaType TEXT = MediaType.get("text/plain");
+
+    @Test
+    @DisplayName("Request body is written once and replayed from the snapshot")
+    public void test1792396800033() throws Exception {
+        final BodySnapshot snapshot = BodySnapshot.capture(RequestBody.create(TEXT, "request"));
+        assertIs(snapshot.size(), 7L);
+        final RequestBody view = snapshot.requestBody(TEXT, 7);
+        assertIs(BodySnapshot.of(view), snapshot);
+        assertIs(view.contentType(), TEXT);
+        assertIs(view.contentLength(), 7L);
+        for (int i = 0; i < 2; i++) {
+            final Buffer buffer = new Buffer();
+            view.writeTo(buffer);
+            assertIs(buffer.readUtf8(), "request");
+        }
+        assertIs(BodySnapshot.of(RequestBody.create(TEXT, "request")), null);
+    }
+
+    @Test
+    @DisplayName("Response body view holds the snapshot reference until closing")
+    public void test1792396800034() throws Exception {
+        final BodySnapshot snapshot = BodySnapshot.capture(new Buffer().writeUtf8("response"));
+        final ResponseBody view = snapshot.responseBody(TEXT, -1);
+        assertIs(BodySnapshot.of(view), snapshot);
+        assertIs(BodySnapshot.of(ResponseBody.create(TEXT, "response")), null);
+        assertIs(snapshot.getReferenceCount(), 2);
+        assertIs(view.string(), "response");
+        assertIs(snapshot.getReferenceCount(), 1);
+        view.close();
+        assertIs(snapshot.getReferenceCount(), 1);
+        assertIs(snapshot.string(UTF_8), "response");
+    }
+
+    @Test
+    @DisplayName("Released snapshot is not readable")
+    public void test1792396800035() throws Exception {
+        final BodySnapshot snapshot = BodySnapshot.capture(new Buffer().writeUtf8("response"));
+        final Buffer view = snapshot.retain().buffer();
+        snapshot.release();
+        assertIs(snapshot.isReleased(), false);
+        snapshot.release();
+        assertIs(snapshot.isReleased(), true);
+        assertIs(view.readUtf8(), "response");
+        assertThrow(snapshot::buffer)
+                .assertClass(IllegalStateException.class)
+                .assertMessageIs("Body snapshot is released");
+        assertThrow(snapshot::retain)
+                .assertClass(IllegalStateException.class)
+                .assertMessageIs("Body snapshot is released");
+        assertNPE(() -> BodySnapshot.capture((RequestBody) null), "body");
+        assertNPE(() -> snapshot.string(null), "charset");
+    }
+
+}
@@ -18,16 +18,27 @@ package veslo.client.inteceptor;
 
 import internal.test.utils.OkHttpTestUtils;
 import okhttp3.Interceptor;
+import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static internal.test.utils.asserter.ThrowableAsserter.assertThrow;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +94,114 @@ public class CompositeInterceptorUnitTests {
                 .assertMessageIs("test1637857177331");
     }
 
+    @Test
+    @DisplayName("CompositeInterceptor captures request/response bodies once")
+    public void test1792396800031() throws Exception {
+        final Request request = OkHttpTestUtils.getRequest(MediaType.get("text/plain"), "request");
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any(Request.class)))
+                .thenAnswer(i -> OkHttpTestUtils.getResponse(i.getArgument(0), "response"));
+        final CompositeInterceptor interceptor = new CompositeInterceptor()
+                .withBodyCapture(true)
+                .withResponseInterceptActionsChain(ACTION)
+                .withRequestInterceptActionsChain(ACTION);
+        assertThat("", interceptor.isBodyCapture(), is(true));
+        final Response result = interceptor.intercept(chain);
+        final ExchangeSnapshot exchange = ExchangeSnapshot.of(result);
+        assertThat("", exchange, notNullValue());
+        assertThat("", BodySnapshot.of(result.request().body()), is(exchange.getRequestBody()));
+        assertThat("", BodySnapshot.of(result.body()), is(exchange.getResponseBody()));
+        assertThat("", exchange.getRequestBody().string(UTF_8), is("request"));
+        assertThat("", exchange.getResponseBody().getReferenceCount(), is(2));
+        assertThat("", result.body().string(), is("response"));
+        assertThat("Body view released", exchange.getResponseBody().getReferenceCount(), is(1));
+        assertThat("Snapshot is readable after the body closing",
+                exchange.getResponseBody().string(UTF_8), is("response"));
+        exchange.close();
+        assertThat("", exchange.getResponseBody().isReleased(), is(true));
+        assertThat("", exchange.getRequestBody().isReleased(), is(true));
+    }
+
+    @Test
+    @DisplayName("Captured chunked response body reports the captured content length")
+    public void test1792396800128() throws Exception {
+        final Request request = OkHttpTestUtils.getRequest(MediaType.get("text/plain"), "request");
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(any(Request.class))).thenAnswer(i -> OkHttpTestUtils.getResponse(i.getArgument(0), "")
+                .newBuilder()
+                .body(ResponseBody.create(MediaType.get("text/plain"), -1, new Buffer().writeUtf8("response")))
+                .build());
+        final Response result = new CompositeInterceptor().withBodyCapture(true).intercept(chain);
+        assertThat("", result.body().contentLength(), is(8L));
+        assertThat("", result.body().string(), is("response"));
+    }
+
+    @Test
+    @DisplayName("CompositeInterceptor does not capture bodies by default")
+    public void test1792396800032() throws Exception {
+        final Response response = OkHttpTestUtils.getResponse();
+        final Request request = response.request();
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(request)).thenReturn(response);
+        final Response result = new CompositeInterceptor().intercept(chain);
+        assertThat("", result, is(response));
+        assertThat("", ExchangeSnapshot.of(result), nullValue());
+    }
+
+    @Test
+    @DisplayName("CompositeInterceptor calls route actions for the matched requests only")
+    public void test1792396800046() throws Exception {
+        final List<String> calls = new ArrayList<>();
+        final RequestInterceptAction auth = new RequestInterceptAction() {
+            @Override
+            @Nonnull
+            public Request requestAction(@Nonnull Request request) {
+                calls.add("auth");
+                return request;
+            }
+        };
+        final InterceptAction log = new InterceptAction() {
+            @Override
+            @Nonnull
+            public Request requestAction(@Nonnull Request request) {
+                calls.add("log request");
+                return request;
+            }
+
+            @Override
+            @Nonnull
+            public Response responseAction(@Nonnull Response response) {
+                calls.add("log response");
+                return response;
+            }
+        };
+        final ResponseInterceptAction cookies = new ResponseInterceptAction() {
+            @Override
+            @Nonnull
+            public Response responseAction(@Nonnull Response response) {
+                calls.add("cookies");
+                return response;
+            }
+        };
+        final CompositeInterceptor interceptor = new CompositeInterceptor()
+                .withRequestInterceptActionsChain(log)
+                .withResponseInterceptActionsChain(log)
+                .withRouteRequestInterceptActions("GET /api/**", auth)
+                .withRouteResponseInterceptActions("localhost/api/**", cookies);
+        for (String url : new String[]{"http://localhost/api/pet", "http://localhost/status"}) {
+            final Response response = OkHttpTestUtils.getResponse(new Request.Builder().url(url).build());
+            Interceptor.Chain chain = mock(Interceptor.Chain.class);
+            when(chain.request()).thenReturn(response.request());
+            when(chain.proceed(response.request())).thenReturn(response);
+            interceptor.intercept(chain);
+        }
+        assertThat("", calls, contains("auth", "log request", "log response", "cookies",
+                "log request", "log response"));
+    }
+
     public static class TestInterceptAction implements InterceptAction {
 
     }
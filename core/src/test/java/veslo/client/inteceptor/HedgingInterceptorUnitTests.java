@@ -0,0 +1,229 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.inteceptor;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+import veslo.util.LogHistogram;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+@SuppressWarnings("ConstantConditions")
+@DisplayName("HedgingInterceptor class tests")
+public class HedgingInterceptorUnitTests extends BaseCoreUnitTest {
+
+    private final HedgingInterceptor hedging = new HedgingInterceptor();
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void afterEach() {
+        hedging.close();
+    }
+
+    @Test
+    @DisplayName("Hedged request wins if the original request is slower than the hedge delay")
+    public void test1792396800071() throws Exception {
+        hedging.withDefaultPolicy(HedgePolicy.percentile(95).withInitialDelay(20, 20));
+        final OkHttpClient client = client(2_000, 0);
+        try (final Response response = client.newCall(get("/pet/1")).execute()) {
+            assertIs(response.body().string(), "attempt-2");
+        }
+        assertIs(hedging.getHedgeCount(), 1L);
+        assertIs(hedging.getHedgeWinCount(), 1L);
+        waitFor(() -> events.contains("attempt-1 cancelled"));
+        assertIs(events.contains("attempt-1 cancelled"), true);
+        // winner latency (hedge delay source) and loser elapsed time at the cancellation (censored)
+        assertIs(hedging.getLatencies("GET /pet/1").getCount(), 1L);
+        final LogHistogram censored = hedging.getCensoredLatencies("GET /pet/1");
+        assertIs(censored.getCount(), 1L);
+        assertTrue(censored.getMax() >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    @DisplayName("Cancelling the original call cancels the primary and hedged calls")
+    public void test1792396800118() throws Exception {
+        hedging.withDefaultPolicy(HedgePolicy.percentile(95).withInitialDelay(20, 20));
+        final Call call = hedging.callFactory(client(2_000, 2_000)).newCall(get("/pet/1"));
+        final CompletableFuture<Response> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.execute();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+        waitFor(() -> hedging.getHedgeCount() == 1L);
+        call.cancel();
+        assertThrow(result::join).assertClass(CompletionException.class)
+                .assertCause(cause -> cause.assertClass(IOException.class));
+        waitFor(() -> events.size() == 2);
+        assertIs(events.contains("attempt-1 cancelled"), true);
+        assertIs(events.contains("attempt-2 cancelled"), true);
+        assertIs(call.isCanceled(), true);
+        assertNPE(() -> hedging.callFactory(null), "client");
+        assertNPE(() -> hedging.getCensoredLatencies(null), "endpoint");
+    }
+
+    @Test
+    @DisplayName("Request is not hedged if the response is fast, the method is not idempotent or hedging disabled")
+    public void test1792396800072() throws Exception {
+        hedging.withDefaultPolicy(HedgePolicy.percentile(95).withInitialDelay(200, 20))
+                .withRoutePolicy("GET /store/**", HedgePolicy.DISABLED);
+        final OkHttpClient client = client(0, 0, 500, 500);
+        try (final Response response = client.newCall(get("/pet/1")).execute()) {
+            assertIs(response.body().string(), "attempt-1");
+        }
+        final Request post = get("/pet").newBuilder().post(RequestBody.create(MediaType.get("text/plain"), "pet"))
+                .build();
+        try (final Response response = client.newCall(post).execute()) {
+            assertIs(response.body().string(), "attempt-2");
+        }
+        try (final Response response = client.newCall(get("/store/inventory")).execute()) {
+            assertIs(response.body().string(), "attempt-3");
+        }
+        assertIs(hedging.getHedgeCount(), 0L);
+        assertIs(hedging.getLatencies("GET /pet/1").getCount(), 1L);
+        assertIs(hedging.getLatencies("GET /pet"), null);
+        assertIs(hedging.getPolicy(get("/store/inventory")), HedgePolicy.DISABLED);
+    }
+
+    @Test
+    @DisplayName("Hedged requests are limited by the retry budget")
+    public void test1792396800073() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final RetryBudget budget = new RetryBudget(0.5, 0, 2, ticker::get);
+        assertIs(budget.tryWithdraw(), false);
+        budget.deposit();
+        budget.deposit();
+        budget.deposit();
+        assertIs(budget.getTokens(), 1.5);
+        assertIs(budget.tryWithdraw(), true);
+        assertIs(budget.tryWithdraw(), false);
+        final RetryBudget timeBudget = new RetryBudget(0, 2, 3, ticker::get);
+        assertIs(timeBudget.getTokens(), 2.0);
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertIs(timeBudget.getTokens(), 3.0);
+
+        hedging.withDefaultPolicy(HedgePolicy.percentile(95).withInitialDelay(10, 20))
+                .withRetryBudget(new RetryBudget(0, 0, 1, ticker::get));
+        final OkHttpClient client = client(100, 0);
+        try (final Response response = client.newCall(get("/pet/1")).execute()) {
+            assertIs(response.body().string(), "attempt-1");
+        }
+        assertIs(hedging.getHedgeCount(), 0L);
+        assertIs(hedging.getBudgetRejectedCount(), 1L);
+        assertThrow(() -> RetryBudget.of(-1, 0, 1))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Invalid retry budget: ratio=-1.0 minPerSecond=0.0 capacity=1.0");
+        assertNPE(() -> hedging.withRetryBudget(null), "budget");
+    }
+
+    @Test
+    @DisplayName("Hedge delay is the observed latency percentile bounded by the policy delays")
+    public void test1792396800074() {
+        final HedgePolicy policy = HedgePolicy.percentile(50).withDelayBounds(5, 100).withInitialDelay(50, 3);
+        final LogHistogram latencies = new LogHistogram();
+        assertIs(policy.getHedgeDelayMillis(latencies), 50L);
+        latencies.record(TimeUnit.MILLISECONDS.toNanos(1));
+        latencies.record(TimeUnit.MILLISECONDS.toNanos(1));
+        latencies.record(TimeUnit.MILLISECONDS.toNanos(1));
+        assertIs(policy.getHedgeDelayMillis(latencies), 5L);
+        for (int i = 0; i < 10; i++) {
+            latencies.record(TimeUnit.SECONDS.toNanos(1));
+        }
+        assertIs(policy.getHedgeDelayMillis(latencies), 100L);
+        assertIs(policy.isHedged("get"), true);
+        assertIs(policy.isHedged("POST"), false);
+        assertIs(policy.withMethods("post").isHedged("POST"), true);
+        assertIs(HedgePolicy.DISABLED.isHedged("GET"), false);
+        assertThrow(() -> HedgePolicy.percentile(0))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Percentile must be in the range (0, 100]. Actual: 0.0");
+        assertThrow(() -> policy.withDelayBounds(10, 1))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Invalid hedge delay bounds: [10, 1]");
+        assertNPE(() -> policy.withMethods((String[]) null), "methods");
+        assertNPE(() -> hedging.withDefaultPolicy(null), "policy");
+        assertNPE(() -> hedging.withEndpointPolicy(null, policy), "endpoint");
+        assertNPE(() -> hedging.withRoutePolicy(null, policy), "route");
+        assertNPE(() -> hedging.getPolicy(null), "request");
+    }
+
+    /**
+     * @param delays - response delay (ms) of each attempt
+     */
+    private OkHttpClient client(final long... delays) {
+        final AtomicInteger attempt = new AtomicInteger();
+        final Interceptor backend = chain -> {
+            final int number = attempt.incrementAndGet();
+            final long delay = number <= delays.length ? delays[number - 1] : 0;
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            while (System.nanoTime() < deadline) {
+                if (chain.call().isCanceled()) {
+                    events.add("attempt-" + number + " cancelled");
+                    throw new IOException("Canceled");
+                }
+                sleep();
+            }
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(MediaType.get("text/plain"), "attempt-" + number))
+                    .build();
+        };
+        return new OkHttpClient.Builder().addInterceptor(hedging).addInterceptor(backend).build();
+    }
+
+    private static Request get(final String path) {
+        return new Request.Builder().url("http://localhost" + path).build();
+    }
+
+    private static void waitFor(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            sleep();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
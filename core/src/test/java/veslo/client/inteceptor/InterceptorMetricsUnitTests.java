@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import internal.test.utils.OkHttpTestUtils;
+import internal.test.utils.log.UnitTestLogger;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static veslo.client.inteceptor.InterceptorMetrics.Phase.*;
+
+@SuppressWarnings("ConstantConditions")
+@DisplayName("InterceptorMetrics class tests")
+public class InterceptorMetricsUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("CompositeInterceptor records actions timing per phase")
+    public void test1792396800039() throws Exception {
+        final Response response = OkHttpTestUtils.getResponse();
+        final Request request = response.request();
+        final Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(request)).thenReturn(response);
+        final InterceptorMetrics metrics = new InterceptorMetrics();
+        final TestAction action = new TestAction();
+        final CompositeInterceptor interceptor = new CompositeInterceptor()
+                .withMetrics(metrics)
+                .withRequestInterceptActionsChain(action)
+                .withResponseInterceptActionsChain(action);
+        assertIs(interceptor.getMetrics(), metrics);
+        interceptor.intercept(chain);
+        interceptor.intercept(chain);
+        assertIs(metrics.getHistogram(TestAction.class, CHAIN).getCount(), 2L);
+        assertIs(metrics.getHistogram(TestAction.class, REQUEST).getCount(), 2L);
+        assertIs(metrics.getHistogram(TestAction.class, RESPONSE).getCount(), 2L);
+        assertIs(metrics.getHistogram(TestAction.class, ERROR), null);
+        assertIs(metrics.getHistogram(CompositeInterceptor.class, PROCEED).getCount(), 2L);
+        assertIs(metrics.getHistogram(CompositeInterceptor.class, TOTAL).getCount(), 2L);
+        assertIs(metrics.getHistograms().size(), 2);
+        final String dump = metrics.dump();
+        assertTrue(dump.startsWith("Intercept actions timing (µs):\n" +
+                "veslo.client.inteceptor.CompositeInterceptor PROCEED: count=2 mean="));
+        assertTrue(dump.contains("veslo.client.inteceptor.InterceptorMetricsUnitTests$TestAction RESPONSE: count=2"));
+        metrics.reset();
+        assertIs(metrics.getHistograms().isEmpty(), true);
+    }
+
+    @Test
+    @DisplayName("CompositeInterceptor records errorAction() timing")
+    public void test1792396800040() throws Exception {
+        final Request request = OkHttpTestUtils.getRequest();
+        final Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(request)).thenThrow(new IOException("test1792396800040"));
+        final InterceptorMetrics metrics = new InterceptorMetrics();
+        final CompositeInterceptor interceptor = new CompositeInterceptor()
+                .withMetrics(metrics)
+                .withResponseInterceptActionsChain(new TestAction());
+        assertThrow(() -> interceptor.intercept(chain)).assertClass(IOException.class);
+        assertIs(metrics.getHistogram(TestAction.class, ERROR).getCount(), 1L);
+        assertIs(metrics.getHistogram(CompositeInterceptor.class, PROCEED), null);
+        assertIs(metrics.getHistogram(CompositeInterceptor.class, TOTAL).getCount(), 1L);
+    }
+
+    @Test
+    @DisplayName("Periodic dump is written to the logger")
+    public void test1792396800041() throws Exception {
+        final UnitTestLogger logger = new UnitTestLogger();
+        try (final InterceptorMetrics metrics = new InterceptorMetrics()) {
+            metrics.record(new TestAction(), REQUEST, System.nanoTime());
+            final ScheduledFuture<?> future = metrics.scheduleDump(logger, 10, TimeUnit.MILLISECONDS);
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (logger.getLogEventCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            future.cancel(false);
+            assertTrue(logger.getLogEventCount() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Required parameters")
+    public void test1792396800042() {
+        final InterceptorMetrics metrics = new InterceptorMetrics();
+        assertNPE(() -> metrics.getHistogram(null, CHAIN), "actionClass");
+        assertNPE(() -> metrics.getHistogram(TestAction.class, null), "phase");
+        assertNPE(() -> metrics.scheduleDump(null, 1, TimeUnit.SECONDS), "logger");
+        assertNPE(() -> metrics.scheduleDump(new UnitTestLogger(), 1, null), "unit");
+    }
+
+    private static class TestAction implements InterceptAction {
+
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.inteceptor;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+@SuppressWarnings("ConstantConditions")
+@DisplayName("RouteMatcher class tests")
+public class RouteMatcherUnitTests extends BaseCoreUnitTest {
+
+    private final RouteMatcher<String> matcher = new RouteMatcher<String>()
+            .add("GET petstore.io/v2/pet/{petId}", "getPet")
+            .add("POST /v2/user/**", "user")
+            .add("*.example.com/**", "example")
+            .add("petstore.io/v2/*/inventory", "inventory")
+            .add("* /", "root");
+
+    @Test
+    @DisplayName("Host, method and path segments matching")
+    public void test1792396800043() {
+        assertIs(match("GET", "http://petstore.io/v2/pet/1"), Collections.singletonList("getPet"));
+        assertIs(match("PUT", "http://petstore.io/v2/pet/1"), Collections.emptyList());
+        assertIs(match("GET", "http://other.io/v2/pet/1"), Collections.emptyList());
+        assertIs(match("GET", "http://petstore.io/v2/pet/1/photo"), Collections.emptyList());
+        assertIs(match("GET", "http://PetStore.io/v2/store/inventory"), Collections.singletonList("inventory"));
+        assertIs(match("GET", "http://petstore.io/"), Collections.singletonList("root"));
+    }
+
+    @Test
+    @DisplayName("'**' matches any number of trailing segments and subdomain hosts")
+    public void test1792396800044() {
+        assertIs(match("POST", "http://any.io/v2/user"), Collections.singletonList("user"));
+        assertIs(match("POST", "http://any.io/v2/user/1/login/"), Collections.singletonList("user"));
+        assertIs(match("DELETE", "http://api.eu.example.com/v1"), Collections.singletonList("example"));
+        assertIs(match("DELETE", "http://example.com/v1"), Collections.emptyList());
+        assertIs(match("POST", "http://api.example.com/v2/user/1"), Arrays.asList("user", "example"));
+    }
+
+    @Test
+    @DisplayName("Invalid route patterns")
+    public void test1792396800045() {
+        assertThrow(() -> matcher.add("GET /a/**/b", "value"))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("'**' is allowed as the last path segment only: 'GET /a/**/b'");
+        assertThrow(() -> matcher.add("GET host /path", "value"))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Invalid route pattern: 'GET host /path'");
+        assertNPE(() -> matcher.add(null, "value"), "route");
+        assertNPE(() -> matcher.add("/", null), "value");
+        assertNPE(() -> matcher.match(null, HttpUrl.get("http://localhost")), "method");
+        assertNPE(() -> matcher.match("GET", null), "url");
+        assertIs(new RouteMatcher<String>().isEmpty(), true);
+    }
+
+    private Object match(String method, String url) {
+        return matcher.match(method, HttpUrl.get(url));
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.journal;
+
+import internal.test.utils.OkHttpTestUtils;
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+import veslo.PetApi;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.metrics.CallTimingRecorder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("ExchangeJournal class tests")
+public class ExchangeJournalUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("API calls are written to the HAR file with endpoint info, sizes and phase timings")
+    public void test1792396800107() throws Exception {
+        final Path directory = directory("test1792396800107");
+        final ExchangeJournal journal = new ExchangeJournal(directory, ExchangeJournal.Format.HAR);
+        final StubBackend backend = new StubBackend().withHeader("X-Pet", "rex").withBody("rex");
+        final PetApi api = TestClientBuilder.build(PetApi.class,
+                new UniversalCallAdapterFactory().withExchangeJournal(journal), new ExtensionConverterFactory(),
+                new OkHttpClient.Builder()
+                        .eventListenerFactory(CallTimingRecorder.INSTANCE)
+                        .addInterceptor(CallTimingRecorder.INSTANCE), backend);
+        assertIs(api.findPet("rex").getSucDTO(), "rex");
+        assertIs(api.findPet("bob").getSucDTO(), "rex");
+        assertTrue(journal.flush(5, TimeUnit.SECONDS));
+        journal.close();
+        assertIs(journal.getWrittenCount(), 2L);
+        assertIs(journal.getFiles().size(), 1);
+        assertIs(journal.getFiles().get(0).getFileName().toString(), "exchanges-0001.har");
+        final String har = read(journal.getFiles().get(0));
+        assertThat("", har, allOf(
+                startsWith("{\"log\":{\"version\":\"1.2\",\"creator\":{\"name\":\"veslo\",\"version\":\""),
+                endsWith("}\n]}}\n"),
+                containsString("\"request\":{\"method\":\"GET\",\"url\":\"http://localhost/pet?name=rex\"," +
+                               "\"httpVersion\":\"HTTP/1.1\",\"cookies\":[],\"headers\":[],\"queryString\":" +
+                               "[{\"name\":\"name\",\"value\":\"rex\"}],\"headersSize\":-1,\"bodySize\":0}"),
+                containsString("\"response\":{\"status\":200,\"statusText\":\"OK\",\"httpVersion\":\"HTTP/1.1\"," +
+                               "\"cookies\":[],\"headers\":[{\"name\":\"X-Pet\",\"value\":\"rex\"}]," +
+                               "\"content\":{\"size\":3,\"mimeType\":\"text/plain; charset=utf-8\"}"),
+                containsString("\"timings\":{\"blocked\":-1,\"dns\":-1,\"connect\":-1,\"send\":"),
+                containsString("\"_endpoint\":\"Find \\\"pet\\\" <by name>\",\"_callTime\":"),
+                containsString("},\n{\"startedDateTime\":\"")));
+        assertTrue(journal.isClosed());
+        assertIs(journal.record(entry("late")), false);
+        assertIs(journal.getDroppedCount(), 1L);
+    }
+
+    @Test
+    @DisplayName("NDJSON files are rotated by size and existing files are not overwritten")
+    public void test1792396800108() throws Exception {
+        final Path directory = directory("test1792396800108");
+        try (ExchangeJournal journal = new ExchangeJournal(directory, ExchangeJournal.Format.NDJSON)
+                .withFilePrefix("calls")
+                .withMaxFileSize(1)
+                .withRotationInterval(Duration.ofHours(1))
+                .withMaxBlockTime(null)) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(journal.record(entry("pet" + i)));
+                assertTrue(journal.flush(5, TimeUnit.SECONDS));
+            }
+            final Request request = new Request.Builder().url("http://localhost/pet").build();
+            journal.record(JournalEntry.failed("Get pet", request, new IOException("reset"), 0, 2_000_000));
+            assertTrue(journal.flush(5, TimeUnit.SECONDS));
+            assertIs(journal.getFiles().size(), 4);
+            assertIs(journal.getPendingCount(), 0L);
+            assertIs(read(journal.getFiles().get(0)), "{\"startedDateTime\":\"1970-01-01T00:00:00.001Z\"," +
+                    "\"endpoint\":\"pet0\",\"method\":\"POST\",\"url\":\"http://localhost/\",\"status\":200," +
+                    "\"requestBodySize\":9,\"responseBodySize\":3,\"mimeType\":\"text/plain; charset=utf-8\"," +
+                    "\"timeMs\":1.500,\"dnsMs\":-1,\"connectMs\":-1,\"tlsMs\":-1,\"sendMs\":-1,\"waitMs\":-1," +
+                    "\"receiveMs\":-1,\"conversionMs\":-1,\"error\":null}\n");
+            assertThat("", read(journal.getFiles().get(3)), allOf(
+                    containsString("\"status\":0,\"requestBodySize\":0,\"responseBodySize\":-1,\"mimeType\":\"\""),
+                    endsWith("\"error\":\"java.io.IOException: reset\"}\n")));
+        }
+        try (ExchangeJournal journal = new ExchangeJournal(directory, ExchangeJournal.Format.NDJSON)
+                .withFilePrefix("calls")) {
+            journal.record(entry("next"));
+            assertTrue(journal.flush(5, TimeUnit.SECONDS));
+            assertIs(journal.getFiles().get(0).getFileName().toString(), "calls-0005.ndjson");
+        }
+        assertIs(directory.toFile().list().length, 5);
+    }
+
+    @Test
+    @DisplayName("Journal parameters are checked")
+    public void test1792396800109() {
+        final Path directory = new File("target/journal/test1792396800109").toPath();
+        assertNPE(() -> new ExchangeJournal(null, ExchangeJournal.Format.HAR), "directory");
+        assertNPE(() -> new ExchangeJournal(directory, null), "format");
+        assertThrow(() -> new ExchangeJournal(directory, ExchangeJournal.Format.HAR, 0))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Queue capacity must be greater than zero. Actual: 0");
+        try (ExchangeJournal journal = new ExchangeJournal(directory, ExchangeJournal.Format.HAR, 1)) {
+            assertThrow(() -> journal.withMaxFileSize(0))
+                    .assertClass(IllegalArgumentException.class)
+                    .assertMessageIs("Max file size must be greater than zero. Actual: 0");
+            assertNPE(() -> journal.record(null), "entry");
+            assertNPE(() -> journal.withFilePrefix(null), "name");
+            assertNPE(() -> journal.flush(1, null), "unit");
+            assertIs(journal.getFormat().getExtension(), "har");
+            assertIs(journal.getDirectory(), directory.toAbsolutePath());
+            assertIs(journal.getFiles().size(), 0);
+        }
+        assertNPE(() -> JournalEntry.of(null, OkHttpTestUtils.getResponse(), 0, 0), "endpointInfo");
+        assertNPE(() -> JournalEntry.of("", null, 0, 0), "response");
+        assertNPE(() -> JournalEntry.failed("", null, null, 0, 0), "request");
+        assertIs(entry("pet").toString(), "POST http://localhost/ -> 200 (pet)");
+    }
+
+    private static JournalEntry entry(final String endpointInfo) {
+        return JournalEntry.of(endpointInfo, OkHttpTestUtils.getResponse("{}\n", 200), 1, 1_500_000);
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static Path directory(final String name) throws IOException {
+        final File directory = new File("target/journal/" + name);
+        FileUtils.deleteDirectory(directory);
+        return directory.toPath();
+    }
+
+}
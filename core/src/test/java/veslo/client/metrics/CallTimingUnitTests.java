@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+import veslo.PetApi;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.response.DualResponse;
+
+import static org.hamcrest.Matchers.*;
+import static veslo.client.metrics.CallTiming.Event.*;
+
+@DisplayName("CallTiming class tests")
+public class CallTimingUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Call timing is attached to the DualResponse and survives the response compaction")
+    public void test1792396800084() {
+        final PetApi api = TestClientBuilder.build(PetApi.class, new UniversalCallAdapterFactory(),
+                new ExtensionConverterFactory(), new OkHttpClient.Builder()
+                        .eventListenerFactory(CallTimingRecorder.INSTANCE)
+                        .addInterceptor(CallTimingRecorder.INSTANCE), new StubBackend());
+        final DualResponse<String, String> response = api.getPet(1);
+        final CallTiming timing = response.getCallTiming();
+        assertThat("", timing, notNullValue());
+        assertThat("", timing.getTotalNanos(), greaterThan(0L));
+        assertThat("", timing.getConversionNanos(), greaterThanOrEqualTo(0L));
+        // no network phases for the short-circuited call
+        assertIs(timing.getDnsNanos(), -1L);
+        assertIs(timing.getServerNanos(), -1L);
+        assertThat("", timing.toString(), allOf(startsWith("conversion="), containsString(" total=")));
+        assertThat("", response.toString(), containsString("Call timing: conversion="));
+        assertIs(response.compact().getCallTiming(), timing);
+        assertIs(CallTimingRecorder.INSTANCE.getPendingCount(), 0);
+    }
+
+    @Test
+    @DisplayName("Phase durations are calculated from the recorded events")
+    public void test1792396800085() {
+        final CallTiming timing = new CallTiming();
+        assertIs(timing.toString(), "");
+        assertIs(timing.getTotalNanos(), -1L);
+        assertIs(timing.getConversionNanos(), -1L);
+        timing.record(CALL_START, 1_000_000L);
+        timing.record(DNS_START, 2_000_000L);
+        timing.record(DNS_END, 3_000_000L);
+        timing.record(CONNECT_START, 3_000_000L);
+        timing.record(SECURE_CONNECT_START, 4_000_000L);
+        timing.record(SECURE_CONNECT_END, 6_000_000L);
+        timing.record(CONNECT_END, 6_000_000L);
+        timing.record(REQUEST_HEADERS_START, 7_000_000L);
+        timing.record(REQUEST_HEADERS_END, 7_500_000L);
+        assertIs(timing.getRequestNanos(), 500_000L);
+        timing.record(REQUEST_BODY_START, 7_500_000L);
+        timing.record(REQUEST_BODY_END, 8_000_000L);
+        timing.record(RESPONSE_HEADERS_START, 18_000_000L);
+        timing.record(RESPONSE_HEADERS_END, 18_250_000L);
+        timing.record(RESPONSE_BODY_START, 18_250_000L);
+        timing.record(RESPONSE_BODY_END, 20_000_000L);
+        timing.record(CALL_END, 21_000_000L);
+        timing.setConversionNanos(250_000L);
+        assertIs(timing.getDnsNanos(), 1_000_000L);
+        assertIs(timing.getConnectNanos(), 3_000_000L);
+        assertIs(timing.getTlsNanos(), 2_000_000L);
+        assertIs(timing.getRequestNanos(), 1_000_000L);
+        assertIs(timing.getServerNanos(), 10_000_000L);
+        assertIs(timing.getResponseHeadersNanos(), 250_000L);
+        assertIs(timing.getResponseBodyNanos(), 1_750_000L);
+        assertIs(timing.getTotalNanos(), 20_000_000L);
+        assertIs(timing.toString(), "dns=1.000ms connect=3.000ms tls=2.000ms request=1.000ms server=10.000ms " +
+                "headers=0.250ms body=1.750ms conversion=0.250ms total=20.000ms");
+        assertNPE(() -> CallTiming.of((okhttp3.Request) null), "request");
+        assertNPE(() -> CallTiming.of((Response) null), "response");
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+import veslo.HttpCallException;
+import veslo.PetApi;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.inteceptor.CompositeInterceptor;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("EndpointMetrics class tests")
+public class EndpointMetricsUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Exchange and call metrics are recorded per @EndpointInfo and per path template")
+    public void test1792396800082() throws Exception {
+        final EndpointMetrics metrics = new EndpointMetrics();
+        final PetApi api = client(metrics);
+        api.getPet(1);
+        api.getPet(404);
+        api.getPetAsync(2).get();
+        api.addPet(1, "{\"name\":\"pet\"}");
+        assertThrow(() -> api.addPet(500, "error")).assertClass(HttpCallException.class);
+        final EndpointStats getPet = metrics.getEndpoint("Get pet");
+        assertIs(getPet.getExchangeCount(), 3L);
+        assertIs(getPet.getCallLatency().getCount(), 3L);
+        assertIs(getPet.getStatusClassCount(2), 2L);
+        assertIs(getPet.getStatusClassCount(4), 1L);
+        assertIs(getPet.getResponseBytes().getSum(), 9L);
+        assertIs(getPet.getRequestBytes().getCount(), 0L);
+        assertThat("", getPet.getThroughput(), greaterThan(0.0));
+        final EndpointStats addPet = metrics.getEndpoint("POST /pet/{id}");
+        assertIs(addPet.getExchangeCount(), 2L);
+        assertIs(addPet.getErrorCount(), 1L);
+        assertIs(addPet.getStatusClassCount(2), 1L);
+        assertIs(addPet.getRequestBytes().getSum(), 14L);
+        assertIs(metrics.getEndpoints().keySet().toString(), "[Get pet, POST /pet/{id}]");
+        assertThrow(() -> getPet.getStatusClassCount(6))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Status class must be in the range [1, 5]. Actual: 6");
+        metrics.reset();
+        assertIs(metrics.getEndpoint("Get pet"), null);
+        assertIs(UniversalCallAdapterFactory.INSTANCE.withEndpointMetrics(metrics).getEndpointMetrics(), metrics);
+        assertIs(UniversalCallAdapterFactory.INSTANCE.getEndpointMetrics(), null);
+    }
+
+    @Test
+    @DisplayName("Prometheus text export with OkHttp client gauges")
+    public void test1792396800083() throws Exception {
+        final EndpointMetrics metrics = new EndpointMetrics();
+        final OkHttpClient client = new OkHttpClient();
+        metrics.withClientGauges("pet\"store", client);
+        client(metrics).getPet(1);
+        assertIs(metrics.getGauges().toString(),
+                "{pet\"store/connections=0, pet\"store/idleConnections=0, pet\"store/queuedCalls=0, " +
+                "pet\"store/runningCalls=0}");
+        final String prometheus = metrics.toPrometheus();
+        assertThat("", prometheus, allOf(
+                containsString("# TYPE veslo_http_exchange_latency_seconds summary\n"),
+                containsString("veslo_http_exchange_latency_seconds{endpoint=\"Get pet\",quantile=\"0.95\"} "),
+                containsString("veslo_http_exchange_latency_seconds_count{endpoint=\"Get pet\"} 1\n"),
+                containsString("veslo_http_call_latency_seconds_count{endpoint=\"Get pet\"} 1\n"),
+                containsString("veslo_http_response_bytes{endpoint=\"Get pet\",quantile=\"0.5\"} 3\n"),
+                containsString("veslo_http_responses_total{endpoint=\"Get pet\",status=\"2xx\"} 1\n"),
+                containsString("veslo_http_errors_total{endpoint=\"Get pet\"} 0\n"),
+                containsString("veslo_okhttp_client{client=\"pet\\\"store\",gauge=\"idleConnections\"} 0\n"),
+                not(containsString("veslo_http_request_bytes{"))));
+        final File file = new File("target/metrics/endpoints.prom");
+        metrics.writePrometheus(file.toPath());
+        assertIs(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), metrics.toPrometheus());
+        assertNPE(() -> metrics.withClientGauges(null, client), "name");
+        assertNPE(() -> metrics.withClientGauges("name", null), "client");
+        assertNPE(() -> metrics.getEndpoint((String) null), "endpoint");
+        assertNPE(() -> metrics.writePrometheus(null), "path");
+        assertNPE(() -> EndpointMetrics.getEndpoint((okhttp3.Request) null), "request");
+    }
+
+    @Test
+    @DisplayName("Compacted response assertion is recorded to the run metrics by the call endpoint")
+    public void test1792396800122() {
+        final EndpointMetrics runMetrics = EndpointMetrics.enableRunMetrics();
+        try {
+            final PetApi api = TestClientBuilder.build(PetApi.class,
+                    new UniversalCallAdapterFactory().withCompactResponses(true), new ExtensionConverterFactory(),
+                    new StubBackend());
+            api.getPetWithoutInfo(1).assertResponse(asserter -> asserter.assertHttpStatusCodeIs(200));
+            api.getPet(1).assertResponse(asserter -> asserter.assertHttpStatusCodeIs(200));
+            assertIs(runMetrics.getEndpoints().keySet().toString(), "[GET /pet/{id}, Get pet]");
+            assertIs(runMetrics.getEndpoint("GET /pet/{id}").getAssertionLatency().getCount(), 1L);
+            assertIs(runMetrics.getEndpoint("Get pet").getAssertionLatency().getCount(), 1L);
+            assertNPE(() -> runMetrics.recordAssertion((String) null, 1), "endpoint");
+        } finally {
+            EndpointMetrics.disableRunMetrics();
+        }
+    }
+
+    private static PetApi client(final EndpointMetrics metrics) {
+        final StubBackend backend = new StubBackend()
+                .withCode("/pet/404", 404)
+                .withError("/pet/500", "Connection reset");
+        return TestClientBuilder.build(PetApi.class, new UniversalCallAdapterFactory().withEndpointMetrics(metrics),
+                new ExtensionConverterFactory(), backend, new CompositeInterceptor().withEndpointMetrics(metrics));
+    }
+
+}
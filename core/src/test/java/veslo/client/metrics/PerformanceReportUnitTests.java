@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.metrics;
+
+import internal.test.utils.OkHttpTestUtils;
+import okhttp3.Request;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.Invocation;
+import veslo.BaseCoreUnitTest;
+import veslo.PetApi;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("PerformanceReport class tests")
+public class PerformanceReportUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("JSON and HTML report with per-endpoint calls, bytes, conversion and assertion overhead")
+    public void test1792396800089() throws Exception {
+        final EndpointMetrics metrics = metrics(10);
+        final PerformanceReport report = new PerformanceReport(metrics);
+        final String json = report.toJson();
+        assertThat("", json, allOf(
+                startsWith("{\n  \"endpoints\": [\n" +
+                           "    {\"endpoint\": \"Find \\\"pet\\\" <by name>\", \"calls\": 3, \"errors\": 0, " +
+                           "\"p50Ms\": 10.000, \"p95Ms\": 10.000, \"p99Ms\": 10.000, \"maxMs\": 10.000, " +
+                           "\"requestBytes\": 0"),
+                containsString(", \"responseBytes\": 9, \"conversionMs\": 3.000, \"assertionMs\": 0.500, " +
+                               "\"regressed\": false}\n  ],\n  \"regressions\": [\n  ]\n}\n")));
+        assertIs(report.getRegressions().size(), 0);
+        assertThat("", report.toHtml(), allOf(
+                containsString("<td>Find &quot;pet&quot; &lt;by name&gt;</td><td class=\"num\">3</td>"),
+                not(containsString("Regressions"))));
+        final File directory = new File("target/performance/test1792396800089");
+        report.write(directory.toPath());
+        assertTrue(new File(directory, PerformanceReport.HTML_FILE_NAME).isFile());
+        assertTrue(new File(directory, PerformanceReport.JSON_FILE_NAME).isFile());
+        assertNPE(() -> new PerformanceReport(null), "metrics");
+        assertNPE(() -> report.withBaseline((String) null), "baseline");
+        assertNPE(() -> report.withBaseline((java.nio.file.Path) null), "path");
+        assertNPE(() -> report.write(null), "directory");
+        assertThrow(() -> report.withThreshold(-0.1))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Threshold must be greater than or equal to zero. Actual: -0.1");
+    }
+
+    @Test
+    @DisplayName("Endpoints with p50/p95 regressed beyond the threshold are flagged")
+    public void test1792396800090() throws Exception {
+        final String baseline = new PerformanceReport(metrics(10)).toJson();
+        final File baselineFile = new File("target/performance/test1792396800090.json");
+        baselineFile.getParentFile().mkdirs();
+        Files.write(baselineFile.toPath(), baseline.getBytes(StandardCharsets.UTF_8));
+        final PerformanceReport same = new PerformanceReport(metrics(11)).withBaseline(baselineFile.toPath());
+        assertIs(same.getRegressions().size(), 0);
+        final PerformanceReport slow = new PerformanceReport(metrics(50)).withBaseline(baseline);
+        assertIs(slow.getRegressions().size(), 1);
+        assertIs(slow.getRegressions().get(0),
+                "Find \"pet\" <by name>: p50 50.000ms (baseline 10.000ms), p95 50.000ms (baseline 10.000ms)");
+        assertThat("", slow.toJson(), allOf(containsString("\"regressed\": true}"),
+                containsString("\"regressions\": [\n    \"Find \\\"pet\\\" <by name>: p50 ")));
+        assertThat("", slow.toHtml(), allOf(containsString("<h2>Regressions</h2>"),
+                containsString("<tr class=\"regressed\">")));
+        final PerformanceReport tolerant = new PerformanceReport(metrics(50)).withThreshold(10).withBaseline(baseline);
+        assertIs(tolerant.getRegressions().size(), 0);
+        final PerformanceReport absent = new PerformanceReport(metrics(50))
+                .withBaseline(new File("target/performance/absent.json").toPath());
+        assertIs(absent.getRegressions().size(), 0);
+    }
+
+    private static EndpointMetrics metrics(final long latencyMillis) throws NoSuchMethodException {
+        final EndpointMetrics metrics = new EndpointMetrics();
+        final Request request = new Request.Builder()
+                .url("http://localhost/pet")
+                .tag(Invocation.class,
+                        Invocation.of(PetApi.class.getMethod("findPet", String.class), Collections.emptyList()))
+                .build();
+        for (int i = 0; i < 3; i++) {
+            metrics.recordExchange(request, OkHttpTestUtils.getResponse("pet", 200), 0, latencyMillis * 1_000_000);
+            metrics.recordConversion(request, 1_000_000);
+        }
+        metrics.recordAssertion(request, 500_000);
+        return metrics;
+    }
+
+}
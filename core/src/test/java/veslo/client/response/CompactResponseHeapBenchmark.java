@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.client.response;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Manual benchmark (not a unit test): retained heap per {@link DualResponse} in the full and compact modes.
+ * Run the {@link #main(String[])} method from the IDE or with {@code java -cp <test-classpath>}.
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class CompactResponseHeapBenchmark {
+
+    private CompactResponseHeapBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        final long full = retainedBytes(() -> responses(count, false));
+        final long compact = retainedBytes(() -> responses(count, true));
+        System.out.printf(Locale.ENGLISH, "Retained heap per DualResponse: full=%d B, compact=%d B, saved=%d B%n",
+                full / count, compact / count, (full - compact) / count);
+    }
+
+    private static List<DualResponse<String, String>> responses(final int count, final boolean compact) {
+        final List<DualResponse<String, String>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final DualResponse<String, String> dual = new DualResponse<>("suc", null,
+                    CompactResponseUnitTests.response(i), "info", new Annotation[]{});
+            responses.add(compact ? (DualResponse<String, String>) dual.compact() : dual);
+        }
+        return responses;
+    }
+
+    private static long retainedBytes(final Supplier<List<?>> supplier) {
+        final long before = usedHeap();
+        final List<?> retained = supplier.get();
+        final long after = usedHeap();
+        if (retained.isEmpty()) {
+            throw new IllegalStateException("No responses retained");
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.response;
+
+import internal.test.utils.RetrofitTestUtils;
+import okhttp3.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+import veslo.BaseCoreUnitTest;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.inteceptor.BodySnapshot;
+import veslo.client.inteceptor.ExchangeSnapshot;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("CompactResponse class tests")
+public class CompactResponseUnitTests extends BaseCoreUnitTest {
+
+    static Response response(final int index) {
+        final Request.Builder requestBuilder = new Request.Builder()
+                .url("https://localhost/api/pets/" + index)
+                .post(RequestBody.create(MediaType.get("application/json"), new byte[2048]))
+                .tag(byte[].class, new byte[4096]);
+        for (int i = 0; i < 10; i++) {
+            requestBuilder.header("X-Request-Header-" + i, "value-" + index + "-" + i);
+        }
+        final Request request = requestBuilder.build();
+        final Response network = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(201)
+                .message("Created")
+                .header("Content-Type", "application/json")
+                .header("Server", "nginx")
+                .header("X-Request-Id", "id-" + index)
+                .sentRequestAtMillis(1000)
+                .receivedResponseAtMillis(1250)
+                .build();
+        return network.newBuilder()
+                .networkResponse(network)
+                .priorResponse(network.newBuilder().code(307).message("Temporary Redirect").build())
+                .body(ResponseBody.create(MediaType.get("application/json"), new byte[1024]))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Compact snapshot keeps status, request line, interned headers and timings")
+    public void test1792396800068() {
+        final Response response = response(1);
+        final CompactResponse compact = CompactResponse.of(response);
+        assertIs(compact.getRequestLine(), "POST https://localhost/api/pets/1");
+        assertIs(compact.getCode(), 201);
+        assertIs(compact.getMessage(), "Created");
+        assertIs(compact.getProtocol(), Protocol.HTTP_1_1);
+        assertIs(compact.getHeaders(), response.headers());
+        assertIs(compact.toString(), "POST https://localhost/api/pets/1 -> http/1.1 201 Created (250ms)");
+        assertTrue(compact.getHeaders().name(0) == CompactResponse.of(response(2)).getHeaders().name(0));
+        assertTrue(compact.getHeaders().value(1) == CompactResponse.of(response(2)).getHeaders().value(1));
+        final Response minimal = compact.toResponse();
+        assertIs(minimal.code(), 201);
+        assertIs(minimal.request().url().toString(), "https://localhost/api/pets/1");
+        assertIs(minimal.request().headers().size(), 0);
+        assertIs(minimal.request().tag(byte[].class), null);
+        assertIs(minimal.networkResponse(), null);
+        assertIs(minimal.priorResponse(), null);
+        assertIs(minimal.body(), null);
+        assertIs(minimal.receivedResponseAtMillis() - minimal.sentRequestAtMillis(), 250L);
+        assertNPE(() -> CompactResponse.of(null), "response");
+    }
+
+    @Test
+    @DisplayName("DualResponse compaction (explicit and factory compact mode)")
+    public void test1792396800069() {
+        final DualResponse<String, String> dual =
+                new DualResponse<>("suc", null, response(1), "info", new Annotation[]{});
+        assertTrue(!dual.isCompact());
+        dual.compact().assertResponse(asserter -> asserter.assertHttpStatusCodeIs(201));
+        assertTrue(dual.isCompact());
+        assertIs(dual.getSucDTO(), "suc");
+        assertIs(dual.getResponse().header("X-Request-Id"), "id-1");
+        assertIs(dual.getExchangeSnapshot(), null);
+        final UniversalCallAdapterFactory factory = new UniversalCallAdapterFactory();
+        assertTrue(!factory.isCompactResponses());
+        assertTrue(factory.withCompactResponses(true).isCompactResponses());
+        assertTrue(!factory.isCompactResponses());
+    }
+
+    @Test
+    @DisplayName("Compaction of the lazy response converts the bodies and releases the raw exchange")
+    public void test1792396800126() throws Exception {
+        final BodySnapshot requestBody = BodySnapshot.capture(RequestBody.create(null, "request"));
+        final List<WeakReference<Response>> raw = new ArrayList<>();
+        final IDualResponse<?, ?> dual = lazyCompactResponse(requestBody, raw);
+        assertTrue(((BaseDualResponse<?, ?, ?>) dual).isCompact());
+        assertTrue(requestBody.isReleased());
+        for (int i = 0; i < 50 && raw.get(0).get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertIs(raw.get(0).get(), null);
+        assertIs(dual.getSucDTO(), "suc");
+        assertIs(dual.getErrDTO(), null);
+        assertIs(dual.getResponse().code(), 201);
+    }
+
+    private static IDualResponse<?, ?> lazyCompactResponse(final BodySnapshot requestBody,
+                                                          final List<WeakReference<Response>> raw) {
+        final Response response = response(1);
+        final Response tagged = response.newBuilder()
+                .request(response.request().newBuilder().tag(ExchangeSnapshot.class, new ExchangeSnapshot(requestBody))
+                        .build())
+                .build();
+        raw.add(new WeakReference<>(tagged));
+        final UniversalCallAdapterFactory factory = UniversalCallAdapterFactory.INSTANCE
+                .withLazyBodyConversion(true)
+                .withCompactResponses(true);
+        final Retrofit retrofit = RetrofitTestUtils.retrofit(factory, new ExtensionConverterFactory());
+        return factory.convertIDualResponse(retrofit2.Response.success(ResponseBody.create(null, "suc"), tagged),
+                String.class, String.class, "info", new Annotation[]{}, retrofit);
+    }
+
+    @Test
+    @DisplayName("Only header names and low-cardinality header values are interned")
+    public void test1792396800070() {
+        final Headers first = CompactResponse.of(response(1)).getHeaders();
+        final Headers second = CompactResponse.of(response(1)).getHeaders();
+        assertIs(first.name(2), "X-Request-Id");
+        assertTrue(first.name(2) == second.name(2));
+        assertIs(first.value(2), second.value(2));
+        assertTrue(first.value(2) != second.value(2));
+        assertTrue(first.value(0) == second.value(0));
+        assertTrue(CompactResponse.INTERNED_VALUE_HEADERS.contains("content-type"));
+        assertTrue(!CompactResponse.INTERNED_VALUE_HEADERS.contains("Set-Cookie"));
+        assertThrow(() -> CompactResponse.INTERNED_VALUE_HEADERS.add("Date"))
+                .assertClass(UnsupportedOperationException.class);
+    }
+
+}
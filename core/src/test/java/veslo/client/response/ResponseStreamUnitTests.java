@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.client.response;
+
+import internal.test.utils.RetrofitTestUtils;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Converter;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import veslo.BaseCoreUnitTest;
+import veslo.client.adapter.JavaTypeCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+@DisplayName("ResponseStream.class unit tests")
+public class ResponseStreamUnitTests extends BaseCoreUnitTest {
+
+    private static final JavaTypeCallAdapterFactory FACTORY = new JavaTypeCallAdapterFactory();
+    private static final Retrofit RETROFIT = RetrofitTestUtils.retrofit(FACTORY, new ExtensionConverterFactory());
+    private static final Annotation[] AA = new Annotation[]{};
+    private static final MediaType NDJSON = MediaType.get("application/x-ndjson; charset=utf-8");
+
+    private static Converter<ResponseBody, ?> converter() {
+        return RETROFIT.responseBodyConverter(String.class, AA);
+    }
+
+    @Test
+    @DisplayName("Elements are read line by line, blank lines and record separators are skipped")
+    public void test1792396800056() {
+        final ResponseBody body = ResponseBody.create(NDJSON, "{\"a\":1}\r\n\n\u001E{\"b\":2}\n{\"c\":3}");
+        final Call call = mock(Call.class);
+        final ResponseStream<String> stream = new ResponseStream<>(call, Response.success(body), String.class, converter());
+        assertIs(stream.next(), "{\"a\":1}");
+        assertIs(stream.stream().collect(Collectors.joining(",")), "{\"b\":2},{\"c\":3}");
+        assertIs(stream.getElementCount(), 3L);
+        assertTrue(stream.isExhausted());
+        assertTrue(stream.isClosed());
+        assertTrue(stream.isSuccessful());
+        assertIs(stream.getErrorBody(), null);
+        assertTrue(!stream.hasNext());
+        assertThrow(stream::next)
+                .assertClass(NoSuchElementException.class)
+                .assertMessageIs("Response stream has no more elements");
+        verify(call, never()).cancel();
+    }
+
+    @Test
+    @DisplayName("Closing the stream before the end cancels the call and stops reading")
+    public void test1792396800057() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Source endless = new Source() {
+            @Override
+            public long read(Buffer sink, long byteCount) {
+                reads.incrementAndGet();
+                sink.writeUtf8("{\"event\":" + reads.get() + "}\n");
+                return sink.size();
+            }
+
+            @Override
+            public Timeout timeout() {
+                return Timeout.NONE;
+            }
+
+            @Override
+            public void close() {
+                // do nothing
+            }
+        };
+        final ResponseBody body = ResponseBody.create(NDJSON, -1, Okio.buffer(endless));
+        final Call call = mock(Call.class);
+        try (ResponseStream<String> stream = new ResponseStream<>(call, Response.success(body), String.class, converter())) {
+            assertIs(stream.next(), "{\"event\":1}");
+            assertIs(stream.next(), "{\"event\":2}");
+        }
+        verify(call).cancel();
+        assertIs(reads.get(), 2);
+    }
+
+    @Test
+    @DisplayName("Element media type for the line delimited JSON content types")
+    public void test1792396800058() {
+        assertIs(ResponseStream.getElementMediaType(NDJSON), MediaType.get("application/json; charset=UTF-8"));
+        assertIs(ResponseStream.getElementMediaType(MediaType.get("application/jsonl")), MediaType.get("application/json"));
+        assertIs(ResponseStream.getElementMediaType(MediaType.get("text/plain")), MediaType.get("text/plain"));
+        assertIs(ResponseStream.getElementMediaType(null), null);
+    }
+
+    @Test
+    @DisplayName("JavaTypeCallAdapterFactory adapts ResponseStream<T> return type (error body is not converted)")
+    public void test1792396800059() throws Exception {
+        final Type returnType = StreamTypes.class.getMethod("events").getGenericReturnType();
+        final CallAdapter<?, ?> adapter = FACTORY.get(returnType, AA, RETROFIT);
+        assertIs(adapter.responseType(), ResponseBody.class);
+        final Response response = Response.error(500, ResponseBody.create(NDJSON, "{\"error\":1}\n"));
+        final Call call = RetrofitTestUtils.getCall(200, "");
+        when(call.execute()).thenReturn(response);
+        final ResponseStream<String> stream = (ResponseStream<String>) ((CallAdapter) adapter).adapt(call);
+        assertTrue(!stream.isSuccessful());
+        assertIs(stream.getErrorBody().string(), "{\"error\":1}\n");
+        assertIs(stream.stream().collect(Collectors.toList()), Collections.emptyList());
+        assertTrue(stream.isExhausted());
+        stream.close();
+        verify(call, never()).cancel();
+        assertThrow(() -> FACTORY.get(ResponseStream.class, AA, RETROFIT))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("ResponseStream return type must be parameterized " +
+                        "as ResponseStream<Foo> or ResponseStream<? extends Foo>");
+        assertNPE(() -> new ResponseStream<>(null, response, String.class, converter()), "call");
+    }
+
+    private interface StreamTypes {
+
+        ResponseStream<String> events();
+
+    }
+
+}
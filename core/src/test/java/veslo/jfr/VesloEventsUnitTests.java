@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.jfr;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+
+import java.lang.annotation.Annotation;
+
+@DisplayName("VesloEvents class tests")
+public class VesloEventsUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Events are not created without the jfr module in the classpath")
+    public void test1792396800093() {
+        assertFalse(VesloEvents.isAvailable());
+        assertIs(VesloEvents.beginCall(), null);
+        assertIs(VesloEvents.beginConverterResolution(), null);
+        assertIs(VesloEvents.beginConversion(), null);
+        assertIs(VesloEvents.beginInterceptAction(), null);
+        assertIs(VesloEvents.beginAssertion(), null);
+        // null events are ignored
+        VesloEvents.commitCall(null, "", String.class, String.class, null);
+        VesloEvents.commitConverterResolution(null, new Annotation[0], "", String.class, null);
+        VesloEvents.commitConversion(null, new Annotation[0], "", String.class, this, null);
+        VesloEvents.commitInterceptAction(null, this, "", null);
+        VesloEvents.commitAssertion(null, "", 200, true);
+    }
+
+}
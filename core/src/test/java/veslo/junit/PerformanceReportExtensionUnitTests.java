@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.junit;
+
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import veslo.BaseCoreUnitTest;
+import veslo.PetApi;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.inteceptor.CompositeInterceptor;
+import veslo.client.metrics.EndpointMetrics;
+import veslo.client.metrics.EndpointStats;
+import veslo.client.metrics.PerformanceReport;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+@DisplayName("PerformanceReportExtension class tests")
+public class PerformanceReportExtensionUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Run metrics are collected from the API calls and written at the end of the run")
+    public void test1792396800091() throws Throwable {
+        final AtomicReference<Object> resource = new AtomicReference<>();
+        final ExtensionContext context = mock(ExtensionContext.class);
+        final ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+        when(context.getRoot()).thenReturn(context);
+        when(context.getStore(any())).thenReturn(store);
+        when(store.getOrComputeIfAbsent(any(), any(), any())).thenAnswer(invocation -> {
+            if (resource.get() == null) {
+                resource.set(((Function) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+            }
+            return resource.get();
+        });
+        final File directory = new File("target/performance/test1792396800091");
+        System.setProperty(PerformanceReportExtension.REPORT_DIR_PROPERTY, directory.getPath());
+        System.setProperty(PerformanceReportExtension.BASELINE_PROPERTY, "target/performance/absent.json");
+        try {
+            final PerformanceReportExtension extension = new PerformanceReportExtension();
+            extension.beforeAll(context);
+            extension.beforeAll(context);
+            final EndpointMetrics metrics = EndpointMetrics.getRunMetrics();
+            assertIs(((PerformanceReportExtension.RunReport) resource.get()).getMetrics(), metrics);
+            client().getPet(1).assertResponse(asserter -> asserter.assertHttpStatusCodeIs(200));
+            final EndpointStats stats = metrics.getEndpoint("Get pet");
+            assertIs(stats.getExchangeCount(), 1L);
+            assertIs(stats.getCallLatency().getCount(), 1L);
+            assertIs(stats.getConversionLatency().getCount(), 1L);
+            assertIs(stats.getAssertionLatency().getCount(), 1L);
+            ((ExtensionContext.Store.CloseableResource) resource.get()).close();
+            assertIs(EndpointMetrics.getRunMetrics(), null);
+            final String json = new String(Files.readAllBytes(new File(directory, PerformanceReport.JSON_FILE_NAME)
+                    .toPath()), StandardCharsets.UTF_8);
+            assertThat("", json, containsString("{\"endpoint\": \"Get pet\", \"calls\": 1, \"errors\": 0, "));
+            assertTrue(new File(directory, PerformanceReport.HTML_FILE_NAME).isFile());
+        } finally {
+            EndpointMetrics.disableRunMetrics();
+            System.clearProperty(PerformanceReportExtension.REPORT_DIR_PROPERTY);
+            System.clearProperty(PerformanceReportExtension.BASELINE_PROPERTY);
+        }
+    }
+
+    private static PetApi client() {
+        return TestClientBuilder.build(PetApi.class, new UniversalCallAdapterFactory(),
+                new ExtensionConverterFactory(), new StubBackend(), new CompositeInterceptor());
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.trace;
+
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import okhttp3.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import veslo.BaseCoreUnitTest;
+import veslo.BriefAssertionError;
+import veslo.HttpCallException;
+import veslo.PetApi;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.inteceptor.CompositeInterceptor;
+import veslo.client.metrics.EndpointMetrics;
+import veslo.junit.TracingExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Tracing classes tests")
+public class TracingUnitTests extends BaseCoreUnitTest {
+
+    @AfterEach
+    public void resetTracer() {
+        VesloTracer.endTestSpan(null);
+        VesloTracer.setExporter(null);
+    }
+
+    @Test
+    @DisplayName("Span identifiers, traceparent, attributes and single export on end")
+    public void test1792396800094() {
+        final InMemorySpanExporter exporter = new InMemorySpanExporter();
+        final Span root = Span.root("root", null, exporter);
+        final Span child = root.child("child", Span.Kind.CLIENT);
+        assertThat("", root.getTraceId(), matchesPattern("[0-9a-f]{32}"));
+        assertThat("", root.getSpanId(), matchesPattern("[0-9a-f]{16}"));
+        assertIs(root.getParentSpanId(), null);
+        assertIs(root.getKind(), Span.Kind.INTERNAL);
+        assertIs(child.getTraceId(), root.getTraceId());
+        assertIs(child.getParentSpanId(), root.getSpanId());
+        assertIs(child.getTraceparent(), "00-" + root.getTraceId() + "-" + child.getSpanId() + "-01");
+        child.setAttribute("int", 1).setAttribute("removed", "value").setAttribute("removed", null);
+        assertIs(child.getAttributes().toString(), "{int=1}");
+        assertIs(child.getDurationNanos(), -1L);
+        child.setError(new IllegalStateException("boom")).end();
+        child.end();
+        assertTrue(child.isEnded());
+        assertThat("", child.getDurationNanos(), greaterThanOrEqualTo(0L));
+        assertIs(child.getStatus(), Span.Status.ERROR);
+        assertIs(child.getStatusMessage(), "IllegalStateException: boom");
+        assertIs(exporter.getSpans().size(), 1);
+        assertIs(exporter.getSpans(root.getTraceId()).get(0), child);
+        assertIs(exporter.getSpans("absent").size(), 0);
+        exporter.reset();
+        assertIs(exporter.getSpans().size(), 0);
+        assertNPE(() -> Span.root(null, null, null), "name");
+        assertNPE(() -> root.setAttribute(null, 1), "key");
+        assertNPE(() -> exporter.export(null), "span");
+        assertNPE(() -> VesloTracer.startTestSpan(null), "name");
+        assertNPE(() -> VesloTracer.getParentSpan(null), "request");
+        assertNPE(() -> new OtlpJsonFileSpanExporter(null), "file");
+        assertThrow(() -> new OtlpJsonFileSpanExporter(new File("target").toPath()).withBatchSize(0))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Batch size must be greater than zero. Actual: 0");
+    }
+
+    @Test
+    @DisplayName("Test span -> call span -> HTTP exchange (traceparent header) and conversion spans; assertion span")
+    public void test1792396800095() throws Exception {
+        final InMemorySpanExporter exporter = new InMemorySpanExporter();
+        VesloTracer.setExporter(exporter);
+        final Queue<String> traceparents = new ConcurrentLinkedQueue<>();
+        final Span test = VesloTracer.startTestSpan("test1792396800095");
+        assertThat("", test, notNullValue());
+        assertIs(VesloTracer.getTestSpan(), test);
+        client(traceparents).getPet(1).assertResponse(asserter -> asserter.assertHttpStatusCodeIs(200));
+        assertThrow(() -> client(traceparents).getPet(1)
+                .assertResponse(asserter -> asserter.assertHttpStatusCodeIs(201)))
+                .assertClass(BriefAssertionError.class);
+        VesloTracer.endTestSpan(null);
+        assertIs(VesloTracer.getTestSpan(), null);
+        assertIs(VesloTracer.getCallSpanCount(), 0);
+        final List<Span> spans = exporter.getSpans(test.getTraceId());
+        assertIs(spans.stream().map(Span::getName).collect(Collectors.toList()).toString(),
+                "[HTTP GET, Conversion: Get pet, API call: Get pet, Assertion: Get pet, " +
+                "HTTP GET, Conversion: Get pet, API call: Get pet, Assertion: Get pet, test1792396800095]");
+        final Span exchange = spans.get(0);
+        final Span conversion = spans.get(1);
+        final Span call = spans.get(2);
+        final Span assertion = spans.get(3);
+        assertIs(traceparents.peek(), exchange.getTraceparent());
+        assertIs(exchange.getKind(), Span.Kind.CLIENT);
+        assertIs(exchange.getParentSpanId(), call.getSpanId());
+        assertIs(exchange.getAttributes().get("http.status_code"), 200);
+        assertIs(conversion.getParentSpanId(), call.getSpanId());
+        assertIs(call.getParentSpanId(), test.getSpanId());
+        assertIs(call.getAttributes().get("veslo.endpoint"), "Get pet");
+        assertIs(call.getAttributes().get("http.status_code"), 200);
+        assertIs(assertion.getParentSpanId(), test.getSpanId());
+        assertIs(assertion.getAttributes().get("veslo.assertion.passed"), true);
+        assertIs(assertion.getStatus(), Span.Status.UNSET);
+        assertIs(spans.get(7).getAttributes().get("veslo.assertion.passed"), false);
+        assertIs(spans.get(7).getStatus(), Span.Status.ERROR);
+        assertIs(test.getStatus(), Span.Status.OK);
+        final File file = new File("target/trace/test1792396800095.json");
+        Files.deleteIfExists(file.toPath());
+        final OtlpJsonFileSpanExporter fileExporter = new OtlpJsonFileSpanExporter(file.toPath())
+                .withServiceName("pet-tests");
+        spans.forEach(fileExporter::export);
+        fileExporter.flush();
+        fileExporter.flush();
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertIs(lines.size(), 1);
+        assertThat("", lines.get(0), allOf(
+                startsWith("{\"resourceSpans\":[{\"resource\":{\"attributes\":[{\"key\":\"service.name\"," +
+                           "\"value\":{\"stringValue\":\"pet-tests\"}}]},\"scopeSpans\":[{\"scope\":" +
+                           "{\"name\":\"veslo\"},\"spans\":[{\"traceId\":\"" + test.getTraceId() + "\",\"spanId\":\"" +
+                           exchange.getSpanId() + "\",\"parentSpanId\":\"" + call.getSpanId() +
+                           "\",\"name\":\"HTTP GET\",\"kind\":3,\"startTimeUnixNano\":\""),
+                containsString("{\"key\":\"http.status_code\",\"value\":{\"intValue\":\"200\"}}"),
+                containsString("{\"key\":\"veslo.assertion.passed\",\"value\":{\"boolValue\":false}}"),
+                containsString("\"status\":{\"message\":\"BriefAssertionError: "),
+                endsWith("\"status\":{\"code\":1}}]}]}]}")));
+    }
+
+    @Test
+    @DisplayName("TraceparentAction propagates the context without exporter, keeps the test header, ends on error")
+    public void test1792396800096() {
+        final Request request = new Request.Builder().url("http://localhost/pet").build();
+        final Request traced = TraceparentAction.INSTANCE.requestAction(request);
+        assertThat("", traced.header(TraceparentAction.TRACEPARENT_HEADER),
+                matchesPattern("00-[0-9a-f]{32}-[0-9a-f]{16}-01"));
+        final Request custom = request.newBuilder().header(TraceparentAction.TRACEPARENT_HEADER, "custom").build();
+        assertIs(TraceparentAction.INSTANCE.requestAction(custom), custom);
+        final InMemorySpanExporter exporter = new InMemorySpanExporter();
+        VesloTracer.setExporter(exporter);
+        TraceparentAction.INSTANCE.requestAction(request);
+        TraceparentAction.INSTANCE.errorAction(new SocketTimeoutException("timeout"));
+        TraceparentAction.INSTANCE.errorAction(new SocketTimeoutException("timeout"));
+        assertIs(exporter.getSpans().size(), 1);
+        assertIs(exporter.getSpans().get(0).getParentSpanId(), null);
+        assertIs(exporter.getSpans().get(0).getAttributes().get("exception.type"),
+                SocketTimeoutException.class.getName());
+        assertNPE(() -> TraceparentAction.INSTANCE.requestAction(null), "request");
+        assertNPE(() -> TraceparentAction.INSTANCE.responseAction(null), "response");
+        assertNPE(() -> TraceparentAction.INSTANCE.errorAction(null), "throwable");
+    }
+
+    @Test
+    @DisplayName("TracingExtension starts and ends the test root span and configures the OTLP file exporter")
+    public void test1792396800097() throws Exception {
+        final ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getDisplayName()).thenReturn("Display name");
+        when(context.getRequiredTestClass()).thenReturn((Class) TracingUnitTests.class);
+        when(context.getRequiredTestMethod()).thenReturn(TracingUnitTests.class.getMethod("test1792396800097"));
+        when(context.getUniqueId()).thenReturn("[engine:junit-jupiter]");
+        when(context.getExecutionException()).thenReturn(Optional.of(new IOException("failed")));
+        final File file = new File("target/trace/test1792396800097.json");
+        Files.deleteIfExists(file.toPath());
+        System.setProperty(TracingExtension.TRACE_FILE_PROPERTY, file.getPath());
+        try {
+            final TracingExtension extension = new TracingExtension();
+            extension.beforeEach(context);
+            assertThat("", VesloTracer.getExporter(), instanceOf(OtlpJsonFileSpanExporter.class));
+            final Span test = VesloTracer.getTestSpan();
+            assertIs(test.getName(), "Display name");
+            assertIs(test.getAttributes().get("test.class"), TracingUnitTests.class.getName());
+            extension.afterEach(context);
+            assertIs(VesloTracer.getTestSpan(), null);
+            assertIs(test.getStatus(), Span.Status.ERROR);
+            assertThat("", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8),
+                    containsString("\"name\":\"Display name\",\"kind\":1,"));
+        } finally {
+            System.clearProperty(TracingExtension.TRACE_FILE_PROPERTY);
+        }
+    }
+
+    @Test
+    @DisplayName("Asynchronous call transport failure ends the call span and records the call metrics")
+    public void test1792396800120() {
+        final InMemorySpanExporter exporter = new InMemorySpanExporter();
+        VesloTracer.setExporter(exporter);
+        final Span test = VesloTracer.startTestSpan("test1792396800120");
+        final EndpointMetrics metrics = new EndpointMetrics();
+        final PetApi api = TestClientBuilder.build(PetApi.class,
+                new UniversalCallAdapterFactory().withEndpointMetrics(metrics), new ExtensionConverterFactory(),
+                new StubBackend().withError("/pet/500", "Connection reset"));
+        assertThrow(() -> api.getPetAsync(500).join())
+                .assertClass(CompletionException.class)
+                .assertCause(cause -> cause.assertClass(HttpCallException.class));
+        assertIs(VesloTracer.getCallSpanCount(), 0);
+        assertIs(metrics.getEndpoint("Get pet").getCallLatency().getCount(), 1L);
+        final Span call = exporter.getSpans(test.getTraceId()).get(0);
+        assertIs(call.getName(), "API call: Get pet");
+        assertIs(call.getStatus(), Span.Status.ERROR);
+    }
+
+    private static PetApi client(final Queue<String> traceparents) {
+        final StubBackend backend = new StubBackend()
+                .withBody(request -> {
+                    traceparents.add(request.header(TraceparentAction.TRACEPARENT_HEADER));
+                    return StubBackend.BODY;
+                });
+        return TestClientBuilder.build(PetApi.class, new UniversalCallAdapterFactory(),
+                new ExtensionConverterFactory(), backend, new CompositeInterceptor()
+                        .withRequestInterceptActionsChain(TraceparentAction.INSTANCE)
+                        .withResponseInterceptActionsChain(TraceparentAction.INSTANCE));
+    }
+
+}
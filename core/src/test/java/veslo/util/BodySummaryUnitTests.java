@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.util;
+
+import okio.Buffer;
+import okio.ByteString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+
+@SuppressWarnings("ConstantConditions")
+@DisplayName("BodySummary class tests")
+public class BodySummaryUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Head, tail, size and hash of the body written in chunks")
+    public void test1792396800027() {
+        final String body = "0123456789abcdefghij";
+        final BodySummary summary = new BodySummary(3, 4);
+        for (char c : body.toCharArray()) {
+            summary.write(new Buffer().writeUtf8(String.valueOf(c)), 1);
+        }
+        assertIs(summary.size(), 20L);
+        assertIs(summary.isTruncated(), true);
+        assertIs(summary.head().utf8(), "012");
+        assertIs(summary.tail().utf8(), "ghij");
+        assertIs(summary.sha256(), ByteString.encodeUtf8(body).sha256().hex());
+    }
+
+    @Test
+    @DisplayName("Not truncated body is returned as head")
+    public void test1792396800028() {
+        final BodySummary summary = new BodySummary(3, 4);
+        summary.writeCopy(new Buffer().writeUtf8("0123456"), 0, 7);
+        assertIs(summary.isTruncated(), false);
+        assertIs(summary.head().utf8(), "0123456");
+        assertIs(summary.tail(), ByteString.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Writing to closed summary is not allowed")
+    public void test1792396800029() {
+        final BodySummary summary = new BodySummary(0, 0);
+        summary.close();
+        assertIs(summary.sha256(), ByteString.EMPTY.sha256().hex());
+        assertThrow(() -> summary.write(new Buffer().writeUtf8("a"), 1))
+                .assertClass(IllegalStateException.class)
+                .assertMessageIs("Body summary is closed");
+        assertNPE(() -> summary.write(null, 1), "buffer");
+        assertThrow(() -> new BodySummary(-1, 0))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Retained bytes number must be not negative. Head: -1, tail: 0");
+    }
+
+}
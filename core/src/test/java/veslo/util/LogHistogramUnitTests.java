@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import veslo.BaseCoreUnitTest;
+
+import java.util.stream.IntStream;
+
+@DisplayName("LogHistogram class tests")
+public class LogHistogramUnitTests extends BaseCoreUnitTest {
+
+    @Test
+    @DisplayName("Bucket index and upper bound are consistent")
+    public void test1792396800036() {
+        for (int bits : new int[]{1, LogHistogram.DEFAULT_SUB_BUCKET_BITS, 10, LogHistogram.MAX_SUB_BUCKET_BITS}) {
+            for (long value : new long[]{0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+                final int index = LogHistogram.bucketIndex(value, bits);
+                assertTrue(value <= LogHistogram.bucketUpperBound(index, bits));
+                assertTrue(index == 0 || value > LogHistogram.bucketUpperBound(index - 1, bits));
+            }
+            assertIs(LogHistogram.bucketUpperBound(LogHistogram.bucketIndex(Long.MAX_VALUE, bits), bits),
+                    Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    @DisplayName("Count, sum, mean, max and percentiles")
+    public void test1792396800037() {
+        final LogHistogram histogram = new LogHistogram();
+        assertIs(histogram.getPercentile(99), 0L);
+        IntStream.rangeClosed(1, 100).forEach(histogram::record);
+        assertIs(histogram.getCount(), 100L);
+        assertIs(histogram.getSum(), 5050L);
+        assertIs(histogram.getMean(), 50.5D);
+        assertIs(histogram.getMax(), 100L);
+        assertIs(histogram.getPercentile(5), 5L);
+        // 50 is counted in the [48, 51] bucket
+        assertIs(histogram.getPercentile(50), 51L);
+        assertIs(histogram.getPercentile(100), 100L);
+        histogram.record(-1);
+        assertIs(histogram.getCount(), 101L);
+        histogram.reset();
+        assertIs(histogram.getCount(), 0L);
+        assertIs(histogram.toString(), "count=0 mean=0.0 p50=0 p90=0 p99=0 max=0");
+    }
+
+    @Test
+    @DisplayName("Percentile out of range")
+    public void test1792396800038() {
+        assertThrow(() -> new LogHistogram().getPercentile(0))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Percentile must be in the range (0, 100]. Actual: 0.0");
+    }
+
+    @Test
+    @DisplayName("Percentiles relative error does not exceed the significant digits precision")
+    public void test1792396800075() {
+        final LogHistogram histogram = LogHistogram.ofSignificantDigits(3);
+        assertIs(histogram.getSubBucketBits(), 10);
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        assertIs(histogram.getCount(), 100_000L);
+        assertIs(histogram.getMin(), 1_000L);
+        assertIs(histogram.getMax(), 100_000_000L);
+        assertIs(histogram.getMean(), 50_000_500.0);
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9, 99.99}) {
+            final double expected = percentile * 1_000_000;
+            final double error = Math.abs(histogram.getPercentile(percentile) - expected) / expected;
+            assertTrue(error <= 0.001);
+        }
+        assertIs(histogram.getPercentile(100), 100_000_000L);
+        histogram.record(-1);
+        assertIs(histogram.getMin(), 0L);
+        assertIs(LogHistogram.ofSignificantDigits(1).getPercentile(50), 0L);
+        histogram.reset();
+        assertIs(histogram.getCount(), 0L);
+        assertIs(histogram.getMin(), 0L);
+        assertIs(histogram.getPercentile(99), 0L);
+    }
+
+    @Test
+    @DisplayName("Histograms merge and arguments validation")
+    public void test1792396800076() {
+        final LogHistogram first = new LogHistogram(7);
+        final LogHistogram second = new LogHistogram(7);
+        first.record(10);
+        second.record(Long.MAX_VALUE);
+        first.add(second);
+        assertIs(first.getCount(), 2L);
+        assertIs(first.getMax(), Long.MAX_VALUE);
+        assertIs(first.getPercentile(50), 10L);
+        assertIs(first.getPercentile(100), Long.MAX_VALUE);
+        assertThrow(() -> first.add(new LogHistogram()))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Unable to add histogram with 3 sub-bucket bits to histogram with 7 sub-bucket bits");
+        assertThrow(() -> LogHistogram.ofSignificantDigits(5))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Significant digits must be in the range [1, 4]. Actual: 5");
+        assertThrow(() -> new LogHistogram(17))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Sub-bucket bits must be in the range [1, 16]. Actual: 17");
+    }
+
+}
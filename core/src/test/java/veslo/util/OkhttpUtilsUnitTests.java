@@ -19,13 +19,18 @@ package veslo.util;
 import internal.test.utils.OkHttpTestUtils;
 import okhttp3.*;
 import okio.Buffer;
+import okio.Okio;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import veslo.BaseCoreUnitTest;
+import veslo.client.inteceptor.BodyLogPolicy;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.GZIPOutputStream;
 
 import static internal.test.utils.OkHttpTestUtils.getRequest;
@@ -111,6 +116,21 @@ public class OkhttpUtilsUnitTests extends BaseCoreUnitTest {
             assertThat("", result, containsString("Body: (duplex request body omitted)"));
         }
 
+        @Test
+        @DisplayName("with one-shot RequestBody")
+        public void test1792396800001() throws Exception {
+            final RequestBody mock = mock(RequestBody.class);
+            when(mock.isOneShot()).thenReturn(true);
+            when(mock.contentLength()).thenReturn(10L);
+            final Request request = mock(Request.class);
+            when(request.url()).thenReturn(HttpUrl.get("http://localhost"));
+            when(request.method()).thenReturn("POST");
+            when(request.headers()).thenReturn(Headers.of());
+            when(request.body()).thenReturn(mock);
+            final String result = OkhttpUtils.requestToString(request);
+            assertThat("", result, containsString("Body: (one-shot request body omitted)"));
+        }
+
         @Test
         @DisplayName("with duplex && content length == 0")
         public void test1639986665183() throws IOException {
@@ -257,6 +277,112 @@ public class OkhttpUtilsUnitTests extends BaseCoreUnitTest {
 
     }
 
+    @Nested
+    @DisplayName("Body logging policy formatting tests")
+    public class BodyLogPolicyFormattingTests {
+
+        private final String body = "0123456789abcdefghij";
+        private final String sha256 = okio.ByteString.encodeUtf8(body).sha256().hex();
+
+        @Test
+        @DisplayName("#requestToString() truncated request body with size and hash")
+        public void test1792396800009() throws Exception {
+            final Request request = getRequest(MediaType.get("text/plain"), body);
+            final String result = OkhttpUtils.requestToString(request, BodyLogPolicy.truncated(4, 3));
+            assertThat("", result, containsString("" +
+                    "Body: (20-byte body, sha256: " + sha256 + ", truncated to the first 4 and the last 3 bytes)\n" +
+                    "  0123\n" +
+                    "  ...\n" +
+                    "  hij\n"));
+        }
+
+        @Test
+        @DisplayName("#requestToString() not truncated request body with size and hash")
+        public void test1792396800010() throws Exception {
+            final Request request = getRequest(MediaType.get("text/plain"), body);
+            final String result = OkhttpUtils.requestToString(request, BodyLogPolicy.truncated(10, 10));
+            assertThat("", result, containsString("" +
+                    "Body: (20-byte body, sha256: " + sha256 + ")\n" +
+                    "  " + body + "\n"));
+        }
+
+        @Test
+        @DisplayName("#requestToString() request body omitted by content type")
+        public void test1792396800011() throws Exception {
+            final Request request = getRequest(MediaType.get("image/png"), body);
+            final BodyLogPolicy policy = BodyLogPolicy.UNLIMITED.withOmittedContentTypes("image/*");
+            final String result = OkhttpUtils.requestToString(request, policy);
+            assertThat("", result, containsString("Body: (image/png 20-byte body omitted by policy)\n"));
+        }
+
+        @Test
+        @DisplayName("#formatResponse() buffered response body is formatted immediately")
+        public void test1792396800012() throws Exception {
+            final Response response = OkHttpTestUtils.getResponse(body);
+            final List<String> messages = new ArrayList<>();
+            final Response result = OkhttpUtils.formatResponse(response, BodyLogPolicy.truncated(4, 0), messages::add);
+            assertThat("", result, is(response));
+            assertThat("", messages.size(), is(1));
+            assertThat("", messages.get(0), containsString("" +
+                    "Body: (20-byte body, sha256: " + sha256 + ", truncated to the first 4 and the last 0 bytes)\n" +
+                    "  0123\n" +
+                    "  ...\n"));
+            assertThat("Body not consumed", result.body().string(), is(body));
+        }
+
+        @Test
+        @DisplayName("#formatResponse() streamed response body is formatted after reading")
+        public void test1792396800013() throws Exception {
+            final ResponseBody streamed = ResponseBody.create(MediaType.get("text/plain"), -1,
+                    Okio.buffer(Okio.source(new ByteArrayInputStream(body.getBytes(UTF_8)))));
+            final Response response = OkHttpTestUtils.getResponse().newBuilder().body(streamed).build();
+            final List<String> messages = new ArrayList<>();
+            final Response result = OkhttpUtils.formatResponse(response, BodyLogPolicy.truncated(2, 2), messages::add);
+            assertThat("Formatting is deferred", messages.size(), is(0));
+            assertThat("Body", result.body().string(), is(body));
+            assertThat("", messages.size(), is(1));
+            assertThat("", messages.get(0), containsString("" +
+                    "Body: (20-byte body, sha256: " + sha256 + ", truncated to the first 2 and the last 2 bytes)\n" +
+                    "  01\n" +
+                    "  ...\n" +
+                    "  ij\n"));
+        }
+
+        @Test
+        @DisplayName("#formatResponse() unread streamed response body is logged on close")
+        public void test1792396800014() throws Exception {
+            final ResponseBody streamed = ResponseBody.create(MediaType.get("text/plain"), -1,
+                    Okio.buffer(Okio.source(new ByteArrayInputStream(body.getBytes(UTF_8)))));
+            final Response response = OkHttpTestUtils.getResponse().newBuilder().body(streamed).build();
+            final List<String> messages = new ArrayList<>();
+            final Response result = OkhttpUtils.formatResponse(response, BodyLogPolicy.truncated(2, 2), messages::add);
+            result.close();
+            assertThat("", messages.size(), is(1));
+            assertThat("", messages.get(0), containsString("Body: (unread body closed by the consumer)\n"));
+        }
+
+        @Test
+        @DisplayName("#formatResponse() unlimited policy is equivalent to #responseToString()")
+        public void test1792396800015() throws Exception {
+            final Response response = OkHttpTestUtils.getResponse(body);
+            final List<String> messages = new ArrayList<>();
+            final Response result = OkhttpUtils.formatResponse(response, BodyLogPolicy.UNLIMITED, messages::add);
+            assertThat("", result, is(response));
+            assertThat("", messages, contains(OkhttpUtils.responseToString(response)));
+        }
+
+        @Test
+        @DisplayName("#formatResponse() NPE if parameters are null")
+        public void test1792396800016() {
+            final Response response = OkHttpTestUtils.getResponse();
+            final BodyLogPolicy policy = BodyLogPolicy.UNLIMITED;
+            assertNPE(() -> OkhttpUtils.formatResponse(null, policy, m -> { }), "response");
+            assertNPE(() -> OkhttpUtils.formatResponse(response, null, m -> { }), "policy");
+            assertNPE(() -> OkhttpUtils.formatResponse(response, policy, null), "consumer");
+        }
+
+    }
+
     @Nested
     @DisplayName("#getRequestHeaders() method tests")
     public class GetRequestHeadersMethodTests {
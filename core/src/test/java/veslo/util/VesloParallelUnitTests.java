@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package veslo.util;
+
+import okhttp3.Cookie;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import veslo.BaseCoreUnitTest;
+import veslo.ParallelExecutionException;
+import veslo.client.VesloContext;
+import veslo.client.inteceptor.CookieAction;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("VesloParallel and VesloContext classes tests")
+public class VesloParallelUnitTests extends BaseCoreUnitTest {
+
+    private static final VesloContext.Key<String> KEY = VesloContext.Key.of("test");
+
+    @Test
+    @DisplayName("Context is propagated to the tasks, MDC is copied, results are ordered")
+    public void test1792396800052() {
+        VesloContext.reset();
+        VesloContext.current().put(KEY, "value");
+        MDC.put("test", "test1792396800052");
+        try {
+            final List<ThrowableSupplier<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                final int index = i;
+                tasks.add(() -> index + VesloContext.current().get(KEY) + MDC.get("test"));
+            }
+            final List<String> results = VesloParallel.call(4, tasks);
+            assertIs(results.size(), 50);
+            assertIs(results.get(0), "0valuetest1792396800052");
+            assertIs(results.get(49), "49valuetest1792396800052");
+        } finally {
+            MDC.remove("test");
+            VesloContext.reset();
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrency limit is respected and all tasks are executed if some of them failed")
+    public void test1792396800053() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final AtomicInteger executed = new AtomicInteger();
+        final List<ThrowableSupplier<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                active.decrementAndGet();
+                executed.incrementAndGet();
+                if (index % 10 == 0) {
+                    throw new IllegalStateException("task" + index);
+                }
+                return null;
+            });
+        }
+        assertThrow(() -> VesloParallel.call(3, tasks))
+                .assertClass(IllegalStateException.class)
+                .assertMessageIs("task0");
+        assertIs(executed.get(), 20);
+        assertTrue(maxActive.get() <= 3);
+        assertThrow(() -> VesloParallel.run(() -> {
+            throw new IOException("test1792396800053");
+        }))
+                .assertClass(ParallelExecutionException.class)
+                .assertMessageIs("Parallel task failed")
+                .assertCause(cause -> cause.assertClass(IOException.class).assertMessageIs("test1792396800053"));
+        assertThrow(() -> VesloParallel.call(0, new ArrayList<>()))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("maxConcurrency must be positive: 0");
+        assertNPE(() -> VesloParallel.run((ThrowableRunnable[]) null), "tasks");
+        assertNPE(() -> VesloParallel.run((ThrowableRunnable) null), "task");
+    }
+
+    @Test
+    @DisplayName("Per-task executor matches the JVM virtual threads support")
+    public void test1792396800054() throws Exception {
+        final ExecutorService executor = VesloParallel.newPerTaskExecutor();
+        try {
+            final Thread thread = executor.submit(Thread::currentThread).get();
+            assertIs(thread.getClass().getSimpleName().contains("Virtual"), VesloParallel.isVirtualThreadsSupported());
+        } finally {
+            executor.shutdown();
+        }
+        assertIs(VesloParallel.getDefaultMaxConcurrency(), VesloParallel.isVirtualThreadsSupported()
+                ? Integer.MAX_VALUE : VesloParallel.PLATFORM_MAX_CONCURRENCY);
+    }
+
+    @Test
+    @DisplayName("CookieAction cookies are shared by the parallel tasks and isolated between threads")
+    public void test1792396800055() throws Throwable {
+        VesloContext.reset();
+        final HttpUrl url = HttpUrl.get("http://localhost");
+        try {
+            VesloParallel.run(
+                    () -> CookieAction.addCookie(Cookie.parse(url, "a=1")),
+                    () -> CookieAction.addCookie(Cookie.parse(url, "b=2")));
+            assertIs(CookieAction.getCookie().size(), 2);
+            final Thread thread = new Thread(() -> assertIs(CookieAction.getCookie().size(), 0));
+            thread.start();
+            thread.join();
+            final VesloContext context = VesloContext.current();
+            final Thread bound = new Thread(context.wrap(() -> CookieAction.addCookie(Cookie.parse(url, "c=3"))));
+            bound.start();
+            bound.join();
+            assertIs(CookieAction.getCookieHeaderValue(url).split("; ").length, 3);
+            assertIs(context.call(() -> VesloContext.current()), context);
+            assertIs(Arrays.asList(KEY.toString(), context.put(KEY, "v").remove(KEY)), Arrays.asList("test", "v"));
+            assertNPE(() -> context.get(null), "key");
+            assertNPE(() -> context.computeIfAbsent(KEY, null), "supplier");
+            assertNPE(() -> context.wrap((Runnable) null), "task");
+            assertNPE(() -> VesloContext.Key.of(null), "name");
+        } finally {
+            CookieAction.clearCookie();
+            VesloContext.reset();
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ package org.touchbit.retrofit.veslo.example.client.transport;
 
 import okhttp3.Headers;
 import okhttp3.Request;
+import veslo.client.VesloContext;
 import veslo.client.inteceptor.RequestInterceptAction;
 
 import javax.annotation.Nonnull;
@@ -25,12 +26,12 @@ import javax.annotation.Nonnull;
 public class PetStoreAuthAction implements RequestInterceptAction {
 
     public static final PetStoreAuthAction INSTANCE = new PetStoreAuthAction();
-    private static final ThreadLocal<String> TOKEN = new ThreadLocal<>();
+    private static final VesloContext.Key<String> TOKEN = VesloContext.Key.of("api_key");
 
     @Nonnull
     @Override
     public Request requestAction(@Nonnull Request request) {
-        final String token = TOKEN.get();
+        final String token = VesloContext.current().get(TOKEN);
         if (token != null) {
             final Headers headers = request.headers().newBuilder().add("api_key", token).build();
             return request.newBuilder().headers(headers).build();
@@ -39,11 +40,11 @@ public class PetStoreAuthAction implements RequestInterceptAction {
     }
 
     public static void setToken(String token) {
-        TOKEN.set(token);
+        VesloContext.current().put(TOKEN, token);
     }
 
     public static void removeToken() {
-        TOKEN.remove();
+        VesloContext.current().remove(TOKEN);
     }
 
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package internal.test.utils.client;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Last (backend) interceptor of the test clients: returns "200 OK" text/plain responses without the network.
+ * The status code and transport errors are configured per URL path, received requests are recorded.
+ */
+public class StubBackend implements Interceptor {
+
+    public static final String BODY = "pet";
+
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private final Map<String, String> errors = new ConcurrentHashMap<>();
+    private final Map<String, String> headers = new ConcurrentHashMap<>();
+    private volatile Function<Request, String> body = request -> BODY;
+    private volatile long delayMillis = 0;
+
+    public StubBackend withCode(final String path, final int code) {
+        codes.put(path, code);
+        return this;
+    }
+
+    public StubBackend withError(final String path, final String message) {
+        errors.put(path, message);
+        return this;
+    }
+
+    public StubBackend withHeader(final String name, final String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public StubBackend withBody(final String body) {
+        return withBody(request -> body);
+    }
+
+    public StubBackend withBody(final Function<Request, String> body) {
+        this.body = body;
+        return this;
+    }
+
+    public StubBackend withDelay(final long delayMillis) {
+        this.delayMillis = delayMillis;
+        return this;
+    }
+
+    public List<Request> getRequests() {
+        return new ArrayList<>(requests);
+    }
+
+    public int getCount() {
+        return requests.size();
+    }
+
+    @Override
+    @SuppressWarnings("NullableProblems")
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        requests.add(request);
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final String path = request.url().encodedPath();
+        final String error = errors.get(path);
+        if (error != null) {
+            throw new IOException(error);
+        }
+        final int code = codes.getOrDefault(path, 200);
+        final Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(code < 400 ? "OK" : "ERROR");
+        headers.forEach(builder::header);
+        return builder.body(ResponseBody.create(MediaType.get("text/plain"), body.apply(request))).build();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package internal.test.utils.client;
 
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import retrofit2.CallAdapter;
 import retrofit2.Converter;
@@ -35,4 +36,30 @@ public class TestClientBuilder {
                 .create(client);
     }
 
+    public static <CLI> CLI build(Class<CLI> client,
+                                  CallAdapter.Factory caf,
+                                  Converter.Factory cf,
+                                  Interceptor backend,
+                                  Interceptor... interceptors) {
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        for (Interceptor interceptor : interceptors) {
+            builder.addInterceptor(interceptor);
+        }
+        return build(client, caf, cf, builder, backend);
+    }
+
+    public static <CLI> CLI build(Class<CLI> client,
+                                  CallAdapter.Factory caf,
+                                  Converter.Factory cf,
+                                  OkHttpClient.Builder builder,
+                                  Interceptor backend) {
+        return new Retrofit.Builder()
+                .client(builder.addInterceptor(backend).build())
+                .baseUrl("http://localhost")
+                .addCallAdapterFactory(caf)
+                .addConverterFactory(cf)
+                .build()
+                .create(client);
+    }
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: API method call including the response conversion (see {@link JfrEventRecorder})
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+@Name("veslo.Call")
+@Label("API Call")
+@Category("Veslo")
+@Description("API method call including the response conversion")
+class CallEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("API method endpoint info")
+    String endpoint;
+
+    @Label("Success Type")
+    @Description("Success DTO type")
+    String successType;
+
+    @Label("Error Type")
+    @Description("Error DTO type")
+    String errorType;
+
+    @Label("Status Code")
+    @Description("HTTP status code (-1 if no response)")
+    int statusCode;
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: request/response body converter resolution
+ * by the {@link veslo.client.converter.ExtensionConverterFactory} (see {@link JfrEventRecorder})
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+@Name("veslo.ConverterResolution")
+@Label("Converter Resolution")
+@Category("Veslo")
+@Description("Request/response body converter resolution")
+class ConverterResolutionEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("API method endpoint info")
+    String endpoint;
+
+    @Label("Direction")
+    @Description("REQUEST or RESPONSE")
+    String direction;
+
+    @Label("Body Type")
+    @Description("Body type")
+    String bodyType;
+
+    @Label("Converter")
+    @Description("Resolved converter class (empty if not found)")
+    String converter;
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+import javax.annotation.Nullable;
+import java.util.function.Supplier;
+
+/**
+ * Java Flight Recorder implementation of the {@link IEventRecorder}
+ * (registered as the {@link java.util.ServiceLoader} provider).
+ * The enabled state is read from the cached {@link EventType} of the event class,
+ * so events are not allocated without an active recording.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class JfrEventRecorder implements IEventRecorder {
+
+    private static final EventType CALL = EventType.getEventType(CallEvent.class);
+    private static final EventType CONVERTER_RESOLUTION = EventType.getEventType(ConverterResolutionEvent.class);
+    private static final EventType CONVERSION = EventType.getEventType(ConversionEvent.class);
+    private static final EventType INTERCEPT_ACTION = EventType.getEventType(InterceptActionEvent.class);
+    private static final EventType ASSERTION = EventType.getEventType(AssertionEvent.class);
+
+    @Override
+    @Nullable
+    public Object beginCall() {
+        return begin(CALL, CallEvent::new);
+    }
+
+    @Override
+    @Nullable
+    public Object beginConverterResolution() {
+        return begin(CONVERTER_RESOLUTION, ConverterResolutionEvent::new);
+    }
+
+    @Override
+    @Nullable
+    public Object beginConversion() {
+        return begin(CONVERSION, ConversionEvent::new);
+    }
+
+    @Override
+    @Nullable
+    public Object beginInterceptAction() {
+        return begin(INTERCEPT_ACTION, InterceptActionEvent::new);
+    }
+
+    @Override
+    @Nullable
+    public Object beginAssertion() {
+        return begin(ASSERTION, AssertionEvent::new);
+    }
+
+    private static Object begin(final EventType type, final Supplier<Event> factory) {
+        // false unless a recording with the event type is active
+        if (!type.isEnabled()) {
+            return null;
+        }
+        final Event event = factory.get();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitCall(final Object handle, final String endpoint, final String successType,
+                           final String errorType, final int statusCode) {
+        final CallEvent event = (CallEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.successType = successType;
+            event.errorType = errorType;
+            event.statusCode = statusCode;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void commitConverterResolution(final Object handle, final String endpoint, final String direction,
+                                          final String bodyType, final String converter) {
+        final ConverterResolutionEvent event = (ConverterResolutionEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.direction = direction;
+            event.bodyType = bodyType;
+            event.converter = converter;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void commitConversion(final Object handle, final String endpoint, final String direction,
+                                 final String bodyType, final String converter, final long bytes) {
+        final ConversionEvent event = (ConversionEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.direction = direction;
+            event.bodyType = bodyType;
+            event.converter = converter;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void commitInterceptAction(final Object handle, final String action, final String phase,
+                                      final String endpoint) {
+        final InterceptActionEvent event = (InterceptActionEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.action = action;
+            event.phase = phase;
+            event.endpoint = endpoint;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void commitAssertion(final Object handle, final String endpoint, final int statusCode,
+                                final boolean passed) {
+        final AssertionEvent event = (AssertionEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.statusCode = statusCode;
+            event.passed = passed;
+            event.commit();
+        }
+    }
+
+}
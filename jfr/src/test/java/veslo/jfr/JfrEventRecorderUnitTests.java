@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.jfr;
+
+import internal.test.utils.BaseUnitTest;
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import veslo.client.EndpointInfo;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.inteceptor.CompositeInterceptor;
+import veslo.client.inteceptor.RequestInterceptAction;
+import veslo.client.inteceptor.ResponseInterceptAction;
+import veslo.client.response.DualResponse;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@DisplayName("JfrEventRecorder class tests")
+public class JfrEventRecorderUnitTests extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Call, converter, intercept action and assertion events are recorded with the endpoint info")
+    public void test1792396800092() throws Exception {
+        final java.nio.file.Path file = new File("target/jfr/test1792396800092.jfr").toPath();
+        file.toFile().getParentFile().mkdirs();
+        try (final Recording recording = new Recording()) {
+            for (String name : new String[]{"veslo.Call", "veslo.ConverterResolution", "veslo.Conversion",
+                    "veslo.InterceptAction", "veslo.Assertion"}) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+            client().getPet(1).assertResponse(asserter -> asserter.assertHttpStatusCodeIs(200));
+            recording.stop();
+            recording.dump(file);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final Map<String, RecordedEvent> byName = new TreeMap<>();
+        events.forEach(event -> byName.put(event.getEventType().getName() + "/" +
+                (event.hasField("phase") ? event.getString("phase") : ""), event));
+        assertIs(byName.keySet().toString(), "[veslo.Assertion/, veslo.Call/, veslo.Conversion/, " +
+                "veslo.ConverterResolution/, veslo.InterceptAction/CHAIN, veslo.InterceptAction/REQUEST, " +
+                "veslo.InterceptAction/RESPONSE]");
+        final RecordedEvent call = byName.get("veslo.Call/");
+        assertIs(call.getString("endpoint"), "Get pet");
+        assertIs(call.getString("successType"), "java.lang.String");
+        assertIs(call.getInt("statusCode"), 200);
+        final RecordedEvent conversion = byName.get("veslo.Conversion/");
+        assertIs(conversion.getString("endpoint"), "Get pet");
+        assertIs(conversion.getString("direction"), VesloEvents.RESPONSE);
+        assertIs(conversion.getLong("bytes"), 3L);
+        assertIs(byName.get("veslo.ConverterResolution/").getString("bodyType"), "java.lang.String");
+        assertIs(byName.get("veslo.InterceptAction/REQUEST").getString("endpoint"), "Get pet");
+        final RecordedEvent assertion = byName.get("veslo.Assertion/");
+        assertIs(assertion.getString("endpoint"), "Get pet");
+        assertIs(assertion.getBoolean("passed"), true);
+    }
+
+    @Test
+    @DisplayName("The recorder is loaded by the ServiceLoader, events are not created without an active recording")
+    public void test1792396800123() {
+        assertTrue(VesloEvents.isAvailable());
+        final JfrEventRecorder recorder = new JfrEventRecorder();
+        assertIs(recorder.beginCall(), null);
+        assertIs(recorder.beginConverterResolution(), null);
+        assertIs(recorder.beginConversion(), null);
+        assertIs(recorder.beginInterceptAction(), null);
+        assertIs(recorder.beginAssertion(), null);
+        assertIs(VesloEvents.beginCall(), null);
+    }
+
+    private static PetApi client() {
+        return TestClientBuilder.build(PetApi.class, new UniversalCallAdapterFactory(),
+                new ExtensionConverterFactory(), new StubBackend(), new CompositeInterceptor()
+                        .withRequestInterceptActionsChain(new RequestInterceptAction() {
+                        })
+                        .withResponseInterceptActionsChain(new ResponseInterceptAction() {
+                        }));
+    }
+
+    public interface PetApi {
+
+        @GET("/pet/{id}")
+        @EndpointInfo("Get pet")
+        DualResponse<String, String> getPet(@Path("id") int id);
+
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.load;
+
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static veslo.constant.ParameterNameConstants.DURATION_PARAMETER;
+
+/**
+ * Immutable workload profile: the initial load level followed by linear ramp and hold stages.
+ * The level is the arrival rate (iterations per second) for the open model
+ * or the number of virtual users for the closed model.
+ * <p>
+ * Examples:
+ * * // open model: ramp from 10 to 200 rps for a minute, then 200 rps for 5 minutes
+ * * LoadProfile.arrivalRate(10).rampTo(200, Duration.ofMinutes(1)).hold(Duration.ofMinutes(5));
+ * * // closed model: 20 virtual users for 30 seconds, then ramp down to 0
+ * * LoadProfile.virtualUsers(20).hold(Duration.ofSeconds(30)).rampTo(0, Duration.ofSeconds(10));
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class LoadProfile {
+
+    private final Model model;
+    private final double initialLevel;
+    private final List<Stage> stages;
+
+    /**
+     * @param model        - workload model (defines the load level meaning)
+     * @param initialLevel - non-negative initial load level (rps or virtual users)
+     * @param stages       - ramp and hold stages
+     * @throws IllegalArgumentException if the initial level is negative, NaN or infinite
+     */
+    protected LoadProfile(final Model model, final double initialLevel, final List<Stage> stages) {
+        if (initialLevel < 0 || Double.isNaN(initialLevel) || Double.isInfinite(initialLevel)) {
+            throw new IllegalArgumentException("Load level must be a non-negative number. Actual: " + initialLevel);
+        }
+        this.model = model;
+        this.initialLevel = initialLevel;
+        this.stages = Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * @param ratePerSecond - initial arrival rate (iterations per second)
+     * @return open model profile
+     */
+    @Nonnull
+    public static LoadProfile arrivalRate(final double ratePerSecond) {
+        return new LoadProfile(Model.OPEN, ratePerSecond, Collections.emptyList());
+    }
+
+    /**
+     * @param users - initial number of virtual users
+     * @return closed model profile
+     */
+    @Nonnull
+    public static LoadProfile virtualUsers(final int users) {
+        return new LoadProfile(Model.CLOSED, users, Collections.emptyList());
+    }
+
+    /**
+     * @param level    - target level (arrival rate or virtual users)
+     * @param duration - ramp duration
+     * @return new profile with the linear ramp stage
+     */
+    @Nonnull
+    public LoadProfile rampTo(final double level, @Nonnull final Duration duration) {
+        Utils.parameterRequireNonNull(duration, DURATION_PARAMETER);
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Stage duration must be non-negative. Actual: " + duration);
+        }
+        if (level < 0 || Double.isNaN(level) || Double.isInfinite(level)) {
+            throw new IllegalArgumentException("Load level must be a non-negative number. Actual: " + level);
+        }
+        final List<Stage> result = new ArrayList<>(stages);
+        result.add(new Stage(getFinalLevel(), level, duration.toNanos()));
+        return new LoadProfile(model, initialLevel, result);
+    }
+
+    /**
+     * @param duration - hold duration
+     * @return new profile with the constant level stage
+     */
+    @Nonnull
+    public LoadProfile hold(@Nonnull final Duration duration) {
+        return rampTo(getFinalLevel(), duration);
+    }
+
+    /**
+     * @return workload model
+     */
+    @Nonnull
+    public Model getModel() {
+        return model;
+    }
+
+    /**
+     * @return profile duration (sum of the stage durations)
+     */
+    @Nonnull
+    public Duration getDuration() {
+        return Duration.ofNanos(getDurationNanos());
+    }
+
+    /**
+     * @return the highest level of the profile
+     */
+    public double getMaxLevel() {
+        double result = initialLevel;
+        for (Stage stage : stages) {
+            result = Math.max(result, stage.to);
+        }
+        return result;
+    }
+
+    /**
+     * @param elapsedNanos - time since the profile start
+     * @return level at the specified time (the final level after the profile end)
+     */
+    public double getLevel(final long elapsedNanos) {
+        long stageStart = 0;
+        for (Stage stage : stages) {
+            if (elapsedNanos < stageStart + stage.nanos) {
+                return stage.level(elapsedNanos - stageStart);
+            }
+            stageStart += stage.nanos;
+        }
+        return getFinalLevel();
+    }
+
+    /**
+     * Open model arrival time: the next time when the integral of the arrival rate reaches one iteration.
+     *
+     * @param elapsedNanos - previous arrival time since the profile start
+     * @return next arrival time since the profile start or {@link Long#MAX_VALUE} if there are no more arrivals
+     */
+    public long getNextArrivalNanos(final long elapsedNanos) {
+        double remaining = 1;
+        long stageStart = 0;
+        for (Stage stage : stages) {
+            final long stageEnd = stageStart + stage.nanos;
+            if (elapsedNanos < stageEnd) {
+                final long offset = Math.max(0, elapsedNanos - stageStart);
+                final double rate = stage.level(offset);
+                final double slope = stage.nanos == 0 ? 0 : (stage.to - stage.from) / toSeconds(stage.nanos);
+                final double available = arrivals(rate, slope, toSeconds(stageEnd - stageStart - offset));
+                if (available >= remaining) {
+                    final double seconds;
+                    if (Math.abs(slope) < 1e-12) {
+                        seconds = remaining / rate;
+                    } else {
+                        seconds = (-rate + Math.sqrt(Math.max(0, rate * rate + 2 * slope * remaining))) / slope;
+                    }
+                    return stageStart + offset + (long) (seconds * TimeUnit.SECONDS.toNanos(1));
+                }
+                remaining -= available;
+            }
+            stageStart = stageEnd;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private long getDurationNanos() {
+        long result = 0;
+        for (Stage stage : stages) {
+            result += stage.nanos;
+        }
+        return result;
+    }
+
+    private double getFinalLevel() {
+        return stages.isEmpty() ? initialLevel : stages.get(stages.size() - 1).to;
+    }
+
+    private static double arrivals(final double rate, final double slope, final double seconds) {
+        return rate * seconds + slope * seconds * seconds / 2;
+    }
+
+    private static double toSeconds(final long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        final String unit = model == Model.OPEN ? "rps" : "users";
+        final StringJoiner result = new StringJoiner(" -> ", model + " " + fmt(initialLevel) + " " + unit + ": ", "");
+        for (Stage stage : stages) {
+            result.add((stage.from == stage.to ? "hold " : "ramp to " + fmt(stage.to) + " " + unit + " for ") +
+                    Duration.ofNanos(stage.nanos));
+        }
+        return result.toString();
+    }
+
+    private static String fmt(final double value) {
+        return String.format(Locale.ROOT, "%.6s", value).replaceAll("\\.0*$", "");
+    }
+
+    /**
+     * Workload model
+     */
+    public enum Model {
+        /**
+         * Iterations are started at the arrival rate regardless of the completion of the previous iterations
+         */
+        OPEN,
+        /**
+         * Each virtual user starts the next iteration after the completion of the previous one
+         */
+        CLOSED,
+    }
+
+    private static final class Stage {
+
+        private final double from;
+        private final double to;
+        private final long nanos;
+
+        private Stage(final double from, final double to, final long nanos) {
+            this.from = from;
+            this.to = to;
+            this.nanos = nanos;
+        }
+
+        private double level(final long offset) {
+            if (nanos == 0) {
+                return to;
+            }
+            return from + (to - from) * offset / nanos;
+        }
+
+    }
+
+}
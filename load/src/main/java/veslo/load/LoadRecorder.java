@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.load;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+import veslo.client.EndpointInfo;
+import veslo.client.metrics.EndpointMetrics;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OkHttp application interceptor recording the load statistics per endpoint
+ * ({@link EndpointInfo} value, "METHOD /path/{template}" of the API method or "METHOD /path"
+ * for the calls without the API method, see {@link EndpointMetrics#getEndpoint(Request)}),
+ * so the calls with different path parameters share the endpoint statistics.
+ * <p>
+ * The first call of the scenario iteration includes the delay of the iteration start
+ * relative to the intended start time (coordinated omission correction).
+ * The delay is known for the calls made in the iteration thread (synchronous calls).
+ * <p>
+ * The service time is measured from the call start to the response body exhaustion or close
+ * (the time to the response headers for the responses without the body), the body read error
+ * is recorded as the call error.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class LoadRecorder implements Interceptor {
+
+    private final Map<String, LoadStats> endpoints = new ConcurrentHashMap<>();
+    private final ThreadLocal<long[]> iteration = new ThreadLocal<>();
+
+    @Override
+    @Nonnull
+    public Response intercept(@Nonnull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        final long start = System.nanoTime();
+        final long[] intendedStart = iteration.get();
+        long startDelay = 0;
+        if (intendedStart != null && intendedStart[0] != 0) {
+            startDelay = Math.max(0, start - intendedStart[0]);
+            intendedStart[0] = 0;
+        }
+        final LoadStats stats = endpoints.computeIfAbsent(EndpointMetrics.getEndpoint(request), LoadStats::new);
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            final long serviceTime = System.nanoTime() - start;
+            stats.record(serviceTime + startDelay, serviceTime, e);
+            throw e;
+        }
+        stats.recordStatusCode(response.code());
+        final ResponseBody body = response.body();
+        if (body == null) {
+            final long serviceTime = System.nanoTime() - start;
+            stats.record(serviceTime + startDelay, serviceTime, null);
+            return response;
+        }
+        final long delay = startDelay;
+        final Source recordingSource = new ForwardingSource(body.source()) {
+
+            private boolean completed = false;
+
+            @Override
+            public long read(@Nonnull final Buffer sink, final long byteCount) throws IOException {
+                final long read;
+                try {
+                    read = super.read(sink, byteCount);
+                } catch (IOException | RuntimeException e) {
+                    complete(e);
+                    throw e;
+                }
+                if (read < 0) {
+                    complete(null);
+                }
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    complete(null);
+                } finally {
+                    super.close();
+                }
+            }
+
+            private void complete(final Throwable error) {
+                if (!completed) {
+                    completed = true;
+                    final long serviceTime = System.nanoTime() - start;
+                    stats.record(serviceTime + delay, serviceTime, error);
+                }
+            }
+
+        };
+        return response.newBuilder()
+                .body(ResponseBody.create(body.contentType(), body.contentLength(), Okio.buffer(recordingSource)))
+                .build();
+    }
+
+    /**
+     * @return endpoint statistics sorted by the endpoint name
+     */
+    @Nonnull
+    public Map<String, LoadStats> getEndpoints() {
+        return Collections.unmodifiableMap(new TreeMap<>(endpoints));
+    }
+
+    /**
+     * Clears the endpoint statistics
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    void beginIteration(final long intendedStartNanos) {
+        iteration.set(new long[]{intendedStartNanos});
+    }
+
+    void endIteration() {
+        iteration.remove();
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.load;
+
+import veslo.RuntimeIOException;
+import veslo.util.LogHistogram;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static veslo.constant.ParameterNameConstants.PATH_PARAMETER;
+
+/**
+ * Load run report: statistics per scenario and per endpoint ({@link veslo.client.EndpointInfo}).
+ * Latencies in the text and CSV reports are in milliseconds,
+ * "latency" columns are coordinated-omission-corrected, "service" columns are measured from the actual start.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class LoadReport {
+
+    private static final String[] COLUMNS = {"type", "name", "count", "errors", "rps", "mean", "p50", "p90",
+            "p99", "p99.9", "max", "service_p50", "service_p99"};
+    private static final String TEXT_ROW = "%-8s %-32s %8s %7s %9s %9s %9s %9s %9s %9s %9s %11s %11s";
+
+    private final LoadProfile profile;
+    private final long durationNanos;
+    private final Map<String, LoadStats> scenarios;
+    private final Map<String, LoadStats> endpoints;
+
+    LoadReport(final LoadProfile profile,
+               final long durationNanos,
+               final Map<String, LoadStats> scenarios,
+               final Map<String, LoadStats> endpoints) {
+        this.profile = profile;
+        this.durationNanos = durationNanos;
+        this.scenarios = Collections.unmodifiableMap(new LinkedHashMap<>(scenarios));
+        this.endpoints = Collections.unmodifiableMap(new LinkedHashMap<>(endpoints));
+    }
+
+    /**
+     * @return workload profile
+     */
+    @Nonnull
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return actual load duration
+     */
+    @Nonnull
+    public Duration getDuration() {
+        return Duration.ofNanos(durationNanos);
+    }
+
+    /**
+     * @return statistics per scenario name (in the registration order)
+     */
+    @Nonnull
+    public Map<String, LoadStats> getScenarios() {
+        return scenarios;
+    }
+
+    /**
+     * @return statistics per endpoint name (sorted)
+     */
+    @Nonnull
+    public Map<String, LoadStats> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * @param name - scenario name
+     * @return scenario statistics or null
+     */
+    @Nullable
+    public LoadStats getScenario(final String name) {
+        return scenarios.get(name);
+    }
+
+    /**
+     * @param endpoint - {@link veslo.client.EndpointInfo} value, "METHOD /path/{template}" or "METHOD /path"
+     * @return endpoint statistics or null
+     */
+    @Nullable
+    public LoadStats getEndpoint(final String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    /**
+     * @return report table
+     */
+    @Nonnull
+    public String toText() {
+        final StringJoiner result = new StringJoiner("\n", "", "\n");
+        result.add("Load profile: " + profile);
+        result.add(String.format(Locale.ROOT, "Duration: %.3fs", durationNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        result.add(String.format(Locale.ROOT, TEXT_ROW, (Object[]) COLUMNS));
+        scenarios.values().forEach(stats -> result.add(String.format(Locale.ROOT, TEXT_ROW, row("scenario", stats))));
+        endpoints.values().forEach(stats -> result.add(String.format(Locale.ROOT, TEXT_ROW, row("endpoint", stats))));
+        for (LoadStats stats : endpoints.values()) {
+            if (!stats.getStatusCodes().isEmpty()) {
+                result.add("Status codes '" + stats.getName() + "': " + stats.getStatusCodes());
+            }
+        }
+        for (LoadStats stats : scenarios.values()) {
+            stats.getErrors().forEach((message, count) ->
+                    result.add("Errors '" + stats.getName() + "' (" + count + "): " + message));
+        }
+        for (LoadStats stats : endpoints.values()) {
+            stats.getErrors().forEach((message, count) ->
+                    result.add("Errors '" + stats.getName() + "' (" + count + "): " + message));
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return report in CSV format (with header)
+     */
+    @Nonnull
+    public String toCsv() {
+        final StringJoiner result = new StringJoiner("\n", "", "\n");
+        result.add(String.join(",", COLUMNS));
+        scenarios.values().forEach(stats -> result.add(csvRow(row("scenario", stats))));
+        endpoints.values().forEach(stats -> result.add(csvRow(row("endpoint", stats))));
+        return result.toString();
+    }
+
+    /**
+     * @param path - CSV report file path (parent directories are created)
+     * @throws RuntimeIOException if unable to write the file
+     */
+    public void writeCsv(@Nonnull final Path path) {
+        write(path, toCsv());
+    }
+
+    /**
+     * @param path - text report file path (parent directories are created)
+     * @throws RuntimeIOException if unable to write the file
+     */
+    public void writeText(@Nonnull final Path path) {
+        write(path, toText());
+    }
+
+    private static void write(final Path path, final String content) {
+        Utils.parameterRequireNonNull(path, PATH_PARAMETER);
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to write load report: " + path, e);
+        }
+    }
+
+    private Object[] row(final String type, final LoadStats stats) {
+        final LogHistogram latency = stats.getLatency();
+        final LogHistogram service = stats.getServiceTime();
+        return new Object[]{type, stats.getName(), String.valueOf(stats.getCount()),
+                String.valueOf(stats.getErrorCount()),
+                String.format(Locale.ROOT, "%.2f", stats.getThroughput(durationNanos)),
+                millis(latency.getMean()),
+                millis(latency.getPercentile(50)), millis(latency.getPercentile(90)),
+                millis(latency.getPercentile(99)), millis(latency.getPercentile(99.9)),
+                millis(latency.getMax()),
+                millis(service.getPercentile(50)), millis(service.getPercentile(99))};
+    }
+
+    private static String csvRow(final Object[] row) {
+        final StringJoiner result = new StringJoiner(",");
+        for (Object value : row) {
+            final String string = String.valueOf(value);
+            if (string.contains(",") || string.contains("\"") || string.contains("\n")) {
+                result.add("\"" + string.replace("\"", "\"\"") + "\"");
+            } else {
+                result.add(string);
+            }
+        }
+        return result.toString();
+    }
+
+    private static String millis(final double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+
+}
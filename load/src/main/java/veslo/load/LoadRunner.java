@@ -0,0 +1,303 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.load;
+
+import okhttp3.Interceptor;
+import veslo.client.EndpointInfo;
+import veslo.util.ThrowableRunnable;
+import veslo.util.Utils;
+import veslo.util.VesloParallel;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Load generator using API client calls with response assertions as scenarios.
+ * <p>
+ * Usage:
+ * * LoadRunner runner = new LoadRunner();
+ * * PetApi api = new Retrofit.Builder()
+ * *         .client(new OkHttpClient.Builder().addInterceptor(runner.getInterceptor()).build())
+ * *         ...
+ * *         .create(PetApi.class);
+ * * LoadReport report = runner
+ * *         .withScenario("Get pet", () -> api.getPet(1).assertResponse(r -> r.assertHttpStatusCodeIs(200)))
+ * *         .withScenario("Find pets", 0.2, () -> api.findPets("sold").assertResponse(...))
+ * *         .withProfile(LoadProfile.arrivalRate(0).rampTo(100, Duration.ofSeconds(30)).hold(Duration.ofMinutes(5)))
+ * *         .run();
+ * * report.writeCsv(Paths.get("target/load-report.csv"));
+ * <p>
+ * Open model ({@link LoadProfile#arrivalRate(double)}): iterations start at the arrival rate,
+ * the number of concurrent iterations is limited by {@link #withMaxConcurrency(int)}.
+ * Closed model ({@link LoadProfile#virtualUsers(int)}): each virtual user starts the next iteration
+ * after the completion of the previous one (or on the pacing interval, see {@link #withPacing(Duration)}).
+ * <p>
+ * Latencies are measured from the intended iteration start time (arrival time or pacing time),
+ * so the delays of the load generator itself are not hidden (coordinated omission correction).
+ * Scenario failures (exceptions, assertion errors) are counted as errors and do not stop the load.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class LoadRunner {
+
+    private static final long IDLE_USER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final LoadRecorder recorder = new LoadRecorder();
+    private LoadProfile profile;
+    private int maxConcurrency = VesloParallel.getDefaultMaxConcurrency();
+    private long pacingNanos;
+
+    /**
+     * @param name     - scenario name
+     * @param scenario - scenario iteration (API calls with response assertions)
+     * @return this
+     */
+    public LoadRunner withScenario(@Nonnull final String name, @Nonnull final ThrowableRunnable scenario) {
+        return withScenario(name, 1, scenario);
+    }
+
+    /**
+     * @param name     - scenario name
+     * @param weight   - relative frequency of the scenario iterations
+     * @param scenario - scenario iteration (API calls with response assertions)
+     * @return this
+     */
+    public LoadRunner withScenario(@Nonnull final String name,
+                                   final double weight,
+                                   @Nonnull final ThrowableRunnable scenario) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(scenario, SCENARIO_PARAMETER);
+        if (weight <= 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Scenario weight must be a positive number. Actual: " + weight);
+        }
+        scenarios.add(new Scenario(name, weight, scenario));
+        return this;
+    }
+
+    /**
+     * @param profile - workload profile
+     * @return this
+     */
+    public LoadRunner withProfile(@Nonnull final LoadProfile profile) {
+        Utils.parameterRequireNonNull(profile, PROFILE_PARAMETER);
+        this.profile = profile;
+        return this;
+    }
+
+    /**
+     * @param maxConcurrency - maximum number of concurrent iterations for the open model
+     *                       (the arrivals exceeding the limit are delayed, the delay is included in the latency)
+     * @return this
+     */
+    public LoadRunner withMaxConcurrency(final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be greater than zero. Actual: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * @param pacing - closed model interval between the iteration starts of the virtual user
+     *               (null or zero - the next iteration starts immediately)
+     * @return this
+     */
+    public LoadRunner withPacing(@Nullable final Duration pacing) {
+        if (pacing != null && pacing.isNegative()) {
+            throw new IllegalArgumentException("Pacing must be non-negative. Actual: " + pacing);
+        }
+        this.pacingNanos = pacing == null ? 0 : pacing.toNanos();
+        return this;
+    }
+
+    /**
+     * @return interceptor recording statistics per {@link EndpointInfo} (add to the API client OkHttpClient)
+     */
+    @Nonnull
+    public LoadRecorder getInterceptor() {
+        return recorder;
+    }
+
+    /**
+     * Runs the load and waits for the completion of all started iterations
+     *
+     * @return load report
+     * @throws IllegalStateException if no scenarios or the profile is not specified
+     */
+    @Nonnull
+    public LoadReport run() {
+        if (scenarios.isEmpty()) {
+            throw new IllegalStateException("No load scenarios specified");
+        }
+        if (profile == null) {
+            throw new IllegalStateException("Load profile not specified");
+        }
+        recorder.reset();
+        final Map<String, LoadStats> scenarioStats = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            scenario.stats = scenarioStats.computeIfAbsent(scenario.name, LoadStats::new);
+        }
+        final ExecutorService executor = VesloParallel.newPerTaskExecutor();
+        final long start = System.nanoTime();
+        try {
+            if (profile.getModel() == LoadProfile.Model.OPEN) {
+                runOpenModel(executor, start);
+            } else {
+                runClosedModel(executor, start);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        final long duration = System.nanoTime() - start;
+        return new LoadReport(profile, duration, scenarioStats, recorder.getEndpoints());
+    }
+
+    private void runOpenModel(final ExecutorService executor, final long start) {
+        final long end = profile.getDuration().toNanos();
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        long arrival = profile.getLevel(0) > 0 ? 0 : profile.getNextArrivalNanos(0);
+        while (arrival < end && !Thread.currentThread().isInterrupted()) {
+            final long intendedStart = start + arrival;
+            parkUntil(intendedStart);
+            // arrivals exceeding the limit are delayed but keep the intended start time
+            permits.acquireUninterruptibly();
+            final Scenario scenario = nextScenario();
+            try {
+                executor.execute(() -> {
+                    try {
+                        iterate(scenario, intendedStart);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            arrival = profile.getNextArrivalNanos(arrival);
+        }
+        permits.acquireUninterruptibly(maxConcurrency);
+    }
+
+    private void runClosedModel(final ExecutorService executor, final long start) {
+        final long end = start + profile.getDuration().toNanos();
+        final int users = (int) Math.ceil(profile.getMaxLevel());
+        final Semaphore completed = new Semaphore(0);
+        for (int i = 0; i < users; i++) {
+            final int user = i;
+            executor.execute(() -> {
+                try {
+                    long intendedStart = 0;
+                    for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+                        if (user >= (int) profile.getLevel(now - start)) {
+                            intendedStart = 0;
+                            LockSupport.parkNanos(IDLE_USER_PARK_NANOS);
+                            continue;
+                        }
+                        if (pacingNanos == 0 || intendedStart == 0) {
+                            intendedStart = now;
+                        }
+                        iterate(nextScenario(), intendedStart);
+                        if (pacingNanos > 0) {
+                            intendedStart += pacingNanos;
+                            parkUntil(Math.min(intendedStart, end));
+                        }
+                        if (Thread.currentThread().isInterrupted()) {
+                            return;
+                        }
+                    }
+                } finally {
+                    completed.release();
+                }
+            });
+        }
+        completed.acquireUninterruptibly(users);
+    }
+
+    private void iterate(final Scenario scenario, final long intendedStart) {
+        final long start = System.nanoTime();
+        Throwable error = null;
+        recorder.beginIteration(intendedStart);
+        try {
+            scenario.runnable.execute();
+        } catch (Throwable e) {
+            error = e;
+        } finally {
+            recorder.endIteration();
+        }
+        final long end = System.nanoTime();
+        scenario.stats.record(end - intendedStart, end - start, error);
+    }
+
+    private Scenario nextScenario() {
+        if (scenarios.size() == 1) {
+            return scenarios.get(0);
+        }
+        double total = 0;
+        for (Scenario scenario : scenarios) {
+            total += scenario.weight;
+        }
+        double point = ThreadLocalRandom.current().nextDouble(total);
+        for (Scenario scenario : scenarios) {
+            point -= scenario.weight;
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static void parkUntil(final long deadline) {
+        for (long delay = deadline - System.nanoTime(); delay > 0; delay = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(delay);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private static final class Scenario {
+
+        private final String name;
+        private final double weight;
+        private final ThrowableRunnable runnable;
+        private LoadStats stats;
+
+        private Scenario(final String name, final double weight, final ThrowableRunnable runnable) {
+            this.name = name;
+            this.weight = weight;
+            this.runnable = runnable;
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.load;
+
+import veslo.util.LogHistogram;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load statistics of the scenario or endpoint:
+ * - latency - coordinated-omission-corrected latency (from the intended start time);
+ * - service time - latency from the actual start time;
+ * - errors (grouped by the error class and message) and HTTP status codes.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class LoadStats {
+
+    /**
+     * Maximum number of distinct error messages (the rest are counted as "Other errors")
+     */
+    public static final int MAX_ERROR_MESSAGES = 100;
+
+    /**
+     * Latency histograms precision (0.1% relative error)
+     */
+    public static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final LogHistogram latency = LogHistogram.ofSignificantDigits(SIGNIFICANT_DIGITS);
+    private final LogHistogram serviceTime = LogHistogram.ofSignificantDigits(SIGNIFICANT_DIGITS);
+    private final LongAdder errorCount = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    LoadStats(final String name) {
+        this.name = name;
+    }
+
+    void record(final long latencyNanos, final long serviceTimeNanos, @Nullable final Throwable error) {
+        latency.record(latencyNanos);
+        serviceTime.record(serviceTimeNanos);
+        if (error != null) {
+            errorCount.increment();
+            String message = error.getClass().getSimpleName() + ": " + firstLine(error.getMessage());
+            if (errors.size() >= MAX_ERROR_MESSAGES && !errors.containsKey(message)) {
+                message = "Other errors";
+            }
+            errors.computeIfAbsent(message, m -> new LongAdder()).increment();
+        }
+    }
+
+    void recordStatusCode(final int code) {
+        statusCodes.computeIfAbsent(code, c -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return scenario name or endpoint
+     * ({@link veslo.client.EndpointInfo} value, "METHOD /path/{template}" or "METHOD /path")
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return coordinated-omission-corrected latency histogram (nanoseconds)
+     */
+    @Nonnull
+    public LogHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return service time histogram (nanoseconds)
+     */
+    @Nonnull
+    public LogHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * @return number of completed iterations (calls)
+     */
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * @return number of failed iterations (calls)
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * @return number of errors by the error class and message
+     */
+    @Nonnull
+    public Map<String, Long> getErrors() {
+        final Map<String, Long> result = new TreeMap<>();
+        errors.forEach((message, count) -> result.put(message, count.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return number of responses by the HTTP status code (endpoint statistics only)
+     */
+    @Nonnull
+    public Map<Integer, Long> getStatusCodes() {
+        final Map<Integer, Long> result = new TreeMap<>();
+        statusCodes.forEach((code, count) -> result.put(code, count.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @param durationNanos - load duration
+     * @return completed iterations (calls) per second
+     */
+    public double getThroughput(final long durationNanos) {
+        return durationNanos <= 0 ? 0 : getCount() * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+
+    private static String firstLine(final String message) {
+        if (message == null) {
+            return "null";
+        }
+        final int newLine = message.indexOf('\n');
+        return newLine < 0 ? message : message.substring(0, newLine);
+    }
+
+    @Override
+    public String toString() {
+        return name + ": errors=" + getErrorCount() + " latency(ns): " + latency;
+    }
+
+}
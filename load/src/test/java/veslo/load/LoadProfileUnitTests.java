@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.load;
+
+import internal.test.utils.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("LoadProfile class tests")
+public class LoadProfileUnitTests extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Ramp and hold stages levels")
+    public void test1792396800077() {
+        final LoadProfile profile = LoadProfile.virtualUsers(2)
+                .rampTo(10, Duration.ofSeconds(4))
+                .hold(Duration.ofSeconds(1))
+                .rampTo(0, Duration.ofSeconds(1));
+        assertIs(profile.getModel(), LoadProfile.Model.CLOSED);
+        assertIs(profile.getDuration(), Duration.ofSeconds(6));
+        assertIs(profile.getMaxLevel(), 10.0);
+        assertIs(profile.getLevel(0), 2.0);
+        assertIs(profile.getLevel(TimeUnit.SECONDS.toNanos(2)), 6.0);
+        assertIs(profile.getLevel(TimeUnit.MILLISECONDS.toNanos(4500)), 10.0);
+        assertIs(profile.getLevel(TimeUnit.MILLISECONDS.toNanos(5500)), 5.0);
+        assertIs(profile.getLevel(TimeUnit.SECONDS.toNanos(7)), 0.0);
+        assertIs(profile.toString(), "CLOSED 2 users: ramp to 10 users for PT4S -> hold PT1S -> ramp to 0 users for PT1S");
+    }
+
+    @Test
+    @DisplayName("Open model arrivals follow the integral of the arrival rate")
+    public void test1792396800078() {
+        final LoadProfile profile = LoadProfile.arrivalRate(0)
+                .rampTo(100, Duration.ofSeconds(2))
+                .hold(Duration.ofSeconds(1));
+        assertIs(profile.getModel(), LoadProfile.Model.OPEN);
+        int arrivals = 0;
+        long previous = 0;
+        for (long t = profile.getNextArrivalNanos(0); t != Long.MAX_VALUE; t = profile.getNextArrivalNanos(t)) {
+            assertTrue(t > previous);
+            previous = t;
+            arrivals++;
+        }
+        // 100 arrivals during the ramp (triangle area) + 100 arrivals during the hold
+        assertTrue(Math.abs(arrivals - 200) <= 1);
+        // the first arrival of the ramp: 25 * t^2 = 1
+        assertIs(TimeUnit.NANOSECONDS.toMillis(profile.getNextArrivalNanos(0)), 200L);
+        assertIs(LoadProfile.arrivalRate(10).getNextArrivalNanos(0), Long.MAX_VALUE);
+        assertThrow(() -> LoadProfile.arrivalRate(-1))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Load level must be a non-negative number. Actual: -1.0");
+        assertThrow(() -> profile.hold(Duration.ofSeconds(-1)))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Stage duration must be non-negative. Actual: PT-1S");
+        assertNPE(() -> profile.rampTo(1, null), "duration");
+    }
+
+}
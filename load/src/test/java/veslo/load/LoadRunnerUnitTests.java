@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.load;
+
+import internal.test.utils.BaseUnitTest;
+import internal.test.utils.client.StubBackend;
+import internal.test.utils.client.TestClientBuilder;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import veslo.client.EndpointInfo;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.response.DualResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("LoadRunner class tests")
+public class LoadRunnerUnitTests extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Open model: scenarios statistics per scenario and per @EndpointInfo")
+    public void test1792396800079() throws Exception {
+        final LoadRunner runner = new LoadRunner();
+        final PetApi api = client(runner, 0);
+        final LoadReport report = runner
+                .withScenario("Get pet", 3, () -> api.getPet(2).assertResponse(r -> r.assertHttpStatusCodeIs(200)))
+                .withScenario("Get missing pet", () -> api.getPet(1).assertResponse(r -> r.assertHttpStatusCodeIs(200)))
+                .withProfile(LoadProfile.arrivalRate(100).hold(Duration.ofMillis(500)))
+                .run();
+        final LoadStats found = report.getScenario("Get pet");
+        final LoadStats missing = report.getScenario("Get missing pet");
+        final long total = found.getCount() + missing.getCount();
+        assertThat("", total, allOf(greaterThanOrEqualTo(48L), lessThanOrEqualTo(51L)));
+        assertIs(found.getErrorCount(), 0L);
+        assertIs(missing.getErrorCount(), missing.getCount());
+        assertThat("", missing.getErrors().keySet(), contains(startsWith("BriefAssertionError: ")));
+        final LoadStats endpoint = report.getEndpoint("Get pet by ID");
+        assertIs(endpoint.getCount(), total);
+        assertIs(endpoint.getStatusCodes().get(200), found.getCount());
+        assertIs(endpoint.getStatusCodes().get(404), missing.getCount());
+        assertIs(report.getEndpoints().keySet().size(), 1);
+        final String[] csv = report.toCsv().split("\n");
+        assertIs(csv.length, 4);
+        assertIs(csv[0], "type,name,count,errors,rps,mean,p50,p90,p99,p99.9,max,service_p50,service_p99");
+        assertThat("", csv[1], startsWith("scenario,Get pet," + found.getCount() + ",0,"));
+        assertThat("", csv[3], startsWith("endpoint,Get pet by ID," + total + ",0,"));
+        assertThat("", report.toText(), allOf(
+                containsString("Load profile: OPEN 100 rps: hold PT0.5S"),
+                containsString("Status codes 'Get pet by ID': {200=" + found.getCount()),
+                containsString("Errors 'Get missing pet' (" + missing.getCount() + "): BriefAssertionError")));
+        final File file = new File("target/load/report.csv");
+        report.writeCsv(file.toPath());
+        assertIs(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), report.toCsv());
+    }
+
+    @Test
+    @DisplayName("Open model: latency includes the delay of the iteration start (coordinated omission correction)")
+    public void test1792396800080() {
+        final LoadRunner runner = new LoadRunner();
+        final PetApi api = client(runner, 40);
+        final LoadReport report = runner
+                .withScenario("Get pet", () -> api.getPet(2))
+                .withProfile(LoadProfile.arrivalRate(50).hold(Duration.ofMillis(400)))
+                .withMaxConcurrency(1)
+                .run();
+        final LoadStats scenario = report.getScenario("Get pet");
+        assertIs(scenario.getCount(), 20L);
+        // 20 arrivals every 20 ms are served one by one for 40 ms: the last one waits ~400 ms
+        assertThat("", scenario.getServiceTime().getMax(), lessThan(TimeUnit.MILLISECONDS.toNanos(150)));
+        assertThat("", scenario.getLatency().getMax(), greaterThan(TimeUnit.MILLISECONDS.toNanos(300)));
+        final LoadStats endpoint = report.getEndpoint("Get pet by ID");
+        assertThat("", endpoint.getLatency().getMax(), greaterThan(TimeUnit.MILLISECONDS.toNanos(300)));
+        assertThat("", report.getDuration(), greaterThan(Duration.ofMillis(700)));
+    }
+
+    @Test
+    @DisplayName("Closed model: virtual users with pacing")
+    public void test1792396800081() {
+        final LoadRunner runner = new LoadRunner();
+        final PetApi api = client(runner, 5);
+        final LoadReport report = runner
+                .withScenario("Get pet", () -> api.getPet(2))
+                .withProfile(LoadProfile.virtualUsers(2).hold(Duration.ofMillis(300)))
+                .withPacing(Duration.ofMillis(50))
+                .run();
+        assertThat("", report.getScenario("Get pet").getCount(), allOf(greaterThanOrEqualTo(8L), lessThanOrEqualTo(14L)));
+        assertThat("", report.getScenario("Get pet").getLatency().getMax(), lessThan(TimeUnit.MILLISECONDS.toNanos(50)));
+        assertThrow(() -> new LoadRunner().run())
+                .assertClass(IllegalStateException.class)
+                .assertMessageIs("No load scenarios specified");
+        assertThrow(() -> new LoadRunner().withScenario("a", () -> {}).run())
+                .assertClass(IllegalStateException.class)
+                .assertMessageIs("Load profile not specified");
+        assertThrow(() -> runner.withScenario("a", 0, () -> {}))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Scenario weight must be a positive number. Actual: 0.0");
+        assertThrow(() -> runner.withMaxConcurrency(0))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Max concurrency must be greater than zero. Actual: 0");
+        assertNPE(() -> runner.withScenario(null, () -> {}), "name");
+        assertNPE(() -> runner.withScenario("a", null), "scenario");
+        assertNPE(() -> runner.withProfile(null), "profile");
+    }
+
+    @Test
+    @DisplayName("Endpoint without @EndpointInfo is recorded by the path template")
+    public void test1792396800119() {
+        final LoadRunner runner = new LoadRunner();
+        final PetApi api = client(runner, 0);
+        final AtomicInteger id = new AtomicInteger();
+        final LoadReport report = runner
+                .withScenario("Get order", () -> api.getOrder(id.incrementAndGet()))
+                .withProfile(LoadProfile.arrivalRate(100).hold(Duration.ofMillis(100)))
+                .run();
+        assertThat("", id.get(), greaterThan(1));
+        assertIs(report.getEndpoints().keySet().size(), 1);
+        assertIs(report.getEndpoint("GET /store/order/{id}").getCount(), (long) id.get());
+    }
+
+    @Test
+    @DisplayName("Service time is measured to the response body exhaustion or close")
+    public void test1792396800130() throws Exception {
+        final LoadRecorder recorder = new LoadRecorder();
+        final Interceptor backend = chain -> new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(MediaType.get("text/plain"), -1, Okio.buffer(new ForwardingSource(
+                        new Buffer().writeUtf8("slow body")) {
+                    @Override
+                    public long read(final Buffer sink, final long byteCount) throws IOException {
+                        if ("/broken".equals(chain.request().url().encodedPath())) {
+                            throw new IOException("unexpected end of stream");
+                        }
+                        sleep(50);
+                        return super.read(sink, byteCount);
+                    }
+                })))
+                .build();
+        final OkHttpClient client = new OkHttpClient.Builder().addInterceptor(recorder).addInterceptor(backend).build();
+        try (final Response response = client.newCall(get("/pet")).execute()) {
+            assertIs(recorder.getEndpoints().get("GET /pet").getCount(), 0L);
+            assertIs(response.body().string(), "slow body");
+        }
+        final LoadStats pet = recorder.getEndpoints().get("GET /pet");
+        assertIs(pet.getCount(), 1L);
+        assertThat("", pet.getServiceTime().getMax(), greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+        try (final Response response = client.newCall(get("/broken")).execute()) {
+            assertThrow(() -> response.body().string()).assertClass(IOException.class);
+        }
+        final LoadStats broken = recorder.getEndpoints().get("GET /broken");
+        assertIs(broken.getCount(), 1L);
+        assertIs(broken.getErrorCount(), 1L);
+        client.newCall(get("/pet")).execute().close();
+        assertIs(pet.getCount(), 2L);
+    }
+
+    private static Request get(final String path) {
+        return new Request.Builder().url("http://localhost" + path).build();
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PetApi client(final LoadRunner runner, final long delayMillis) {
+        final StubBackend backend = new StubBackend().withDelay(delayMillis).withCode("/pet/1", 404);
+        return TestClientBuilder.build(PetApi.class, new UniversalCallAdapterFactory(),
+                new ExtensionConverterFactory(), backend, runner.getInterceptor());
+    }
+
+    public interface PetApi {
+
+        @GET("/pet/{id}")
+        @EndpointInfo("Get pet by ID")
+        DualResponse<String, String> getPet(@Path("id") int id);
+
+        @GET("/store/order/{id}")
+        DualResponse<String, String> getOrder(@Path("id") int id);
+
+    }
+
+}
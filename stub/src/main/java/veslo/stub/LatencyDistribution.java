@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static veslo.constant.ParameterNameConstants.DURATION_PARAMETER;
+
+/**
+ * Injected stub latency distribution. Implementations must be thread-safe.
+ * <p>
+ * Usage:
+ * * stub.on("GET /pet/{id}", response).withLatency(LatencyDistribution.logNormal(Duration.ofMillis(20), 0.5));
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @return next latency in nanoseconds (negative values are treated as zero)
+     */
+    long nextNanos();
+
+    /**
+     * @return no latency
+     */
+    @Nonnull
+    static LatencyDistribution none() {
+        return () -> 0;
+    }
+
+    /**
+     * @param latency - constant latency
+     * @return constant latency distribution
+     */
+    @Nonnull
+    static LatencyDistribution fixed(@Nonnull final Duration latency) {
+        final long nanos = toNanos(latency);
+        return () -> nanos;
+    }
+
+    /**
+     * @param min - min latency (inclusive)
+     * @param max - max latency (exclusive)
+     * @return uniform latency distribution
+     */
+    @Nonnull
+    static LatencyDistribution uniform(@Nonnull final Duration min, @Nonnull final Duration max) {
+        final long minNanos = toNanos(min);
+        final long maxNanos = toNanos(max);
+        if (maxNanos <= minNanos) {
+            throw new IllegalArgumentException("Max latency must be greater than min latency. Actual: " +
+                                               min + " - " + max);
+        }
+        return () -> ThreadLocalRandom.current().nextLong(minNanos, maxNanos);
+    }
+
+    /**
+     * @param mean   - mean latency
+     * @param stdDev - standard deviation
+     * @return normal latency distribution (negative values are cut to zero)
+     */
+    @Nonnull
+    static LatencyDistribution normal(@Nonnull final Duration mean, @Nonnull final Duration stdDev) {
+        final long meanNanos = toNanos(mean);
+        final long stdDevNanos = toNanos(stdDev);
+        return () -> Math.max(0, meanNanos + (long) (ThreadLocalRandom.current().nextGaussian() * stdDevNanos));
+    }
+
+    /**
+     * @param mean - mean latency
+     * @return exponential latency distribution (random arrivals of the slow responses)
+     */
+    @Nonnull
+    static LatencyDistribution exponential(@Nonnull final Duration mean) {
+        final long meanNanos = toNanos(mean);
+        return () -> (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanNanos);
+    }
+
+    /**
+     * Log-normal distribution is the typical shape of the real service latency (long right tail).
+     *
+     * @param median - median latency
+     * @param sigma  - standard deviation of the latency logarithm (0.25 - narrow, 1 - heavy tail)
+     * @return log-normal latency distribution
+     */
+    @Nonnull
+    static LatencyDistribution logNormal(@Nonnull final Duration median, final double sigma) {
+        final long medianNanos = toNanos(median);
+        if (sigma < 0 || Double.isNaN(sigma)) {
+            throw new IllegalArgumentException("Sigma must be greater than or equal to zero. Actual: " + sigma);
+        }
+        return () -> (long) (medianNanos * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    /**
+     * @param duration - latency
+     * @return latency in nanoseconds
+     * @throws IllegalArgumentException if the latency is negative
+     */
+    static long toNanos(@Nonnull final Duration duration) {
+        Utils.parameterRequireNonNull(duration, DURATION_PARAMETER);
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Latency must be greater than or equal to zero. Actual: " + duration);
+        }
+        return duration.toNanos();
+    }
+
+}
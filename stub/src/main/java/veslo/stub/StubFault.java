@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+
+import static veslo.constant.ParameterNameConstants.REQUEST_PARAMETER;
+
+/**
+ * Faults injected by the {@link StubTransport} (see {@link StubRoute#withFault(double, StubFault)})
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public enum StubFault {
+
+    /**
+     * {@link SocketException} "Connection reset"
+     */
+    CONNECTION_RESET,
+    /**
+     * {@link SocketTimeoutException} "timeout" (the route latency is applied before the fault)
+     */
+    TIMEOUT,
+    /**
+     * {@link IOException} "unexpected end of stream" (the connection is closed without a response)
+     */
+    EMPTY_RESPONSE,
+    /**
+     * 500 Internal Server Error response
+     */
+    INTERNAL_SERVER_ERROR,
+    /**
+     * 503 Service Unavailable response with "Retry-After: 1" header
+     */
+    SERVICE_UNAVAILABLE;
+
+    private static final StubResponse INTERNAL_SERVER_ERROR_RESPONSE = StubResponse.of(500)
+            .withBody("Stub fault: " + INTERNAL_SERVER_ERROR);
+    private static final StubResponse SERVICE_UNAVAILABLE_RESPONSE = StubResponse.of(503)
+            .withHeader("Retry-After", "1")
+            .withBody("Stub fault: " + SERVICE_UNAVAILABLE);
+
+    /**
+     * @param request - served request
+     * @return fault response
+     * @throws IOException transport fault
+     */
+    @Nonnull
+    public Response inject(@Nonnull final Request request) throws IOException {
+        return inject(request, System.currentTimeMillis());
+    }
+
+    /**
+     * @param request             - served request
+     * @param sentRequestAtMillis - serve start time before the stub latency (epoch millis)
+     * @return fault response
+     * @throws IOException transport fault
+     */
+    @Nonnull
+    public Response inject(@Nonnull final Request request, final long sentRequestAtMillis) throws IOException {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        switch (this) {
+            case CONNECTION_RESET:
+                throw new SocketException("Connection reset (stub fault)");
+            case TIMEOUT:
+                throw new SocketTimeoutException("timeout (stub fault)");
+            case EMPTY_RESPONSE:
+                throw new IOException("unexpected end of stream (stub fault)");
+            case INTERNAL_SERVER_ERROR:
+                return INTERNAL_SERVER_ERROR_RESPONSE.toResponse(request, sentRequestAtMillis);
+            default:
+                return SERVICE_UNAVAILABLE_RESPONSE.toResponse(request, sentRequestAtMillis);
+        }
+    }
+
+}
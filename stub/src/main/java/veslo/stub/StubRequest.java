@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import veslo.RuntimeIOException;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Request served by the {@link StubTransport} with the path parameters of the matched route template
+ * (for example, "id" for the "GET /pet/{id}" route).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public final class StubRequest {
+
+    private final Request request;
+    private final Map<String, String> pathParams;
+    private String body;
+
+    /**
+     * @param request    - okhttp request
+     * @param pathParams - route template path parameters
+     */
+    public StubRequest(@Nonnull final Request request, @Nonnull final Map<String, String> pathParams) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        Utils.parameterRequireNonNull(pathParams, VALUE_PARAMETER);
+        this.request = request;
+        this.pathParams = Collections.unmodifiableMap(pathParams);
+    }
+
+    /**
+     * @return okhttp request
+     */
+    @Nonnull
+    public Request getRequest() {
+        return request;
+    }
+
+    /**
+     * @return HTTP method
+     */
+    @Nonnull
+    public String getMethod() {
+        return request.method();
+    }
+
+    /**
+     * @return request URL
+     */
+    @Nonnull
+    public HttpUrl getUrl() {
+        return request.url();
+    }
+
+    /**
+     * @return route template path parameters
+     */
+    @Nonnull
+    public Map<String, String> getPathParams() {
+        return pathParams;
+    }
+
+    /**
+     * @param name - route template path parameter name
+     * @return decoded path segment or null
+     */
+    @Nullable
+    public String getPathParam(@Nonnull final String name) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        return pathParams.get(name);
+    }
+
+    /**
+     * @param name - query parameter name
+     * @return first decoded query parameter value or null
+     */
+    @Nullable
+    public String getQueryParam(@Nonnull final String name) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        return request.url().queryParameter(name);
+    }
+
+    /**
+     * @param name - header name
+     * @return last header value or null
+     */
+    @Nullable
+    public String getHeader(@Nonnull final String name) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        return request.header(name);
+    }
+
+    /**
+     * @return request body as a UTF-8 string (read once) or an empty string if the body is absent
+     */
+    @Nonnull
+    public synchronized String getBodyString() {
+        if (body == null) {
+            final RequestBody requestBody = request.body();
+            if (requestBody == null) {
+                body = "";
+            } else {
+                try (final Buffer buffer = new Buffer()) {
+                    requestBody.writeTo(buffer);
+                    body = buffer.readUtf8();
+                } catch (IOException e) {
+                    throw new RuntimeIOException("Unable to read stub request body", e);
+                }
+            }
+        }
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return request.method() + " " + request.url() + (pathParams.isEmpty() ? "" : " " + pathParams);
+    }
+
+}
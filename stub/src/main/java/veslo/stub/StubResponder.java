@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+
+/**
+ * Stub route handler: canned {@link StubResponse}, {@link StubTemplate} or lambda.
+ * Called concurrently, so implementations must be thread-safe.
+ * <p>
+ * Usage:
+ * * stub.on("POST /pet", request -&gt; StubResponse.of(201).withBody(request.getBodyString(), JSON));
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+@FunctionalInterface
+public interface StubResponder {
+
+    /**
+     * @param request - stubbed request with the route path parameters
+     * @return response to serve
+     * @throws IOException to simulate the transport error
+     */
+    @Nonnull
+    StubResponse respond(@Nonnull StubRequest request) throws IOException;
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import veslo.RuntimeIOException;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Canned stub response (status, headers and body). Configure before the registration:
+ * the response is shared by all calls of the route.
+ * <p>
+ * The body bytes are shared as is (no per-call copy): each served {@link ResponseBody} streams
+ * the same array, so serving large bodies at a high rate does not allocate per-call body buffers.
+ * <p>
+ * Usage:
+ * * StubResponse.of(200).withBody("{\"id\":1}", StubResponse.JSON).withHeader("X-Request-Id", "1")
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class StubResponse implements StubResponder {
+
+    public static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    public static final MediaType TEXT = MediaType.get("text/plain; charset=utf-8");
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int code;
+    private volatile String message;
+    private volatile Headers headers = Headers.of();
+    private volatile byte[] body = EMPTY;
+    private volatile MediaType mediaType;
+
+    /**
+     * @param code - HTTP status code
+     */
+    public StubResponse(final int code) {
+        this.code = checkCode(code);
+        this.message = defaultMessage(code);
+    }
+
+    /**
+     * @param code - HTTP status code
+     * @return new response without body
+     */
+    @Nonnull
+    public static StubResponse of(final int code) {
+        return new StubResponse(code);
+    }
+
+    /**
+     * @param message - HTTP status message
+     * @return this
+     */
+    @Nonnull
+    public StubResponse withMessage(@Nonnull final String message) {
+        Utils.parameterRequireNonNull(message, MESSAGE_PARAMETER);
+        this.message = message;
+        return this;
+    }
+
+    /**
+     * @param name  - header name
+     * @param value - header value (added to the existing values)
+     * @return this
+     */
+    @Nonnull
+    public synchronized StubResponse withHeader(@Nonnull final String name, @Nonnull final String value) {
+        Utils.parameterRequireNonNull(name, NAME_PARAMETER);
+        Utils.parameterRequireNonNull(value, VALUE_PARAMETER);
+        this.headers = headers.newBuilder().add(name, value).build();
+        return this;
+    }
+
+    /**
+     * @param body - UTF-8 text body ({@link #TEXT})
+     * @return this
+     */
+    @Nonnull
+    public StubResponse withBody(@Nonnull final String body) {
+        return withBody(body, TEXT);
+    }
+
+    /**
+     * @param body      - body text
+     * @param mediaType - body media type (charset defaults to UTF-8)
+     * @return this
+     */
+    @Nonnull
+    public StubResponse withBody(@Nonnull final String body, @Nullable final MediaType mediaType) {
+        Utils.parameterRequireNonNull(body, BODY_PARAMETER);
+        final MediaType type = mediaType == null ? TEXT : mediaType;
+        return withBody(body.getBytes(type.charset(StandardCharsets.UTF_8)), type);
+    }
+
+    /**
+     * @param body      - body bytes (shared, not copied: must not be modified after the call)
+     * @param mediaType - body media type (null - no content type)
+     * @return this
+     */
+    @Nonnull
+    public StubResponse withBody(@Nonnull final byte[] body, @Nullable final MediaType mediaType) {
+        Utils.parameterRequireNonNull(body, BODY_PARAMETER);
+        this.body = body;
+        this.mediaType = mediaType;
+        return this;
+    }
+
+    /**
+     * @param file      - body file (read once)
+     * @param mediaType - body media type (null - no content type)
+     * @return this
+     * @throws RuntimeIOException if the file cannot be read
+     */
+    @Nonnull
+    public StubResponse withBodyFile(@Nonnull final Path file, @Nullable final MediaType mediaType) {
+        Utils.parameterRequireNonNull(file, FILE_PARAMETER);
+        try {
+            return withBody(Files.readAllBytes(file), mediaType);
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to read stub response body: " + file, e);
+        }
+    }
+
+    /**
+     * @param request - stubbed request
+     * @return this (canned response)
+     */
+    @Override
+    @Nonnull
+    public StubResponse respond(@Nonnull final StubRequest request) {
+        return this;
+    }
+
+    /**
+     * @param request - served request
+     * @return okhttp response streaming the shared body bytes
+     */
+    @Nonnull
+    public Response toResponse(@Nonnull final Request request) {
+        return toResponse(request, System.currentTimeMillis());
+    }
+
+    /**
+     * @param request             - served request
+     * @param sentRequestAtMillis - serve start time before the stub latency (epoch millis)
+     * @return okhttp response streaming the shared body bytes
+     */
+    @Nonnull
+    public Response toResponse(@Nonnull final Request request, final long sentRequestAtMillis) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final byte[] bytes = body;
+        final MediaType type = mediaType;
+        final Headers.Builder builder = headers.newBuilder();
+        if (type != null && builder.get("Content-Type") == null) {
+            builder.set("Content-Type", type.toString());
+        }
+        builder.set("Content-Length", String.valueOf(bytes.length));
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(message)
+                .headers(builder.build())
+                .body(new SharedBytesResponseBody(bytes, type))
+                .sentRequestAtMillis(sentRequestAtMillis)
+                .receivedResponseAtMillis(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * @return HTTP status code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @return HTTP status message
+     */
+    @Nonnull
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return response headers (without the Content-Type and Content-Length added by {@link #toResponse})
+     */
+    @Nonnull
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return shared body bytes (must not be modified)
+     */
+    @Nonnull
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * @return body media type or null
+     */
+    @Nullable
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public String toString() {
+        return code + " " + message + (mediaType == null ? "" : " " + mediaType) + " (" + body.length + " bytes)";
+    }
+
+    static int checkCode(final int code) {
+        if (code < 100 || code > 599) {
+            throw new IllegalArgumentException("HTTP status code must be in the range [100..599]. Actual: " + code);
+        }
+        return code;
+    }
+
+    private static String defaultMessage(final int code) {
+        switch (code) {
+            case 200:
+                return "OK";
+            case 201:
+                return "Created";
+            case 204:
+                return "No Content";
+            case 400:
+                return "Bad Request";
+            case 404:
+                return "Not Found";
+            case 500:
+                return "Internal Server Error";
+            case 503:
+                return "Service Unavailable";
+            default:
+                return "Stub response";
+        }
+    }
+
+    /**
+     * Response body over the shared byte array (read position is per body instance)
+     */
+    private static final class SharedBytesResponseBody extends ResponseBody {
+
+        private final byte[] bytes;
+        private final MediaType mediaType;
+        private BufferedSource source;
+
+        private SharedBytesResponseBody(final byte[] bytes, final MediaType mediaType) {
+            this.bytes = bytes;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        @Nullable
+        public MediaType contentType() {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength() {
+            return bytes.length;
+        }
+
+        @Override
+        @Nonnull
+        public BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new SharedBytesSource(bytes));
+            }
+            return source;
+        }
+
+    }
+
+    private static final class SharedBytesSource implements Source {
+
+        private final byte[] bytes;
+        private int position;
+
+        private SharedBytesSource(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long read(@Nonnull final Buffer sink, final long byteCount) {
+            if (position >= bytes.length) {
+                return -1;
+            }
+            final int count = (int) Math.min(byteCount, bytes.length - (long) position);
+            sink.write(bytes, position, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        @Nonnull
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public void close() {
+            position = bytes.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import okhttp3.HttpUrl;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * {@link StubTransport} route: route template ({@link veslo.client.inteceptor.RouteMatcher} pattern format),
+ * responder, injected latency and faults.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class StubRoute {
+
+    private final String route;
+    private final StubResponder responder;
+    /**
+     * Route template path segments ("{name}" segments are the path parameters)
+     */
+    private final List<String> segments;
+    private final boolean hasPathParams;
+    private final int literalSegments;
+    private final List<FaultRule> faults = new CopyOnWriteArrayList<>();
+    private final LongAdder hits = new LongAdder();
+    private volatile LatencyDistribution latency = null;
+    private volatile double faultProbability = 0;
+
+    /**
+     * @param route     - route template (for example, "GET /pet/{id}")
+     * @param responder - route responder
+     */
+    public StubRoute(@Nonnull final String route, @Nonnull final StubResponder responder) {
+        Utils.parameterRequireNonNull(route, ROUTE_PARAMETER);
+        Utils.parameterRequireNonNull(responder, RESPONDER_PARAMETER);
+        this.route = route.trim();
+        this.responder = responder;
+        final String[] parts = this.route.split("\\s+");
+        final String location = parts[parts.length - 1];
+        final int pathStart = location.indexOf('/');
+        final List<String> list = new ArrayList<>();
+        if (pathStart >= 0) {
+            for (String segment : location.substring(pathStart).split("/")) {
+                if (!segment.isEmpty()) {
+                    list.add(segment);
+                }
+            }
+        }
+        this.segments = Collections.unmodifiableList(list);
+        this.hasPathParams = list.stream().anyMatch(StubRoute::isPathParam);
+        this.literalSegments = (int) list.stream().filter(s -> !isPathParam(s) && !s.startsWith("*")).count();
+    }
+
+    /**
+     * @param latency - injected route latency (added to the transport latency, null - no latency)
+     * @return this
+     */
+    @Nonnull
+    public StubRoute withLatency(@Nullable final LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * @param probability - fault probability [0..1] (probabilities of the route faults are summed up)
+     * @param fault       - injected fault
+     * @return this
+     */
+    @Nonnull
+    public synchronized StubRoute withFault(final double probability, @Nonnull final StubFault fault) {
+        Utils.parameterRequireNonNull(fault, FAULT_PARAMETER);
+        if (!(probability >= 0 && faultProbability + probability <= 1)) {
+            throw new IllegalArgumentException("The sum of the fault probabilities must be in the range [0..1]. " +
+                                               "Actual: " + (faultProbability + probability));
+        }
+        faults.add(new FaultRule(probability, fault));
+        faultProbability += probability;
+        return this;
+    }
+
+    /**
+     * @return random fault according to the configured probabilities or null
+     */
+    @Nullable
+    public StubFault nextFault() {
+        if (faultProbability <= 0) {
+            return null;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        for (FaultRule rule : faults) {
+            random -= rule.probability;
+            if (random < 0) {
+                return rule.fault;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param url - matched request URL
+     * @return route template path parameters (decoded)
+     */
+    @Nonnull
+    public Map<String, String> getPathParams(@Nonnull final HttpUrl url) {
+        Utils.parameterRequireNonNull(url, URL_PARAMETER);
+        if (!hasPathParams) {
+            return Collections.emptyMap();
+        }
+        final List<String> actual = url.pathSegments();
+        final Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < segments.size() && i < actual.size(); i++) {
+            final String segment = segments.get(i);
+            if (isPathParam(segment)) {
+                result.put(segment.substring(1, segment.length() - 1), actual.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return number of the literal route template path segments (the most specific matching route wins)
+     */
+    public int getLiteralSegments() {
+        return literalSegments;
+    }
+
+    @Nonnull
+    public String getRoute() {
+        return route;
+    }
+
+    @Nonnull
+    public StubResponder getResponder() {
+        return responder;
+    }
+
+    @Nullable
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return number of the served requests
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    @Override
+    public String toString() {
+        return route;
+    }
+
+    private static boolean isPathParam(final String segment) {
+        return segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static final class FaultRule {
+
+        private final double probability;
+        private final StubFault fault;
+
+        private FaultRule(final double probability, final StubFault fault) {
+            this.probability = probability;
+            this.fault = fault;
+        }
+
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import okhttp3.MediaType;
+import veslo.RuntimeIOException;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * Stub response body template. The template is parsed once, placeholders are substituted for each request:
+ * - {{method}} - HTTP method;
+ * - {{url}} - request URL;
+ * - {{path}} - encoded request path;
+ * - {{path.name}} - route template path parameter ("GET /pet/{name}");
+ * - {{query.name}} - query parameter;
+ * - {{header.name}} - request header;
+ * - {{body}} - request body (UTF-8).
+ * Absent values are replaced with an empty string.
+ * <p>
+ * Usage:
+ * * stub.on("GET /pet/{id}", StubTemplate.of("{\"id\":{{path.id}},\"name\":\"{{query.name}}\"}"));
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class StubTemplate implements StubResponder {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * Literal text and placeholder parts (placeholders are {@link Placeholder} instances)
+     */
+    private final List<Object> parts = new ArrayList<>();
+    private volatile int code = 200;
+    private volatile MediaType mediaType = StubResponse.JSON;
+
+    /**
+     * @param template - body template
+     */
+    public StubTemplate(@Nonnull final String template) {
+        Utils.parameterRequireNonNull(template, TEMPLATE_PARAMETER);
+        int position = 0;
+        for (int open = template.indexOf(OPEN); open >= 0; open = template.indexOf(OPEN, position)) {
+            final int close = template.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            if (open > position) {
+                parts.add(template.substring(position, open));
+            }
+            parts.add(new Placeholder(template.substring(open + OPEN.length(), close).trim()));
+            position = close + CLOSE.length();
+        }
+        if (position < template.length()) {
+            parts.add(template.substring(position));
+        }
+    }
+
+    /**
+     * @param template - body template
+     * @return new template responder (200, {@link StubResponse#JSON})
+     */
+    @Nonnull
+    public static StubTemplate of(@Nonnull final String template) {
+        return new StubTemplate(template);
+    }
+
+    /**
+     * @param file - UTF-8 body template file (read once)
+     * @return new template responder (200, {@link StubResponse#JSON})
+     * @throws RuntimeIOException if the file cannot be read
+     */
+    @Nonnull
+    public static StubTemplate fromFile(@Nonnull final Path file) {
+        Utils.parameterRequireNonNull(file, FILE_PARAMETER);
+        try {
+            return new StubTemplate(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeIOException("Unable to read stub response template: " + file, e);
+        }
+    }
+
+    /**
+     * @param code - HTTP status code of the responses
+     * @return this
+     */
+    @Nonnull
+    public StubTemplate withCode(final int code) {
+        this.code = StubResponse.checkCode(code);
+        return this;
+    }
+
+    /**
+     * @param mediaType - body media type of the responses (null - no content type)
+     * @return this
+     */
+    @Nonnull
+    public StubTemplate withMediaType(@Nullable final MediaType mediaType) {
+        this.mediaType = mediaType;
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public StubResponse respond(@Nonnull final StubRequest request) {
+        final MediaType type = mediaType;
+        final Charset charset = type == null ? StandardCharsets.UTF_8 : type.charset(StandardCharsets.UTF_8);
+        return StubResponse.of(code).withBody(render(request).getBytes(charset), type);
+    }
+
+    /**
+     * @param request - stubbed request
+     * @return template with the substituted placeholders
+     */
+    @Nonnull
+    public String render(@Nonnull final StubRequest request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final StringBuilder result = new StringBuilder();
+        for (Object part : parts) {
+            if (part instanceof Placeholder) {
+                final String value = ((Placeholder) part).resolve(request);
+                result.append(value == null ? "" : value);
+            } else {
+                result.append((String) part);
+            }
+        }
+        return result.toString();
+    }
+
+    private static final class Placeholder {
+
+        private final String source;
+        private final String name;
+
+        private Placeholder(final String expression) {
+            final int dot = expression.indexOf('.');
+            this.source = dot < 0 ? expression : expression.substring(0, dot);
+            this.name = dot < 0 ? null : expression.substring(dot + 1);
+        }
+
+        @Nullable
+        private String resolve(final StubRequest request) {
+            switch (source) {
+                case "method":
+                    return request.getMethod();
+                case "url":
+                    return request.getUrl().toString();
+                case "path":
+                    return name == null ? request.getUrl().encodedPath() : request.getPathParam(name);
+                case "query":
+                    return name == null ? request.getUrl().encodedQuery() : request.getQueryParam(name);
+                case "header":
+                    return name == null ? null : request.getHeader(name);
+                case "body":
+                    return request.getBodyString();
+                default:
+                    return null;
+            }
+        }
+
+    }
+
+}
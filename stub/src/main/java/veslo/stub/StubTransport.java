@@ -0,0 +1,237 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import veslo.client.inteceptor.RouteMatcher;
+import veslo.util.Utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static veslo.constant.ParameterNameConstants.*;
+
+/**
+ * In-process programmable stub transport: the requests are served locally by the route table
+ * without the network (offline suites, client-side overhead benchmarks).
+ * <p>
+ * Routes are matched by the {@link RouteMatcher} (method, host and path template, O(path segments) lookup),
+ * the most specific matching route (the most literal path segments, then the first registered) serves the request.
+ * Unmatched requests are served by the fallback responder (404 by default).
+ * <p>
+ * As the last application interceptor:
+ * * new OkHttpClient.Builder()
+ * *         .addInterceptor(new CompositeInterceptor())
+ * *         .addInterceptor(stub) // &lt;------------------
+ * *         .build();
+ * <p>
+ * As the retrofit {@link Call.Factory} (the interceptors of the {@link #withClient(OkHttpClient)} client are kept):
+ * * new Retrofit.Builder()
+ * *         .callFactory(stub) // &lt;------------------
+ * *         .baseUrl("http://localhost")
+ * *         ...
+ * <p>
+ * Routes:
+ * * stub.on("GET /pet/{id}", StubTemplate.of("{\"id\":{{path.id}}}"))
+ * *         .withLatency(LatencyDistribution.logNormal(Duration.ofMillis(20), 0.5))
+ * *         .withFault(0.01, StubFault.SERVICE_UNAVAILABLE);
+ * * stub.on("POST /pet", request -&gt; StubResponse.of(201).withBody(request.getBodyString(), StubResponse.JSON));
+ * * stub.on("GET /pet/findByStatus", StubResponse.of(200).withBodyFile(Paths.get("pets.json"), StubResponse.JSON));
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 19.10.2026
+ */
+public class StubTransport implements Interceptor, Call.Factory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StubTransport.class);
+
+    private final RouteMatcher<StubRoute> routes = new RouteMatcher<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+    private volatile StubResponder fallback = request -> StubResponse.of(404)
+            .withBody("No stub route: " + request.getMethod() + " " + request.getUrl());
+    private volatile LatencyDistribution latency = null;
+    private volatile OkHttpClient baseClient = null;
+    private volatile OkHttpClient client = null;
+
+    /**
+     * @param route     - route template ({@link RouteMatcher} pattern format, for example "GET /pet/{id}")
+     * @param responder - route responder ({@link StubResponse}, {@link StubTemplate} or lambda)
+     * @return registered route (for the latency and faults configuration)
+     * @throws IllegalArgumentException if the route template is invalid
+     */
+    @Nonnull
+    public StubRoute on(@Nonnull final String route, @Nonnull final StubResponder responder) {
+        final StubRoute stubRoute = new StubRoute(route, responder);
+        routes.add(route, stubRoute);
+        return stubRoute;
+    }
+
+    /**
+     * @param fallback - responder of the unmatched requests
+     * @return this
+     */
+    @Nonnull
+    public StubTransport withFallback(@Nonnull final StubResponder fallback) {
+        Utils.parameterRequireNonNull(fallback, RESPONDER_PARAMETER);
+        this.fallback = fallback;
+        return this;
+    }
+
+    /**
+     * @param latency - latency of all requests (added to the route latency, null - no latency)
+     * @return this
+     */
+    @Nonnull
+    public StubTransport withLatency(@Nullable final LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * @param client - base client of the {@link #newCall(Request)} calls (interceptors, timeouts, event listeners)
+     * @return this
+     */
+    @Nonnull
+    public synchronized StubTransport withClient(@Nonnull final OkHttpClient client) {
+        Utils.parameterRequireNonNull(client, CLIENT_PARAMETER);
+        this.baseClient = client;
+        this.client = null;
+        return this;
+    }
+
+    /**
+     * @param request - okhttp request
+     * @return call served by the stub (after the base client interceptors)
+     */
+    @Override
+    @Nonnull
+    public Call newCall(@Nonnull final Request request) {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        return getClient().newCall(request);
+    }
+
+    /**
+     * @return client serving the requests by the stub
+     */
+    @Nonnull
+    public OkHttpClient getClient() {
+        OkHttpClient result = client;
+        if (result == null) {
+            synchronized (this) {
+                result = client;
+                if (result == null) {
+                    final OkHttpClient base = baseClient;
+                    final OkHttpClient.Builder builder = base == null ? new OkHttpClient.Builder() : base.newBuilder();
+                    result = builder.addInterceptor(this).build();
+                    client = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Nonnull
+    public Response intercept(@Nonnull final Chain chain) throws IOException {
+        return serve(chain.request());
+    }
+
+    /**
+     * @param request - okhttp request
+     * @return stub response
+     * @throws IOException injected transport fault or thrown by the responder
+     */
+    @Nonnull
+    public Response serve(@Nonnull final Request request) throws IOException {
+        Utils.parameterRequireNonNull(request, REQUEST_PARAMETER);
+        final long sentRequestAtMillis = System.currentTimeMillis();
+        calls.increment();
+        final List<StubRoute> matched = routes.match(request.method(), request.url());
+        StubRoute route = null;
+        for (StubRoute candidate : matched) {
+            if (route == null || candidate.getLiteralSegments() > route.getLiteralSegments()) {
+                route = candidate;
+            }
+        }
+        final StubResponder responder;
+        final StubRequest stubRequest;
+        if (route == null) {
+            unmatched.increment();
+            responder = fallback;
+            stubRequest = new StubRequest(request, Collections.emptyMap());
+        } else {
+            route.hit();
+            responder = route.getResponder();
+            stubRequest = new StubRequest(request, route.getPathParams(request.url()));
+        }
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Stub route '{}' for {}", route, stubRequest);
+        }
+        sleep(latency, route == null ? null : route.getLatency());
+        final StubFault fault = route == null ? null : route.nextFault();
+        if (fault != null) {
+            return fault.inject(request, sentRequestAtMillis);
+        }
+        final StubResponse response = responder.respond(stubRequest);
+        if (response == null) {
+            throw new IllegalStateException("Stub responder returned null for the route: " + route);
+        }
+        return response.toResponse(request, sentRequestAtMillis);
+    }
+
+    /**
+     * @return number of the served requests
+     */
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    /**
+     * @return number of the requests served by the fallback responder
+     */
+    public long getUnmatchedCount() {
+        return unmatched.sum();
+    }
+
+    private static void sleep(@Nullable final LatencyDistribution transportLatency,
+                              @Nullable final LatencyDistribution routeLatency) throws InterruptedIOException {
+        final long nanos = (transportLatency == null ? 0 : Math.max(0, transportLatency.nextNanos())) +
+                           (routeLatency == null ? 0 : Math.max(0, routeLatency.nextNanos()));
+        if (nanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Stub latency interrupted");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import internal.test.utils.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("LatencyDistribution class tests")
+public class LatencyDistributionUnitTests extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Distributions produce latencies with the configured shape")
+    public void test1792396800102() {
+        assertIs(LatencyDistribution.none().nextNanos(), 0L);
+        assertIs(LatencyDistribution.fixed(Duration.ofMillis(5)).nextNanos(), 5_000_000L);
+        final long[] uniform = sample(LatencyDistribution.uniform(Duration.ofMillis(10), Duration.ofMillis(20)));
+        assertThat("", uniform[0], greaterThanOrEqualTo(10_000_000L));
+        assertThat("", uniform[uniform.length - 1], lessThan(20_000_000L));
+        final long[] normal = sample(LatencyDistribution.normal(Duration.ofMillis(1), Duration.ofMillis(10)));
+        assertIs(normal[0], 0L);
+        final long[] logNormal = sample(LatencyDistribution.logNormal(Duration.ofMillis(20), 0.5));
+        assertThat("", logNormal[logNormal.length / 2], allOf(greaterThan(15_000_000L), lessThan(25_000_000L)));
+        assertThat("", logNormal[logNormal.length * 99 / 100], greaterThan(50_000_000L));
+        final long[] exponential = sample(LatencyDistribution.exponential(Duration.ofMillis(10)));
+        final double mean = Arrays.stream(exponential).average().orElse(0);
+        assertThat("", mean, allOf(greaterThan(8_000_000.0), lessThan(12_000_000.0)));
+        assertThrow(() -> LatencyDistribution.uniform(Duration.ofMillis(2), Duration.ofMillis(1)))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Max latency must be greater than min latency. Actual: PT0.002S - PT0.001S");
+        assertThrow(() -> LatencyDistribution.fixed(Duration.ofMillis(-1)))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Latency must be greater than or equal to zero. Actual: PT-0.001S");
+        assertThrow(() -> LatencyDistribution.logNormal(Duration.ofMillis(1), -1))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("Sigma must be greater than or equal to zero. Actual: -1.0");
+        assertNPE(() -> LatencyDistribution.fixed(null), "duration");
+    }
+
+    private static long[] sample(final LatencyDistribution distribution) {
+        final long[] result = new long[10_000];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = distribution.nextNanos();
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+}
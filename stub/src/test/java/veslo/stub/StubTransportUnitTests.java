@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021-2026 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package veslo.stub;
+
+import internal.test.utils.BaseUnitTest;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
+import veslo.RuntimeIOException;
+import veslo.client.adapter.UniversalCallAdapterFactory;
+import veslo.client.converter.ExtensionConverterFactory;
+import veslo.client.response.DualResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("StubTransport class tests")
+public class StubTransportUnitTests extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Routes are served by canned responses, templates and lambdas via the retrofit Call.Factory")
+    public void test1792396800098() throws Exception {
+        final File file = new File("target/stub/test1792396800098.json");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8));
+        final StubTransport stub = new StubTransport();
+        final StubRoute pet = stub.on("GET /pet/{id}",
+                StubTemplate.of("{\"id\":{{path.id}},\"name\":\"{{query.name}}\"," +
+                                "\"agent\":\"{{header.User-Agent}}\"}"));
+        stub.on("GET /pet/findByStatus", StubResponse.of(200).withBodyFile(file.toPath(), StubResponse.JSON));
+        stub.on("POST /pet", request -> StubResponse.of(201)
+                .withHeader("X-Method", request.getMethod())
+                .withBody(request.getBodyString(), StubResponse.JSON));
+        final PetApi api = client(stub);
+        final DualResponse<String, String> found = api.getPet(42, "rex");
+        assertIs(found.getHttpStatusCode(), 200);
+        assertIs(found.getSucDTO(), "{\"id\":42,\"name\":\"rex\",\"agent\":\"stub\"}");
+        assertIs(found.getResponse().header("Content-Type"), "application/json; charset=utf-8");
+        assertIs(api.findByStatus().getSucDTO(), "[{\"id\":1}]");
+        final DualResponse<String, String> created = api.addPet("{\"id\":2}");
+        assertIs(created.getHttpStatusCode(), 201);
+        assertIs(created.getResponse().header("X-Method"), "POST");
+        assertIs(created.getSucDTO(), "{\"id\":2}");
+        final DualResponse<String, String> unmatched = api.deletePet(1);
+        assertIs(unmatched.getHttpStatusCode(), 404);
+        assertIs(unmatched.getErrDTO(), "No stub route: DELETE http://localhost/pet/1");
+        assertIs(pet.getHits(), 1L);
+        assertIs(stub.getCallCount(), 4L);
+        assertIs(stub.getUnmatchedCount(), 1L);
+        stub.withFallback(request -> StubResponse.of(204));
+        assertIs(api.deletePet(1).getHttpStatusCode(), 204);
+    }
+
+    @Test
+    @DisplayName("Injected faults and latency")
+    public void test1792396800099() throws Exception {
+        final StubTransport stub = new StubTransport();
+        final StubRoute reset = stub.on("GET /reset", StubResponse.of(200)).withFault(1, StubFault.CONNECTION_RESET);
+        stub.on("GET /unavailable", StubResponse.of(200)).withFault(1, StubFault.SERVICE_UNAVAILABLE);
+        stub.on("GET /slow", StubResponse.of(200).withBody("slow"))
+                .withLatency(LatencyDistribution.fixed(Duration.ofMillis(50)));
+        final Request resetRequest = new Request.Builder().url("http://localhost/reset").build();
+        assertThrow(() -> stub.newCall(resetRequest).execute())
+                .assertClass(SocketException.class)
+                .assertMessageIs("Connection reset (stub fault)");
+        assertIs(reset.getHits(), 1L);
+        try (Response response = stub.newCall(new Request.Builder().url("http://localhost/unavailable").build())
+                .execute()) {
+            assertIs(response.code(), 503);
+            assertIs(response.header("Retry-After"), "1");
+            assertIs(response.body().string(), "Stub fault: SERVICE_UNAVAILABLE");
+        }
+        final long start = System.nanoTime();
+        try (Response response = stub.newCall(new Request.Builder().url("http://localhost/slow").build()).execute()) {
+            assertIs(response.body().string(), "slow");
+            assertThat("", response.receivedResponseAtMillis() - response.sentRequestAtMillis(),
+                    greaterThanOrEqualTo(49L));
+        }
+        assertThat("", System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+        final StubRoute partial = stub.on("GET /partial", StubResponse.of(200))
+                .withFault(0.5, StubFault.TIMEOUT)
+                .withFault(0.5, StubFault.EMPTY_RESPONSE);
+        assertThat("", partial.nextFault(), anyOf(is(StubFault.TIMEOUT), is(StubFault.EMPTY_RESPONSE)));
+        assertThrow(() -> partial.withFault(0.1, StubFault.TIMEOUT))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("The sum of the fault probabilities must be in the range [0..1]. Actual: 1.1");
+        assertIs(stub.on("GET /none", StubResponse.of(200)).nextFault(), null);
+    }
+
+    @Test
+    @DisplayName("Shared response body bytes are streamed to each call without copying the canned response")
+    public void test1792396800100() throws Exception {
+        final byte[] body = new byte[64 * 1024];
+        final StubResponse canned = StubResponse.of(200).withBody(body, MediaType.get("application/octet-stream"));
+        assertTrue(canned.getBody() == body);
+        final StubTransport stub = new StubTransport();
+        stub.on("POST /echo/**", canned);
+        for (int i = 0; i < 1000; i++) {
+            final Request request = new Request.Builder()
+                    .url("http://localhost/echo/" + i)
+                    .post(RequestBody.create(MediaType.get("text/plain"), "body"))
+                    .build();
+            try (Response response = stub.newCall(request).execute()) {
+                assertIs(response.body().contentLength(), (long) body.length);
+                assertIs(response.body().bytes().length, body.length);
+            }
+        }
+        assertIs(stub.getCallCount(), 1000L);
+        assertIs(canned.toString(), "200 OK application/octet-stream (65536 bytes)");
+        final Request request = new Request.Builder().url("http://localhost/echo").build();
+        final Response response = canned.toResponse(request);
+        assertIs(response.header("Content-Length"), "65536");
+        assertThrow(() -> StubResponse.of(99))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("HTTP status code must be in the range [100..599]. Actual: 99");
+        assertThrow(() -> StubResponse.of(200).withBodyFile(new File("target/absent.json").toPath(), null))
+                .assertClass(RuntimeIOException.class);
+        assertNPE(() -> stub.on(null, canned), "route");
+        assertNPE(() -> stub.on("/", null), "responder");
+        assertNPE(() -> stub.serve(null), "request");
+        assertNPE(() -> stub.withFallback(null), "responder");
+        assertNPE(() -> canned.withBody((String) null), "body");
+        assertNPE(() -> StubTemplate.of(null), "template");
+    }
+
+    @Test
+    @DisplayName("Template placeholders are parsed once and substituted per request")
+    public void test1792396800101() throws IOException {
+        final StubTemplate template = StubTemplate.of("{{method}} {{path}}?{{query}} {{path.id}} {{body}} {{absent}}" +
+                                                      " {{unclosed").withCode(202).withMediaType(null);
+        final Request request = new Request.Builder()
+                .url("http://localhost/pet/1?a=b")
+                .put(RequestBody.create(MediaType.get("text/plain"), "body"))
+                .build();
+        final StubRoute route = new StubRoute("PUT /pet/{id}", template);
+        final StubRequest stubRequest = new StubRequest(request, route.getPathParams(request.url()));
+        assertIs(stubRequest.toString(), "PUT http://localhost/pet/1?a=b {id=1}");
+        final StubResponse response = template.respond(stubRequest);
+        assertIs(response.getCode(), 202);
+        assertIs(response.getMediaType(), null);
+        assertIs(new String(response.getBody(), StandardCharsets.UTF_8), "PUT /pet/1?a=b 1 body  {{unclosed");
+        assertThrow(() -> template.withCode(600))
+                .assertClass(IllegalArgumentException.class)
+                .assertMessageIs("HTTP status code must be in the range [100..599]. Actual: 600");
+        assertThrow(() -> StubTemplate.fromFile(new File("target/absent.template").toPath()))
+                .assertClass(RuntimeIOException.class)
+                .assertMessageIs("Unable to read stub response template: target/absent.template");
+    }
+
+    private static PetApi client(final StubTransport stub) {
+        stub.withClient(new OkHttpClient.Builder()
+                .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                        .header("User-Agent", "stub")
+                        .build()))
+                .build());
+        return new Retrofit.Builder()
+                .callFactory(stub)
+                .baseUrl("http://localhost")
+                .addCallAdapterFactory(new UniversalCallAdapterFactory())
+                .addConverterFactory(new ExtensionConverterFactory())
+                .build()
+                .create(PetApi.class);
+    }
+
+    public interface PetApi {
+
+        @GET("/pet/{id}")
+        DualResponse<String, String> getPet(@Path("id") int id, @Query("name") String name);
+
+        @GET("/pet/findByStatus")
+        DualResponse<String, String> findByStatus();
+
+        @POST("/pet")
+        DualResponse<String, String> addPet(@Body String pet);
+
+        @retrofit2.http.DELETE("/pet/{id}")
+        DualResponse<String, String> deletePet(@Path("id") int id);
+
+    }
+
+}